@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.examples.with.different.packagename.benchmarks;
+
+/**
+ * Class under test for the benchmarks. It lives outside of org.evosuite, as
+ * classes in that package are never instrumented.
+ */
+public class Triangle {
+
+	public static final int INVALID = 0;
+
+	public static final int SCALENE = 1;
+
+	public static final int ISOSCELES = 2;
+
+	public static final int EQUILATERAL = 3;
+
+	private int classified = 0;
+
+	public int classify(int a, int b, int c) {
+		classified++;
+		if (a <= 0 || b <= 0 || c <= 0)
+			return INVALID;
+		if (a + b <= c || a + c <= b || b + c <= a)
+			return INVALID;
+		if (a == b && b == c)
+			return EQUILATERAL;
+		if (a == b || b == c || a == c)
+			return ISOSCELES;
+		return SCALENE;
+	}
+
+	public int getClassified() {
+		return classified;
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.benchmarks;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.evosuite.Properties;
+import org.evosuite.TestGenerationContext;
+import org.evosuite.classpath.ClassPathHandler;
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.execution.TestCaseExecutor;
+import org.evosuite.testcase.statements.ConstructorStatement;
+import org.evosuite.testcase.statements.MethodStatement;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.evosuite.testcase.variable.VariableReference;
+import org.evosuite.utils.Randomness;
+import org.evosuite.utils.generic.GenericConstructor;
+import org.evosuite.utils.generic.GenericMethod;
+
+/**
+ * Shared set up for the benchmarks. Everything is derived from a fixed seed,
+ * so that consecutive runs measure the same work and need no network or
+ * external class path.
+ */
+final class BenchmarkFixtures {
+
+	static final long SEED = 42;
+
+	static final String TARGET_CLASS = "com.examples.with.different.packagename.benchmarks.Triangle";
+
+	private BenchmarkFixtures() {
+	}
+
+	/**
+	 * Reset EvoSuite to a known state and load the instrumented class under
+	 * test, which also fills the branch pool.
+	 */
+	static Class<?> loadTargetClass() throws ClassNotFoundException {
+		Properties.getInstance().resetToDefaults();
+		Properties.TARGET_CLASS = TARGET_CLASS;
+		Properties.SANDBOX = false;
+		Properties.CLIENT_ON_THREAD = true;
+		Properties.TEST_ARCHIVE = false;
+		Randomness.setSeed(SEED);
+
+		TestGenerationContext.getInstance().resetContext();
+		ClassPathHandler.getInstance().changeTargetCPtoTheSameAsEvoSuite();
+		TestCaseExecutor.initExecutor();
+
+		return TestGenerationContext.getInstance().getClassLoaderForSUT().loadClass(TARGET_CLASS);
+	}
+
+	/**
+	 * Create a test that instantiates the class under test and then calls
+	 * <code>classify</code> the given number of times on random sides.
+	 */
+	static DefaultTestCase createTest(Class<?> targetClass, int calls) throws NoSuchMethodException {
+		DefaultTestCase test = new DefaultTestCase();
+
+		Constructor<?> constructor = targetClass.getConstructor();
+		VariableReference callee = test.addStatement(new ConstructorStatement(test,
+		        new GenericConstructor(constructor, targetClass),
+		        Collections.<VariableReference> emptyList()));
+
+		Method classify = targetClass.getMethod("classify", int.class, int.class, int.class);
+		GenericMethod method = new GenericMethod(classify, targetClass);
+		for (int i = 0; i < calls; i++) {
+			VariableReference a = test.addStatement(new IntPrimitiveStatement(test, Randomness.nextInt(0, 10)));
+			VariableReference b = test.addStatement(new IntPrimitiveStatement(test, Randomness.nextInt(0, 10)));
+			VariableReference c = test.addStatement(new IntPrimitiveStatement(test, Randomness.nextInt(0, 10)));
+			test.addStatement(new MethodStatement(test, method, callee, Arrays.asList(a, b, c)));
+		}
+		return test;
+	}
+
+	static TestChromosome createChromosome(Class<?> targetClass, int calls) throws NoSuchMethodException {
+		TestChromosome chromosome = new TestChromosome();
+		chromosome.setTestCase(createTest(targetClass, calls));
+		return chromosome;
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.evosuite.testcase.execution.ExecutionTracer;
+import org.objectweb.asm.Opcodes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the callbacks that instrumented code makes into the
+ * {@link ExecutionTracer} on every branch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExecutionTracerBenchmark {
+
+	private static final String CLASS_NAME = ExecutionTracerBenchmark.class.getName();
+
+	@State(Scope.Thread)
+	public static class Tracing {
+
+		int branch = 0;
+
+		@Setup(Level.Iteration)
+		public void setUp() {
+			ExecutionTracer.setThread(Thread.currentThread());
+			ExecutionTracer.getExecutionTracer().clear();
+			ExecutionTracer.enable();
+			ExecutionTracer.setKillSwitch(false);
+		}
+
+		@TearDown(Level.Iteration)
+		public void tearDown() {
+			ExecutionTracer.disable();
+			ExecutionTracer.getExecutionTracer().clear();
+		}
+	}
+
+	/**
+	 * The kill switch is set while a class initializer is running on the
+	 * current thread, which is when checkTimeout has to decide whether to
+	 * throw.
+	 */
+	@State(Scope.Thread)
+	public static class ClassInit {
+
+		@Setup(Level.Iteration)
+		public void setUp() {
+			ExecutionTracer.setThread(Thread.currentThread());
+			ExecutionTracer.getExecutionTracer().clear();
+			ExecutionTracer.enable();
+			ExecutionTracer.enterClassInit(CLASS_NAME);
+			ExecutionTracer.setKillSwitch(true);
+		}
+
+		@TearDown(Level.Iteration)
+		public void tearDown() {
+			ExecutionTracer.setKillSwitch(false);
+			ExecutionTracer.exitClassInit(CLASS_NAME);
+			ExecutionTracer.disable();
+			ExecutionTracer.getExecutionTracer().clear();
+		}
+	}
+
+	@Benchmark
+	public void passedBranch(Tracing state) {
+		// Cycle over a fixed set of branches, so the trace does not only grow
+		int branch = state.branch = (state.branch + 1) & 63;
+		ExecutionTracer.passedBranch(branch, 32, Opcodes.IF_ICMPLT, branch, 0);
+	}
+
+	@Benchmark
+	public void checkTimeout(Tracing state) {
+		ExecutionTracer.checkTimeout();
+	}
+
+	@Benchmark
+	public void checkTimeoutInClassInit(ClassInit state) {
+		ExecutionTracer.checkTimeout();
+	}
+}
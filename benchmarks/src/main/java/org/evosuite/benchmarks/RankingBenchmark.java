@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.evosuite.coverage.method.MethodCoverageTestFitness;
+import org.evosuite.ga.operators.ranking.CrowdingDistance;
+import org.evosuite.ga.operators.ranking.EfficientNonDominatedSorting;
+import org.evosuite.ga.operators.ranking.FastNonDominatedSorting;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.TestFitnessFunction;
+import org.evosuite.utils.Randomness;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Ranking and crowding distance of a population with random fitness values,
+ * as done by NSGA-II and MOSA in each generation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RankingBenchmark {
+
+	@Param({ "50", "200" })
+	public int populationSize;
+
+	@Param({ "10", "100" })
+	public int numberOfGoals;
+
+	private List<TestChromosome> population;
+
+	private Set<TestFitnessFunction> goals;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Randomness.setSeed(BenchmarkFixtures.SEED);
+
+		goals = new LinkedHashSet<>();
+		for (int i = 0; i < numberOfGoals; i++) {
+			goals.add(new MethodCoverageTestFitness("Benchmark", "goal" + i + "()V"));
+		}
+
+		population = new ArrayList<>();
+		for (int i = 0; i < populationSize; i++) {
+			TestChromosome chromosome = new TestChromosome();
+			for (TestFitnessFunction goal : goals) {
+				// Few distinct values, so there are ties as in a real search
+				chromosome.setFitness(goal, Randomness.nextInt(10) / 10.0);
+			}
+			population.add(chromosome);
+		}
+	}
+
+	@Benchmark
+	public List<TestChromosome> computeRankingAssignment() {
+		FastNonDominatedSorting<TestChromosome> ranking = new FastNonDominatedSorting<>();
+		ranking.computeRankingAssignment(population, goals);
+		return ranking.getSubfront(0);
+	}
+
+	@Benchmark
+	public List<TestChromosome> computeEfficientRankingAssignment() {
+		EfficientNonDominatedSorting<TestChromosome> ranking = new EfficientNonDominatedSorting<>();
+		ranking.computeRankingAssignment(population, goals);
+		return ranking.getSubfront(0);
+	}
+
+	@Benchmark
+	public List<TestChromosome> crowdingDistanceAssignment() {
+		List<TestChromosome> front = new ArrayList<>(population);
+		new CrowdingDistance<TestChromosome>().crowdingDistanceAssignment(front, new ArrayList<>(goals));
+		return front;
+	}
+
+	@Benchmark
+	public List<TestChromosome> fastEpsilonDominanceAssignment() {
+		List<TestChromosome> front = new ArrayList<>(population);
+		new CrowdingDistance<TestChromosome>().fastEpsilonDominanceAssignment(front, goals);
+		return front;
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.evosuite.Properties;
+import org.evosuite.ga.ConstructionFailedException;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.utils.Randomness;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Search operators on a single test. Both operators work on a fresh copy of
+ * the parents, as they modify the chromosome in place.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TestChromosomeBenchmark {
+
+	/** Number of calls on the class under test */
+	@Param({ "10", "50" })
+	public int calls;
+
+	private TestChromosome parent1;
+
+	private TestChromosome parent2;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		Class<?> targetClass = BenchmarkFixtures.loadTargetClass();
+
+		// Insertion needs a test cluster, which would make the benchmark
+		// depend on the dependency analysis rather than on the operators
+		Properties.P_TEST_INSERT = 0.0;
+
+		parent1 = BenchmarkFixtures.createChromosome(targetClass, calls);
+		parent2 = BenchmarkFixtures.createChromosome(targetClass, calls);
+	}
+
+	@Setup(Level.Iteration)
+	public void resetSeed() {
+		Randomness.setSeed(BenchmarkFixtures.SEED);
+	}
+
+	@Benchmark
+	public TestChromosome crossOver() throws ConstructionFailedException {
+		TestChromosome offspring = parent1.clone();
+		// Cut after a complete call, so the callee is always in the prefix
+		int position = 1 + 4 * (calls / 2);
+		offspring.crossOver(parent2.clone(), position, position);
+		return offspring;
+	}
+
+	@Benchmark
+	public TestChromosome mutate() {
+		TestChromosome offspring = parent1.clone();
+		offspring.mutate();
+		return offspring;
+	}
+}
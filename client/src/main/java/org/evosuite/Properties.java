@@ -294,6 +294,14 @@ public class Properties {
 	@DoubleValue(min = 0.0, max = 1.0)
 	public static double FUNCTIONAL_MOCKING_PERCENT = 0.5;
 
+	@Parameter(key = "generic_type_cache_size", group = "Test Creation", description = "Maximum number of type assignability results and shared GenericClass instances cached while creating tests. 0 disables the caches")
+	@IntValue(min = 0)
+	public static int GENERIC_TYPE_CACHE_SIZE = 100000;
+
+	@Parameter(key = "generator_dispatch_table_size", group = "Test Creation", description = "Maximum number of concrete types whose generators are precomputed for constant time random selection. 0 disables the table")
+	@IntValue(min = 0)
+	public static int GENERATOR_DISPATCH_TABLE_SIZE = 10000;
+
 	@Parameter(key = "functional_mocking_input_limit", group = "Test Creation", description = "When mocking a method, define max number of mocked return values for that method. Calls after the last will just re-use the last specified value")
 	@DoubleValue(min = 1)
 	public static int FUNCTIONAL_MOCKING_INPUT_LIMIT = 5;
@@ -326,7 +334,9 @@ public class Properties {
 	public enum RankingType {
 		// Preference sorting is the ranking strategy proposed in
 		PREFERENCE_SORTING, 
-		FAST_NON_DOMINATED_SORTING
+		FAST_NON_DOMINATED_SORTING,
+		// Same fronts as FAST_NON_DOMINATED_SORTING, computed with ENS-BS
+		EFFICIENT_NON_DOMINATED_SORTING
 	}
 
 	@Parameter(key = "ranking_type", group = "Runtime", description = "type of ranking to use in MOSA")
@@ -420,6 +430,18 @@ public class Properties {
 	@Parameter(key = "dse_constraint_solver_timeout_millis", group = "DSE", description = "Maximum number of solving time for Constraint solver in milliseconds")
 	public static long DSE_CONSTRAINT_SOLVER_TIMEOUT_MILLIS = 1000;
 
+	@Parameter(key = "dse_query_cache_size", group = "DSE", description = "Maximum number of solved queries kept in the DSE query cache")
+	public static int DSE_QUERY_CACHE_SIZE = 10000;
+
+	@Parameter(key = "dse_persistent_solver_cache", group = "DSE", description = "Store solver results in a file in ctg_dir, so they are reused by parallel clients and later runs")
+	public static boolean DSE_PERSISTENT_SOLVER_CACHE = false;
+
+	@Parameter(key = "dse_constraint_slicing", group = "DSE", description = "Only send to the solver the constraints that share variables with a constraint not satisfied by the current concrete values")
+	public static boolean DSE_CONSTRAINT_SLICING = true;
+
+	@Parameter(key = "dse_constraint_simplification", group = "DSE", description = "Fold constants, remove duplicated and implied constraints and merge integer bounds before solving a query")
+	public static boolean DSE_CONSTRAINT_SIMPLIFICATION = true;
+
 	@Parameter(key = "dse_rank_branch_conditions", group = "DSE", description = "Rank branch conditions")
 	public static boolean DSE_RANK_BRANCH_CONDITIONS = true;
 
@@ -466,7 +488,7 @@ public class Properties {
 	public static boolean DSE_KEEP_ALL_TESTS = false;
 
 	public enum SolverType {
-		EVOSUITE_SOLVER, Z3_SOLVER, CVC4_SOLVER;
+		EVOSUITE_SOLVER, Z3_SOLVER, CVC4_SOLVER, IN_PROCESS_SOLVER, PORTFOLIO_SOLVER;
 	}
 
 	@Parameter(key = "dse_solver", group = "DSE", description = "Specify which constraint solver to use. Note: external solver will need to be installed and cofigured separately")
@@ -478,6 +500,31 @@ public class Properties {
 	@Parameter(key = "cvc4_path", group = "DSE", description = "Indicates the path to the CVC4 solver")
 	public static String CVC4_PATH = null;
 
+	@Parameter(key = "dse_incremental_solving", group = "DSE", description = "Keep the external SMT solver running between queries and only send the assertions that differ from the previous query")
+	public static boolean DSE_INCREMENTAL_SOLVING = false;
+
+	@Parameter(key = "dse_in_process_solving", group = "DSE", description = "Let the external SMT solvers first try the in-process backend, and only launch the solver if it cannot decide the query")
+	public static boolean DSE_IN_PROCESS_SOLVING = false;
+
+	@Parameter(key = "dse_in_process_backend", group = "DSE", description = "Class implementing org.evosuite.symbolic.solver.InProcessSolverBackend used to solve queries inside the client. By default, a pure-Java backend for integer and real constraints")
+	public static String DSE_IN_PROCESS_BACKEND = null;
+
+	@Parameter(key = "dse_portfolio_smt_solver", group = "DSE", description = "External SMT solver (Z3_SOLVER or CVC4_SOLVER) raced against the local search by the portfolio solver")
+	public static SolverType DSE_PORTFOLIO_SMT_SOLVER = SolverType.Z3_SOLVER;
+
+	@Parameter(key = "dse_portfolio_local_search_share", group = "DSE", description = "Share of the solver timeout given to the local search when the portfolio solver races it against the SMT solver")
+	@DoubleValue(min = 0.0, max = 1.0)
+	public static double DSE_PORTFOLIO_LOCAL_SEARCH_SHARE = 0.25;
+
+	@Parameter(key = "dse_portfolio_learning_races", group = "DSE", description = "Races per query shape before the portfolio solver only uses the solver that wins them (one query out of this many is still raced)")
+	public static int DSE_PORTFOLIO_LEARNING_RACES = 10;
+
+	@Parameter(key = "dse_solver_threads", group = "DSE", description = "Number of threads solving the path conditions of a DSE iteration concurrently (only for external SMT solvers). 1 solves them sequentially")
+	public static int DSE_SOLVER_THREADS = 1;
+
+	@Parameter(key = "dse_parallel_deterministic_order", group = "DSE", description = "When solving concurrently, generate the new tests in the order of the path conditions rather than as their queries are solved")
+	public static boolean DSE_PARALLEL_DETERMINISTIC_ORDER = true;
+
 	public enum DSEStoppingConditionCriterion {
 		TARGETCOVERAGE,
 		MAXTIME, /** In seconds */
@@ -1254,6 +1301,9 @@ public class Properties {
 	@Parameter(key = "inheritance_file", description = "Cached version of inheritance tree")
 	public static String INHERITANCE_FILE = "";
 
+	@Parameter(key = "inheritance_tree_cache", description = "Keep the inheritance tree of the classpath in ctg_dir, so that later runs on the same classpath only analyze the classes that changed")
+	public static boolean INHERITANCE_TREE_CACHE = false;
+
 	@Parameter(key = "branch_eval", description = "Jeremy's branch evaluation")
 	public static boolean BRANCH_EVAL = false;
 
@@ -1445,6 +1495,18 @@ public class Properties {
     @Parameter(key = "max_loop_iterations", group = "Test Execution", description = "Max number of iterations allowed per loop. A negative value means no check is done.")
     public static long MAX_LOOP_ITERATIONS = RuntimeSettings.maxNumberOfIterationsPerLoop;
 
+    @Parameter(key = "test_execution_threads", group = "Test Execution", description = "Number of threads used to execute batches of tests concurrently. Only applies if no execution observers are active and static field reset, call replacement, virtual FS/network and loop counting are disabled, as their state is shared by all tests")
+    @IntValue(min = 1)
+    public static int TEST_EXECUTION_THREADS = 1;
+
+    @Parameter(key = "execution_cache_size", group = "Test Execution", description = "Maximum number of execution results cached by the structure of the executed test, so that structurally identical tests are not executed again. 0 disables the cache")
+    @IntValue(min = 0)
+    public static int EXECUTION_CACHE_SIZE = 0;
+
+    @Parameter(key = "execution_snapshots", group = "Test Execution", description = "Number of executed tests whose final state is kept, so that a test extending one of them only executes the appended statements. Only applies if no execution observers are active, static field resetting is enabled, and call replacement, virtual FS/network and loop counting are disabled, so it has no effect with the default settings. 0 disables snapshots")
+    @IntValue(min = 0)
+    public static int EXECUTION_SNAPSHOTS = 0;
+
     // ---------------------------------------------------------------
 	// Debugging
 
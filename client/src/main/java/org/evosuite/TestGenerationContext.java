@@ -59,6 +59,7 @@ import org.evosuite.testcase.execution.ExecutionTracer;
 import org.evosuite.testcase.execution.TestCaseExecutor;
 import org.evosuite.testcase.execution.reset.ClassReInitializer;
 import org.evosuite.utils.ArrayUtil;
+import org.evosuite.utils.generic.GenericClass;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -176,6 +177,7 @@ public class TestGenerationContext {
 		TestCluster.reset();
 		CastClassManager.getInstance().clear();
 		ConcreteClassAnalyzer.getInstance().clear();
+		GenericClass.clearCaches();
 		// This counts the current level of recursion during test generation
 		org.evosuite.testcase.TestFactory.getInstance().reset();
 
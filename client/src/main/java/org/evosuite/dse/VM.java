@@ -19,6 +19,8 @@
  */
 package org.evosuite.dse;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.function.Consumer;
@@ -103,6 +105,12 @@ public final class VM {
 	// protected IVM[] listeners = new IVM[] { new InsnLogger() };
 	protected IVM[] listeners = new IVM[0];
 
+	/*
+	 * For each callback, the listeners that handle it, indexed by the ordinal
+	 * of the callback.
+	 */
+	protected IVM[][] callbackListeners = buildCallbackListeners(listeners);
+
 	protected List<IVM> prependListeners = new LinkedList<>();
 	protected List<IVM> appendListeners = new LinkedList<>();
 
@@ -117,7 +125,53 @@ public final class VM {
 		list.addAll(prependListeners);
 		list.addAll(paramListeners);
 		list.addAll(appendListeners);
-		this.listeners = list.toArray(new IVM[list.size()]);
+		registerListeners(list.toArray(new IVM[list.size()]));
+	}
+
+	private void registerListeners(IVM[] listeners) {
+		this.listeners = listeners;
+		this.callbackListeners = buildCallbackListeners(listeners);
+	}
+
+	/**
+	 * Returns the registered listeners that handle the callback, in
+	 * registration order.
+	 */
+	protected IVM[] listenersOf(VMCallback callback) {
+		return callbackListeners[callback.ordinal()];
+	}
+
+	private static IVM[][] buildCallbackListeners(IVM[] listeners) {
+		VMCallback[] callbacks = VMCallback.values();
+		IVM[][] table = new IVM[callbacks.length][];
+		for (VMCallback callback : callbacks) {
+			List<IVM> handlers = new ArrayList<>();
+			for (IVM listener : listeners) {
+				if (handles(listener, callback)) {
+					handlers.add(listener);
+				}
+			}
+			table[callback.ordinal()] = handlers.toArray(new IVM[handlers.size()]);
+		}
+		return table;
+	}
+
+	/**
+	 * A listener handles a callback unless it inherits all the methods of
+	 * that callback from {@link AbstractVM}, whose methods do nothing.
+	 */
+	static boolean handles(IVM listener, VMCallback callback) {
+		if (!(listener instanceof AbstractVM)) {
+			return true;
+		}
+		for (Class<?> type = listener.getClass(); type != AbstractVM.class; type = type.getSuperclass()) {
+			for (Method method : type.getDeclaredMethods()) {
+				if (method.getName().equals(callback.name()) && !method.isSynthetic()) {
+					return true;
+				}
+			}
+		}
+		return false;
 	}
 
 	/**
@@ -163,7 +217,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.NEW))
 				listener.NEW(typeName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -186,7 +240,7 @@ public final class VM {
 			// No more callbacks are done since the list is erased
 			// TODO catch StopVMException in Listeners. Enforce no listener
 			// exception reaches the VM.
-			vm.listeners = new IVM[0];
+			vm.registerListeners(new IVM[0]);
 			vm.stopped = true;
 		} else if (t instanceof OutOfMemoryError) {
 			// do not wrap memory exceptions
@@ -224,7 +278,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.CALLER_STACK_PARAM))
 				listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -239,7 +293,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.CALLER_STACK_PARAM))
 				listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -254,7 +308,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.CALLER_STACK_PARAM))
 				listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -269,7 +323,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.CALLER_STACK_PARAM))
 				listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -284,7 +338,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.CALLER_STACK_PARAM))
 				listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -299,7 +353,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.CALLER_STACK_PARAM))
 				listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -314,7 +368,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.CALLER_STACK_PARAM))
 				listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -329,7 +383,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.CALLER_STACK_PARAM))
 				listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -344,7 +398,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.CALLER_STACK_PARAM))
 				listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -361,7 +415,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.SRC_LINE_NUMBER))
 				listener.SRC_LINE_NUMBER(lineNr);
 		} catch (Throwable t) {
 			handleException(t);
@@ -379,7 +433,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.METHOD_BEGIN))
 				listener.METHOD_BEGIN(access, className, methName, methDesc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -397,7 +451,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.METHOD_MAXS))
 				listener.METHOD_MAXS(className, methName, methDesc, maxStack,
 						maxLocals);
 		} catch (Throwable t) {
@@ -417,7 +471,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.METHOD_BEGIN_PARAM))
 				listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -432,7 +486,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.METHOD_BEGIN_PARAM))
 				listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -447,7 +501,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.METHOD_BEGIN_PARAM))
 				listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -462,7 +516,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.METHOD_BEGIN_PARAM))
 				listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -477,7 +531,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.METHOD_BEGIN_PARAM))
 				listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -492,7 +546,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.METHOD_BEGIN_PARAM))
 				listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -507,7 +561,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.METHOD_BEGIN_PARAM))
 				listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -522,7 +576,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.METHOD_BEGIN_PARAM))
 				listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -537,7 +591,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.METHOD_BEGIN_PARAM))
 				listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -551,7 +605,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.METHOD_BEGIN_RECEIVER))
 				listener.METHOD_BEGIN_RECEIVER(value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -565,7 +619,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.CALL_RESULT))
 				listener.CALL_RESULT(owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -580,7 +634,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.CALL_RESULT))
 				listener.CALL_RESULT(res, owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -595,7 +649,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.CALL_RESULT))
 				listener.CALL_RESULT(res, owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -610,7 +664,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.CALL_RESULT))
 				listener.CALL_RESULT(res, owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -625,7 +679,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.CALL_RESULT))
 				listener.CALL_RESULT(res, owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -640,7 +694,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.CALL_RESULT))
 				listener.CALL_RESULT(res, owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -655,7 +709,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.CALL_RESULT))
 				listener.CALL_RESULT(res, owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -672,7 +726,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.BB_BEGIN))
 				listener.BB_BEGIN();
 		} catch (Throwable t) {
 			handleException(t);
@@ -690,7 +744,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.HANDLER_BEGIN))
 				listener.HANDLER_BEGIN(access, className, methName, methDesc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -708,7 +762,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.NOP))
 				listener.NOP();
 		} catch (Throwable t) {
 			handleException(t);
@@ -722,7 +776,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ACONST_NULL))
 				listener.ACONST_NULL();
 		} catch (Throwable t) {
 			handleException(t);
@@ -740,7 +794,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ICONST_M1))
 				listener.ICONST_M1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -758,7 +812,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ICONST_0))
 				listener.ICONST_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -776,7 +830,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ICONST_1))
 				listener.ICONST_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -794,7 +848,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ICONST_2))
 				listener.ICONST_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -812,7 +866,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ICONST_3))
 				listener.ICONST_3();
 		} catch (Throwable t) {
 			handleException(t);
@@ -830,7 +884,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ICONST_4))
 				listener.ICONST_4();
 		} catch (Throwable t) {
 			handleException(t);
@@ -848,7 +902,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ICONST_5))
 				listener.ICONST_5();
 		} catch (Throwable t) {
 			handleException(t);
@@ -862,7 +916,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LCONST_0))
 				listener.LCONST_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -876,7 +930,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LCONST_1))
 				listener.LCONST_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -890,7 +944,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FCONST_0))
 				listener.FCONST_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -904,7 +958,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FCONST_1))
 				listener.FCONST_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -918,7 +972,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FCONST_2))
 				listener.FCONST_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -932,7 +986,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DCONST_0))
 				listener.DCONST_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -946,7 +1000,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DCONST_1))
 				listener.DCONST_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -960,7 +1014,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.BIPUSH))
 				listener.BIPUSH(value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -974,7 +1028,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.SIPUSH))
 				listener.SIPUSH(value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -992,7 +1046,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LDC))
 				listener.LDC(x);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1010,7 +1064,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LDC))
 				listener.LDC(x);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1028,7 +1082,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LDC))
 				listener.LDC(x);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1046,7 +1100,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LDC))
 				listener.LDC(x);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1061,7 +1115,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LDC_W))
 				listener.LDC_W();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1079,7 +1133,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LDC2_W))
 				listener.LDC2_W(x);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1097,7 +1151,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LDC2_W))
 				listener.LDC2_W(x);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1115,7 +1169,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ILOAD))
 				listener.ILOAD(i);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1129,7 +1183,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LLOAD))
 				listener.LLOAD(i);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1143,7 +1197,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FLOAD))
 				listener.FLOAD(i);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1157,7 +1211,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DLOAD))
 				listener.DLOAD(i);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1171,7 +1225,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ALOAD))
 				listener.ALOAD(i);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1189,7 +1243,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ILOAD_0))
 				listener.ILOAD_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1203,7 +1257,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ILOAD_1))
 				listener.ILOAD_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1217,7 +1271,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ILOAD_2))
 				listener.ILOAD_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1231,7 +1285,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ILOAD_3))
 				listener.ILOAD_3();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1249,7 +1303,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LLOAD_0))
 				listener.LLOAD_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1263,7 +1317,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LLOAD_1))
 				listener.LLOAD_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1277,7 +1331,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LLOAD_2))
 				listener.LLOAD_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1291,7 +1345,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LLOAD_3))
 				listener.LLOAD_3();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1309,7 +1363,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FLOAD_0))
 				listener.FLOAD_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1323,7 +1377,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FLOAD_1))
 				listener.FLOAD_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1337,7 +1391,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FLOAD_2))
 				listener.FLOAD_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1351,7 +1405,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FLOAD_3))
 				listener.FLOAD_3();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1369,7 +1423,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DLOAD_0))
 				listener.DLOAD_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1383,7 +1437,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DLOAD_1))
 				listener.DLOAD_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1397,7 +1451,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DLOAD_2))
 				listener.DLOAD_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1411,7 +1465,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DLOAD_3))
 				listener.DLOAD_3();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1429,7 +1483,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ALOAD_0))
 				listener.ALOAD_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1443,7 +1497,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ALOAD_1))
 				listener.ALOAD_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1457,7 +1511,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ALOAD_2))
 				listener.ALOAD_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1471,7 +1525,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ALOAD_3))
 				listener.ALOAD_3();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1485,7 +1539,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IALOAD))
 				listener.IALOAD(receiver, index, className, methodName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1499,7 +1553,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LALOAD))
 				listener.LALOAD(receiver, index, className, methodName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1513,7 +1567,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FALOAD))
 				listener.FALOAD(receiver, index, className, methodName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1527,7 +1581,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DALOAD))
 				listener.DALOAD(receiver, index, className, methodName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1541,7 +1595,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.AALOAD))
 				listener.AALOAD(receiver, index, className, methodName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1555,7 +1609,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.BALOAD))
 				listener.BALOAD(receiver, index, className, methodName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1569,7 +1623,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.CALOAD))
 				listener.CALOAD(receiver, index, className, methodName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1583,7 +1637,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.SALOAD))
 				listener.SALOAD(receiver, index, className, methodName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1601,7 +1655,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ISTORE))
 				listener.ISTORE(i);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1615,7 +1669,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LSTORE))
 				listener.LSTORE(i);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1629,7 +1683,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FSTORE))
 				listener.FSTORE(i);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1643,7 +1697,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DSTORE))
 				listener.DSTORE(i);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1657,7 +1711,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ASTORE))
 				listener.ASTORE(i);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1675,7 +1729,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ISTORE_0))
 				listener.ISTORE_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1689,7 +1743,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ISTORE_1))
 				listener.ISTORE_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1703,7 +1757,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ISTORE_2))
 				listener.ISTORE_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1717,7 +1771,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ISTORE_3))
 				listener.ISTORE_3();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1735,7 +1789,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LSTORE_0))
 				listener.LSTORE_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1749,7 +1803,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LSTORE_1))
 				listener.LSTORE_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1763,7 +1817,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LSTORE_2))
 				listener.LSTORE_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1777,7 +1831,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LSTORE_3))
 				listener.LSTORE_3();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1795,7 +1849,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FSTORE_0))
 				listener.FSTORE_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1809,7 +1863,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FSTORE_1))
 				listener.FSTORE_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1823,7 +1877,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FSTORE_2))
 				listener.FSTORE_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1837,7 +1891,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FSTORE_3))
 				listener.FSTORE_3();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1855,7 +1909,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DSTORE_0))
 				listener.DSTORE_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1869,7 +1923,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DSTORE_1))
 				listener.DSTORE_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1883,7 +1937,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DSTORE_2))
 				listener.DSTORE_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1897,7 +1951,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DSTORE_3))
 				listener.DSTORE_3();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1915,7 +1969,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ASTORE_0))
 				listener.ASTORE_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1929,7 +1983,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ASTORE_1))
 				listener.ASTORE_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1943,7 +1997,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ASTORE_2))
 				listener.ASTORE_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1957,7 +2011,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ASTORE_3))
 				listener.ASTORE_3();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1971,7 +2025,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IASTORE))
 				listener.IASTORE(receiver, index, className, methodName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1985,7 +2039,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LASTORE))
 				listener.LASTORE(receiver, index, className, methodName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1999,7 +2053,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FASTORE))
 				listener.FASTORE(receiver, index, className, methodName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2013,7 +2067,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DASTORE))
 				listener.DASTORE(receiver, index, className, methodName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2033,7 +2087,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.AASTORE))
 				listener.AASTORE(receiver, index, value, className, methodName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2047,7 +2101,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.BASTORE))
 				listener.BASTORE(receiver, index, className, methodName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2061,7 +2115,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.CASTORE))
 				listener.CASTORE(receiver, index, className, methodName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2075,7 +2129,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.SASTORE))
 				listener.SASTORE(receiver, index, className, methodName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2089,7 +2143,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.POP))
 				listener.POP();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2103,7 +2157,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.POP2))
 				listener.POP2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2117,7 +2171,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DUP))
 				listener.DUP();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2131,7 +2185,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DUP_X1))
 				listener.DUP_X1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2145,7 +2199,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DUP_X2))
 				listener.DUP_X2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2159,7 +2213,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DUP2))
 				listener.DUP2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2173,7 +2227,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DUP2_X1))
 				listener.DUP2_X1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2187,7 +2241,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DUP2_X2))
 				listener.DUP2_X2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2201,7 +2255,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.SWAP))
 				listener.SWAP();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2219,7 +2273,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IADD))
 				listener.IADD();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2233,7 +2287,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LADD))
 				listener.LADD();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2247,7 +2301,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FADD))
 				listener.FADD();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2261,7 +2315,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DADD))
 				listener.DADD();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2275,7 +2329,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ISUB))
 				listener.ISUB();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2289,7 +2343,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LSUB))
 				listener.LSUB();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2303,7 +2357,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FSUB))
 				listener.FSUB();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2317,7 +2371,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DSUB))
 				listener.DSUB();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2335,7 +2389,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IMUL))
 				listener.IMUL();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2349,7 +2403,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LMUL))
 				listener.LMUL();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2363,7 +2417,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FMUL))
 				listener.FMUL();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2377,7 +2431,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DMUL))
 				listener.DMUL();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2391,7 +2445,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IDIV))
 				listener.IDIV(rhs);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2405,7 +2459,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LDIV))
 				listener.LDIV(rhs);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2419,7 +2473,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FDIV))
 				listener.FDIV(rhs);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2433,7 +2487,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DDIV))
 				listener.DDIV(rhs);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2447,7 +2501,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IREM))
 				listener.IREM(rhs);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2461,7 +2515,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LREM))
 				listener.LREM(rhs);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2475,7 +2529,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FREM))
 				listener.FREM(rhs);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2489,7 +2543,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DREM))
 				listener.DREM(rhs);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2503,7 +2557,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.INEG))
 				listener.INEG();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2517,7 +2571,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LNEG))
 				listener.LNEG();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2531,7 +2585,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FNEG))
 				listener.FNEG();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2545,7 +2599,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DNEG))
 				listener.DNEG();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2559,7 +2613,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ISHL))
 				listener.ISHL();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2573,7 +2627,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LSHL))
 				listener.LSHL();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2587,7 +2641,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ISHR))
 				listener.ISHR();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2601,7 +2655,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LSHR))
 				listener.LSHR();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2615,7 +2669,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IUSHR))
 				listener.IUSHR();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2629,7 +2683,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LUSHR))
 				listener.LUSHR();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2643,7 +2697,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IAND))
 				listener.IAND();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2657,7 +2711,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LAND))
 				listener.LAND();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2671,7 +2725,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IOR))
 				listener.IOR();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2685,7 +2739,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LOR))
 				listener.LOR();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2699,7 +2753,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IXOR))
 				listener.IXOR();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2713,7 +2767,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LXOR))
 				listener.LXOR();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2727,7 +2781,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IINC))
 				listener.IINC(i, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2741,7 +2795,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.I2L))
 				listener.I2L();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2755,7 +2809,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.I2F))
 				listener.I2F();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2769,7 +2823,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.I2D))
 				listener.I2D();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2783,7 +2837,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.L2I))
 				listener.L2I();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2797,7 +2851,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.L2F))
 				listener.L2F();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2811,7 +2865,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.L2D))
 				listener.L2D();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2825,7 +2879,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.F2I))
 				listener.F2I();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2839,7 +2893,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.F2L))
 				listener.F2L();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2853,7 +2907,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.F2D))
 				listener.F2D();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2867,7 +2921,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.D2I))
 				listener.D2I();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2881,7 +2935,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.D2L))
 				listener.D2L();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2895,7 +2949,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.D2F))
 				listener.D2F();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2909,7 +2963,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.I2B))
 				listener.I2B();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2923,7 +2977,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.I2C))
 				listener.I2C();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2937,7 +2991,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.I2S))
 				listener.I2S();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2951,7 +3005,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LCMP))
 				listener.LCMP();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2965,7 +3019,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FCMPL))
 				listener.FCMPL();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2979,7 +3033,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FCMPG))
 				listener.FCMPG();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2993,7 +3047,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DCMPL))
 				listener.DCMPL();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3007,7 +3061,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DCMPG))
 				listener.DCMPG();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3022,7 +3076,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IFEQ))
 				listener.IFEQ(className, methName, branchIndex, param);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3037,7 +3091,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IFNE))
 				listener.IFNE(className, methName, branchIndex, param);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3052,7 +3106,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IFLT))
 				listener.IFLT(className, methName, branchIndex, param);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3067,7 +3121,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IFGE))
 				listener.IFGE(className, methName, branchIndex, param);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3082,7 +3136,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IFGT))
 				listener.IFGT(className, methName, branchIndex, param);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3097,7 +3151,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IFLE))
 				listener.IFLE(className, methName, branchIndex, param);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3112,7 +3166,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IF_ICMPEQ))
 				listener.IF_ICMPEQ(className, methName, branchIndex, left,
 						right);
 		} catch (Throwable t) {
@@ -3128,7 +3182,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IF_ICMPNE))
 				listener.IF_ICMPNE(className, methName, branchIndex, left,
 						right);
 		} catch (Throwable t) {
@@ -3144,7 +3198,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IF_ICMPLT))
 				listener.IF_ICMPLT(className, methName, branchIndex, left,
 						right);
 		} catch (Throwable t) {
@@ -3160,7 +3214,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IF_ICMPGE))
 				listener.IF_ICMPGE(className, methName, branchIndex, left,
 						right);
 		} catch (Throwable t) {
@@ -3176,7 +3230,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IF_ICMPGT))
 				listener.IF_ICMPGT(className, methName, branchIndex, left,
 						right);
 		} catch (Throwable t) {
@@ -3192,7 +3246,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IF_ICMPLE))
 				listener.IF_ICMPLE(className, methName, branchIndex, left,
 						right);
 		} catch (Throwable t) {
@@ -3208,7 +3262,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IF_ACMPEQ))
 				listener.IF_ACMPEQ(className, methName, branchIndex, left,
 						right);
 		} catch (Throwable t) {
@@ -3224,7 +3278,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IF_ACMPNE))
 				listener.IF_ACMPNE(className, methName, branchIndex, left,
 						right);
 		} catch (Throwable t) {
@@ -3239,7 +3293,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.GOTO))
 				listener.GOTO();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3253,7 +3307,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.JSR))
 				listener.JSR();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3267,7 +3321,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.RET))
 				listener.RET();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3282,7 +3336,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.TABLESWITCH))
 				listener.TABLESWITCH(className, methName, branchIndex, target,
 						min, max);
 		} catch (Throwable t) {
@@ -3298,7 +3352,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LOOKUPSWITCH))
 				listener.LOOKUPSWITCH(className, methName, branchIndex, target,
 						goals);
 		} catch (Throwable t) {
@@ -3313,7 +3367,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IRETURN))
 				listener.IRETURN();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3327,7 +3381,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.LRETURN))
 				listener.LRETURN();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3341,7 +3395,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.FRETURN))
 				listener.FRETURN();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3355,7 +3409,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.DRETURN))
 				listener.DRETURN();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3369,7 +3423,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ARETURN))
 				listener.ARETURN();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3383,7 +3437,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.RETURN))
 				listener.RETURN();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3397,7 +3451,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.GETSTATIC))
 				listener.GETSTATIC(owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3411,7 +3465,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.PUTSTATIC))
 				listener.PUTSTATIC(owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3426,7 +3480,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.GETFIELD))
 				listener.GETFIELD(receiver, owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3441,7 +3495,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.PUTFIELD))
 				listener.PUTFIELD(receiver, owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3455,7 +3509,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.INVOKESTATIC))
 				listener.INVOKESTATIC(owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3469,7 +3523,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.INVOKESPECIAL))
 				listener.INVOKESPECIAL(owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3484,7 +3538,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.INVOKEVIRTUAL))
 				listener.INVOKEVIRTUAL(receiver, owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3499,7 +3553,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.INVOKESPECIAL))
 				listener.INVOKESPECIAL(receiver, owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3514,7 +3568,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.INVOKEINTERFACE))
 				listener.INVOKEINTERFACE(receiver, owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3530,7 +3584,7 @@ public final class VM {
 	 */
 	public static void INVOKEDYNAMIC(Object instance, String ownerClass) {
         if (!ignoreCallback)
-            interpret((IVM ivm) -> ivm.INVOKEDYNAMIC(instance, ownerClass));
+            interpret(VMCallback.INVOKEDYNAMIC, (IVM ivm) -> ivm.INVOKEDYNAMIC(instance, ownerClass));
     }
 
 	/**
@@ -3542,7 +3596,7 @@ public final class VM {
 	 */
     public static void INVOKEDYNAMIC(String concatenationResult, String stringOwnerClass, String stringRecipe) {
         if (!ignoreCallback)
-            interpret((IVM ivm) -> ivm.INVOKEDYNAMIC(concatenationResult, stringOwnerClass, stringRecipe));
+            interpret(VMCallback.INVOKEDYNAMIC, (IVM ivm) -> ivm.INVOKEDYNAMIC(concatenationResult, stringOwnerClass, stringRecipe));
     }
 
 	protected static Class<?> getArrayComponentType(int componentTypeInt) {
@@ -3575,7 +3629,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.NEWARRAY))
 				listener.NEWARRAY(length,
 					getArrayComponentType(componentTypeInt),
 					className,
@@ -3592,7 +3646,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ANEWARRAY))
 				listener.ANEWARRAY(length, componentTypeName, className, methodName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3606,7 +3660,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ARRAYLENGTH))
 				listener.ARRAYLENGTH(reference);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3620,7 +3674,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.ATHROW))
 				listener.ATHROW((Throwable) throwable);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3634,7 +3688,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.CHECKCAST))
 				listener.CHECKCAST(reference, typeName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3648,7 +3702,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.INSTANCEOF))
 				listener.INSTANCEOF(reference, typeName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3662,7 +3716,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.MONITORENTER))
 				listener.MONITORENTER();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3676,7 +3730,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.MONITOREXIT))
 				listener.MONITOREXIT();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3690,7 +3744,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.WIDE))
 				listener.WIDE();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3704,7 +3758,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.MULTIANEWARRAY))
 				listener.MULTIANEWARRAY(arrayTypeDesc, nrDimensions, className, methodName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3719,7 +3773,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IFNULL))
 				listener.IFNULL(className, methName, branchIndex, param);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3734,7 +3788,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.IFNONNULL))
 				listener.IFNONNULL(className, methName, branchIndex, param);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3748,7 +3802,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.GOTO_W))
 				listener.GOTO_W();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3762,7 +3816,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(VMCallback.JSR_W))
 				listener.JSR_W();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3784,14 +3838,15 @@ public final class VM {
      *
      * TODO: Refactor all calls to use this function in the same way as INVOKEDYNAMIC
      *
+     * @param callback
      * @param lambda
      */
-    private static void interpret(Consumer<IVM> lambda) {
+    private static void interpret(VMCallback callback, Consumer<IVM> lambda) {
   	    disableCallBacks();
 	    vm.countCallback();
 
 	    try {
-	      for (IVM ivm : vm.listeners) lambda.accept(ivm);
+	      for (IVM ivm : vm.listenersOf(callback)) lambda.accept(ivm);
 	    } catch (Throwable t) {
 	      t.printStackTrace();
 	    } finally {
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Decides how the fitness of a batch of chromosomes (e.g., the offspring of a
+ * generation) is evaluated. Implementations may prepare the whole batch at
+ * once, for example by executing all of its tests together, before handing
+ * the chromosomes one by one to the fitness computation of the search
+ * algorithm.
+ * 
+ * @param <T>
+ *            the type of chromosomes
+ */
+public interface EvaluationScheduler<T extends Chromosome<T>> extends Serializable {
+
+	/**
+	 * Evaluate the given chromosomes in list order. Each chromosome is passed
+	 * to {@code evaluation} at most once; evaluation stops as soon as
+	 * {@code isFinished} holds.
+	 * 
+	 * @param chromosomes
+	 *            the chromosomes to evaluate
+	 * @param evaluation
+	 *            the fitness computation of the search algorithm
+	 * @param isFinished
+	 *            whether the search budget is used up
+	 * @return the number of chromosomes that were evaluated, always a prefix
+	 *         of the given list
+	 */
+	int evaluate(List<T> chromosomes, Consumer<T> evaluation, BooleanSupplier isFinished);
+}
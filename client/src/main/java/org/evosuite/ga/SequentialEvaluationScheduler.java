@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Evaluates one chromosome after the other, which is what the search
+ * algorithms do by default
+ * 
+ * @param <T>
+ *            the type of chromosomes
+ */
+public class SequentialEvaluationScheduler<T extends Chromosome<T>> implements EvaluationScheduler<T> {
+
+	private static final long serialVersionUID = -4338519424339567261L;
+
+	@Override
+	public int evaluate(List<T> chromosomes, Consumer<T> evaluation, BooleanSupplier isFinished) {
+		int evaluated = 0;
+		for (T chromosome : chromosomes) {
+			if (isFinished.getAsBoolean())
+				break;
+			evaluation.accept(chromosome);
+			evaluated++;
+		}
+		return evaluated;
+	}
+}
@@ -72,7 +72,7 @@ public abstract class Archive implements Serializable {
   /**
    * Has this archive been updated with new candidate solutions?
    */
-  protected boolean hasBeenUpdated = false;
+  protected volatile boolean hasBeenUpdated = false;
 
   /**
    * Register a target.
@@ -30,14 +30,27 @@ import org.evosuite.utils.Randomness;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.LinkedHashMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Coverage Archive.
  * 
+ * Each registered target is assigned a dense id, in order of registration, and the covering
+ * solution of a target is stored in the slot of its id. Updates of the archive replace solutions
+ * with a compare-and-set on the slot, so that threads evaluating different tests do not need to
+ * synchronize on the archive. Only the registration of targets and the bookkeeping done when a
+ * target is covered for the first time are synchronized. The sets of covered and uncovered
+ * targets are views on the slots, and thus always up to date.
+ * 
  * @author José Campos
  */
 public class CoverageArchive extends Archive {
@@ -47,19 +60,43 @@ public class CoverageArchive extends Archive {
   private static final Logger logger = LoggerFactory.getLogger(CoverageArchive.class);
 
   /**
-   * Map used to store all covered targets (keys of the map) and the corresponding covering
-   * solutions (values of the map)
+   * Slots are allocated in chunks, which are never moved once allocated, so that an update can
+   * not get lost while more targets are being registered
+   */
+  private static final int CHUNK_BITS = 10;
+
+  private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+  private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+  /**
+   * Map used to assign a dense id to each registered target
    */
-  private final Map<TestFitnessFunction, TestChromosome> covered = new LinkedHashMap<>();
+  private final Map<TestFitnessFunction, Integer> ids = new ConcurrentHashMap<>();
 
   /**
-   * Set used to store all targets that have not been covered yet
+   * Registered targets, indexed by id
    */
-  private final Set<TestFitnessFunction> uncovered = new LinkedHashSet<>();
+  private volatile TestFitnessFunction[][] targets = new TestFitnessFunction[0][];
+
+  /**
+   * Covering solution of each target, indexed by id, or null if the target has not been covered
+   * yet
+   */
+  private volatile AtomicReferenceArray<TestChromosome>[] solutions = newChunks(0);
+
+  private volatile int numberOfTargets = 0;
+
+  private final AtomicInteger numberOfCoveredTargets = new AtomicInteger();
 
   public static final CoverageArchive instance = new CoverageArchive();
 
 
+  @SuppressWarnings("unchecked")
+  private static AtomicReferenceArray<TestChromosome>[] newChunks(int length) {
+    return new AtomicReferenceArray[length];
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -67,12 +104,42 @@ public class CoverageArchive extends Archive {
   public void addTarget(TestFitnessFunction target) {
     super.addTarget(target);
 
-    if (!this.uncovered.contains(target)) {
-      logger.debug("Registering new target '" + target + "'");
-      this.uncovered.add(target);
+    synchronized (this) {
+      if (!this.ids.containsKey(target)) {
+        logger.debug("Registering new target '" + target + "'");
+        this.register(target);
+      }
+
+      this.registerNonCoveredTargetOfAMethod(target);
     }
+  }
+
+  /**
+   * Assigns the next id to a target. Callers have to hold the lock of the archive.
+   */
+  private int register(TestFitnessFunction target) {
+    int id = this.numberOfTargets;
+    int chunk = id >>> CHUNK_BITS;
+    if (chunk == this.solutions.length) {
+      TestFitnessFunction[][] newTargets = Arrays.copyOf(this.targets, chunk + 1);
+      newTargets[chunk] = new TestFitnessFunction[CHUNK_SIZE];
+      AtomicReferenceArray<TestChromosome>[] newSolutions = Arrays.copyOf(this.solutions, chunk + 1);
+      newSolutions[chunk] = new AtomicReferenceArray<>(CHUNK_SIZE);
+      this.targets = newTargets;
+      this.solutions = newSolutions;
+    }
+    this.targets[chunk][id & CHUNK_MASK] = target;
+    this.numberOfTargets = id + 1;
+    this.ids.put(target, id);
+    return id;
+  }
+
+  private TestFitnessFunction getTarget(int id) {
+    return this.targets[id >>> CHUNK_BITS][id & CHUNK_MASK];
+  }
 
-    this.registerNonCoveredTargetOfAMethod(target);
+  private TestChromosome getSolution(int id) {
+    return this.solutions[id >>> CHUNK_BITS].get(id & CHUNK_MASK);
   }
 
   /**
@@ -81,7 +148,7 @@ public class CoverageArchive extends Archive {
   @Override
   public void updateArchive(TestFitnessFunction target, TestChromosome solution, double fitnessValue) {
     super.updateArchive(target, solution, fitnessValue);
-    assert this.covered.containsKey(target) || this.uncovered.contains(target) : "Unknown goal: "+target;
+    assert this.ids.containsKey(target) : "Unknown goal: "+target;
 
     if (fitnessValue > 0.0) {
       // as this type of archive only cares about covered targets, it ignores all
@@ -89,29 +156,46 @@ public class CoverageArchive extends Archive {
       return;
     }
 
-    boolean isNewCoveredTarget = false;
-    boolean isNewSolutionBetterThanCurrent = false;
-
-    TestChromosome currentSolution = this.covered.get(target);
-
-    if (currentSolution == null) {
-      logger.debug("Solution for non-covered target '" + target + "'");
-      isNewCoveredTarget = true;
-    } else {
-      isNewSolutionBetterThanCurrent = this.isBetterThanCurrent(currentSolution, solution);
+    Integer id = this.ids.get(target);
+    if (id == null) {
+      synchronized (this) {
+        id = this.ids.get(target);
+        if (id == null) {
+          id = this.register(target);
+        }
+      }
     }
 
-    if (isNewCoveredTarget || isNewSolutionBetterThanCurrent) {
-      // update the archive if a new target has been covered, or if solution covers already existing
-      // covered targets but it has been considered a better solution
-      this.addToArchive(target, solution);
+    AtomicReferenceArray<TestChromosome> chunk = this.solutions[id >>> CHUNK_BITS];
+    int slot = id & CHUNK_MASK;
+
+    while (true) {
+      TestChromosome currentSolution = chunk.get(slot);
+
+      if (currentSolution == null) {
+        logger.debug("Solution for non-covered target '" + target + "'");
+        if (chunk.compareAndSet(slot, null, solution)) {
+          this.numberOfCoveredTargets.incrementAndGet();
+          synchronized (this) {
+            this.removeNonCoveredTargetOfAMethod(target);
+          }
+          this.addedToArchive(target, solution);
+          return;
+        }
+      } else if (this.isBetterThanCurrent(currentSolution, solution)) {
+        // solution covers an already covered target but it has been considered a better solution
+        if (chunk.compareAndSet(slot, currentSolution, solution)) {
+          this.addedToArchive(target, solution);
+          return;
+        }
+      } else {
+        return;
+      }
+      // another thread has updated the target in the meantime, compare against its solution
     }
   }
 
-  private void addToArchive(TestFitnessFunction target, TestChromosome solution) {
-    this.uncovered.remove(target);
-    this.covered.put(target, solution);
-    this.removeNonCoveredTargetOfAMethod(target);
+  private void addedToArchive(TestFitnessFunction target, TestChromosome solution) {
     this.hasBeenUpdated = true;
 
     ExecutionResult result = solution.getLastExecutionResult();
@@ -127,7 +211,7 @@ public class CoverageArchive extends Archive {
    */
   @Override
   public boolean isArchiveEmpty() {
-    return this.covered.isEmpty();
+    return this.numberOfCoveredTargets.get() == 0;
   }
 
   /**
@@ -135,7 +219,7 @@ public class CoverageArchive extends Archive {
    */
   @Override
   public int getNumberOfTargets() {
-    return this.covered.keySet().size() + this.uncovered.size();
+    return this.numberOfTargets;
   }
 
   /**
@@ -143,7 +227,7 @@ public class CoverageArchive extends Archive {
    */
   @Override
   public int getNumberOfCoveredTargets() {
-    return this.covered.size();
+    return this.numberOfCoveredTargets.get();
   }
 
   /**
@@ -151,16 +235,18 @@ public class CoverageArchive extends Archive {
    */
   @Override
   public int getNumberOfCoveredTargets(Class<?> targetClass) {
-    return (int) this.covered.keySet().stream().filter(target -> target.getClass() == targetClass)
+    return (int) this.getCoveredTargets().stream().filter(target -> target.getClass() == targetClass)
         .count();
   }
 
   /**
    * {@inheritDoc}
+   * 
+   * The returned set is an unmodifiable view on the archive.
    */
   @Override
   public Set<TestFitnessFunction> getCoveredTargets() {
-    return this.covered.keySet();
+    return new TargetView(true);
   }
 
   /**
@@ -168,7 +254,7 @@ public class CoverageArchive extends Archive {
    */
   @Override
   public int getNumberOfUncoveredTargets() {
-    return this.uncovered.size();
+    return this.numberOfTargets - this.numberOfCoveredTargets.get();
   }
 
   /**
@@ -176,22 +262,18 @@ public class CoverageArchive extends Archive {
    */
   @Override
   public int getNumberOfUncoveredTargets(Class<?> targetClass) {
-    return (int) this.uncovered.stream().filter(target -> target.getClass() == targetClass).count();
+    return (int) this.getUncoveredTargets().stream().filter(target -> target.getClass() == targetClass)
+        .count();
   }
 
   /**
    * {@inheritDoc}
+   * 
+   * The returned set is an unmodifiable view on the archive.
    */
   @Override
   public Set<TestFitnessFunction> getUncoveredTargets() {
-    return this.uncovered;
-  }
-
-  private Set<TestFitnessFunction> getTargets() {
-    Set<TestFitnessFunction> targets = new LinkedHashSet<>();
-    targets.addAll(this.getCoveredTargets());
-    targets.addAll(this.getUncoveredTargets());
-    return targets;
+    return new TargetView(false);
   }
 
   /**
@@ -200,7 +282,7 @@ public class CoverageArchive extends Archive {
   @Override
   public boolean hasTarget(TestFitnessFunction target) {
     assert target != null;
-    return this.covered.containsKey(target) || this.uncovered.contains(target);
+    return this.ids.containsKey(target);
   }
 
   /**
@@ -208,7 +290,7 @@ public class CoverageArchive extends Archive {
    */
   @Override
   public int getNumberOfSolutions() {
-    return this.covered.size();
+    return this.numberOfCoveredTargets.get();
   }
 
   /**
@@ -216,7 +298,15 @@ public class CoverageArchive extends Archive {
    */
   @Override
   public Set<TestChromosome> getSolutions() {
-    return new LinkedHashSet<>(this.covered.values());
+    Set<TestChromosome> solutions = new LinkedHashSet<>();
+    int size = this.numberOfTargets;
+    for (int id = 0; id < size; id++) {
+      TestChromosome solution = this.getSolution(id);
+      if (solution != null) {
+        solutions.add(solution);
+      }
+    }
+    return solutions;
   }
 
   /**
@@ -233,8 +323,9 @@ public class CoverageArchive extends Archive {
   @Override
   public TestChromosome getSolution(TestFitnessFunction target) {
     assert target != null;
-    assert this.covered.containsKey(target);
-    return this.covered.get(target);
+    assert this.hasSolution(target);
+    Integer id = this.ids.get(target);
+    return id == null ? null : this.getSolution(id);
   }
 
   /**
@@ -243,7 +334,8 @@ public class CoverageArchive extends Archive {
   @Override
   public boolean hasSolution(TestFitnessFunction target) {
     assert target != null;
-    return this.covered.containsKey(target);
+    Integer id = this.ids.get(target);
+    return id != null && this.getSolution(id) != null;
   }
 
   /**
@@ -283,7 +375,9 @@ public class CoverageArchive extends Archive {
     // to avoid adding the same solution to 'mergedSolution' suite
     Set<TestChromosome> solutionsSampledFromArchive = new LinkedHashSet<>();
 
-    for (TestFitnessFunction target : this.getTargets()) {
+    int numberOfTargets = this.numberOfTargets;
+    for (int id = 0; id < numberOfTargets; id++) {
+      TestFitnessFunction target = this.getTarget(id);
       // has target been covered? to answer it, we perform a local check rather than calling method
       // {@link TestFitnessFunction.isCoveredBy} as it may perform a fitness evaluation to access
       // whether that 'target' is covered or not (and therefore, it could be more expensive)
@@ -296,7 +390,7 @@ public class CoverageArchive extends Archive {
       }
 
       if (!isGoalCovered) {
-        TestChromosome chromosome = this.covered.get(target);
+        TestChromosome chromosome = this.getSolution(id);
 
         // is there any solution in the archive that covers it, and has that solution not been
         // considered yet?
@@ -339,9 +433,76 @@ public class CoverageArchive extends Archive {
    * {@inheritDoc}
    */
   @Override
-  public void reset() {
+  public synchronized void reset() {
     super.reset();
-    this.covered.clear();
-    this.uncovered.clear();
+    this.ids.clear();
+    this.targets = new TestFitnessFunction[0][];
+    this.solutions = newChunks(0);
+    this.numberOfTargets = 0;
+    this.numberOfCoveredTargets.set(0);
+  }
+
+  /**
+   * Unmodifiable view on either the covered or the uncovered targets, which iterates over the
+   * targets in the order in which they have been registered.
+   */
+  private class TargetView extends AbstractSet<TestFitnessFunction> {
+
+    private final boolean covered;
+
+    TargetView(boolean covered) {
+      this.covered = covered;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      if (o == null) {
+        return false;
+      }
+      Integer id = ids.get(o);
+      return id != null && (getSolution(id) != null) == this.covered;
+    }
+
+    @Override
+    public int size() {
+      return this.covered ? getNumberOfCoveredTargets() : getNumberOfUncoveredTargets();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return this.size() == 0;
+    }
+
+    @Override
+    public Iterator<TestFitnessFunction> iterator() {
+      return new Iterator<TestFitnessFunction>() {
+
+        private final int size = numberOfTargets;
+
+        private int next = this.advance(0);
+
+        private int advance(int id) {
+          while (id < this.size && (getSolution(id) != null) != covered) {
+            id++;
+          }
+          return id;
+        }
+
+        @Override
+        public boolean hasNext() {
+          return this.next < this.size;
+        }
+
+        @Override
+        public TestFitnessFunction next() {
+          if (!this.hasNext()) {
+            throw new NoSuchElementException();
+          }
+          TestFitnessFunction target = getTarget(this.next);
+          this.next = this.advance(this.next + 1);
+          return target;
+        }
+      };
+    }
   }
 }
@@ -32,7 +32,9 @@ import org.evosuite.Properties;
 import org.evosuite.Properties.Algorithm;
 import org.evosuite.ga.Chromosome;
 import org.evosuite.ga.ChromosomeFactory;
+import org.evosuite.ga.EvaluationScheduler;
 import org.evosuite.ga.FitnessFunction;
+import org.evosuite.ga.SequentialEvaluationScheduler;
 import org.evosuite.ga.archive.Archive;
 import org.evosuite.ga.bloatcontrol.BloatControlFunction;
 import org.evosuite.ga.localsearch.DefaultLocalSearchObjective;
@@ -135,6 +137,11 @@ public abstract class GeneticAlgorithm<T extends Chromosome<T>> implements Searc
      **/
     protected RankingFunction<T> rankingFunction = new RankBasedPreferenceSorting<>();
 
+    /**
+     * Decides how batches of individuals are evaluated
+     */
+    protected EvaluationScheduler<T> evaluationScheduler = new SequentialEvaluationScheduler<>();
+
     /**
      * Constructor
      *
@@ -516,6 +523,24 @@ public abstract class GeneticAlgorithm<T extends Chromosome<T>> implements Searc
         this.rankingFunction = function;
     }
 
+    /**
+     * Set the scheduler used to evaluate batches of individuals
+     *
+     * @param scheduler a {@link org.evosuite.ga.EvaluationScheduler} object
+     */
+    public void setEvaluationScheduler(EvaluationScheduler<T> scheduler) {
+        this.evaluationScheduler = scheduler;
+    }
+
+    /**
+     * Get the scheduler used to evaluate batches of individuals
+     *
+     * @return a {@link org.evosuite.ga.EvaluationScheduler} object
+     */
+    public EvaluationScheduler<T> getEvaluationScheduler() {
+        return evaluationScheduler;
+    }
+
     /**
      * Get currently used ranking function (only used by MOO algorithms)
      *
@@ -571,13 +596,20 @@ public abstract class GeneticAlgorithm<T extends Chromosome<T>> implements Searc
     protected void calculateFitness() {
         logger.debug("Calculating fitness for " + population.size() + " individuals");
 
-        for (T c : this.population) {
-            if (isFinished()) {
-                break;
-            } else {
-                this.calculateFitness(c);
-            }
-        }
+        this.calculateFitness(this.population);
+    }
+
+    /**
+     * Calculate fitness for a batch of individuals, e.g. the offspring of a
+     * generation, using the current {@link EvaluationScheduler}. Evaluation
+     * stops once the search is finished.
+     *
+     * @param chromosomes the individuals to evaluate
+     * @return the number of individuals that were evaluated, which are always
+     * the first ones of the list
+     */
+    protected int calculateFitness(List<T> chromosomes) {
+        return this.evaluationScheduler.evaluate(chromosomes, this::calculateFitness, this::isFinished);
     }
 
     /**
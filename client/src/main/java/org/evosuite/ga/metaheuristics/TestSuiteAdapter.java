@@ -6,6 +6,7 @@ import org.evosuite.ga.*;
 import org.evosuite.ga.bloatcontrol.BloatControlFunction;
 import org.evosuite.ga.bloatcontrol.MaxSizeBloatControl;
 import org.evosuite.ga.operators.crossover.*;
+import org.evosuite.ga.operators.ranking.EfficientNonDominatedSorting;
 import org.evosuite.ga.operators.ranking.FastNonDominatedSorting;
 import org.evosuite.ga.operators.ranking.RankBasedPreferenceSorting;
 import org.evosuite.ga.operators.ranking.RankingFunction;
@@ -16,6 +17,7 @@ import org.evosuite.ga.populationlimit.SizePopulationLimit;
 import org.evosuite.ga.stoppingconditions.*;
 import org.evosuite.statistics.StatisticsListener;
 import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.execution.BatchExecutionScheduler;
 import org.evosuite.testsuite.*;
 import org.evosuite.utils.ResourceController;
 
@@ -75,6 +77,7 @@ public abstract class TestSuiteAdapter<A extends GeneticAlgorithm<TestChromosome
         this.localObjective = null;
         this.populationLimit = null;
         this.rankingFunction = null;
+        this.evaluationScheduler = null;
         this.currentIteration = Integer.MIN_VALUE;
         this.localSearchProbability = Double.NaN;
         // The following fields are NOT cleared. They are actually useful because MOSA also uses
@@ -264,9 +267,27 @@ public abstract class TestSuiteAdapter<A extends GeneticAlgorithm<TestChromosome
         algorithm.setRankingFunction(adapteeFunction);
     }
 
+    @Override
+    public void setEvaluationScheduler(EvaluationScheduler<TestSuiteChromosome> scheduler) {
+        algorithm.setEvaluationScheduler(mapEvaluationScheduler(scheduler));
+    }
+
+    private static EvaluationScheduler<TestChromosome> mapEvaluationScheduler(
+            EvaluationScheduler<TestSuiteChromosome> scheduler) {
+        if (scheduler instanceof BatchExecutionScheduler) {
+            return BatchExecutionScheduler.forTests();
+        } else if (scheduler instanceof SequentialEvaluationScheduler) {
+            return new SequentialEvaluationScheduler<>();
+        } else {
+            throw new IllegalArgumentException("cannot adapt evaluation scheduler " + scheduler);
+        }
+    }
+
     private static<T extends Chromosome<T>, X extends Chromosome<X>> RankingFunction<T> mapRankingFunction(RankingFunction<X> function){
         if (function instanceof FastNonDominatedSorting) {
             return new FastNonDominatedSorting<>();
+        } else if (function instanceof EfficientNonDominatedSorting) {
+            return new EfficientNonDominatedSorting<>();
         } else if (function instanceof RankBasedPreferenceSorting) {
             return new RankBasedPreferenceSorting<>();
         } else {
@@ -317,6 +338,12 @@ public abstract class TestSuiteAdapter<A extends GeneticAlgorithm<TestChromosome
         throw new UnsupportedOperationException("TestSuiteChromosome to TestChromosome conversion for this function not supported");
     }
 
+    @Override
+    final protected int calculateFitness(List<TestSuiteChromosome> chromosomes)
+            throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("TestSuiteChromosome to TestChromosome conversion for this function not supported");
+    }
+
     @Override
     final protected void calculateFitnessAndSortPopulation(){
         algorithm.calculateFitnessAndSortPopulation();
@@ -134,6 +134,8 @@ public abstract class AbstractMOSA extends GeneticAlgorithm<TestChromosome> {
 	 */
 	protected List<TestChromosome> breedNextGeneration() {
 		List<TestChromosome> offspringPopulation = new ArrayList<>(Properties.POPULATION);
+		// offspring are evaluated together once they have all been bred
+		List<TestChromosome> offspringToEvaluate = new ArrayList<>(Properties.POPULATION);
 		// we apply only Properties.POPULATION/2 iterations since in each generation
 		// we generate two offsprings
 		for (int i = 0; i < Properties.POPULATION / 2 && !this.isFinished(); i++) {
@@ -167,8 +169,7 @@ public abstract class AbstractMOSA extends GeneticAlgorithm<TestChromosome> {
 			if (offspring1.isChanged()) {
 				this.clearCachedResults(offspring1);
 				offspring1.updateAge(this.currentIteration);
-				this.calculateFitness(offspring1);
-				offspringPopulation.add(offspring1);
+				offspringToEvaluate.add(offspring1);
 			}
 
 			// apply mutation on offspring2
@@ -176,10 +177,11 @@ public abstract class AbstractMOSA extends GeneticAlgorithm<TestChromosome> {
 			if (offspring2.isChanged()) {
 				this.clearCachedResults(offspring2);
 				offspring2.updateAge(this.currentIteration);
-				this.calculateFitness(offspring2);
-				offspringPopulation.add(offspring2);
+				offspringToEvaluate.add(offspring2);
 			}
 		}
+		this.evaluateOffspring(offspringToEvaluate, offspringPopulation);
+
 		// Add new randomly generate tests
 		for (int i = 0; i < Properties.POPULATION * Properties.P_TEST_INSERTION; i++) {
 			final TestChromosome tch;
@@ -193,14 +195,28 @@ public abstract class AbstractMOSA extends GeneticAlgorithm<TestChromosome> {
 			}
 			if (tch.isChanged()) {
 				tch.updateAge(this.currentIteration);
-				this.calculateFitness(tch);
-				offspringPopulation.add(tch);
+				offspringToEvaluate.add(tch);
 			}
 		}
+		this.evaluateOffspring(offspringToEvaluate, offspringPopulation);
+
 		logger.info("Number of offsprings = {}", offspringPopulation.size());
 		return offspringPopulation;
 	}
 
+	/**
+	 * Evaluates the given offspring as one batch and adds those that were
+	 * evaluated before the search budget ran out to the offspring population.
+	 *
+	 * @param offspring the offspring to evaluate, cleared afterwards
+	 * @param offspringPopulation the offspring population
+	 */
+	private void evaluateOffspring(List<TestChromosome> offspring, List<TestChromosome> offspringPopulation) {
+		int evaluated = this.calculateFitness(offspring);
+		offspringPopulation.addAll(offspring.subList(0, evaluated));
+		offspring.clear();
+	}
+
 	/**
 	 * Method used to mutate an offspring.
 	 *
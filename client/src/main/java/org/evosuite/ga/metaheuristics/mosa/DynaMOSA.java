@@ -25,6 +25,7 @@ import org.evosuite.ga.FitnessFunction;
 import org.evosuite.ga.comparators.OnlyCrowdingComparator;
 import org.evosuite.ga.metaheuristics.mosa.structural.MultiCriteriaManager;
 import org.evosuite.ga.operators.ranking.CrowdingDistance;
+import org.evosuite.ga.operators.ranking.FitnessMatrix;
 import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testcase.TestFitnessFunction;
 import org.evosuite.utils.LoggingUtils;
@@ -75,9 +76,13 @@ public class DynaMOSA extends AbstractMOSA {
 		// Ranking the union
 		logger.debug("Union Size = {}", union.size());
 
+		// The fitness values of the union are shared by the ranking and the crowding distance
+		FitnessMatrix<TestChromosome> fitness =
+				new FitnessMatrix<>(union, this.goalsManager.getCurrentGoals());
+
 		// Ranking the union using the best rank algorithm (modified version of the non dominated
 		// sorting algorithm)
-		this.rankingFunction.computeRankingAssignment(union, this.goalsManager.getCurrentGoals());
+		this.rankingFunction.computeRankingAssignment(fitness);
 
 		// let's form the next population using "preference sorting and non-dominated sorting" on the
 		// updated set of goals
@@ -94,7 +99,7 @@ public class DynaMOSA extends AbstractMOSA {
 		// population as a whole.
 		while ((remain > 0) && (remain >= front.size()) && !front.isEmpty()) {
 			// Assign crowding distance to individuals
-			this.distance.fastEpsilonDominanceAssignment(front, this.goalsManager.getCurrentGoals());
+			this.distance.fastEpsilonDominanceAssignment(front, fitness);
 
 			// Add the individuals of this front
 			this.population.addAll(front);
@@ -115,7 +120,7 @@ public class DynaMOSA extends AbstractMOSA {
 		// promote diversity, we consider those individuals with a higher crowding distance as
 		// being better.
 		if (remain > 0 && !front.isEmpty()) { // front contains individuals to insert
-			this.distance.fastEpsilonDominanceAssignment(front, this.goalsManager.getCurrentGoals());
+			this.distance.fastEpsilonDominanceAssignment(front, fitness);
 			front.sort(new OnlyCrowdingComparator<>());
 			for (int k = 0; k < remain; k++) {
 				this.population.add(front.get(k));
@@ -158,9 +163,11 @@ public class DynaMOSA extends AbstractMOSA {
 		// Calculate dominance ranks and crowding distance. This is required to decide which
 		// individuals should be used for mutation and crossover in the first iteration of the main
 		// search loop.
-		this.rankingFunction.computeRankingAssignment(this.population, this.goalsManager.getCurrentGoals());
+		FitnessMatrix<TestChromosome> fitness =
+				new FitnessMatrix<>(this.population, this.goalsManager.getCurrentGoals());
+		this.rankingFunction.computeRankingAssignment(fitness);
 		for (int i = 0; i < this.rankingFunction.getNumberOfSubfronts(); i++){
-			this.distance.fastEpsilonDominanceAssignment(this.rankingFunction.getSubfront(i), this.goalsManager.getCurrentGoals());
+			this.distance.fastEpsilonDominanceAssignment(this.rankingFunction.getSubfront(i), fitness);
 		}
 
 		// Evolve the population generation by generation until all gaols have been covered or the
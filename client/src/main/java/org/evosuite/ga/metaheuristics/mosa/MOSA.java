@@ -24,6 +24,7 @@ import org.evosuite.Properties;
 import org.evosuite.ga.ChromosomeFactory;
 import org.evosuite.ga.comparators.OnlyCrowdingComparator;
 import org.evosuite.ga.operators.ranking.CrowdingDistance;
+import org.evosuite.ga.operators.ranking.FitnessMatrix;
 import org.evosuite.ga.operators.selection.BestKSelection;
 import org.evosuite.ga.operators.selection.RandomKSelection;
 import org.evosuite.ga.operators.selection.RankSelection;
@@ -101,8 +102,10 @@ public class MOSA extends AbstractMOSA {
 
 		// Ranking the union
 		logger.debug("Union Size =" + union.size());
+		// The fitness values of the union are shared by the ranking and the crowding distance
+		FitnessMatrix<TestChromosome> fitness = new FitnessMatrix<>(union, uncoveredGoals);
 		// Ranking the union using the best rank algorithm (modified version of the non dominated sorting algorithm)
-		this.rankingFunction.computeRankingAssignment(union, uncoveredGoals);
+		this.rankingFunction.computeRankingAssignment(fitness);
 
 		int remain = this.population.size();
 		int index = 0;
@@ -114,7 +117,7 @@ public class MOSA extends AbstractMOSA {
 
 		while ((remain > 0) && (remain >= front.size()) && !front.isEmpty()) {
 			// Assign crowding distance to individuals
-			this.distance.fastEpsilonDominanceAssignment(front, uncoveredGoals);
+			this.distance.fastEpsilonDominanceAssignment(front, fitness);
 			// Add the individuals of this front
 			this.population.addAll(front);
 
@@ -130,7 +133,7 @@ public class MOSA extends AbstractMOSA {
 
 		// Remain is less than front(index).size, insert only the best one
 		if (remain > 0 && !front.isEmpty()) { // front contains individuals to insert
-			this.distance.fastEpsilonDominanceAssignment(front, uncoveredGoals);
+			this.distance.fastEpsilonDominanceAssignment(front, fitness);
 			front.sort(new OnlyCrowdingComparator<>());
 			for (int k = 0; k < remain; k++) {
 				this.population.add(front.get(k));
@@ -167,9 +170,10 @@ public class MOSA extends AbstractMOSA {
 		}
 
 		// Calculate dominance ranks and crowding distance
-		this.rankingFunction.computeRankingAssignment(this.population, this.getUncoveredGoals());
+		FitnessMatrix<TestChromosome> fitness = new FitnessMatrix<>(this.population, this.getUncoveredGoals());
+		this.rankingFunction.computeRankingAssignment(fitness);
 		for (int i = 0; i < this.rankingFunction.getNumberOfSubfronts(); i++) {
-			this.distance.fastEpsilonDominanceAssignment(this.rankingFunction.getSubfront(i), this.getUncoveredGoals());
+			this.distance.fastEpsilonDominanceAssignment(this.rankingFunction.getSubfront(i), fitness);
 		}
 
 		final ClientNodeLocal<TestChromosome> clientNode =
@@ -18,7 +18,6 @@
 package org.evosuite.ga.operators.ranking;
 
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -133,36 +132,53 @@ public class CrowdingDistance<T extends Chromosome<T>> implements Serializable {
 	 * @param set set of goals/targets (e.g., branches) to consider
 	 */
 	public void fastEpsilonDominanceAssignment(List<T> front, Set<? extends FitnessFunction<T>> set) {
-		double value;
-		front.forEach(test -> test.setDistance(0));
+		fastEpsilonDominanceAssignment(front, new FitnessMatrix<>(front, set));
+	}
 
-		for (final FitnessFunction<T> ff : set) {
+	/**
+	 * Variant of {@link CrowdingDistance#fastEpsilonDominanceAssignment(List, Set)} that reads the
+	 * fitness values from the given matrix, which has to contain all members of the front.
+	 * 
+	 * @param front front of non-dominated solutions/tests
+	 * @param fitness fitness values of the solutions for the goals/targets to consider
+	 */
+	public void fastEpsilonDominanceAssignment(List<T> front, FitnessMatrix<T> fitness) {
+		int[] indices = fitness.indicesOf(front);
+		double[] distances = new double[indices.length];
+		int[] minSet = new int[indices.length];
+
+		for (int g = 0; g < fitness.getNumberOfGoals(); g++) {
+			double[] values = fitness.getFitnessValues(g);
 			double min = Double.POSITIVE_INFINITY;
-			List<T> minSet = new ArrayList<>(front.size());
+			int minSetSize = 0;
 			double max = 0;
-			for (T test : front){
-				value = test.getFitness(ff);
-				if (value < min){
+			for (int i = 0; i < indices.length; i++) {
+				double value = values[indices[i]];
+				if (value < min) {
 					min = value;
-					minSet.clear();
-					minSet.add(test);
+					minSetSize = 0;
+					minSet[minSetSize++] = i;
 				} else if (value == min)
-					minSet.add(test);
-				
-				if (value > max){
+					minSet[minSetSize++] = i;
+
+				if (value > max) {
 					max = value;
-				} 
+				}
 			}
 
 			if (max == min)
 				continue;
-			
-			for (T test : minSet){
-				double numer = (front.size() - minSet.size());
-				double demon = front.size();
-				test.setDistance(Math.max(test.getDistance(), numer/demon));
+
+			double numer = (indices.length - minSetSize);
+			double demon = indices.length;
+			for (int i = 0; i < minSetSize; i++) {
+				distances[minSet[i]] = Math.max(distances[minSet[i]], numer / demon);
 			}
 		}
+
+		for (int i = 0; i < indices.length; i++) {
+			front.get(i).setDistance(distances[i]);
+		}
 	}
 
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.operators.ranking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.evosuite.ga.Chromosome;
+import org.evosuite.ga.FitnessFunction;
+
+/**
+ * Non-dominated sorting based on the Efficient Non-domination Level Update
+ * with binary search (ENS-BS) by Zhang et al. It computes the same fronts as
+ * {@link FastNonDominatedSorting}, but instead of comparing all pairs of
+ * solutions it sorts the solutions lexicographically by their fitness values
+ * and then places each solution in the first front that does not dominate
+ * it. A solution can only be dominated by solutions that precede it in this
+ * order, and only needs to be compared with the fronts visited by the binary
+ * search, which in practice makes the ranking close to linear in the size of
+ * the population.
+ * 
+ * The dominance tests work on a {@link FitnessMatrix}, so they do not need
+ * to go through the fitness maps of the chromosomes.
+ */
+public class EfficientNonDominatedSorting<T extends Chromosome<T>> implements RankingFunction<T> {
+
+	private static final long serialVersionUID = 4350961372520913157L;
+
+	/**
+	 * An array containing all the fronts found during the search
+	 */
+	private List<T>[] ranking_;
+
+	@Override
+	public void computeRankingAssignment(List<T> solutions,
+										 Set<? extends FitnessFunction<T>> uncovered_goals) {
+		computeRankingAssignment(new FitnessMatrix<>(solutions, uncovered_goals));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void computeRankingAssignment(FitnessMatrix<T> fitness) {
+		int[] solutions = new int[fitness.getNumberOfSolutions()];
+		for (int i = 0; i < solutions.length; i++)
+			solutions[i] = i;
+		int[][] fronts = getNonDominatedFronts(fitness, solutions);
+
+		ranking_ = new ArrayList[fronts.length];
+		for (int i = 0; i < fronts.length; i++) {
+			ranking_[i] = new ArrayList<>(fronts[i].length);
+			for (int index : fronts[i]) {
+				T solution = fitness.getSolution(index);
+				solution.setRank(i + 1);
+				solution.setDistance(Double.MAX_VALUE);
+				ranking_[i].add(solution);
+			}
+		}
+	}
+
+	/**
+	 * Sorts the given solutions into non-dominated fronts
+	 * 
+	 * @param fitness the fitness values of the solutions, all to be minimized
+	 * @param solutions the indices of the solutions to sort
+	 * @return the indices of the solutions in each front, in ascending order
+	 */
+	static int[][] getNonDominatedFronts(FitnessMatrix<?> fitness, int[] solutions) {
+		int n = solutions.length;
+
+		// Sort lexicographically, so that no solution is dominated by a later one
+		Integer[] order = new Integer[n];
+		for (int i = 0; i < n; i++)
+			order[i] = solutions[i];
+		Arrays.sort(order, (s1, s2) -> compareLexicographically(fitness, s1, s2));
+
+		// fronts[k][0..size[k]-1] contains the solutions of front k, in the
+		// order in which they were added
+		int[][] fronts = new int[n][];
+		int[] size = new int[n];
+		int numFronts = 0;
+
+		for (int s : order) {
+			// Binary search for the first front that does not dominate s.
+			// If front k dominates s, so do all fronts before k.
+			int low = 0;
+			int high = numFronts;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (isDominatedByFront(fitness, s, fronts[mid], size[mid]))
+					low = mid + 1;
+				else
+					high = mid;
+			}
+			if (low == numFronts) {
+				fronts[numFronts] = new int[4];
+				numFronts++;
+			} else if (size[low] == fronts[low].length) {
+				fronts[low] = Arrays.copyOf(fronts[low], 2 * size[low]);
+			}
+			fronts[low][size[low]++] = s;
+		}
+
+		int[][] result = new int[numFronts][];
+		for (int k = 0; k < numFronts; k++) {
+			result[k] = Arrays.copyOf(fronts[k], size[k]);
+			// Keep the order of the population, as FastNonDominatedSorting does
+			Arrays.sort(result[k]);
+		}
+		return result;
+	}
+
+	private static boolean isDominatedByFront(FitnessMatrix<?> fitness, int solution, int[] front, int size) {
+		// Recently added solutions are the closest in the lexicographic order,
+		// and thus the most likely to dominate the solution
+		for (int i = size - 1; i >= 0; i--) {
+			if (fitness.compare(front[i], solution) < 0)
+				return true;
+		}
+		return false;
+	}
+
+	private static int compareLexicographically(FitnessMatrix<?> fitness, int s1, int s2) {
+		for (int g = 0; g < fitness.getNumberOfGoals(); g++) {
+			int flag = Double.compare(fitness.getFitness(g, s1), fitness.getFitness(g, s2));
+			if (flag != 0)
+				return flag;
+		}
+		return 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<T> getSubfront(int rank) {
+		return ranking_[rank];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int getNumberOfSubfronts() {
+		return ranking_.length;
+	}
+}
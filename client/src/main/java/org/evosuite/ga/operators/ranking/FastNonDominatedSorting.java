@@ -26,7 +26,6 @@ import java.util.Set;
 
 import org.evosuite.ga.Chromosome;
 import org.evosuite.ga.FitnessFunction;
-import org.evosuite.ga.comparators.DominanceComparator;
 
 /**
  * This class ranks the test cases according to the 
@@ -49,11 +48,16 @@ public class FastNonDominatedSorting<T extends Chromosome<T>> implements Ranking
 	 */
 	private final Map<FitnessFunction<T>, T> newCoveredGoals = new LinkedHashMap<>();
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public void computeRankingAssignment(List<T> solutions,
 										 Set<? extends FitnessFunction<T>> uncovered_goals) {
-		List<T>[] fronts = getNextNonDominatedFronts(solutions, uncovered_goals);
+		computeRankingAssignment(new FitnessMatrix<>(solutions, uncovered_goals));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void computeRankingAssignment(FitnessMatrix<T> fitness) {
+		List<T>[] fronts = getNextNonDominatedFronts(fitness);
 		ranking_ = new ArrayList[fronts.length];
 		System.arraycopy(fronts, 0, ranking_, 0, fronts.length);
 	}
@@ -61,14 +65,12 @@ public class FastNonDominatedSorting<T extends Chromosome<T>> implements Ranking
 
 	/**
 	 * This method ranks the remaining test cases using the traditional "Non-Dominated Sorting Algorithm"
-	 * @param solutionSet set of test cases to rank with "Non-Dominated Sorting Algorithm"
-	 * @param uncovered_goals set of goals
+	 * @param fitness test cases to rank with "Non-Dominated Sorting Algorithm" and the goals to consider
 	 * @return the list of fronts according to the uncovered goals
 	 */
 	@SuppressWarnings("unchecked")
-	private List<T>[] getNextNonDominatedFronts(List<T> solutionSet,
-												Set<? extends FitnessFunction<T>> uncovered_goals) {
-		DominanceComparator<T> criterion_ = new DominanceComparator<>(uncovered_goals);
+	private List<T>[] getNextNonDominatedFronts(FitnessMatrix<T> fitness) {
+		List<T> solutionSet = fitness.getSolutions();
 
 		// dominateMe[i] contains the number of solutions dominating i
 		int[] dominateMe = new int[solutionSet.size()];
@@ -102,7 +104,7 @@ public class FastNonDominatedSorting<T extends Chromosome<T>> implements Ranking
 		for (int p = 0; p < (solutionSet.size() - 1); p++) {
 			// For all q individuals , calculate if p dominates q or vice versa
 			for (int q = p + 1; q < solutionSet.size(); q++) {
-				flagDominate = criterion_.compare(solutionSet.get(p), solutionSet.get(q));
+				flagDominate = fitness.compare(p, q);
 
 				if (flagDominate == -1) {
 					iDominate[p].add(q);
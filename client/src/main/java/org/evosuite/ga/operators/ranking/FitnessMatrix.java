@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.operators.ranking;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.evosuite.ga.Chromosome;
+import org.evosuite.ga.FitnessFunction;
+
+/**
+ * Dense matrix of the fitness values of a population for a set of goals. The
+ * values are read once from the chromosomes and stored per goal, so that the
+ * ranking and crowding distance operators can compare individuals with array
+ * reads instead of looking up the fitness maps of the chromosomes.
+ * 
+ * The matrix is a snapshot: it does not reflect fitness values that change
+ * after it was created.
+ *
+ * @param <T> the type of chromosomes in the population
+ */
+public class FitnessMatrix<T extends Chromosome<T>> {
+
+	private final List<T> solutions;
+
+	private final List<FitnessFunction<T>> goals;
+
+	/**
+	 * Index of each solution, by identity, as chromosomes compare equal if
+	 * they contain the same test
+	 */
+	private final Map<T, Integer> indices;
+
+	/**
+	 * values[g][s] is the fitness of solution s for goal g
+	 */
+	private final double[][] values;
+
+	public FitnessMatrix(List<T> solutions, Collection<? extends FitnessFunction<T>> goals) {
+		this.solutions = new ArrayList<>(solutions);
+		this.goals = new ArrayList<>(goals);
+		this.indices = new IdentityHashMap<>(solutions.size());
+		this.values = new double[this.goals.size()][this.solutions.size()];
+
+		for (int s = 0; s < this.solutions.size(); s++) {
+			T solution = this.solutions.get(s);
+			indices.put(solution, s);
+			for (int g = 0; g < this.goals.size(); g++) {
+				values[g][s] = solution.getFitness(this.goals.get(g));
+			}
+		}
+	}
+
+	public int getNumberOfSolutions() {
+		return solutions.size();
+	}
+
+	public int getNumberOfGoals() {
+		return goals.size();
+	}
+
+	public T getSolution(int index) {
+		return solutions.get(index);
+	}
+
+	public List<T> getSolutions() {
+		return Collections.unmodifiableList(solutions);
+	}
+
+	public FitnessFunction<T> getGoal(int index) {
+		return goals.get(index);
+	}
+
+	public Set<FitnessFunction<T>> getGoals() {
+		return new LinkedHashSet<>(goals);
+	}
+
+	public double getFitness(int goal, int solution) {
+		return values[goal][solution];
+	}
+
+	/**
+	 * Returns the fitness values of all solutions for the given goal. The
+	 * array is not copied and must not be modified.
+	 */
+	double[] getFitnessValues(int goal) {
+		return values[goal];
+	}
+
+	/**
+	 * Returns the index of the given solution
+	 * 
+	 * @throws IllegalArgumentException if the solution is not part of this matrix
+	 */
+	public int indexOf(T solution) throws IllegalArgumentException {
+		Integer index = indices.get(solution);
+		if (index == null)
+			throw new IllegalArgumentException("Solution is not part of the fitness matrix");
+		return index;
+	}
+
+	public int[] indicesOf(List<T> front) throws IllegalArgumentException {
+		int[] result = new int[front.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = indexOf(front.get(i));
+		}
+		return result;
+	}
+
+	/**
+	 * Compares two solutions in terms of dominance, like
+	 * {@link org.evosuite.ga.comparators.DominanceComparator}
+	 * 
+	 * @return -1 if s1 dominates s2, +1 if s2 dominates s1, 0 if both are non-dominated
+	 */
+	public int compare(int s1, int s2) {
+		boolean dominate1 = false;
+		boolean dominate2 = false;
+
+		for (double[] goal : values) {
+			int flag = Double.compare(goal[s1], goal[s2]);
+			if (flag < 0) {
+				dominate1 = true;
+				if (dominate2)
+					return 0;
+			} else if (flag > 0) {
+				dominate2 = true;
+				if (dominate1)
+					return 0;
+			}
+		}
+
+		if (dominate1 == dominate2)
+			return 0;
+		return dominate1 ? -1 : 1;
+	}
+}
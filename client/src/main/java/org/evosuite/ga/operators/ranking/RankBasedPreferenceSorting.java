@@ -24,8 +24,6 @@ import java.util.Set;
 import org.evosuite.Properties;
 import org.evosuite.ga.Chromosome;
 import org.evosuite.ga.FitnessFunction;
-import org.evosuite.ga.comparators.DominanceComparator;
-import org.evosuite.ga.comparators.PreferenceSortingComparator;
 import org.evosuite.utils.Randomness;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,6 +51,15 @@ public class RankBasedPreferenceSorting<T extends Chromosome<T>> implements Rank
 	@Override
 	public void computeRankingAssignment(List<T> solutions,
 										 Set<? extends FitnessFunction<T>> uncovered_goals) {
+		computeRankingAssignment(new FitnessMatrix<>(solutions, uncovered_goals));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void computeRankingAssignment(FitnessMatrix<T> fitness) {
+		List<T> solutions = fitness.getSolutions();
 		if (solutions.isEmpty()) {
 			logger.debug("solution is empty");
 			return;
@@ -62,21 +69,29 @@ public class RankBasedPreferenceSorting<T extends Chromosome<T>> implements Rank
 
 		// first apply the "preference sorting" to the first front only
 		// then compute the ranks according to the non-dominate sorting algorithm
-		List<T> zero_front = this.getZeroFront(solutions, uncovered_goals);
+		List<T> zero_front = this.getZeroFront(fitness);
 		this.fronts.add(zero_front);
 		int frontIndex = 1;
 
 		if (zero_front.size() < Properties.POPULATION) {
 			int rankedSolutions = zero_front.size();
-			DominanceComparator<T> comparator = new DominanceComparator<>(uncovered_goals);
 
 			List<T> remaining = new ArrayList<>(solutions.size());
 			remaining.addAll(solutions);
 			remaining.removeAll(zero_front);
-			while(rankedSolutions < Properties.POPULATION && remaining.size() > 0) {
-				List<T> new_front = this.getNonDominatedSolutions(remaining, comparator, frontIndex);
+
+			// All fronts of the remaining solutions are computed at once, which
+			// is cheaper than extracting the non-dominated solutions repeatedly
+			int[][] remainingFronts = EfficientNonDominatedSorting.getNonDominatedFronts(fitness,
+					fitness.indicesOf(remaining));
+			for (int k = 0; rankedSolutions < Properties.POPULATION && k < remainingFronts.length; k++) {
+				List<T> new_front = new ArrayList<>(remainingFronts[k].length);
+				for (int index : remainingFronts[k]) {
+					T solution = fitness.getSolution(index);
+					solution.setRank(frontIndex);
+					new_front.add(solution);
+				}
 				this.fronts.add(new_front);
-				remaining.removeAll(new_front);
 				rankedSolutions += new_front.size();
 				frontIndex++;
 			}
@@ -96,55 +111,36 @@ public class RankBasedPreferenceSorting<T extends Chromosome<T>> implements Rank
 	/**
 	 * Returns the first (i.e. non-dominated) sub-front.
 	 *
-	 * @param solutionSet the solutions to rank
-	 * @param uncovered_goals the goals used for ranking
+	 * @param fitness the solutions to rank and the goals used for ranking
 	 * @return the non-dominated solutions (first sub-front)
 	 */
-	private List<T> getZeroFront(List<T> solutionSet, Set<? extends FitnessFunction<T>> uncovered_goals) {
-		Set<T> zero_front = new LinkedHashSet<>(solutionSet.size());
-		for (FitnessFunction<T> f : uncovered_goals) {
-			// for each uncovered goal, peak up the best tests using the proper comparator
-			PreferenceSortingComparator<T> comp = new PreferenceSortingComparator<>(f);
-
-			T best = null;
-			for (T test : solutionSet) {
-				int flag = comp.compare(test, best);
-				if (flag < 0 || (flag == 0  && Randomness.nextBoolean())) {
-					best = test;
-				} 
-			}
-			assert best != null;
-
-			best.setRank(0);
-			zero_front.add(best);
-		}
-		return new ArrayList<>(zero_front);
-	}
-
-	private List<T> getNonDominatedSolutions(List<T> solutions, DominanceComparator<T> comparator, int frontIndex) {
-		List<T> front = new ArrayList<>(solutions.size());
-		for (T p : solutions) {
-			boolean isDominated = false;
-			List<T> dominatedSolutions = new ArrayList<>(solutions.size());
-			for (T best : front) {
-				int flag = comparator.compare(p, best);
-				if (flag < 0) {
-					dominatedSolutions.add(best);
+	private List<T> getZeroFront(FitnessMatrix<T> fitness) {
+		Set<T> zero_front = new LinkedHashSet<>(fitness.getNumberOfSolutions());
+		for (int g = 0; g < fitness.getNumberOfGoals(); g++) {
+			// for each uncovered goal, peak up the best tests, as the
+			// PreferenceSortingComparator would do
+			double[] values = fitness.getFitnessValues(g);
+
+			int best = -1;
+			for (int s = 0; s < values.length; s++) {
+				int flag;
+				if (best < 0 || values[s] < values[best]) {
+					flag = -1;
+				} else if (values[s] > values[best]) {
+					flag = 1;
+				} else {
+					flag = fitness.getSolution(s).compareSecondaryObjective(fitness.getSolution(best));
 				}
-				if (flag > 0) {
-					isDominated = true;
-					break;
+				if (flag < 0 || (flag == 0  && Randomness.nextBoolean())) {
+					best = s;
 				}
 			}
-			if (isDominated) {
-				continue;
-			}
+			assert best >= 0;
 
-			p.setRank(frontIndex);
-			front.add(p);
-			front.removeAll(dominatedSolutions);
+			fitness.getSolution(best).setRank(0);
+			zero_front.add(fitness.getSolution(best));
 		}
-		return front;
+		return new ArrayList<>(zero_front);
 	}
 
 	/**
@@ -45,6 +45,19 @@ public interface RankingFunction<T extends Chromosome<T>> extends Serializable {
     void computeRankingAssignment(List<T> solutions,
                                   Set<? extends FitnessFunction<T>> uncovered_goals);
 
+	/**
+	 * Computes the ranking assignment for the solutions and goals of the given fitness matrix. This
+	 * is equivalent to {@link RankingFunction#computeRankingAssignment(List, Set)}, but lets the
+	 * algorithm share a single matrix of fitness values between the ranking and the computation of
+	 * the crowding distances. Implementations that do not make use of the matrix fall back to the
+	 * fitness values stored in the chromosomes.
+	 *
+	 * @param fitness the population to rank and the goals to consider
+	 */
+    default void computeRankingAssignment(FitnessMatrix<T> fitness) {
+        computeRankingAssignment(fitness.getSolutions(), fitness.getGoals());
+    }
+
 	/**
 	 * Returns the sub-front of {@link org.evosuite.ga.Chromosome} objects of the given rank. Sub-
 	 * fronts are ordered starting from 0 in ascending order, i.e., the first non-dominated front
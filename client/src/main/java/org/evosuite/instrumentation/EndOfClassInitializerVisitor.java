@@ -35,9 +35,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * This visitor inserts a callback to at the exit of each <clinit>() method
- * (i.e. after class initialization has ended). If the class has no static
- * fields, no callback is inserted.
+ * This visitor inserts a callback at the start and at the exit of each
+ * <clinit>() method (i.e. before class initialization begins and after it has
+ * ended). If the class has no static fields, no callback is inserted.
  * 
  * @author galeotti
  *
@@ -96,6 +96,14 @@ public class EndOfClassInitializerVisitor extends ClassVisitor {
 			super.visitCode();
 			if (methodName.equals("<clinit>")) {
 
+				String executionTracerClassName = ExecutionTracer.class.getName().replace('.', '/');
+				String executionTracerDescriptor = Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(String.class));
+
+				String classNameWithDots = className.replace('/', '.');
+				super.visitLdcInsn(classNameWithDots);
+				super.visitMethodInsn(INVOKESTATIC, executionTracerClassName, ENTER_CLASS_INIT,
+						executionTracerDescriptor, false);
+
 				startingTryLabel = new Label();
 				endingTryLabel = new Label();
 				super.visitLabel(startingTryLabel);
@@ -184,6 +192,8 @@ public class EndOfClassInitializerVisitor extends ClassVisitor {
 	private boolean clinitFound = false;
 	private boolean hasStaticFields = false;
 
+	private static final String ENTER_CLASS_INIT = "enterClassInit";
+
 	private static final String EXIT_CLASS_INIT = "exitClassInit";
 
 	@Override
@@ -225,6 +235,8 @@ public class EndOfClassInitializerVisitor extends ClassVisitor {
 
 		String classNameWithDots = className.replace('/', '.');
 		mv.visitLdcInsn(classNameWithDots);
+		mv.visitMethodInsn(INVOKESTATIC, executionTracerClassName, ENTER_CLASS_INIT, executionTracerDescriptor, false);
+		mv.visitLdcInsn(classNameWithDots);
 		mv.visitMethodInsn(INVOKESTATIC, executionTracerClassName, EXIT_CLASS_INIT, executionTracerDescriptor, false);
 
 		mv.visitInsn(Opcodes.RETURN);
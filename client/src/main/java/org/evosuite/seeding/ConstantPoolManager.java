@@ -21,6 +21,7 @@
 package org.evosuite.seeding;
 
 import org.evosuite.Properties;
+import org.evosuite.testcase.execution.ExecutionSideEffects;
 import org.evosuite.utils.Randomness;
 
 /**
@@ -97,6 +98,9 @@ public class ConstantPoolManager {
 	}
 
 	public void addDynamicConstant(Object value) {
+		// the pool is not thread-safe, tests running on other threads record the value
+		if (ExecutionSideEffects.deferDynamicConstant(value))
+			return;
 		pools[DYNAMIC_POOL_INDEX].add(value);
 	}
 
@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.setup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.evosuite.utils.Randomness;
+import org.evosuite.utils.generic.GenericAccessibleObject;
+import org.evosuite.utils.generic.GenericClass;
+
+/**
+ * Generators of concrete types, frozen into arrays so that a random generator
+ * can be drawn without copying or filtering the generator set of the type.
+ * Entries are immutable, but the table itself is not thread-safe: like the
+ * generator cache of the {@link TestCluster}, which fills it on a miss and
+ * invalidates it, it is only used by the thread running the search.
+ * 
+ * Executing a test may change the cluster, e.g. when the SUT looks up objects
+ * in containers or accesses the environment. Such changes are not made on the
+ * execution threads: they are recorded by
+ * {@link org.evosuite.testcase.execution.ExecutionSideEffects} or derived
+ * from the accessed environment, and applied by the
+ * {@link org.evosuite.testcase.execution.TestCaseExecutor} on the search
+ * thread once the execution is done.
+ */
+class GeneratorDispatchTable {
+
+	/**
+	 * Number of random draws before falling back to filtering the candidates
+	 */
+	private static final int MAX_REJECTED_DRAWS = 8;
+
+	private final Map<GenericClass, Entry> entries = new HashMap<>();
+
+	static final class Entry {
+
+		/** All generators of the type */
+		private final GenericAccessibleObject<?>[] generators;
+
+		/** Generators that do not need a callee: constructors and static members */
+		private final GenericAccessibleObject<?>[] directGenerators;
+
+		Entry(Collection<GenericAccessibleObject<?>> generators) {
+			this.generators = generators.toArray(new GenericAccessibleObject<?>[0]);
+			this.directGenerators = generators.stream()
+					.filter(g -> g.isStatic() || g.isConstructor())
+					.toArray(GenericAccessibleObject<?>[]::new);
+		}
+
+		boolean isEmpty() {
+			return generators.length == 0;
+		}
+
+		int size() {
+			return generators.length;
+		}
+
+		/**
+		 * Draw a generator uniformly among the ones that are not rejected
+		 *
+		 * @param rejected
+		 *            generators that must not be returned
+		 * @param preferDirect
+		 *            draw among constructors and static members if any of them
+		 *            is not rejected
+		 * @return {@code null} if all generators are rejected
+		 */
+		GenericAccessibleObject<?> choose(Predicate<GenericAccessibleObject<?>> rejected, boolean preferDirect) {
+			if (preferDirect) {
+				GenericAccessibleObject<?> generator = choose(directGenerators, rejected);
+				if (generator != null) {
+					return generator;
+				}
+			}
+			return choose(generators, rejected);
+		}
+
+		private static GenericAccessibleObject<?> choose(GenericAccessibleObject<?>[] candidates,
+				Predicate<GenericAccessibleObject<?>> rejected) {
+			if (candidates.length == 0) {
+				return null;
+			}
+			// Rejection sampling keeps the draw uniform over the accepted candidates
+			for (int i = 0; i < MAX_REJECTED_DRAWS; i++) {
+				GenericAccessibleObject<?> generator = Randomness.choice(candidates);
+				if (!rejected.test(generator)) {
+					return generator;
+				}
+			}
+			List<GenericAccessibleObject<?>> accepted = new ArrayList<>(candidates.length);
+			for (GenericAccessibleObject<?> generator : candidates) {
+				if (!rejected.test(generator)) {
+					accepted.add(generator);
+				}
+			}
+			return Randomness.choice(accepted);
+		}
+	}
+
+	Entry get(GenericClass clazz) {
+		return entries.get(clazz);
+	}
+
+	Entry put(GenericClass clazz, Collection<GenericAccessibleObject<?>> generators) {
+		Entry entry = new Entry(generators);
+		entries.put(clazz, entry);
+		return entry;
+	}
+
+	/**
+	 * Remove the entries of all types matching the predicate
+	 *
+	 * @param invalidated
+	 */
+	void invalidate(Predicate<GenericClass> invalidated) {
+		entries.keySet().removeIf(invalidated);
+	}
+
+	void clear() {
+		entries.clear();
+	}
+
+	int size() {
+		return entries.size();
+	}
+}
@@ -199,6 +199,49 @@ public class InheritanceTree {
 		inheritanceGraph.removeVertex(className);
 	}
 
+	/**
+	 * Drop what was learned from analyzing a class, so that it can be analyzed
+	 * again. Subclasses keep referring to it; if there are none, the class is
+	 * removed entirely. Interfaces only known from the implements clause of the
+	 * class are removed as well.
+	 *
+	 * @param className
+	 */
+	public void forgetClass(String className) {
+		initialiseMap();
+		String classNameWithDots = ResourceList.getClassNameFromResourcePath(className);
+
+		subclassCache.clear();
+		analyzedMethods.remove(classNameWithDots);
+		abstractClassesSet.remove(classNameWithDots);
+
+		if (!inheritanceGraph.containsVertex(classNameWithDots)) {
+			interfacesSet.remove(classNameWithDots);
+			return;
+		}
+
+		Set<String> supertypes = new LinkedHashSet<>();
+		for (DefaultEdge edge : inheritanceGraph.incomingEdgesOf(classNameWithDots)) {
+			supertypes.add(inheritanceGraph.getEdgeSource(edge));
+		}
+		inheritanceGraph.removeAllEdges(new ArrayList<>(inheritanceGraph.incomingEdgesOf(classNameWithDots)));
+		if (inheritanceGraph.outDegreeOf(classNameWithDots) == 0) {
+			inheritanceGraph.removeVertex(classNameWithDots);
+			interfacesSet.remove(classNameWithDots);
+		}
+
+		// An interface that was analyzed itself has a supertype, so one without
+		// supertypes and implementations was only added by the implements clause
+		for (String supertype : supertypes) {
+			if (interfacesSet.contains(supertype) && inheritanceGraph.containsVertex(supertype)
+					&& inheritanceGraph.inDegreeOf(supertype) == 0
+					&& inheritanceGraph.outDegreeOf(supertype) == 0) {
+				inheritanceGraph.removeVertex(supertype);
+				interfacesSet.remove(supertype);
+			}
+		}
+	}
+
 	public boolean hasClass(String className) {
 		return inheritanceGraph.containsVertex(className);
 	}
@@ -76,6 +76,10 @@ public class InheritanceTreeGenerator {
 				                                 "Error loading inheritance tree: {}", e);
 			}
 		}
+
+		if (Properties.INHERITANCE_TREE_CACHE) {
+			return createFromSnapshot(classPath);
+		}
 		
 		logger.debug("Reading JDK data");
 		InheritanceTree inheritanceTree = readJDKData();
@@ -106,6 +110,70 @@ public class InheritanceTreeGenerator {
 		return inheritanceTree;
 	}
 
+	/**
+	 * Update the inheritance tree stored in ctg_dir by a previous run on the
+	 * same classpath, analyzing only the classes that changed since then
+	 * 
+	 * @param classPath
+	 * @return
+	 */
+	private static InheritanceTree createFromSnapshot(List<String> classPath) {
+		ResourceList resourceList = ResourceList.getInstance(TestGenerationContext.getInstance().getClassLoaderForSUT());
+
+		Map<String, Long> fingerprints = new LinkedHashMap<>();
+		for (String classPathEntry : classPath) {
+			if (classPathEntry.isEmpty() || classPathEntry.matches(".*evosuite-.*\\.jar"))
+				continue;
+
+			InheritanceTreeSnapshot.addFingerprints(classPathEntry,
+					resourceList.getAllClasses(classPathEntry, "", true, false), fingerprints);
+		}
+
+		File file = InheritanceTreeSnapshot.getFile(new File(Properties.CTG_DIR), classPath);
+		InheritanceTreeSnapshot snapshot = InheritanceTreeSnapshot.read(file);
+
+		InheritanceTree inheritanceTree;
+		Set<String> changedClasses;
+		if (snapshot == null) {
+			logger.debug("Reading JDK data");
+			inheritanceTree = readJDKData();
+			if (inheritanceTree == null) {
+				inheritanceTree = new InheritanceTree();
+			}
+			changedClasses = fingerprints.keySet();
+		} else {
+			inheritanceTree = snapshot.getInheritanceTree();
+			changedClasses = snapshot.getChangedClasses(fingerprints);
+			for (String className : changedClasses) {
+				inheritanceTree.forgetClass(className);
+			}
+		}
+
+		for (String className : changedClasses) {
+			if (!fingerprints.containsKey(className))
+				continue; // removed from the classpath
+
+			InputStream stream = resourceList.getClassAsStream(className);
+			if (stream == null) {
+				logger.warn("Failed to locate class {}", className);
+				continue;
+			}
+			analyzeClassStream(inheritanceTree, stream, false);
+		}
+		LoggingUtils.getEvoLogger().info("* " + ClientProcess.getPrettyPrintIdentifier() +
+		                                 "Inheritance tree snapshot: analyzed {} of {} classes",
+		                                 changedClasses.size(), fingerprints.size());
+
+		if (snapshot == null || !changedClasses.isEmpty()) {
+			try {
+				new InheritanceTreeSnapshot(inheritanceTree, fingerprints).write(file);
+			} catch (IOException e) {
+				logger.warn("Could not write inheritance tree snapshot {}: {}", file, e.getMessage());
+			}
+		}
+		return inheritanceTree;
+	}
+
 	/**
 	 * Create inheritance tree only for the classes passed as parameter
 	 * 
@@ -0,0 +1,245 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.setup;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.XStreamException;
+
+/**
+ * Inheritance tree of a classpath stored between runs, together with a
+ * fingerprint of each class it was built from. A later run on the same
+ * classpath only needs to analyze the classes whose fingerprint changed.
+ */
+public class InheritanceTreeSnapshot {
+
+	private static final Logger logger = LoggerFactory.getLogger(InheritanceTreeSnapshot.class);
+
+	/**
+	 * Snapshots written with a different version are discarded. Increase it
+	 * whenever the content of the inheritance tree changes.
+	 */
+	private static final int VERSION = 1;
+
+	private static final String FILE_PREFIX = "inheritance-";
+
+	private static final String FILE_SUFFIX = ".xml.gz";
+
+	private final int version;
+
+	/** Fingerprint of each analyzed class, by class name (e.g. foo.Foo) */
+	private final Map<String, Long> fingerprints;
+
+	private final InheritanceTree inheritanceTree;
+
+	public InheritanceTreeSnapshot(InheritanceTree inheritanceTree, Map<String, Long> fingerprints) {
+		this.version = VERSION;
+		this.inheritanceTree = inheritanceTree;
+		this.fingerprints = new LinkedHashMap<>(fingerprints);
+	}
+
+	public InheritanceTree getInheritanceTree() {
+		return inheritanceTree;
+	}
+
+	public Map<String, Long> getFingerprints() {
+		return fingerprints;
+	}
+
+	/**
+	 * Determine the classes that were added, changed or removed since the
+	 * snapshot was taken
+	 *
+	 * @param currentFingerprints
+	 *            fingerprints of the classes currently on the classpath
+	 * @return
+	 */
+	public Set<String> getChangedClasses(Map<String, Long> currentFingerprints) {
+		Set<String> changedClasses = new LinkedHashSet<>();
+		for (Map.Entry<String, Long> entry : currentFingerprints.entrySet()) {
+			if (!entry.getValue().equals(fingerprints.get(entry.getKey()))) {
+				changedClasses.add(entry.getKey());
+			}
+		}
+		for (String className : fingerprints.keySet()) {
+			if (!currentFingerprints.containsKey(className)) {
+				changedClasses.add(className);
+			}
+		}
+		return changedClasses;
+	}
+
+	/**
+	 * Add the fingerprints of the given classes of a classpath entry. Classes
+	 * that already have a fingerprint are shadowed by an earlier entry and are
+	 * left unchanged.
+	 *
+	 * <p>
+	 * Classes in jar files are identified by the CRC and size recorded in the
+	 * jar, classes in directories by the size and modification time of their
+	 * class file.
+	 *
+	 * @param classPathEntry
+	 *            a jar file or directory
+	 * @param classNames
+	 *            names (e.g. foo.Foo) of the classes in the entry
+	 * @param fingerprints
+	 */
+	public static void addFingerprints(String classPathEntry, Collection<String> classNames,
+			Map<String, Long> fingerprints) {
+		File entryFile = new File(classPathEntry);
+		if (entryFile.isDirectory()) {
+			for (String className : classNames) {
+				File classFile = new File(entryFile, className.replace('.', File.separatorChar) + ".class");
+				fingerprints.putIfAbsent(className, classFile.lastModified() * 31 + classFile.length());
+			}
+			return;
+		}
+
+		long entryFingerprint = entryFile.lastModified() * 31 + entryFile.length();
+		try (ZipFile zipFile = new ZipFile(entryFile)) {
+			for (String className : classNames) {
+				ZipEntry zipEntry = zipFile.getEntry(className.replace('.', '/') + ".class");
+				if (zipEntry == null || zipEntry.getCrc() == -1) {
+					fingerprints.putIfAbsent(className, entryFingerprint);
+				} else {
+					fingerprints.putIfAbsent(className, zipEntry.getCrc() * 31 + zipEntry.getSize());
+				}
+			}
+		} catch (IOException e) {
+			logger.debug("Could not read {}: {}", classPathEntry, e.getMessage());
+			for (String className : classNames) {
+				fingerprints.putIfAbsent(className, entryFingerprint);
+			}
+		}
+	}
+
+	/**
+	 * The snapshot file of a classpath. Each classpath gets its own file, so
+	 * that projects sharing a directory do not invalidate each other.
+	 *
+	 * @param directory
+	 * @param classPath
+	 * @return
+	 */
+	public static File getFile(File directory, List<String> classPath) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		digest.update((VERSION + "\n" + System.getProperty("java.version") + "\n").getBytes(StandardCharsets.UTF_8));
+		for (String classPathEntry : classPath) {
+			digest.update(new File(classPathEntry).getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) '\n');
+		}
+
+		StringBuilder key = new StringBuilder();
+		byte[] hash = digest.digest();
+		for (int i = 0; i < 8; i++) {
+			key.append(String.format("%02x", hash[i]));
+		}
+		return new File(directory, FILE_PREFIX + key + FILE_SUFFIX);
+	}
+
+	/**
+	 * Read a snapshot
+	 *
+	 * @param file
+	 * @return {@code null} if there is no usable snapshot in the file
+	 */
+	public static InheritanceTreeSnapshot read(File file) {
+		if (!file.isFile()) {
+			return null;
+		}
+		try (InputStream input = new GZIPInputStream(new FileInputStream(file))) {
+			InheritanceTreeSnapshot snapshot = (InheritanceTreeSnapshot) createXStream().fromXML(input);
+			if (snapshot.version != VERSION || snapshot.inheritanceTree == null || snapshot.fingerprints == null) {
+				logger.info("Ignoring outdated inheritance tree snapshot {}", file);
+				return null;
+			}
+			return snapshot;
+		} catch (IOException | XStreamException | ClassCastException e) {
+			logger.warn("Could not read inheritance tree snapshot {}: {}", file, e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Write the snapshot. The file is replaced at once, so that concurrent
+	 * runs never read a partially written snapshot.
+	 *
+	 * @param file
+	 * @throws IOException
+	 */
+	public void write(File file) throws IOException {
+		File directory = file.getAbsoluteFile().getParentFile();
+		if (!directory.exists() && !directory.mkdirs() && !directory.exists()) {
+			throw new IOException("Could not create " + directory);
+		}
+
+		File tmpFile = File.createTempFile(FILE_PREFIX, ".tmp", directory);
+		try {
+			try (OutputStream output = new GZIPOutputStream(new FileOutputStream(tmpFile))) {
+				createXStream().toXML(this, output);
+			}
+			try {
+				Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(tmpFile.toPath());
+		}
+	}
+
+	private static XStream createXStream() {
+		XStream xstream = new XStream();
+		XStream.setupDefaultSecurity(xstream);
+		xstream.allowTypesByWildcard(new String[] {"org.evosuite.**", "org.jgrapht.**"});
+		return xstream;
+	}
+}
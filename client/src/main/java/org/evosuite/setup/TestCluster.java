@@ -34,6 +34,7 @@ import org.evosuite.runtime.util.AtMostOnceLogger;
 import org.evosuite.runtime.util.Inputs;
 import org.evosuite.seeding.CastClassManager;
 import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.execution.ExecutionSideEffects;
 import org.evosuite.testcase.variable.VariableReference;
 import org.evosuite.utils.ListUtil;
 import org.evosuite.utils.generic.GenericAccessibleObject;
@@ -78,6 +79,9 @@ public class TestCluster {
 	/** Cached information about how to generate types */
 	private final static Map<GenericClass, Set<GenericAccessibleObject<?>>> generatorCache = new LinkedHashMap<>();
 
+	/** Generators of concrete types in a form that allows constant time random choices */
+	private final static GeneratorDispatchTable dispatchTable = new GeneratorDispatchTable();
+
 	/** Static information about how to modify types */
 	private final static Map<GenericClass, Set<GenericAccessibleObject<?>>> modifiers = new LinkedHashMap<>();
 
@@ -112,6 +116,7 @@ public class TestCluster {
 		testMethods.clear();
 		generators.clear();
 		generatorCache.clear();
+		dispatchTable.clear();
 		modifiers.clear();
 		CastClassManager.getInstance().clear();
 
@@ -125,6 +130,7 @@ public class TestCluster {
 	public void removeUnusableGenerators(){
 
 		generatorCache.clear();
+		dispatchTable.clear();
 		Set<GenericClass> removed = new LinkedHashSet<>();
 
 
@@ -162,6 +168,7 @@ public class TestCluster {
 		removeDirectCycle();
 		
 		generatorCache.clear();
+		dispatchTable.clear();
 	}
 
 
@@ -269,6 +276,7 @@ public class TestCluster {
 
 	public void invalidateGeneratorCache(GenericClass klass){
 		generatorCache.keySet().removeIf(clazz -> clazz.isAssignableFrom(klass));
+		dispatchTable.invalidate(clazz -> clazz.isAssignableFrom(klass));
 	}
 
 	public void handleRuntimeAccesses(TestCase test) {
@@ -331,6 +339,7 @@ public class TestCluster {
 		generators.get(target).add(call);
 		// Make sure cache is up to date
 		generatorCache.entrySet().removeIf(entry -> entry.getKey().isAssignableFrom(target));
+		dispatchTable.invalidate(clazz -> clazz.isAssignableFrom(target));
 	}
 
 	/**
@@ -373,9 +382,17 @@ public class TestCluster {
 	 * @param clazz
 	 */
 	public void addCastClassForContainer(Class<?> clazz) {
+		// the caches are not thread-safe, tests running on other threads record the class
+		if (ExecutionSideEffects.deferContainerClass(clazz))
+			return;
 		if (TestUsageChecker.canUse(clazz)) {
+			// This is called from instrumented container code on every use,
+			// so only drop the caches if the class was not known yet
+			int numCastClasses = CastClassManager.getInstance().getCastClasses().size();
 			CastClassManager.getInstance().addCastClass(clazz, 1);
-			clearGeneratorCache(new GenericClass(clazz));
+			if (CastClassManager.getInstance().getCastClasses().size() != numCastClasses) {
+				clearGeneratorCache(new GenericClass(clazz));
+			}
 		}
 	}
 
@@ -508,6 +525,59 @@ public class TestCluster {
 	 */
 	public void clearGeneratorCache(GenericClass target) {
 		generatorCache.clear();
+		dispatchTable.clear();
+	}
+
+	/**
+	 * Precompute the generators of all concrete types known to the cluster, so
+	 * that choosing a generator for them does not need to resolve and filter
+	 * the generator set each time. Called once the cluster is complete; types
+	 * that show up later are added on their first use.
+	 */
+	public void buildDispatchTable() {
+		dispatchTable.clear();
+
+		Set<GenericClass> types = new LinkedHashSet<>(generators.keySet());
+		types.addAll(CastClassManager.getInstance().getCastClasses());
+		for (GenericClass clazz : types) {
+			if (dispatchTable.size() >= Properties.GENERATOR_DISPATCH_TABLE_SIZE) {
+				break;
+			}
+			try {
+				getDispatchEntry(clazz);
+			} catch (ConstructionFailedException e) {
+				logger.debug("Failed to determine generators for {}: {}", clazz, e.getMessage());
+			}
+		}
+		logger.debug("Generator dispatch table covers {} types", dispatchTable.size());
+	}
+
+	/**
+	 * Get the dispatch table entry of a type, computing it if needed
+	 *
+	 * @param clazz
+	 * @return {@code null} if the type is not handled by the dispatch table
+	 * @throws ConstructionFailedException
+	 */
+	private GeneratorDispatchTable.Entry getDispatchEntry(GenericClass clazz) throws ConstructionFailedException {
+		GeneratorDispatchTable.Entry entry = dispatchTable.get(clazz);
+		if (entry != null) {
+			return entry;
+		}
+
+		// Generic types are instantiated randomly and special cases draw
+		// their generators randomly, so neither can be frozen
+		if (clazz.hasWildcardOrTypeVariables() || isSpecialCase(clazz)
+				|| dispatchTable.size() >= Properties.GENERATOR_DISPATCH_TABLE_SIZE) {
+			return null;
+		}
+
+		cacheGenerators(clazz);
+		Set<GenericAccessibleObject<?>> targetGenerators = generatorCache.get(clazz);
+		if (targetGenerators == null) {
+			return null;
+		}
+		return dispatchTable.put(clazz, targetGenerators);
 	}
 
 	/**
@@ -991,10 +1061,15 @@ public class TestCluster {
 			}
 			generator = Randomness.choice(generators);
 		} else {
-			if (!hasGenerator(clazz))
-				throw new ConstructionFailedException("No generators of type " + clazz);
+			GeneratorDispatchTable.Entry entry = getDispatchEntry(clazz);
+			if (entry != null) {
+				generator = entry.choose(g -> false, false);
+			} else {
+				if (!hasGenerator(clazz))
+					throw new ConstructionFailedException("No generators of type " + clazz);
 
-			generator = Randomness.choice(generatorCache.get(clazz));
+				generator = Randomness.choice(generatorCache.get(clazz));
+			}
 		}
 
 		if (generator == null)
@@ -1033,6 +1108,7 @@ public class TestCluster {
 		}
 
 		GenericAccessibleObject<?> generator = null;
+		GeneratorDispatchTable.Entry entry = getDispatchEntry(clazz);
 
 		// Collection, Map, Number
 		if (isSpecialCase(clazz)) {
@@ -1041,6 +1117,15 @@ public class TestCluster {
 				logger.warn("No generator for special case class: " + clazz);
 				throw new ConstructionFailedException("Have no generators for special case: " + clazz);
 			}
+		} else if (entry != null) {
+			generator = entry.choose(gam -> excluded.contains(gam)
+							|| (generatorRefToExclude != null && generatorRefToExclude.isAssignableTo(gam.getOwnerType())),
+					recursionDepth >= Properties.MAX_RECURSION / 2);
+
+			logger.debug("Chosen generator out of {}: {}", entry.size(), generator);
+			if (generator == null) {
+				return null;
+			}
 		} else {
 			cacheGenerators(clazz);
 			Set<GenericAccessibleObject<?>> candidates = new LinkedHashSet<>(generatorCache.get(clazz));
@@ -1310,6 +1395,10 @@ public class TestCluster {
 	 */
 	public boolean hasGenerator(GenericClass clazz) {
 		try {
+			GeneratorDispatchTable.Entry entry = getDispatchEntry(clazz);
+			if (entry != null) {
+				return !entry.isEmpty();
+			}
 			cacheGenerators(clazz);
 		} catch (ConstructionFailedException e) {
 			AtMostOnceLogger.warn(logger, "Failed to check cache for "+clazz+" : "+e.getMessage());
@@ -1327,7 +1416,7 @@ public class TestCluster {
 	 * @return
 	 */
 	public boolean hasGenerator(Type type) {
-		return hasGenerator(new GenericClass(type));
+		return hasGenerator(GenericClass.getSharedInstance(type));
 	}
 
 	/**
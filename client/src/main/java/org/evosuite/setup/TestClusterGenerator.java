@@ -140,6 +140,9 @@ public class TestClusterGenerator {
 		logger.info("Removing unusable generators");
 		TestCluster.getInstance().removeUnusableGenerators();
 
+		logger.info("Building generator dispatch table");
+		TestCluster.getInstance().buildDispatchTable();
+
 		if (logger.isDebugEnabled()) {
 			logger.debug(TestCluster.getInstance().toString());
 		}
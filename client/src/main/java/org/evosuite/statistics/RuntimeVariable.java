@@ -89,6 +89,16 @@ public enum RuntimeVariable {
 	Statements_Executed,
 	/** The total number of tests executed during the search */
 	Tests_Executed,
+	/** Number of test executions answered by the execution result cache */
+	Execution_Cache_Hits,
+	/** Ratio of cache lookups answered by the execution result cache */
+	Execution_Cache_Hit_Rate,
+	/** Number of statements held by the execution result cache */
+	Execution_Cache_Statements,
+	/** Number of test executions that continued from a snapshot of a prefix */
+	Execution_Snapshots_Resumed,
+	/** Number of statements not executed again thanks to snapshots */
+	Execution_Snapshot_Statements,
 	/** The total number of fitness evaluations during the search */
 	Fitness_Evaluations,
 	/** Number of generations the search algorithm has been evolving */
@@ -405,7 +415,20 @@ public enum RuntimeVariable {
 	/** Solver Cache Statistics */
 	QueryCacheSize,
 	QueryCacheCalls,
-	QueryCacheHitRate;
+	QueryCacheHitRate,
+
+	/** Persistent solver cache statistics */
+	PersistentSolverCacheSize,
+	PersistentSolverCacheHitRate,
+
+	/** Query simplification statistics */
+	QuerySizeBeforeSimplification,
+	QuerySizeAfterSimplification,
+
+	/** Solver portfolio statistics */
+	PortfolioRaces,
+	PortfolioLocalSearchWins,
+	PortfolioSmtWins;
 
 	/* -------------------------------------------------- */
 
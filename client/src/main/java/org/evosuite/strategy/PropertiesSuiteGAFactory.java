@@ -39,6 +39,7 @@ import org.evosuite.ga.metaheuristics.mulambda.MuPlusLambdaEA;
 import org.evosuite.ga.metaheuristics.mulambda.OnePlusLambdaLambdaGA;
 import org.evosuite.ga.metaheuristics.mulambda.OnePlusOneEA;
 import org.evosuite.ga.operators.crossover.*;
+import org.evosuite.ga.operators.ranking.EfficientNonDominatedSorting;
 import org.evosuite.ga.operators.ranking.FastNonDominatedSorting;
 import org.evosuite.ga.operators.ranking.RankBasedPreferenceSorting;
 import org.evosuite.ga.operators.ranking.RankingFunction;
@@ -46,6 +47,7 @@ import org.evosuite.ga.operators.selection.*;
 import org.evosuite.ga.populationlimit.PopulationLimit;
 import org.evosuite.ga.stoppingconditions.*;
 import org.evosuite.statistics.StatisticsListener;
+import org.evosuite.testcase.execution.BatchExecutionScheduler;
 import org.evosuite.testcase.factories.AllMethodsTestChromosomeFactory;
 import org.evosuite.testcase.factories.JUnitTestCarvedChromosomeFactory;
 import org.evosuite.testcase.factories.RandomLengthTestFactory;
@@ -276,6 +278,8 @@ public class PropertiesSuiteGAFactory
 	  switch (Properties.RANKING_TYPE) {
 	    case FAST_NON_DOMINATED_SORTING:
 	      return new FastNonDominatedSorting<>();
+	    case EFFICIENT_NON_DOMINATED_SORTING:
+	      return new EfficientNonDominatedSorting<>();
 	    case PREFERENCE_SORTING:
 	    default:
 	      return new RankBasedPreferenceSorting<>();
@@ -300,6 +304,11 @@ public class PropertiesSuiteGAFactory
 		RankingFunction<TestSuiteChromosome> ranking_function = getRankingFunction();
 		ga.setRankingFunction(ranking_function);
 
+		// How to evaluate batches of individuals
+		if (Properties.TEST_EXECUTION_THREADS > 1) {
+			ga.setEvaluationScheduler(BatchExecutionScheduler.forSuites());
+		}
+
 		// When to stop the search
 		StoppingCondition<TestSuiteChromosome> stopping_condition = getStoppingCondition();
 		ga.setStoppingCondition(stopping_condition);
@@ -39,6 +39,7 @@ import org.evosuite.ga.operators.crossover.SinglePointCrossOver;
 import org.evosuite.ga.operators.crossover.SinglePointFixedCrossOver;
 import org.evosuite.ga.operators.crossover.SinglePointRelativeCrossOver;
 import org.evosuite.ga.operators.crossover.UniformCrossOver;
+import org.evosuite.ga.operators.ranking.EfficientNonDominatedSorting;
 import org.evosuite.ga.operators.ranking.FastNonDominatedSorting;
 import org.evosuite.ga.operators.ranking.RankBasedPreferenceSorting;
 import org.evosuite.ga.operators.ranking.RankingFunction;
@@ -56,6 +57,7 @@ import org.evosuite.seeding.TestCaseRecycler;
 import org.evosuite.testcase.RelativeTestLengthBloatControl;
 import org.evosuite.testcase.TestCaseReplacementFunction;
 import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.execution.BatchExecutionScheduler;
 import org.evosuite.testcase.factories.AllMethodsTestChromosomeFactory;
 import org.evosuite.testcase.factories.JUnitTestCarvedChromosomeFactory;
 import org.evosuite.testcase.factories.RandomLengthTestFactory;
@@ -208,6 +210,8 @@ public class PropertiesTestGAFactory
 	  switch (Properties.RANKING_TYPE) {
 	    case FAST_NON_DOMINATED_SORTING:
 	      return new FastNonDominatedSorting<>();
+	    case EFFICIENT_NON_DOMINATED_SORTING:
+	      return new EfficientNonDominatedSorting<>();
 	    case PREFERENCE_SORTING:
 	    default:
 	      return new RankBasedPreferenceSorting<>();
@@ -232,6 +236,11 @@ public class PropertiesTestGAFactory
 		RankingFunction<TestChromosome> ranking_function = getRankingFunction();
 		ga.setRankingFunction(ranking_function);
 
+		// How to evaluate batches of individuals
+		if (Properties.TEST_EXECUTION_THREADS > 1) {
+			ga.setEvaluationScheduler(BatchExecutionScheduler.forTests());
+		}
+
 		// When to stop the search
 		StoppingCondition<TestChromosome> stopping_condition = getStoppingCondition();
 		ga.setStoppingCondition(stopping_condition);
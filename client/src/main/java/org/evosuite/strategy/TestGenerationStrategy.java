@@ -37,6 +37,9 @@ import org.evosuite.rmi.ClientServices;
 import org.evosuite.setup.TestCluster;
 import org.evosuite.statistics.RuntimeVariable;
 import org.evosuite.testcase.TestFitnessFunction;
+import org.evosuite.testcase.execution.ExecutionResultCache;
+import org.evosuite.testcase.execution.ExecutionSnapshotStore;
+import org.evosuite.testcase.execution.TestCaseExecutor;
 import org.evosuite.testsuite.TestSuiteChromosome;
 import org.evosuite.testsuite.TestSuiteFitnessFunction;
 
@@ -73,6 +76,19 @@ public abstract class TestGenerationStrategy {
     protected void sendExecutionStatistics() {
         ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.Statements_Executed, MaxStatementsStoppingCondition.getNumExecutedStatements());
         ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.Tests_Executed, MaxTestsStoppingCondition.getNumExecutedTests());
+
+        ExecutionResultCache cache = TestCaseExecutor.getInstance().getExecutionResultCache();
+        if (cache != null) {
+            ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.Execution_Cache_Hits, cache.getHits());
+            ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.Execution_Cache_Hit_Rate, cache.getHitRate());
+            ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.Execution_Cache_Statements, cache.getNumStatements());
+        }
+
+        ExecutionSnapshotStore snapshots = TestCaseExecutor.getInstance().getExecutionSnapshotStore();
+        if (snapshots != null) {
+            ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.Execution_Snapshots_Resumed, snapshots.getNumResumed());
+            ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.Execution_Snapshot_Statements, snapshots.getNumResumedStatements());
+        }
     }
 
     /**
@@ -30,6 +30,7 @@ import org.evosuite.symbolic.PathCondition;
 import org.evosuite.symbolic.SymbolicObserver;
 import org.evosuite.symbolic.expr.Constraint;
 import org.evosuite.symbolic.expr.ExpressionEvaluator;
+import org.evosuite.symbolic.expr.ExpressionInterner;
 import org.evosuite.symbolic.instrument.ConcolicBytecodeInstrumentation;
 import org.evosuite.symbolic.instrument.ConcolicInstrumentingClassLoader;
 import org.evosuite.symbolic.vm.ArithmeticVM;
@@ -128,6 +129,8 @@ public class ConcolicExecutorImpl implements ConcolicExecutor{
 		} finally {
 			logger.debug("Cleaning concolic execution");
 			TestCaseExecutor.getInstance().setExecutionObservers(originalExecutionObservers);
+			// the path condition keeps its nodes, only the sharing table is dropped
+			ExpressionInterner.getInstance().clear();
 		}
 		VM.disableCallBacks(); // ignore all callbacks from now on
 		VM.getInstance().cleanUpListeners();
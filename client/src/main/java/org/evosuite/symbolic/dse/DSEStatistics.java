@@ -23,17 +23,23 @@ import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import org.evosuite.Properties;
 import org.evosuite.rmi.ClientServices;
 import org.evosuite.statistics.RuntimeVariable;
 import org.evosuite.symbolic.ConstraintTypeCounter;
 import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.ExpressionInterner;
 import org.evosuite.symbolic.expr.constraint.IntegerConstraint;
 import org.evosuite.symbolic.expr.constraint.RealConstraint;
 import org.evosuite.symbolic.expr.constraint.StringConstraint;
+import org.evosuite.symbolic.solver.PersistentSolverCache;
+import org.evosuite.symbolic.solver.PortfolioSolver.Backend;
+import org.evosuite.symbolic.solver.PortfolioSolver.QueryShape;
 import org.evosuite.symbolic.solver.SolverCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -68,6 +74,19 @@ public class DSEStatistics {
 		RuntimeVariable.QueryCacheCalls.name(),
 		RuntimeVariable.QueryCacheHitRate.name(),
 
+		// Persistent Solver Cache
+		RuntimeVariable.PersistentSolverCacheSize.name(),
+		RuntimeVariable.PersistentSolverCacheHitRate.name(),
+
+		// Query Simplification
+		RuntimeVariable.QuerySizeBeforeSimplification.name(),
+		RuntimeVariable.QuerySizeAfterSimplification.name(),
+
+		// Solver Portfolio
+		RuntimeVariable.PortfolioRaces.name(),
+		RuntimeVariable.PortfolioLocalSearchWins.name(),
+		RuntimeVariable.PortfolioSmtWins.name(),
+
 		// Execution Times
 		RuntimeVariable.TotalTimeSpentSolvingConstraints.name(),
 		RuntimeVariable.TotalTimeSpentExecutingTestCases.name(),
@@ -119,6 +138,18 @@ public class DSEStatistics {
 	private long querycacheSize = 0;
 	private long queryCacheCalls = 0;
 
+	// Query simplification
+	private long simplifiedQueries = 0;
+	private long queriesDecidedBySimplification = 0;
+	private long constraintsBeforeSimplification = 0;
+	private long constraintsAfterSimplification = 0;
+	private long querySizeBeforeSimplification = 0;
+	private long querySizeAfterSimplification = 0;
+
+	// Solver portfolio
+	private final Map<QueryShape, Long> portfolioRaces = new EnumMap<>(QueryShape.class);
+	private final Map<QueryShape, long[]> portfolioWins = new EnumMap<>(QueryShape.class);
+
 	// New solutions found metrics
 	private long nrOfSolutionWithNoImprovement = 0;
 	private long nrOfNewTestFound = 0;
@@ -230,6 +261,12 @@ public class DSEStatistics {
 		logger.info("");
 		logSolverQueryCacheStatistics();
 
+		logger.info("");
+		logQuerySimplificationStatistics();
+
+		logger.info("");
+		logPortfolioStatistics();
+
 		logger.info("");
 		logConstraintSizeStatistics();
 
@@ -246,6 +283,10 @@ public class DSEStatistics {
 		logCacheStatistics();
 		logger.info("");
 
+		logger.info("");
+		logExpressionInterningStatistics();
+		logger.info("");
+
 		logger.info("");
 		logAdaptationStatistics();
 		logger.info("");
@@ -266,6 +307,31 @@ public class DSEStatistics {
 		logger.info(String.format("  - Query Cache hitRare: %s", getQueryCacheHitRate(queryCacheHits, queryCacheCalls)));
 	}
 
+	private void logQuerySimplificationStatistics() {
+		logger.info("* Query simplification:");
+		if (simplifiedQueries == 0) {
+			logger.info("  - No queries were simplified.");
+			return;
+		}
+		logger.info(String.format("  - Simplified queries: %s", simplifiedQueries));
+		logger.info(String.format("  - Queries decided by simplification: %s", queriesDecidedBySimplification));
+		logger.info(String.format("  - Constraints: %s before, %s after", constraintsBeforeSimplification, constraintsAfterSimplification));
+		logger.info(String.format("  - Query size: %s before, %s after", querySizeBeforeSimplification, querySizeAfterSimplification));
+	}
+
+	private synchronized void logPortfolioStatistics() {
+		logger.info("* Solver portfolio:");
+		if (portfolioRaces.isEmpty()) {
+			logger.info("  - No races were run.");
+			return;
+		}
+		for (QueryShape shape : portfolioRaces.keySet()) {
+			logger.info(String.format("  - %s queries: %s races, %s won by the local search, %s won by the SMT solver",
+					shape, getPortfolioRaces(shape), getPortfolioWins(shape, Backend.LOCAL_SEARCH),
+					getPortfolioWins(shape, Backend.SMT)));
+		}
+	}
+
 	private void logPathsExploredStatistics() {
 		logger.info("* Paths exploration:");
 		logger.info(String.format("  - paths explored: %s", pathsExploredCounter));
@@ -307,6 +373,27 @@ public class DSEStatistics {
 			String hit_rate_str = percentFormat.format(SolverCache.getInstance().getHitRate());
 			logger.info(String.format("  - Cache hit rate: %s", hit_rate_str));
 		}
+
+		if (Properties.DSE_PERSISTENT_SOLVER_CACHE) {
+			PersistentSolverCache persistentCache = PersistentSolverCache.getInstance();
+			NumberFormat percentFormat = NumberFormat.getPercentInstance();
+			percentFormat.setMaximumFractionDigits(1);
+			logger.info(String.format("  - Persistent cache stored results: %s", persistentCache.size()));
+			logger.info(String.format("  - Persistent cache hit rate: %s", percentFormat.format(persistentCache.getHitRate())));
+		}
+	}
+
+	private void logExpressionInterningStatistics() {
+		logger.info("* Expression interning:");
+		ExpressionInterner interner = ExpressionInterner.getInstance();
+		if (interner.getNumberOfLookups() == 0) {
+			logger.info("  - No expressions were interned.");
+			return;
+		}
+		NumberFormat percentFormat = NumberFormat.getPercentInstance();
+		percentFormat.setMaximumFractionDigits(1);
+		logger.info(String.format("  - Lookups: %s", interner.getNumberOfLookups()));
+		logger.info(String.format("  - Hit rate: %s", percentFormat.format(interner.getHitRate())));
 	}
 
 	private void logTimeStatistics() {
@@ -571,6 +658,59 @@ public class DSEStatistics {
 	public void reportNewQueryCacheHit() { queryCacheHits++;	}
 	public void reportNewQueryCacheCall() { queryCacheCalls++;	}
 	public void reportNewQueryCachedValue() { querycacheSize++; }
+	public long getQueryCacheHits() { return queryCacheHits; }
+	public long getQueryCacheCalls() { return queryCacheCalls; }
+
+	/**
+	 * Reports the simplification of a query. Queries may be simplified
+	 * concurrently by the solver threads.
+	 *
+	 * @param query
+	 * @param simplifiedQuery the simplified query, null if it was found unsatisfiable
+	 */
+	public synchronized void reportQuerySimplification(Collection<Constraint<?>> query, Collection<Constraint<?>> simplifiedQuery) {
+		simplifiedQueries++;
+		constraintsBeforeSimplification += query.size();
+		querySizeBeforeSimplification += getQuerySize(query);
+
+		if (simplifiedQuery == null || simplifiedQuery.isEmpty()) {
+			queriesDecidedBySimplification++;
+		}
+		if (simplifiedQuery != null) {
+			constraintsAfterSimplification += simplifiedQuery.size();
+			querySizeAfterSimplification += getQuerySize(simplifiedQuery);
+		}
+	}
+
+	/**
+	 * Reports a race of the solver portfolio.
+	 *
+	 * @param shape the shape of the raced query
+	 * @param winner the backend that decided the query first, null if none did
+	 */
+	public synchronized void reportPortfolioRace(QueryShape shape, Backend winner) {
+		portfolioRaces.merge(shape, 1L, Long::sum);
+		if (winner != null) {
+			portfolioWins.computeIfAbsent(shape, s -> new long[Backend.values().length])[winner.ordinal()]++;
+		}
+	}
+
+	public synchronized long getPortfolioRaces(QueryShape shape) {
+		return portfolioRaces.getOrDefault(shape, 0L);
+	}
+
+	public synchronized long getPortfolioWins(QueryShape shape, Backend backend) {
+		long[] wins = portfolioWins.get(shape);
+		return wins == null ? 0 : wins[backend.ordinal()];
+	}
+
+	private static long getQuerySize(Collection<Constraint<?>> query) {
+		long size = 0;
+		for (Constraint<?> constraint : query) {
+			size += constraint.getSize();
+		}
+		return size;
+	}
 
 	/**
 	 * Entry point for statistics tracking on output variables
@@ -579,6 +719,8 @@ public class DSEStatistics {
 		trackConstraintTypes();
 		trackSolverStatistics();
 		trackQueryCacheStatistics();
+		trackQuerySimplificationStatistics();
+		trackPortfolioStatistics();
 		trackExplorationStatistics();
 		trackExecutionTimeStatistics();
 	}
@@ -617,6 +759,37 @@ public class DSEStatistics {
 			trackOutputVariable(RuntimeVariable.QueryCacheSize, querycacheSize);
 			trackOutputVariable(RuntimeVariable.QueryCacheCalls, queryCacheCalls);
 			trackOutputVariable(RuntimeVariable.QueryCacheHitRate, getQueryCacheHitRate(queryCacheHits, queryCacheCalls));
+
+			if (Properties.DSE_PERSISTENT_SOLVER_CACHE) {
+				PersistentSolverCache persistentCache = PersistentSolverCache.getInstance();
+				trackOutputVariable(RuntimeVariable.PersistentSolverCacheSize, persistentCache.size());
+				trackOutputVariable(RuntimeVariable.PersistentSolverCacheHitRate, persistentCache.getHitRate());
+			}
+	}
+
+	/**
+	 * Sets the query simplification related output variables to be saved.
+	 */
+	private void trackQuerySimplificationStatistics() {
+		trackOutputVariable(RuntimeVariable.QuerySizeBeforeSimplification, querySizeBeforeSimplification);
+		trackOutputVariable(RuntimeVariable.QuerySizeAfterSimplification, querySizeAfterSimplification);
+	}
+
+	/**
+	 * Sets the solver portfolio related output variables to be saved.
+	 */
+	private synchronized void trackPortfolioStatistics() {
+		long races = 0;
+		long localSearchWins = 0;
+		long smtWins = 0;
+		for (QueryShape shape : QueryShape.values()) {
+			races += getPortfolioRaces(shape);
+			localSearchWins += getPortfolioWins(shape, Backend.LOCAL_SEARCH);
+			smtWins += getPortfolioWins(shape, Backend.SMT);
+		}
+		trackOutputVariable(RuntimeVariable.PortfolioRaces, races);
+		trackOutputVariable(RuntimeVariable.PortfolioLocalSearchWins, localSearchWins);
+		trackOutputVariable(RuntimeVariable.PortfolioSmtWins, smtWins);
 	}
 
 	/**
@@ -33,7 +33,9 @@ import org.evosuite.symbolic.dse.algorithm.strategies.PathExtensionStrategy;
 import org.evosuite.symbolic.dse.algorithm.strategies.TestCaseBuildingStrategy;
 import org.evosuite.symbolic.dse.algorithm.strategies.TestCaseSelectionStrategy;
 import org.evosuite.symbolic.dse.algorithm.strategies.implementations.CachingStrategies.CacheQueryResult;
+import org.evosuite.symbolic.dse.algorithm.strategies.implementations.CachingStrategies.IndexedQueryCache;
 import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.solver.SmtSolver;
 import org.evosuite.symbolic.solver.Solver;
 import org.evosuite.symbolic.solver.SolverEmptyQueryException;
 import org.evosuite.symbolic.solver.SolverErrorException;
@@ -54,13 +56,19 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
    * Structure of a DSE Exploration algorithm,
@@ -121,7 +129,7 @@ public abstract class ExplorationAlgorithm extends ExplorationAlgorithmBase {
     /**
      * A cache of previous results from the constraint solver
      **/
-    protected final transient Map<Set<Constraint<?>>, SolverResult> queryCache = new HashMap<>();
+    protected final transient Map<Set<Constraint<?>>, SolverResult> queryCache = new IndexedQueryCache(Properties.DSE_QUERY_CACHE_SIZE);
 
     /**
      * Exploration strategies
@@ -138,6 +146,11 @@ public abstract class ExplorationAlgorithm extends ExplorationAlgorithmBase {
     private final transient ConcolicExecutor engine;
     private final transient Solver solver;
 
+    /**
+     * Solves queries concurrently when {@link Properties#DSE_SOLVER_THREADS} is greater than one
+     **/
+    private transient ExecutorService solverPool = null;
+
     public ExplorationAlgorithm() {
         this(
             SHOW_PROGRESS_DEFAULT_VALUE,
@@ -232,6 +245,11 @@ public abstract class ExplorationAlgorithm extends ExplorationAlgorithmBase {
              LoggingUtils.getEvoLogger().info("* " + TESTS_WERE_GENERATED_FOR_ENTRY_METHOD_DEBUG_MESSAGE, numOfGeneratedTestCases, entryMethod.getName());
          }
 
+         if (solverPool != null) {
+             solverPool.shutdownNow();
+             solverPool = null;
+         }
+
          // Run this before finish
          notifyGenerationFinished();
          statisticsLogger.reportTotalTestExecutionTime(TestCaseExecutor.timeExecuted);
@@ -310,7 +328,12 @@ public abstract class ExplorationAlgorithm extends ExplorationAlgorithmBase {
               || PathConditionUtils.isConstraintSetSubSetOf(seenPathCondition, seenChildren));
     }
 
-    private void processChildren(Queue<DSETestCase> testCasesWorkList, HashSet<Set<Constraint<?>>> seenChildren, DSETestCase currentTestCase, List<GenerationalSearchPathCondition> children, boolean hasPathConditionDiverged) {
+    void processChildren(Queue<DSETestCase> testCasesWorkList, HashSet<Set<Constraint<?>>> seenChildren, DSETestCase currentTestCase, List<GenerationalSearchPathCondition> children, boolean hasPathConditionDiverged) {
+        if (isParallelSolvingEnabled()) {
+            processChildrenInParallel(testCasesWorkList, seenChildren, currentTestCase, children, hasPathConditionDiverged);
+            return;
+        }
+
         // We look at all the children
         for (GenerationalSearchPathCondition child : children) {
             List<Constraint<?>> childQuery = SolverUtils.buildQuery(child.getPathCondition());
@@ -350,21 +373,197 @@ public abstract class ExplorationAlgorithm extends ExplorationAlgorithmBase {
                     );
                 }
 
-                if (smtSolution != null) {
-                    // Generates the new tests based on the current solution
-                    DSETestCase newTestCase = generateNewTestCase(
-                        currentTestCase,
-                        child,
-                        smtSolution,
-                        hasPathConditionDiverged);
+                processSolution(testCasesWorkList, currentTestCase, child, smtSolution, hasPathConditionDiverged);
+            }
+        }
+    }
+
+    /**
+     * Same as the sequential exploration of the children, but the queries that miss the cache as it is before
+     * exploring the children are solved ahead by the solver pool. The children are then explored as in the
+     * sequential loop: each query is looked up again once the results of its previous siblings are cached, and a
+     * result solved ahead is only used if the query still misses the cache. Only this second lookup is reported in
+     * the statistics.
+     *
+     * If {@link Properties#DSE_PARALLEL_DETERMINISTIC_ORDER} is set, children are explored in order, so the work list
+     * and the cache statistics are the same as with the sequential exploration. Otherwise the children without a
+     * submitted query are explored first, then the others in the order in which the solver finishes them.
+     */
+    private void processChildrenInParallel(Queue<DSETestCase> testCasesWorkList, HashSet<Set<Constraint<?>>> seenChildren, DSETestCase currentTestCase, List<GenerationalSearchPathCondition> children, boolean hasPathConditionDiverged) {
+        List<PendingChild> pendingChildren = new ArrayList<>();
+        CompletionService<PendingChild> completionService = new ExecutorCompletionService<>(getSolverPool());
+        int submittedQueries = 0;
 
-                    testCasesWorkList.offer(newTestCase);
-                    addNewTestCaseToTestSuite(newTestCase);
+        for (GenerationalSearchPathCondition child : children) {
+            List<Constraint<?>> childQuery = SolverUtils.buildQuery(child.getPathCondition());
+            PendingChild pendingChild = new PendingChild(child, childQuery, normalize(childQuery));
+            pendingChildren.add(pendingChild);
+
+            // Silent version of the checks done when exploring the child
+            if (queryCache.containsKey(pendingChild.normalizedQuery)
+                  || seenChildren.contains(pendingChild.normalizedQuery)
+                  || !cachingStrategy.peekCache(pendingChild.normalizedQuery, queryCache).missed()) continue;
+
+            List<Constraint<?>> solverQuery = buildSolverQuery(childQuery);
+            pendingChild.solvedQuery = completionService.submit(() -> {
+                long startSolvingTime = System.currentTimeMillis();
+                pendingChild.smtQueryResult = doSolveQuery(solverQuery);
+                pendingChild.solvingTime = System.currentTimeMillis() - startSolvingTime;
+                return pendingChild;
+            });
+            submittedQueries++;
+        }
 
-                    // NOTE: We consider adding a test case an iteration
-                    notifyIteration();
+        try {
+            if (Properties.DSE_PARALLEL_DETERMINISTIC_ORDER) {
+                for (PendingChild pendingChild : pendingChildren) {
+                    if (!processPendingChild(testCasesWorkList, seenChildren, currentTestCase, pendingChild, hasPathConditionDiverged)) return;
+                }
+            } else {
+                for (PendingChild pendingChild : pendingChildren) {
+                    if (pendingChild.solvedQuery == null
+                          && !processPendingChild(testCasesWorkList, seenChildren, currentTestCase, pendingChild, hasPathConditionDiverged)) return;
+                }
+                for (int i = 0; i < submittedQueries; i++) {
+                    PendingChild pendingChild = completionService.take().get();
+                    if (!processPendingChild(testCasesWorkList, seenChildren, currentTestCase, pendingChild, hasPathConditionDiverged)) return;
                 }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new DSEExplorationException(e.getCause());
+        } finally {
+            for (PendingChild pendingChild : pendingChildren) {
+                pendingChild.discardSolvedQuery();
+            }
+        }
+    }
+
+    /**
+     * Explores a child as the sequential loop does, using the result solved ahead for its query if there is one.
+     *
+     * @return false if the exploration has to stop
+     */
+    private boolean processPendingChild(Queue<DSETestCase> testCasesWorkList, HashSet<Set<Constraint<?>>> seenChildren, DSETestCase currentTestCase, PendingChild pendingChild, boolean hasPathConditionDiverged) throws InterruptedException, ExecutionException {
+        if (shouldSkipChild(seenChildren, pendingChild.normalizedQuery)) {
+            pendingChild.discardSolvedQuery();
+            return true;
+        }
+        if (this.isFinished()) return false;
+
+        CacheQueryResult cacheQueryResult = cachingStrategy.checkCache(pendingChild.normalizedQuery, queryCache);
+        if (cacheQueryResult.hitUnSat()) {
+            pendingChild.discardSolvedQuery();
+            return true;
+        }
+
+        logger.debug(CACHE_CALL_HIT_UNSAT);
+        statisticsLogger.reportNewConstraints(pendingChild.query);
+        Map<String, Object> smtSolution;
+
+        if (cacheQueryResult.hitSat()) {
+            logger.debug(CACHE_CALL_HIT_SAT);
+            pendingChild.discardSolvedQuery();
+            smtSolution = cacheQueryResult.getSmtSolution();
+        } else {
+            assert(cacheQueryResult.missed());
+            logger.debug(CACHE_CALL_MISSED);
+
+            SolverResult smtQueryResult;
+            if (pendingChild.solvedQuery != null) {
+                pendingChild.solvedQuery.get();
+                DSEStatistics.getInstance().reportNewSolvingTime(pendingChild.solvingTime);
+                smtQueryResult = pendingChild.smtQueryResult;
+            } else {
+                // The query was a hit before exploring the children, but the cached entry has been evicted since
+                List<Constraint<?>> solverQuery = buildSolverQuery(pendingChild.query);
+                logger.debug(SOLVER_QUERY_STARTED_MESSAGE, solverQuery.size());
+                smtQueryResult = solveQuery(solverQuery);
+            }
+            smtSolution = getQuerySolution(pendingChild.normalizedQuery, smtQueryResult);
+        }
+
+        processSolution(testCasesWorkList, currentTestCase, pendingChild.child, smtSolution, hasPathConditionDiverged);
+        return true;
+    }
+
+    /**
+     * Adds the bounds of the variables to a copy of the query
+     *
+     * @param query
+     * @return
+     */
+    private static List<Constraint<?>> buildSolverQuery(List<Constraint<?>> query) {
+        List<Constraint<?>> solverQuery = new ArrayList<>(query);
+        solverQuery.addAll(
+          SolverUtils.createBoundsForQueryVariables(query)
+        );
+        return solverQuery;
+    }
+
+    private void processSolution(Queue<DSETestCase> testCasesWorkList, DSETestCase currentTestCase, GenerationalSearchPathCondition child, Map<String, Object> smtSolution, boolean hasPathConditionDiverged) {
+        if (smtSolution != null) {
+            // Generates the new tests based on the current solution
+            DSETestCase newTestCase = generateNewTestCase(
+                currentTestCase,
+                child,
+                smtSolution,
+                hasPathConditionDiverged);
+
+            testCasesWorkList.offer(newTestCase);
+            addNewTestCaseToTestSuite(newTestCase);
+
+            // NOTE: We consider adding a test case an iteration
+            notifyIteration();
+        }
+    }
+
+    /**
+     * Queries are solved concurrently only with external solvers: the other solvers change the concrete values of
+     * the variables shared by the queries while searching.
+     *
+     * @return whether the cache misses of a path condition are solved concurrently
+     */
+    private boolean isParallelSolvingEnabled() {
+        return Properties.DSE_SOLVER_THREADS > 1 && solver instanceof SmtSolver;
+    }
+
+    private ExecutorService getSolverPool() {
+        if (solverPool == null) {
+            solverPool = Executors.newFixedThreadPool(Properties.DSE_SOLVER_THREADS, runnable -> {
+                Thread thread = new Thread(runnable, "DSE-solver");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return solverPool;
+    }
+
+    /**
+     * A child whose query may be solved ahead by the solver pool
+     */
+    private static final class PendingChild {
+        private final GenerationalSearchPathCondition child;
+        private final List<Constraint<?>> query;
+        private final Set<Constraint<?>> normalizedQuery;
+        private Future<PendingChild> solvedQuery = null;
+        private volatile SolverResult smtQueryResult = null;
+        private volatile long solvingTime = 0;
+
+        private PendingChild(GenerationalSearchPathCondition child, List<Constraint<?>> query, Set<Constraint<?>> normalizedQuery) {
+            this.child = child;
+            this.query = query;
+            this.normalizedQuery = normalizedQuery;
+        }
+
+        /**
+         * Stops solving the query if its result is not needed
+         */
+        private void discardSolvedQuery() {
+            if (solvedQuery != null) {
+                solvedQuery.cancel(true);
+            }
         }
     }
 
@@ -33,4 +33,13 @@ import java.util.Set;
  */
 public interface CachingStrategy {
     CacheQueryResult checkCache(Set<Constraint<?>> constraintSet, Map<Set<Constraint<?>>, SolverResult> queryCache);
+
+    /**
+     * Same lookup as {@link #checkCache(Set, Map)}, but not reported in the statistics.
+     *
+     * @param constraintSet
+     * @param queryCache
+     * @return
+     */
+    CacheQueryResult peekCache(Set<Constraint<?>> constraintSet, Map<Set<Constraint<?>>, SolverResult> queryCache);
 }
@@ -19,27 +19,27 @@
  */
 package org.evosuite.symbolic.dse.algorithm.strategies.implementations.CachingStrategies;
 
-import org.evosuite.symbolic.PathConditionUtils;
 import org.evosuite.symbolic.dse.DSEStatistics;
 import org.evosuite.symbolic.dse.algorithm.strategies.CachingStrategy;
 import org.evosuite.symbolic.expr.Constraint;
 import org.evosuite.symbolic.solver.SolverResult;
+import org.evosuite.symbolic.solver.SolverUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 /**
- * Resembles checks (a) and (b) of a counter-example cache strategy.
- *     (b) Is performed only if exactly the same constraint set is found.
- *     TODO: Implement the solution for supersets.
- *
  * Counter-example cache strategy: Maps sets of constraints to counter-examples and performs three optimizations:
  *    (a)  When a subset of a constraint set has no solution, then neither does the original set. i.e. as the query x>10 ∧ x<5 has no solution, neither does the original query x>10 ∧ x<5 ∧ y=0
  *    (b)  When a superset of a constraint set has a solution, that solution also satisfies the original set.  i.e. x=14 is the solution for the query x>0 ∧ x<5, thus it satisfies either x>0 or x<5 individually
  *    (c)  When a subset of a constraint set has a solution, it is likely that this is also a solution for the original set
  *
+ * Subsets and supersets are looked up through an {@link IndexedQueryCache}. Models reused in (b) and (c) are
+ * restricted to the variables of the query and checked against it before being returned.
+ *
  * @author Ignacio Lebrero
  */
 public class CounterExampleCache implements CachingStrategy {
@@ -47,61 +47,74 @@ public class CounterExampleCache implements CachingStrategy {
     private static final Logger logger = LoggerFactory.getLogger(CounterExampleCache.class);
     private static final DSEStatistics statisticsLogger = DSEStatistics.getInstance();
 
+    /**
+     * Maximum number of cached models evaluated on a query for case (c)
+     */
+    private static final int MAX_REUSED_MODEL_CHECKS = 10;
+
     @Override
     public CacheQueryResult checkCache(Set<Constraint<?>> query, Map<Set<Constraint<?>>, SolverResult> queryCache) {
       statisticsLogger.reportNewQueryCacheCall();
 
-      // Cache hit of an exact set solution
-      if (queryCache.keySet().contains(query)) {
-        SolverResult cachedResult = queryCache.get(query);
+      CacheQueryResult result = peekCache(query, queryCache);
+      if (!result.missed()) {
+        statisticsLogger.reportNewQueryCacheHit();
+      }
+      return result;
+    }
 
-        if (cachedResult.isSAT()) {
-          statisticsLogger.reportNewQueryCacheHit();
+    @Override
+    public CacheQueryResult peekCache(Set<Constraint<?>> query, Map<Set<Constraint<?>>, SolverResult> queryCache) {
+      IndexedQueryCache indexedCache = queryCache instanceof IndexedQueryCache
+        ? (IndexedQueryCache) queryCache
+        : new IndexedQueryCache(queryCache);
+
+      // Cache hit of an exact set solution
+      SolverResult exactResult = indexedCache.get(query);
+      if (exactResult != null) {
+        if (exactResult.isSAT()) {
           logger.debug("skipping solving of current query since it is in the query cache");
-          return new CacheQueryResult(cachedResult.getModel(), CacheQueryStatus.HIT_SAT);
+          return new CacheQueryResult(exactResult.getModel(), CacheQueryStatus.HIT_SAT);
 
-        } else if (cachedResult.isUNSAT()) {
-          statisticsLogger.reportNewQueryCacheHit();
+        } else if (exactResult.isUNSAT()) {
           logger.debug("skipping current query since it is in the query cache and it unsatisfiable");
           return new CacheQueryResult(CacheQueryStatus.HIT_UNSAT);
         }
       }
 
-      // Cache hit of a sub set solution
-      if (PathConditionUtils.isConstraintSetSupraSetOf(query, queryCache.keySet())) {
-        Set<Constraint<?>> subSetSolution = PathConditionUtils.getConstraintSetSupraSetOf(query, queryCache.keySet());
-        SolverResult cachedResult = queryCache.get(subSetSolution);
-
-        // Case (a) for sub sets: the query is a supra set of a sat solution. Heuristics can be implemented here
-        if (cachedResult.isSAT()) {
-          // TODO: implement me!
-          return new CacheQueryResult(CacheQueryStatus.MISS);
-
-        // Case (b) for sub sets: the query is a supra set of an unsat solution
-        } else if (cachedResult.isUNSAT()) {
-          statisticsLogger.reportNewQueryCacheHit();
-          logger.debug("skipping current query since it is in the query cache and it unsatisfiable");
+      // Case (a): the query is a supra set of an unsat query
+      List<SolverResult> subSetResults = indexedCache.getSubSetResults(query);
+      for (SolverResult cachedResult : subSetResults) {
+        if (cachedResult.isUNSAT()) {
+          logger.debug("skipping current query since a subset of it is in the query cache and it unsatisfiable");
           return new CacheQueryResult(CacheQueryStatus.HIT_UNSAT);
         }
-
       }
 
-      // Cache hit of a supra set solution
-      if (PathConditionUtils.isConstraintSetSubSetOf(query, queryCache.keySet())) {
-        Set<Constraint<?>> supraSetSolution = PathConditionUtils.getConstraintSetSubSetOf(query, queryCache.keySet());
-        SolverResult cachedResult = queryCache.get(supraSetSolution);
-
-        // Case (c) of Counter-example cache: Heuristics can be implemented here
-        if (cachedResult.isUNSAT()) {
-          // TODO: implement me!
-          return new CacheQueryResult(CacheQueryStatus.MISS);
+      // Case (b): the query is a sub set of a sat query. Only the part of the model concerning the query is reused.
+      for (SolverResult cachedResult : indexedCache.getSupraSetResults(query)) {
+        if (cachedResult.isSAT()) {
+          Map<String, Object> solution = SolverUtils.reuseModel(query, cachedResult.getModel());
+          if (solution != null) {
+            logger.debug("skipping solving of current query since a supra set of it was solved before");
+            return new CacheQueryResult(solution, CacheQueryStatus.HIT_SAT);
+          }
+        }
+      }
 
-        // Case (b) for for supra sets: The query is sat as there was a bigger query that was SAT
-        } else if (cachedResult.isSAT()) {
-          // TODO: Implement me!
-          // We cannot use all the solution model from the superset as it may differ with other elements of this path.
-          // Implementation idea: reuse only the necessary elements of the model.
-          return new CacheQueryResult(CacheQueryStatus.MISS);
+      // Case (c): the query is a supra set of a sat query, whose model may also solve the query.
+      int checkedModels = 0;
+      for (SolverResult cachedResult : subSetResults) {
+        if (checkedModels >= MAX_REUSED_MODEL_CHECKS) {
+          break;
+        }
+        if (cachedResult.isSAT()) {
+          checkedModels++;
+          Map<String, Object> solution = SolverUtils.reuseModel(query, cachedResult.getModel());
+          if (solution != null) {
+            logger.debug("skipping solving of current query since the solution of a subset of it also solves it");
+            return new CacheQueryResult(solution, CacheQueryStatus.HIT_SAT);
+          }
         }
       }
 
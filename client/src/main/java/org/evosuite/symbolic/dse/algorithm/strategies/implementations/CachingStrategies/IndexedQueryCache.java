@@ -0,0 +1,246 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.dse.algorithm.strategies.implementations.CachingStrategies;
+
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.solver.SolverResult;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Query cache with an inverted index from constraints to the cached queries containing them, so that the
+ * cached subsets and supersets of a query are found without scanning the whole cache.
+ *
+ * The cache is bounded: once the capacity is reached, the least recently used query is evicted.
+ */
+public class IndexedQueryCache extends AbstractMap<Set<Constraint<?>>, SolverResult> {
+
+  public static final String CAPACITY_MUST_BE_POSITIVE = "Capacity must be positive.";
+
+  private static final class CachedQuery {
+    private final Set<Constraint<?>> constraints;
+    private SolverResult result;
+
+    private CachedQuery(Set<Constraint<?>> constraints, SolverResult result) {
+      this.constraints = constraints;
+      this.result = result;
+    }
+  }
+
+  private final int capacity;
+
+  /** Cached queries in least recently used order */
+  private final LinkedHashMap<Set<Constraint<?>>, CachedQuery> queries;
+
+  /** Inverted index: cached queries containing each constraint */
+  private final Map<Constraint<?>, Set<CachedQuery>> queriesByConstraint = new HashMap<>();
+
+  public IndexedQueryCache(int capacity) {
+    if (capacity <= 0) throw new IllegalArgumentException(CAPACITY_MUST_BE_POSITIVE);
+
+    this.capacity = capacity;
+    this.queries = new LinkedHashMap<>(16, 0.75f, true);
+  }
+
+  /**
+   * Builds an unbounded index over the given cache.
+   *
+   * @param queryCache
+   */
+  public IndexedQueryCache(Map<Set<Constraint<?>>, SolverResult> queryCache) {
+    this(Integer.MAX_VALUE);
+    putAll(queryCache);
+  }
+
+  @Override
+  public SolverResult get(Object query) {
+    CachedQuery cachedQuery = queries.get(query);
+    return cachedQuery == null ? null : cachedQuery.result;
+  }
+
+  @Override
+  public boolean containsKey(Object query) {
+    return queries.containsKey(query);
+  }
+
+  @Override
+  public SolverResult put(Set<Constraint<?>> query, SolverResult result) {
+    CachedQuery cachedQuery = queries.get(query);
+    if (cachedQuery != null) {
+      SolverResult previousResult = cachedQuery.result;
+      cachedQuery.result = result;
+      return previousResult;
+    }
+
+    cachedQuery = new CachedQuery(Collections.unmodifiableSet(new HashSet<>(query)), result);
+    queries.put(cachedQuery.constraints, cachedQuery);
+    for (Constraint<?> constraint : cachedQuery.constraints) {
+      queriesByConstraint.computeIfAbsent(constraint, c -> new HashSet<>()).add(cachedQuery);
+    }
+
+    if (queries.size() > capacity) {
+      CachedQuery eldest = queries.values().iterator().next();
+      remove(eldest);
+    }
+    return null;
+  }
+
+  @Override
+  public SolverResult remove(Object query) {
+    CachedQuery cachedQuery = queries.get(query);
+    if (cachedQuery == null) {
+      return null;
+    }
+    remove(cachedQuery);
+    return cachedQuery.result;
+  }
+
+  private void remove(CachedQuery cachedQuery) {
+    queries.remove(cachedQuery.constraints);
+    unindex(cachedQuery);
+  }
+
+  private void unindex(CachedQuery cachedQuery) {
+    for (Constraint<?> constraint : cachedQuery.constraints) {
+      Set<CachedQuery> containingQueries = queriesByConstraint.get(constraint);
+      containingQueries.remove(cachedQuery);
+      if (containingQueries.isEmpty()) {
+        queriesByConstraint.remove(constraint);
+      }
+    }
+  }
+
+  @Override
+  public int size() {
+    return queries.size();
+  }
+
+  @Override
+  public void clear() {
+    queries.clear();
+    queriesByConstraint.clear();
+  }
+
+  /**
+   * Results of the cached queries that are a subset of the given query, including the query itself.
+   *
+   * @param query
+   * @return
+   */
+  public List<SolverResult> getSubSetResults(Set<Constraint<?>> query) {
+    // A cached query is a subset iff all its constraints are hit while walking the query constraints
+    Map<CachedQuery, Integer> hits = new IdentityHashMap<>();
+    for (Constraint<?> constraint : query) {
+      for (CachedQuery cachedQuery : queriesByConstraint.getOrDefault(constraint, Collections.emptySet())) {
+        hits.merge(cachedQuery, 1, Integer::sum);
+      }
+    }
+
+    List<SolverResult> results = new ArrayList<>();
+    for (Map.Entry<CachedQuery, Integer> entry : hits.entrySet()) {
+      if (entry.getValue() == entry.getKey().constraints.size()) {
+        results.add(entry.getKey().result);
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Results of the cached queries that are a superset of the given query, including the query itself.
+   *
+   * @param query
+   * @return
+   */
+  public List<SolverResult> getSupraSetResults(Set<Constraint<?>> query) {
+    if (query.isEmpty()) {
+      List<SolverResult> results = new ArrayList<>();
+      for (CachedQuery cachedQuery : queries.values()) {
+        results.add(cachedQuery.result);
+      }
+      return results;
+    }
+
+    // Every superset contains the query's least frequent constraint
+    Set<CachedQuery> candidates = null;
+    for (Constraint<?> constraint : query) {
+      Set<CachedQuery> containingQueries = queriesByConstraint.get(constraint);
+      if (containingQueries == null) {
+        return Collections.emptyList();
+      }
+      if (candidates == null || containingQueries.size() < candidates.size()) {
+        candidates = containingQueries;
+      }
+    }
+
+    List<SolverResult> results = new ArrayList<>();
+    for (CachedQuery cachedQuery : candidates) {
+      if (cachedQuery.constraints.size() >= query.size() && cachedQuery.constraints.containsAll(query)) {
+        results.add(cachedQuery.result);
+      }
+    }
+    return results;
+  }
+
+  @Override
+  public Set<Entry<Set<Constraint<?>>, SolverResult>> entrySet() {
+    return new AbstractSet<Entry<Set<Constraint<?>>, SolverResult>>() {
+      @Override
+      public Iterator<Entry<Set<Constraint<?>>, SolverResult>> iterator() {
+        final Iterator<CachedQuery> iterator = queries.values().iterator();
+        return new Iterator<Entry<Set<Constraint<?>>, SolverResult>>() {
+          private CachedQuery current;
+
+          @Override
+          public boolean hasNext() {
+            return iterator.hasNext();
+          }
+
+          @Override
+          public Entry<Set<Constraint<?>>, SolverResult> next() {
+            current = iterator.next();
+            return new SimpleImmutableEntry<>(current.constraints, current.result);
+          }
+
+          @Override
+          public void remove() {
+            iterator.remove();
+            unindex(current);
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return queries.size();
+      }
+    };
+  }
+}
@@ -74,6 +74,33 @@ public abstract class AbstractExpression<T> implements Expression<T> {
 		return concreteValue;
 	}
 
+	/**
+	 * Structural hash code, computed on first use. Expressions are immutable,
+	 * so the hash never changes once computed.
+	 */
+	private transient int hashCode = 0;
+
+	@Override
+	public final int hashCode() {
+		int h = hashCode;
+		if (h == 0) {
+			h = computeHashCode();
+			hashCode = h;
+		}
+		return h;
+	}
+
+	/**
+	 * Computes the hash code of this expression. Subclasses overriding
+	 * <code>equals</code> must override this method consistently, using only
+	 * fields that do not change after construction.
+	 * 
+	 * @return
+	 */
+	protected int computeHashCode() {
+		return super.hashCode();
+	}
+
 	@Override
 	public Set<Object> getConstants() {
 		Set<Object> result = new HashSet<>();
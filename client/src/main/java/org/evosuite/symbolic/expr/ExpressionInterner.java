@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.expr;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Hash-consing table for symbolic expressions.
+ * 
+ * Structurally equal expressions with the same concrete value are replaced by
+ * a single canonical node. Sharing nodes reduces the memory retained by path
+ * conditions, lets most equality checks between constraints (e.g. when they
+ * are used as cache keys) succeed on the identity fast path, and lets the SMT
+ * translation of a query translate a shared node once. The concrete value is
+ * part of the key since <code>equals</code> ignores it, while the concolic
+ * execution relies on it.
+ * 
+ * Only variable-free expressions are shared. Variables are equal by name, so
+ * sharing an expression that contains one would hand a later concolic
+ * execution the variable objects of an earlier one, whose concrete values the
+ * solver then updates instead of the current ones.
+ * 
+ * The table is bounded: it is emptied when it reaches its maximum size or when
+ * a concolic execution ends, which only loses sharing opportunities.
+ */
+public final class ExpressionInterner {
+
+	private static final int MAX_SIZE = 100_000;
+
+	private static final ExpressionInterner instance = new ExpressionInterner();
+
+	private final Map<InternKey, Expression<?>> canonicalExpressions = new HashMap<>();
+
+	private long numberOfHits = 0;
+
+	private long numberOfLookups = 0;
+
+	private ExpressionInterner() {
+		/* empty constructor */
+	}
+
+	public static ExpressionInterner getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Returns the canonical node for the given expression, registering it if
+	 * there is none yet. Expressions containing symbolic variables are returned
+	 * as they are.
+	 * 
+	 * @param expr
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized <E extends Expression<?>> E intern(E expr) {
+		if (expr.containsSymbolicVariable()) {
+			return expr;
+		}
+		numberOfLookups++;
+		InternKey key = new InternKey(expr);
+		Expression<?> canonical = canonicalExpressions.get(key);
+		if (canonical != null) {
+			numberOfHits++;
+			return (E) canonical;
+		}
+		if (canonicalExpressions.size() >= MAX_SIZE) {
+			canonicalExpressions.clear();
+		}
+		canonicalExpressions.put(key, expr);
+		return expr;
+	}
+
+	public synchronized void clear() {
+		canonicalExpressions.clear();
+	}
+
+	public synchronized int size() {
+		return canonicalExpressions.size();
+	}
+
+	public synchronized long getNumberOfLookups() {
+		return numberOfLookups;
+	}
+
+	public synchronized double getHitRate() {
+		return numberOfLookups == 0 ? 0.0 : (double) numberOfHits / (double) numberOfLookups;
+	}
+
+	private static final class InternKey {
+
+		private final Expression<?> expr;
+
+		private final int hash;
+
+		private InternKey(Expression<?> expr) {
+			this.expr = expr;
+			this.hash = 31 * expr.hashCode() + Objects.hashCode(expr.getConcreteValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof InternKey)) {
+				return false;
+			}
+			InternKey other = (InternKey) obj;
+			return hash == other.hash && expr.getClass() == other.expr.getClass()
+					&& Objects.equals(expr.getConcreteValue(), other.expr.getConcreteValue())
+					&& expr.equals(other.expr);
+		}
+	}
+}
@@ -106,7 +106,7 @@ public final class IntegerVariable extends AbstractExpression<Long> implements
 
 	/** {@inheritDoc} */
 	@Override
-	public int hashCode() {
+	protected int computeHashCode() {
 		return name.hashCode();
 	}
 
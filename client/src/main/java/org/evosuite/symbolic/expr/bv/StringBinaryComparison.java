@@ -96,7 +96,7 @@ public final class StringBinaryComparison extends AbstractExpression<Long> imple
 	}
 
 	@Override
-	public int hashCode() {
+	protected int computeHashCode() {
 		return this.left.hashCode() + this.op.hashCode() + this.right.hashCode();
 	}
 
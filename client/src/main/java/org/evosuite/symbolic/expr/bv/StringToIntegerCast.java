@@ -92,7 +92,7 @@ public final class StringToIntegerCast extends AbstractExpression<Long> implemen
 	}
 
 	@Override
-	public int hashCode() {
+	protected int computeHashCode() {
 		return this.expr.hashCode();
 	}
 
@@ -73,7 +73,7 @@ public final class IntegerToStringCast extends AbstractExpression<String> implem
 	}
 
 	@Override
-	public int hashCode() {
+	protected int computeHashCode() {
 		return expr.hashCode();
 	}
 
@@ -0,0 +1,332 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.evosuite.symbolic.expr.Comparator;
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.Expression;
+import org.evosuite.symbolic.expr.ExpressionEvaluator;
+import org.evosuite.symbolic.expr.bv.IntegerConstant;
+import org.evosuite.symbolic.expr.bv.IntegerVariable;
+import org.evosuite.symbolic.expr.constraint.ConstraintEvaluator;
+import org.evosuite.symbolic.expr.constraint.IntegerConstraint;
+import org.evosuite.symbolic.expr.constraint.RealConstraint;
+import org.evosuite.symbolic.expr.fp.RealConstant;
+import org.evosuite.symbolic.vm.ConstraintFactory;
+import org.evosuite.symbolic.vm.ExpressionFactory;
+
+/**
+ * Syntactic simplification of a query before it is looked up in the cache
+ * and sent to a solver. The simplified query has the same solutions as the
+ * original one:
+ * 
+ * <ul>
+ * <li>operands without symbolic variables are folded into constants, and
+ * constraints without symbolic variables are evaluated (true constraints are
+ * removed, a false one makes the query unsatisfiable);</li>
+ * <li>duplicated constraints and reflexive integer comparisons
+ * (<code>e == e</code>, <code>e &lt; e</code>, ...) are removed or decided;</li>
+ * <li>the bounds on each integer variable (<code>x op c</code>) are merged
+ * into an interval, which replaces the implied bounds.</li>
+ * </ul>
+ */
+public abstract class ConstraintSimplifier {
+
+	/**
+	 * Returns the simplified constraints, in their original order. The merged
+	 * bounds of a variable take the place of its first bound.
+	 * 
+	 * @param constraints
+	 * @return the simplified constraints, or <code>null</code> if the
+	 *         constraints were found unsatisfiable
+	 */
+	public static List<Constraint<?>> simplify(Collection<Constraint<?>> constraints) {
+		Set<Constraint<?>> folded = new LinkedHashSet<>();
+		for (Constraint<?> constraint : constraints) {
+			Constraint<?> foldedConstraint = fold(constraint);
+			if (foldedConstraint == null) {
+				return null;
+			}
+			if (foldedConstraint != TRUE) {
+				folded.add(foldedConstraint);
+			}
+		}
+
+		// collect the bounds of the integer variables
+		Map<String, Interval> intervals = new LinkedHashMap<>();
+		for (Constraint<?> constraint : folded) {
+			IntegerConstraint bound = asBound(constraint);
+			if (bound != null && bound.getComparator() != Comparator.NE) {
+				IntegerVariable variable = (IntegerVariable) bound.getLeftOperand();
+				Interval interval = intervals.get(variable.getName());
+				if (interval == null) {
+					interval = new Interval(variable, bound);
+					intervals.put(variable.getName(), interval);
+				}
+				if (!interval.restrict(bound.getComparator(), getValue(bound.getRightOperand()))) {
+					return null;
+				}
+				interval.numberOfBounds++;
+			}
+		}
+
+		List<Constraint<?>> simplified = new ArrayList<>();
+		for (Constraint<?> constraint : folded) {
+			IntegerConstraint bound = asBound(constraint);
+			if (bound == null) {
+				simplified.add(constraint);
+				continue;
+			}
+
+			Interval interval = intervals.get(((IntegerVariable) bound.getLeftOperand()).getName());
+			long value = getValue(bound.getRightOperand());
+			if (bound.getComparator() == Comparator.NE) {
+				if (interval == null) {
+					simplified.add(constraint);
+				} else if (interval.contains(value)) {
+					if (interval.lowerBound == interval.upperBound) {
+						return null;
+					}
+					simplified.add(constraint);
+				}
+				// otherwise implied by the interval
+			} else if (interval.firstBound == bound) {
+				if (interval.numberOfBounds == 1) {
+					if (!interval.isUnbounded()) {
+						simplified.add(constraint);
+					}
+				} else {
+					simplified.addAll(interval.toConstraints());
+				}
+			}
+		}
+		return simplified;
+	}
+
+	/**
+	 * Marks the constraints that are trivially true
+	 */
+	private static final Constraint<?> TRUE = ConstraintFactory.eq(ExpressionFactory.ICONST_0, ExpressionFactory.ICONST_0);
+
+	/**
+	 * Folds the constant operands of the constraint.
+	 * 
+	 * @param constraint
+	 * @return {@link #TRUE} if the constraint always holds, <code>null</code> if
+	 *         it never holds, or the folded constraint
+	 */
+	private static Constraint<?> fold(Constraint<?> constraint) {
+		Expression<?> left = constraint.getLeftOperand();
+		Expression<?> right = constraint.getRightOperand();
+
+		if (!left.containsSymbolicVariable() && !right.containsSymbolicVariable()) {
+			Boolean evaluation = evaluate(constraint);
+			if (evaluation == null) {
+				return constraint;
+			}
+			return evaluation ? TRUE : null;
+		}
+
+		if (constraint instanceof IntegerConstraint) {
+			@SuppressWarnings("unchecked")
+			Expression<Long> foldedLeft = foldInteger((Expression<Long>) left);
+			@SuppressWarnings("unchecked")
+			Expression<Long> foldedRight = foldInteger((Expression<Long>) right);
+
+			if (foldedLeft.equals(foldedRight)) {
+				// e op e
+				switch (constraint.getComparator()) {
+				case EQ:
+				case LE:
+				case GE:
+					return TRUE;
+				default:
+					return null;
+				}
+			}
+			if (foldedLeft instanceof IntegerConstant && foldedRight instanceof IntegerVariable) {
+				// c op x is rewritten as x op' c
+				return new IntegerConstraint(foldedRight, constraint.getComparator().swap(), foldedLeft);
+			}
+			if (foldedLeft != left || foldedRight != right) {
+				return new IntegerConstraint(foldedLeft, constraint.getComparator(), foldedRight);
+			}
+		} else if (constraint instanceof RealConstraint) {
+			@SuppressWarnings("unchecked")
+			Expression<Double> foldedLeft = foldReal((Expression<Double>) left);
+			@SuppressWarnings("unchecked")
+			Expression<Double> foldedRight = foldReal((Expression<Double>) right);
+
+			if (foldedLeft != left || foldedRight != right) {
+				return new RealConstraint(foldedLeft, constraint.getComparator(), foldedRight);
+			}
+		}
+		return constraint;
+	}
+
+	private static Expression<Long> foldInteger(Expression<Long> expression) {
+		if (expression.containsSymbolicVariable() || expression instanceof IntegerConstant) {
+			return expression;
+		}
+		Object value = evaluate(expression);
+		if (!(value instanceof Long)) {
+			return expression;
+		}
+		return ExpressionFactory.buildNewIntegerConstant((Long) value);
+	}
+
+	private static Expression<Double> foldReal(Expression<Double> expression) {
+		if (expression.containsSymbolicVariable() || expression instanceof RealConstant) {
+			return expression;
+		}
+		Object value = evaluate(expression);
+		if (!(value instanceof Double) || ((Double) value).isNaN() || ((Double) value).isInfinite()) {
+			// not representable as a real constant
+			return expression;
+		}
+		return ExpressionFactory.buildNewRealConstant((Double) value);
+	}
+
+	private static Object evaluate(Expression<?> expression) {
+		try {
+			return expression.accept(new ExpressionEvaluator(), null);
+		} catch (RuntimeException ex) {
+			return null;
+		}
+	}
+
+	private static Boolean evaluate(Constraint<?> constraint) {
+		try {
+			return (Boolean) constraint.accept(new ConstraintEvaluator(), null);
+		} catch (RuntimeException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the constraint if it bounds an integer variable by a constant
+	 * (<code>x op c</code>, constants are moved to the right while folding),
+	 * otherwise <code>null</code>.
+	 * 
+	 * @param constraint
+	 * @return
+	 */
+	private static IntegerConstraint asBound(Constraint<?> constraint) {
+		if (!(constraint instanceof IntegerConstraint)) {
+			return null;
+		}
+		IntegerConstraint integerConstraint = (IntegerConstraint) constraint;
+		Expression<?> left = integerConstraint.getLeftOperand();
+		Expression<?> right = integerConstraint.getRightOperand();
+		if (left instanceof IntegerVariable && right instanceof IntegerConstant) {
+			return integerConstraint;
+		}
+		return null;
+	}
+
+	private static long getValue(Expression<?> constant) {
+		return ((IntegerConstant) constant).getConcreteValue();
+	}
+
+	/**
+	 * The values allowed for an integer variable by its bounds
+	 */
+	private static final class Interval {
+		private final IntegerVariable variable;
+		private final IntegerConstraint firstBound;
+		private long lowerBound = Long.MIN_VALUE;
+		private long upperBound = Long.MAX_VALUE;
+		private int numberOfBounds = 0;
+
+		private Interval(IntegerVariable variable, IntegerConstraint firstBound) {
+			this.variable = variable;
+			this.firstBound = firstBound;
+		}
+
+		/**
+		 * Intersects the interval with the values satisfying
+		 * <code>x cmp value</code>.
+		 * 
+		 * @param cmp
+		 * @param value
+		 * @return false if the interval becomes empty
+		 */
+		private boolean restrict(Comparator cmp, long value) {
+			switch (cmp) {
+			case EQ:
+				lowerBound = Math.max(lowerBound, value);
+				upperBound = Math.min(upperBound, value);
+				break;
+			case LT:
+				if (value == Long.MIN_VALUE) {
+					return false;
+				}
+				upperBound = Math.min(upperBound, value - 1);
+				break;
+			case LE:
+				upperBound = Math.min(upperBound, value);
+				break;
+			case GT:
+				if (value == Long.MAX_VALUE) {
+					return false;
+				}
+				lowerBound = Math.max(lowerBound, value + 1);
+				break;
+			case GE:
+				lowerBound = Math.max(lowerBound, value);
+				break;
+			default:
+				throw new IllegalArgumentException("Not a bound comparator: " + cmp);
+			}
+			return lowerBound <= upperBound;
+		}
+
+		private boolean contains(long value) {
+			return lowerBound <= value && value <= upperBound;
+		}
+
+		private boolean isUnbounded() {
+			return lowerBound == Long.MIN_VALUE && upperBound == Long.MAX_VALUE;
+		}
+
+		private List<Constraint<?>> toConstraints() {
+			List<Constraint<?>> constraints = new ArrayList<>();
+			if (lowerBound == upperBound) {
+				constraints.add(ConstraintFactory.eq(variable, ExpressionFactory.buildNewIntegerConstant(lowerBound)));
+				return constraints;
+			}
+			if (lowerBound != Long.MIN_VALUE) {
+				constraints.add(ConstraintFactory.gte(variable, ExpressionFactory.buildNewIntegerConstant(lowerBound)));
+			}
+			if (upperBound != Long.MAX_VALUE) {
+				constraints.add(ConstraintFactory.lte(variable, ExpressionFactory.buildNewIntegerConstant(upperBound)));
+			}
+			return constraints;
+		}
+	}
+}
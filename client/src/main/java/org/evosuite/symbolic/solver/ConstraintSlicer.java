@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.Variable;
+import org.evosuite.symbolic.expr.constraint.ConstraintEvaluator;
+
+/**
+ * Constraint independence slicing.
+ * 
+ * The constraints of a query are partitioned into components that do not
+ * share any variable. A component whose constraints are all satisfied by the
+ * current concrete values of its variables does not need to be sent to the
+ * solver: those concrete values can be reused in the solution. Only the
+ * components containing an unsatisfied constraint (e.g. the negated branch
+ * condition) are kept.
+ */
+public abstract class ConstraintSlicer {
+
+	/**
+	 * Returns the constraints belonging to a component with at least one
+	 * constraint that is not satisfied by the current concrete values, in their
+	 * original order. If every constraint is satisfied, all constraints are
+	 * returned.
+	 * 
+	 * @param constraints
+	 * @return
+	 */
+	public static List<Constraint<?>> slice(Collection<Constraint<?>> constraints) {
+		List<Constraint<?>> constraintList = new ArrayList<>(constraints);
+		int[] parent = new int[constraintList.size()];
+		for (int i = 0; i < parent.length; i++) {
+			parent[i] = i;
+		}
+
+		Map<String, Integer> constraintOfVariable = new HashMap<>();
+		for (int i = 0; i < constraintList.size(); i++) {
+			for (Variable<?> v : constraintList.get(i).getVariables()) {
+				Integer other = constraintOfVariable.putIfAbsent(v.getName(), i);
+				if (other != null) {
+					union(parent, i, other);
+				}
+			}
+		}
+
+		boolean[] relevant = new boolean[parent.length];
+		boolean anyRelevant = false;
+		ConstraintEvaluator evaluator = new ConstraintEvaluator();
+		synchronized (Solver.CONCRETE_VALUES_LOCK) {
+			for (int i = 0; i < constraintList.size(); i++) {
+				if (!isSatisfied(constraintList.get(i), evaluator)) {
+					relevant[find(parent, i)] = true;
+					anyRelevant = true;
+				}
+			}
+		}
+
+		if (!anyRelevant) {
+			return constraintList;
+		}
+
+		List<Constraint<?>> slice = new ArrayList<>();
+		for (int i = 0; i < constraintList.size(); i++) {
+			if (relevant[find(parent, i)]) {
+				slice.add(constraintList.get(i));
+			}
+		}
+		return slice;
+	}
+
+	private static boolean isSatisfied(Constraint<?> constraint, ConstraintEvaluator evaluator) {
+		try {
+			Boolean evaluation = (Boolean) constraint.accept(evaluator, null);
+			return Boolean.TRUE.equals(evaluation);
+		} catch (RuntimeException ex) {
+			// constraints that cannot be evaluated concretely are always solved
+			return false;
+		}
+	}
+
+	private static int find(int[] parent, int i) {
+		while (parent[i] != i) {
+			parent[i] = parent[parent[i]];
+			i = parent[i];
+		}
+		return i;
+	}
+
+	private static void union(int[] parent, int i, int j) {
+		int rootI = find(parent, i);
+		int rootJ = find(parent, j);
+		if (rootI != rootJ) {
+			parent[Math.max(rootI, rootJ)] = Math.min(rootI, rootJ);
+		}
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import java.util.Map;
+
+import org.evosuite.symbolic.solver.smt.SmtQuery;
+
+/**
+ * A solver running inside the client JVM. Backends work on the
+ * {@link org.evosuite.symbolic.solver.smt.SmtExpr} trees of the query
+ * directly, so no SMT-LIB text is printed, piped to a process and parsed
+ * back.
+ * 
+ * Implementations need a public no-argument constructor (see
+ * {@link org.evosuite.Properties#DSE_IN_PROCESS_BACKEND}) and must be
+ * stateless, as queries may be solved concurrently.
+ */
+public interface InProcessSolverBackend {
+
+	/**
+	 * @return a short name of the backend, used for logging
+	 */
+	String getName();
+
+	/**
+	 * @param query
+	 * @return true if every assertion of the query can be handled by this
+	 *         backend
+	 */
+	boolean supports(SmtQuery query);
+
+	/**
+	 * Solves the assertions of the query.
+	 * 
+	 * @param query
+	 *            a query accepted by {@link #supports(SmtQuery)}
+	 * @param initialValues
+	 *            the current concrete values of the variables, which may be
+	 *            used as a starting point
+	 * @param timeoutMillis
+	 * @return a SAT result with a value for every variable of the query, an
+	 *         UNSAT result, or an unknown result if the backend could not
+	 *         decide the query
+	 */
+	SolverResult solve(SmtQuery query, Map<String, Object> initialValues, long timeoutMillis);
+}
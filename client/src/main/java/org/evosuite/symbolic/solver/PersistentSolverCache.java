@@ -0,0 +1,294 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.evosuite.Properties;
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.Variable;
+import org.evosuite.symbolic.solver.smt.SmtExpr;
+import org.evosuite.symbolic.solver.smt.SmtExprPrinter;
+import org.evosuite.symbolic.solver.z3.ConstraintToZ3Visitor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Solver results stored on disk, so that they survive the client process and
+ * can be shared by parallel clients and successive runs (e.g. Continuous
+ * Test Generation jobs on the same project).
+ * 
+ * The store is an append-only text file with one line per query:
+ * <code>&lt;query hash&gt; &lt;serialized result&gt;</code>. The query hash is
+ * the SHA-256 of a canonical SMT-LIB text of the query: the sorted assertions
+ * and the types and bounds of the variables. It does not depend on the
+ * concrete values of the variables or on the order in which the constraints
+ * were collected. Queries that cannot be translated to SMT-LIB are not
+ * stored. Appends are done under a file lock; entries appended by other
+ * processes are picked up on cache misses.
+ */
+public final class PersistentSolverCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(PersistentSolverCache.class);
+
+	public static final String CACHE_FILE_NAME = "dse-solver-cache.txt";
+
+	private static PersistentSolverCache instance = null;
+
+	private final File file;
+
+	private final Map<String, SolverResult> results = new HashMap<>();
+
+	/**
+	 * Position in the file up to which entries were already loaded
+	 */
+	private long loadedBytes = 0;
+
+	private boolean disabled = false;
+
+	private int numberOfLookups = 0;
+
+	private int numberOfHits = 0;
+
+	public PersistentSolverCache(File file) {
+		this.file = file;
+	}
+
+	/**
+	 * Returns the store located in the Continuous Test Generation directory
+	 * 
+	 * @return
+	 */
+	public static synchronized PersistentSolverCache getInstance() {
+		if (instance == null) {
+			instance = new PersistentSolverCache(new File(Properties.CTG_DIR, CACHE_FILE_NAME));
+		}
+		return instance;
+	}
+
+	/**
+	 * Returns the stored result for the constraints, or null if there is none.
+	 * 
+	 * @param constraints
+	 * @return
+	 */
+	public synchronized SolverResult getResult(Collection<Constraint<?>> constraints) {
+		if (disabled) {
+			return null;
+		}
+		numberOfLookups++;
+		String key = computeKey(constraints);
+		if (key == null) {
+			return null;
+		}
+		SolverResult result = results.get(key);
+		if (result == null && file.length() > loadedBytes) {
+			load();
+			result = results.get(key);
+		}
+		if (result != null) {
+			numberOfHits++;
+		}
+		return result;
+	}
+
+	/**
+	 * Appends the result for the constraints to the store. Unknown results and
+	 * UNSAT results derived from invalid models are not stored, as they may not
+	 * hold in later runs.
+	 * 
+	 * @param constraints
+	 * @param result
+	 */
+	public synchronized void saveResult(Collection<Constraint<?>> constraints, SolverResult result) {
+		if (disabled || result.isUnknown() || result.isUNSATFromInvalidModel()) {
+			return;
+		}
+		String key = computeKey(constraints);
+		if (key == null || results.containsKey(key)) {
+			return;
+		}
+		results.put(key, result);
+
+		byte[] line = (key + " " + serialize(result) + "\n").getBytes(StandardCharsets.UTF_8);
+		File parent = file.getAbsoluteFile().getParentFile();
+		if (parent != null && !parent.exists()) {
+			parent.mkdirs();
+		}
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw");
+				FileChannel channel = raf.getChannel();
+				FileLock lock = channel.lock()) {
+			channel.position(channel.size());
+			channel.write(ByteBuffer.wrap(line));
+		} catch (IOException e) {
+			disable(e);
+		}
+	}
+
+	/**
+	 * Reads the entries appended since the last load
+	 */
+	private void load() {
+		byte[] content;
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw");
+				FileChannel channel = raf.getChannel();
+				FileLock lock = channel.lock()) {
+			long size = channel.size();
+			content = new byte[(int) (size - loadedBytes)];
+			ByteBuffer buffer = ByteBuffer.wrap(content);
+			channel.position(loadedBytes);
+			while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+				// keep reading
+			}
+		} catch (IOException e) {
+			disable(e);
+			return;
+		}
+
+		int lineStart = 0;
+		for (int i = 0; i < content.length; i++) {
+			if (content[i] != '\n') {
+				continue;
+			}
+			String line = new String(content, lineStart, i - lineStart, StandardCharsets.UTF_8);
+			lineStart = i + 1;
+			int separator = line.indexOf(' ');
+			if (separator <= 0) {
+				continue;
+			}
+			SolverResult result = deserialize(line.substring(separator + 1));
+			if (result != null) {
+				results.putIfAbsent(line.substring(0, separator), result);
+			}
+		}
+		loadedBytes += lineStart;
+	}
+
+	private void disable(IOException e) {
+		logger.warn("Persistent solver cache {} disabled: {}", file, e.getMessage());
+		disabled = true;
+	}
+
+	/**
+	 * Hash of the canonical SMT-LIB text of the constraints
+	 * 
+	 * @param constraints
+	 * @return null if a constraint cannot be translated to SMT-LIB
+	 */
+	public static String computeKey(Collection<Constraint<?>> constraints) {
+		String canonicalQuery = buildCanonicalQuery(constraints);
+		if (canonicalQuery == null) {
+			return null;
+		}
+
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		digest.update(canonicalQuery.getBytes(StandardCharsets.UTF_8));
+
+		StringBuilder key = new StringBuilder();
+		for (byte b : digest.digest()) {
+			key.append(String.format("%02x", b));
+		}
+		return key.toString();
+	}
+
+	/**
+	 * Textual form of the query that only depends on its logical content. The
+	 * constraints are translated to SMT-LIB, with constants printed
+	 * exactly, and each variable is declared with its type and bounds. Lines
+	 * are sorted so that the order of the constraints does not matter.
+	 * 
+	 * @param constraints
+	 * @return null if a constraint cannot be translated to SMT-LIB
+	 */
+	static String buildCanonicalQuery(Collection<Constraint<?>> constraints) {
+		ConstraintToZ3Visitor translator = new ConstraintToZ3Visitor();
+		SmtExprPrinter printer = new SmtExprPrinter(true);
+
+		Set<String> lines = new TreeSet<>();
+		for (Constraint<?> constraint : constraints) {
+			SmtExpr smtExpr = constraint.accept(translator, null);
+			if (smtExpr == null) {
+				return null;
+			}
+			lines.add("(assert " + smtExpr.accept(printer, null) + ")");
+
+			for (Variable<?> variable : constraint.getVariables()) {
+				lines.add("(declare " + variable.getName() + " " + variable.getClass().getSimpleName() + " "
+						+ variable.getMinValue() + " " + variable.getMaxValue() + ")");
+			}
+		}
+		return String.join("\n", lines);
+	}
+
+	private static String serialize(SolverResult result) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(result);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+		return Base64.getEncoder().encodeToString(bytes.toByteArray());
+	}
+
+	private static SolverResult deserialize(String encoded) {
+		try (ObjectInputStream in = new ObjectInputStream(
+				new ByteArrayInputStream(Base64.getDecoder().decode(encoded)))) {
+			return (SolverResult) in.readObject();
+		} catch (IOException | ClassNotFoundException | IllegalArgumentException | ClassCastException e) {
+			logger.debug("Skipping unreadable persistent solver cache entry");
+			return null;
+		}
+	}
+
+	public synchronized int size() {
+		return results.size();
+	}
+
+	public synchronized int getNumberOfLookups() {
+		return numberOfLookups;
+	}
+
+	public synchronized double getHitRate() {
+		return numberOfLookups == 0 ? 0.0 : (double) numberOfHits / (double) numberOfLookups;
+	}
+}
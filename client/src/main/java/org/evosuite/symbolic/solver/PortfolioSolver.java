@@ -0,0 +1,256 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.SerializationException;
+import org.apache.commons.lang3.SerializationUtils;
+import org.evosuite.Properties;
+import org.evosuite.symbolic.dse.DSEStatistics;
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.Variable;
+import org.evosuite.symbolic.expr.constraint.RealConstraint;
+import org.evosuite.symbolic.expr.constraint.StringConstraint;
+import org.evosuite.symbolic.expr.fp.RealVariable;
+import org.evosuite.symbolic.solver.avm.EvoSuiteSolver;
+import org.evosuite.symbolic.solver.cvc4.CVC4Solver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Races the local search ({@link EvoSuiteSolver}) against an external SMT
+ * solver, and keeps the first decisive answer. The outcome of the races is
+ * reported to {@link DSEStatistics} for each {@link QueryShape}; once a
+ * backend wins almost all the races of a shape, the queries of that shape are
+ * sent to it alone, except for one query out of
+ * {@link Properties#DSE_PORTFOLIO_LEARNING_RACES} that is still raced.
+ *
+ * Both backends run in the background. The local search changes the concrete
+ * values of the variables it searches, so it works on a copy of the
+ * constraints and the SMT solver keeps using the original variables. The
+ * backend that loses the race is interrupted, which stops the local search
+ * and kills the solver process.
+ */
+public final class PortfolioSolver extends Solver {
+
+	static Logger logger = LoggerFactory.getLogger(PortfolioSolver.class);
+
+	/**
+	 * The kind of constraints in a query
+	 */
+	public enum QueryShape {
+		STRING, REAL, LINEAR_INTEGER, NON_LINEAR_INTEGER;
+
+		public static QueryShape of(Collection<Constraint<?>> constraints) {
+			boolean hasReals = false;
+			for (Constraint<?> constraint : constraints) {
+				if (constraint instanceof StringConstraint) {
+					return STRING;
+				}
+				if (constraint instanceof RealConstraint) {
+					hasReals = true;
+				}
+			}
+			if (hasReals) {
+				return REAL;
+			}
+			for (Variable<?> variable : getVariables(constraints)) {
+				if (variable instanceof RealVariable) {
+					return REAL;
+				}
+			}
+			return CVC4Solver.hasNonLinearConstraints(constraints) ? NON_LINEAR_INTEGER : LINEAR_INTEGER;
+		}
+	}
+
+	public enum Backend {
+		LOCAL_SEARCH, SMT;
+	}
+
+	/**
+	 * Share of the races a backend has to win before it solves the queries of
+	 * that shape alone
+	 */
+	private static final double DOMINANCE_THRESHOLD = 0.9;
+
+	private static final ExecutorService raceExecutor = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = new Thread(runnable, "DSE-portfolio");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final Solver smtSolver;
+
+	private final Map<QueryShape, Integer> queriesPerShape = new EnumMap<>(QueryShape.class);
+
+	public PortfolioSolver(Solver smtSolver) {
+		super();
+		this.smtSolver = smtSolver;
+	}
+
+	@Override
+	public SolverResult executeSolver(Collection<Constraint<?>> constraints) throws SolverTimeoutException,
+			IOException, SolverParseException, SolverEmptyQueryException, SolverErrorException {
+
+		long timeout = Properties.DSE_CONSTRAINT_SOLVER_TIMEOUT_MILLIS;
+		long deadline = System.currentTimeMillis() + timeout;
+
+		QueryShape shape = QueryShape.of(constraints);
+		Backend backend = selectBackend(shape);
+		if (backend == Backend.SMT) {
+			logger.debug("Solving {} query with the SMT solver", shape);
+			return smtSolver.executeSolver(constraints);
+		}
+		if (backend == Backend.LOCAL_SEARCH) {
+			logger.debug("Solving {} query with the local search", shape);
+			SolverResult result = solveWithLocalSearch(constraints, timeout);
+			if (result != null && result.isSAT()) {
+				return result;
+			}
+			// the local search cannot prove a query unsatisfiable
+			return smtSolver.executeSolver(constraints);
+		}
+
+		logger.debug("Racing the local search against the SMT solver on {} query", shape);
+		long localSearchBudget = (long) (timeout * Properties.DSE_PORTFOLIO_LOCAL_SEARCH_SHARE);
+		CompletionService<SolverResult> race = new ExecutorCompletionService<>(raceExecutor);
+		Future<SolverResult> smtFuture = race.submit(() -> smtSolver.executeSolver(constraints));
+		Future<SolverResult> localSearchFuture = race.submit(() -> solveWithLocalSearch(constraints, localSearchBudget));
+
+		SolverResult smtResult = null;
+		Throwable smtFailure = null;
+		try {
+			for (int finished = 0; finished < 2; finished++) {
+				long remainingMillis = Math.max(0, deadline - System.currentTimeMillis());
+				Future<SolverResult> first = race.poll(remainingMillis, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					DSEStatistics.getInstance().reportPortfolioRace(shape, null);
+					throw new SolverTimeoutException();
+				}
+
+				if (first == localSearchFuture) {
+					SolverResult localSearchResult = first.get();
+					if (localSearchResult != null && localSearchResult.isSAT()) {
+						DSEStatistics.getInstance().reportPortfolioRace(shape, Backend.LOCAL_SEARCH);
+						return localSearchResult;
+					}
+				} else {
+					try {
+						smtResult = first.get();
+					} catch (ExecutionException e) {
+						smtFailure = e.getCause();
+						continue;
+					}
+					if (smtResult != null && !smtResult.isUnknown()) {
+						DSEStatistics.getInstance().reportPortfolioRace(shape, Backend.SMT);
+						return smtResult;
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SolverTimeoutException();
+		} catch (ExecutionException e) {
+			// the local search does not throw
+			throw new SolverErrorException(String.valueOf(e.getCause()));
+		} finally {
+			// stops the loser, or both backends on a timeout
+			smtFuture.cancel(true);
+			localSearchFuture.cancel(true);
+		}
+
+		DSEStatistics.getInstance().reportPortfolioRace(shape, null);
+		if (smtFailure instanceof SolverTimeoutException) {
+			throw (SolverTimeoutException) smtFailure;
+		} else if (smtFailure instanceof SolverParseException) {
+			throw (SolverParseException) smtFailure;
+		} else if (smtFailure instanceof SolverEmptyQueryException) {
+			throw (SolverEmptyQueryException) smtFailure;
+		} else if (smtFailure instanceof SolverErrorException) {
+			throw (SolverErrorException) smtFailure;
+		} else if (smtFailure instanceof IOException) {
+			throw (IOException) smtFailure;
+		} else if (smtFailure != null) {
+			throw new SolverErrorException(String.valueOf(smtFailure));
+		}
+		return smtResult;
+	}
+
+	/**
+	 * @param shape
+	 * @return the backend that should solve the next query of this shape
+	 *         alone, or null if both backends should race
+	 */
+	Backend selectBackend(QueryShape shape) {
+		int queries = queriesPerShape.merge(shape, 1, Integer::sum);
+		int learningRaces = Properties.DSE_PORTFOLIO_LEARNING_RACES;
+
+		DSEStatistics statistics = DSEStatistics.getInstance();
+		long races = statistics.getPortfolioRaces(shape);
+		if (races < learningRaces || queries % learningRaces == 0) {
+			return null;
+		}
+		for (Backend backend : Backend.values()) {
+			double winRate = (double) statistics.getPortfolioWins(shape, backend) / races;
+			if (winRate >= DOMINANCE_THRESHOLD) {
+				return backend;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Runs the local search on a copy of the constraints, so that the concrete
+	 * values of the original variables are only read while copying them.
+	 * 
+	 * @return the result of the local search, or null if it timed out, was
+	 *         interrupted or the constraints could not be copied
+	 */
+	private static SolverResult solveWithLocalSearch(Collection<Constraint<?>> constraints, long budgetMillis) {
+		ArrayList<Constraint<?>> copiedConstraints;
+		try {
+			synchronized (CONCRETE_VALUES_LOCK) {
+				copiedConstraints = SerializationUtils.clone(new ArrayList<>(constraints));
+			}
+		} catch (SerializationException e) {
+			logger.debug("Constraints cannot be copied for the local search: {}", e.getMessage());
+			return null;
+		}
+
+		try {
+			return new EvoSuiteSolver(budgetMillis).executeSolver(copiedConstraints);
+		} catch (SolverTimeoutException | SolverEmptyQueryException e) {
+			return null;
+		}
+	}
+
+}
@@ -24,6 +24,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 
 import org.apache.commons.exec.ExecuteException;
+import org.evosuite.symbolic.solver.smt.SmtQuery;
 import org.evosuite.utils.ProcessLauncher;
 import org.evosuite.utils.ProcessTimeoutException;
 
@@ -82,4 +83,31 @@ public abstract class SmtSolver extends Solver {
 
 	}
 
+	/**
+	 * Sends the query to a running solver session instead of launching a new
+	 * process. Only the assertions that differ from the previous query solved
+	 * by that session are sent.
+	 * 
+	 * @param solverCmd
+	 *            command launching the solver in interactive mode
+	 * @param query
+	 * @param hardTimeout
+	 * @return the solver output
+	 * @throws IOException
+	 * @throws SolverTimeoutException
+	 */
+	protected static String solveInSession(String solverCmd, SmtQuery query, long hardTimeout)
+			throws IOException, SolverTimeoutException {
+		SmtSolverSessionPool pool = SmtSolverSessionPool.getInstance();
+		SmtSolverSession session = pool.acquire(solverCmd);
+		long solver_start_time_millis = System.currentTimeMillis();
+		try {
+			return session.solve(query, hardTimeout);
+		} finally {
+			pool.release(session);
+			long solver_duration_millis = System.currentTimeMillis() - solver_start_time_millis;
+			logger.debug("Solver session execution time was {}ms", solver_duration_millis);
+		}
+	}
+
 }
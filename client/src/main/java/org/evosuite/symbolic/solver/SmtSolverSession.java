@@ -0,0 +1,467 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.exec.CommandLine;
+import org.evosuite.symbolic.solver.smt.SmtAssertion;
+import org.evosuite.symbolic.solver.smt.SmtConstantDeclaration;
+import org.evosuite.symbolic.solver.smt.SmtFunctionDeclaration;
+import org.evosuite.symbolic.solver.smt.SmtFunctionDefinition;
+import org.evosuite.symbolic.solver.smt.SmtQuery;
+import org.evosuite.symbolic.solver.smt.SmtQueryPrinter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A long-lived SMT solver process that is fed queries incrementally.
+ * 
+ * Every assertion is sent inside its own <code>(push 1)</code> frame. When a
+ * new query arrives, the frames belonging to the longest common prefix with
+ * the previous query are kept, the remaining ones are popped, and only the
+ * differing suffix is asserted. Since the path conditions explored by DSE
+ * usually share a long prefix, this avoids both the process start-up and most
+ * of the parsing work done by the solver.
+ * 
+ * The output of {@link #solve(SmtQuery, long)} has the same shape as the
+ * output of a one-shot solver process, so it can be handed to the existing
+ * model parsers unchanged. Declarations are global to the session, so the
+ * solver also reports the symbols of earlier queries in its models; they are
+ * removed from the output.
+ * 
+ * A session is not thread-safe; use {@link SmtSolverSessionPool} to share
+ * sessions.
+ */
+public final class SmtSolverSession {
+
+	private static final Logger logger = LoggerFactory.getLogger(SmtSolverSession.class);
+
+	private static final String END_MARKER = "evosuite-end-of-response";
+
+	/**
+	 * Placed in the line queue by the reader thread once the solver closes its
+	 * output
+	 */
+	private static final String END_OF_STREAM = new String("<end-of-stream>");
+
+	private final String solverCmd;
+
+	private final Process process;
+
+	private final Writer stdin;
+
+	private final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+
+	private final SmtQueryPrinter printer = new SmtQueryPrinter();
+
+	/**
+	 * Header (logic and options) currently in effect in the solver
+	 */
+	private String header = null;
+
+	/**
+	 * Whether any command was sent to the solver yet
+	 */
+	private boolean started = false;
+
+	/**
+	 * Declarations and definitions sent so far, indexed by symbol name
+	 */
+	private final Map<String, String> declarations = new HashMap<>();
+
+	/**
+	 * Assertions currently asserted, one push frame each
+	 */
+	private final List<String> assertionStack = new ArrayList<>();
+
+	private boolean alive = true;
+
+	private int numberOfQueries = 0;
+
+	private long numberOfAssertionsSent = 0;
+
+	private long numberOfAssertionsReused = 0;
+
+	/**
+	 * Launches a new solver process. The command must start the solver in
+	 * interactive mode reading SMT-LIB commands from the standard input.
+	 * 
+	 * @param solverCmd
+	 * @throws IOException
+	 */
+	public SmtSolverSession(String solverCmd) throws IOException {
+		this.solverCmd = solverCmd;
+		String[] cmdLine = CommandLine.parse(solverCmd).toStrings();
+		logger.debug("Launching solver session: {}", Arrays.toString(cmdLine));
+		ProcessBuilder builder = new ProcessBuilder(cmdLine);
+		builder.redirectErrorStream(true);
+		this.process = builder.start();
+		this.stdin = new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8);
+
+		Thread reader = new Thread(this::readOutput, "SmtSolverSession-reader");
+		reader.setDaemon(true);
+		reader.start();
+	}
+
+	private void readOutput() {
+		try (BufferedReader stdout = new BufferedReader(
+				new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = stdout.readLine()) != null) {
+				lines.add(line);
+			}
+		} catch (IOException e) {
+			logger.debug("Solver session output closed: {}", e.getMessage());
+		} finally {
+			lines.add(END_OF_STREAM);
+		}
+	}
+
+	/**
+	 * Solves the query reusing the assertions that the previous query left
+	 * on the solver's assertion stack.
+	 * 
+	 * @param query
+	 * @param hardTimeout
+	 *            maximum time in milliseconds to wait for the solver
+	 * @return the solver output, formatted as if the query had been sent to a
+	 *         new solver process
+	 * @throws IOException
+	 *             if the solver process is no longer usable
+	 * @throws SolverTimeoutException
+	 *             if the solver did not answer within the timeout. The process
+	 *             is killed.
+	 */
+	public String solve(SmtQuery query, long hardTimeout) throws IOException, SolverTimeoutException {
+		if (!alive) {
+			throw new IOException("Solver session was already closed");
+		}
+		numberOfQueries++;
+		long deadline = System.currentTimeMillis() + hardTimeout;
+
+		StringBuilder commands = new StringBuilder();
+
+		String queryHeader = printHeader(query);
+		if (!queryHeader.equals(header) || hasConflictingDeclarations(query)) {
+			reset(commands, queryHeader);
+		}
+
+		addDeclarations(query, commands);
+
+		List<String> assertions = new ArrayList<>(query.getAssertions().size());
+		for (SmtAssertion assertion : query.getAssertions()) {
+			assertions.add(printer.print(assertion));
+		}
+
+		int common = 0;
+		while (common < assertions.size() && common < assertionStack.size()
+				&& assertions.get(common).equals(assertionStack.get(common))) {
+			common++;
+		}
+
+		int framesToPop = assertionStack.size() - common;
+		if (framesToPop > 0) {
+			commands.append("(pop ").append(framesToPop).append(")\n");
+			assertionStack.subList(common, assertionStack.size()).clear();
+		}
+		for (int i = common; i < assertions.size(); i++) {
+			String assertion = assertions.get(i);
+			commands.append("(push 1)\n");
+			commands.append(assertion).append("\n");
+			assertionStack.add(assertion);
+		}
+		numberOfAssertionsReused += common;
+		numberOfAssertionsSent += assertions.size() - common;
+
+		commands.append("(check-sat)\n");
+		String response = send(commands, deadline);
+
+		if (!response.trim().startsWith("sat")) {
+			if (response.contains("(error")) {
+				// the solver state can no longer be trusted
+				header = null;
+			}
+			return response;
+		}
+
+		StringBuilder getModel = new StringBuilder();
+		getModel.append("(get-model)\n");
+		String model = send(getModel, deadline);
+		return response + "\n" + filterModel(model, getDeclaredSymbols(query));
+	}
+
+	private static Set<String> getDeclaredSymbols(SmtQuery query) {
+		Set<String> symbols = new HashSet<>();
+		for (SmtConstantDeclaration decl : query.getConstantDeclarations()) {
+			symbols.add(decl.getConstantName());
+		}
+		for (SmtFunctionDeclaration decl : query.getFunctionDeclarations()) {
+			symbols.add(decl.getFunctionName());
+		}
+		for (SmtFunctionDefinition def : query.getFunctionDefinitions()) {
+			symbols.add(getDefinedName(def));
+		}
+		return symbols;
+	}
+
+	/**
+	 * Removes the definitions of symbols other than the given ones from a
+	 * model printed by <code>(get-model)</code>, keeping the rest of the
+	 * output as it is
+	 * 
+	 * @param model
+	 * @param symbols
+	 *            the symbols declared by the current query
+	 * @return the filtered model
+	 */
+	static String filterModel(String model, Set<String> symbols) {
+		StringBuilder filtered = new StringBuilder(model.length());
+		int depth = 0;
+		int entryStart = -1;
+		boolean inString = false;
+		boolean inQuotedSymbol = false;
+		for (int i = 0; i < model.length(); i++) {
+			char ch = model.charAt(i);
+			if (inString) {
+				inString = ch != '"';
+			} else if (inQuotedSymbol) {
+				inQuotedSymbol = ch != '|';
+			} else if (ch == '"') {
+				inString = true;
+			} else if (ch == '|') {
+				inQuotedSymbol = true;
+			} else if (ch == '(') {
+				depth++;
+				if (depth == 2) {
+					entryStart = i;
+				}
+			} else if (ch == ')') {
+				depth--;
+				if (depth == 1 && entryStart >= 0) {
+					String entry = model.substring(entryStart, i + 1);
+					String symbol = getModelEntrySymbol(entry);
+					if (symbol == null || symbols.contains(symbol)) {
+						filtered.append(entry);
+					}
+					entryStart = -1;
+					continue;
+				}
+			}
+			if (entryStart < 0) {
+				filtered.append(ch);
+			}
+		}
+		if (entryStart >= 0) {
+			// unbalanced output, leave it to the model parser
+			filtered.append(model, entryStart, model.length());
+		}
+		return filtered.toString();
+	}
+
+	/**
+	 * @return the symbol defined by a <code>define-fun</code> entry of a
+	 *         model, or null for any other entry
+	 */
+	private static String getModelEntrySymbol(String entry) {
+		String[] tokens = entry.substring(1).trim().split("[\\s()]+", 3);
+		if (tokens.length < 2 || !tokens[0].startsWith("define-fun")) {
+			return null;
+		}
+		String symbol = tokens[1];
+		if (symbol.length() > 1 && symbol.startsWith("|") && symbol.endsWith("|")) {
+			symbol = symbol.substring(1, symbol.length() - 1);
+		}
+		return symbol;
+	}
+
+	private String printHeader(SmtQuery query) {
+		StringBuilder buff = new StringBuilder();
+		buff.append("(set-option :print-success false)\n");
+		buff.append("(set-option :global-declarations true)\n");
+		if (query.hasLogic()) {
+			buff.append("(set-logic ").append(query.getLogic()).append(")\n");
+		}
+		for (String optionName : query.getOptions()) {
+			String optionValue = query.getOptionValue(optionName);
+			buff.append(String.format("(set-option %s %s)\n", optionName, optionValue));
+		}
+		return buff.toString();
+	}
+
+	private void reset(StringBuilder commands, String queryHeader) {
+		if (started) {
+			commands.append("(reset)\n");
+		}
+		started = true;
+		commands.append(queryHeader);
+		header = queryHeader;
+		declarations.clear();
+		assertionStack.clear();
+	}
+
+	private boolean hasConflictingDeclarations(SmtQuery query) {
+		for (SmtConstantDeclaration decl : query.getConstantDeclarations()) {
+			if (conflicts(decl.getConstantName(), printer.print(decl))) {
+				return true;
+			}
+		}
+		for (SmtFunctionDeclaration decl : query.getFunctionDeclarations()) {
+			if (conflicts(decl.getFunctionName(), printer.print(decl))) {
+				return true;
+			}
+		}
+		for (SmtFunctionDefinition def : query.getFunctionDefinitions()) {
+			if (conflicts(getDefinedName(def), printer.print(def))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean conflicts(String name, String declaration) {
+		String previous = declarations.get(name);
+		return previous != null && !previous.equals(declaration);
+	}
+
+	private void addDeclarations(SmtQuery query, StringBuilder commands) {
+		for (SmtConstantDeclaration decl : query.getConstantDeclarations()) {
+			addDeclaration(decl.getConstantName(), printer.print(decl), commands);
+		}
+		for (SmtFunctionDeclaration decl : query.getFunctionDeclarations()) {
+			addDeclaration(decl.getFunctionName(), printer.print(decl), commands);
+		}
+		for (SmtFunctionDefinition def : query.getFunctionDefinitions()) {
+			addDeclaration(getDefinedName(def), printer.print(def), commands);
+		}
+	}
+
+	private void addDeclaration(String name, String declaration, StringBuilder commands) {
+		if (!declarations.containsKey(name)) {
+			declarations.put(name, declaration);
+			commands.append(declaration).append("\n");
+		}
+	}
+
+	private static String getDefinedName(SmtFunctionDefinition def) {
+		String str = def.getFunctionDefinition().trim();
+		int end = 0;
+		while (end < str.length() && str.charAt(end) != '(' && !Character.isWhitespace(str.charAt(end))) {
+			end++;
+		}
+		return str.substring(0, end);
+	}
+
+	/**
+	 * Sends the commands followed by an echo of the end marker, and collects
+	 * the output produced until the marker is read back.
+	 */
+	private String send(StringBuilder commands, long deadline) throws IOException, SolverTimeoutException {
+		commands.append("(echo \"").append(END_MARKER).append("\")\n");
+		try {
+			stdin.write(commands.toString());
+			stdin.flush();
+		} catch (IOException e) {
+			close();
+			throw e;
+		}
+
+		StringBuilder response = new StringBuilder();
+		while (true) {
+			long remaining = deadline - System.currentTimeMillis();
+			String line;
+			try {
+				line = remaining > 0 ? lines.poll(remaining, TimeUnit.MILLISECONDS) : null;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				close();
+				throw new IOException("Interrupted while waiting for the solver");
+			}
+			if (line == null) {
+				logger.debug("Solver session stopped due to solver timeout");
+				close();
+				throw new SolverTimeoutException();
+			}
+			if (line == END_OF_STREAM) {
+				close();
+				throw new IOException("Solver process terminated unexpectedly: " + response);
+			}
+			if (line.contains(END_MARKER)) {
+				return response.toString();
+			}
+			if (response.length() > 0) {
+				response.append("\n");
+			}
+			response.append(line);
+		}
+	}
+
+	public boolean isAlive() {
+		return alive && process.isAlive();
+	}
+
+	/**
+	 * Stops the solver process. The session cannot be used afterwards.
+	 */
+	public void close() {
+		if (!alive) {
+			return;
+		}
+		alive = false;
+		try {
+			stdin.write("(exit)\n");
+			stdin.close();
+		} catch (IOException e) {
+			// the process is already gone
+		}
+		process.destroy();
+	}
+
+	public String getSolverCommand() {
+		return solverCmd;
+	}
+
+	public int getNumberOfQueries() {
+		return numberOfQueries;
+	}
+
+	public long getNumberOfAssertionsSent() {
+		return numberOfAssertionsSent;
+	}
+
+	public long getNumberOfAssertionsReused() {
+		return numberOfAssertionsReused;
+	}
+}
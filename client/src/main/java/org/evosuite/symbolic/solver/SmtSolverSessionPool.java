@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the idle {@link SmtSolverSession}s of each solver command so that
+ * consecutive queries are sent to an already running solver process.
+ */
+public final class SmtSolverSessionPool {
+
+	private static final SmtSolverSessionPool instance = new SmtSolverSessionPool();
+
+	private final Map<String, Deque<SmtSolverSession>> idleSessions = new HashMap<>();
+
+	private final List<SmtSolverSession> allSessions = new ArrayList<>();
+
+	private SmtSolverSessionPool() {
+		Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "SmtSolverSessionPool-shutdown"));
+	}
+
+	public static SmtSolverSessionPool getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Returns an idle session for the given command, launching a new solver
+	 * process if there is none.
+	 * 
+	 * @param solverCmd
+	 * @return
+	 * @throws IOException
+	 */
+	public synchronized SmtSolverSession acquire(String solverCmd) throws IOException {
+		Deque<SmtSolverSession> sessions = idleSessions.get(solverCmd);
+		while (sessions != null && !sessions.isEmpty()) {
+			SmtSolverSession session = sessions.pop();
+			if (session.isAlive()) {
+				return session;
+			}
+			allSessions.remove(session);
+		}
+		SmtSolverSession session = new SmtSolverSession(solverCmd);
+		allSessions.add(session);
+		return session;
+	}
+
+	/**
+	 * Makes the session available to later queries. Sessions whose process
+	 * died (e.g. after a timeout) are discarded.
+	 * 
+	 * @param session
+	 */
+	public synchronized void release(SmtSolverSession session) {
+		if (!session.isAlive()) {
+			session.close();
+			allSessions.remove(session);
+			return;
+		}
+		idleSessions.computeIfAbsent(session.getSolverCommand(), cmd -> new ArrayDeque<>()).push(session);
+	}
+
+	/**
+	 * Stops all solver processes launched by this pool
+	 */
+	public synchronized void shutdown() {
+		for (SmtSolverSession session : allSessions) {
+			session.close();
+		}
+		allSessions.clear();
+		idleSessions.clear();
+	}
+}
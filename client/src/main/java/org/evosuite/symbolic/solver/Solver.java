@@ -19,6 +19,8 @@
  */
 package org.evosuite.symbolic.solver;
 
+import org.evosuite.Properties;
+import org.evosuite.symbolic.dse.DSEStatistics;
 import org.evosuite.symbolic.expr.Constraint;
 import org.evosuite.symbolic.expr.Variable;
 import org.evosuite.symbolic.expr.ref.array.ArrayVariable;
@@ -26,6 +28,7 @@ import org.evosuite.symbolic.expr.bv.IntegerVariable;
 import org.evosuite.symbolic.expr.constraint.ConstraintEvaluator;
 import org.evosuite.symbolic.expr.fp.RealVariable;
 import org.evosuite.symbolic.expr.str.StringVariable;
+import org.evosuite.symbolic.solver.smt.SmtQuery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,6 +37,7 @@ import java.lang.reflect.Array;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -63,6 +67,13 @@ public abstract class Solver {
 
 	static Logger logger = LoggerFactory.getLogger(Solver.class);
 
+	/**
+	 * Guards the concrete values of the symbolic variables, which are
+	 * temporarily overwritten while checking a model. Queries may be solved
+	 * concurrently (see {@link Properties#DSE_SOLVER_THREADS}).
+	 */
+	static final Object CONCRETE_VALUES_LOCK = new Object();
+
 	/**
 	 * 
 	 * @param constraints
@@ -81,19 +92,67 @@ public abstract class Solver {
 	 *             the solver reported an error after its execution
 	 */
 	public SolverResult solve(Collection<Constraint<?>> constraints) throws SolverTimeoutException, SolverParseException, SolverEmptyQueryException, SolverErrorException, IOException {
-		if (solverCache.hasCachedResult(constraints)) {
-			return solverCache.getCachedResult();
+		Collection<Constraint<?>> query = constraints;
+		if (Properties.DSE_CONSTRAINT_SIMPLIFICATION) {
+			List<Constraint<?>> simplified = ConstraintSimplifier.simplify(constraints);
+			DSEStatistics.getInstance().reportQuerySimplification(constraints, simplified);
+			if (simplified == null) {
+				logger.debug("Query found unsatisfiable while simplifying");
+				return SolverResult.newUNSAT();
+			}
+			if (simplified.isEmpty()) {
+				// every constraint is trivially true
+				return SolverResult.newSAT(getConcreteValues(getVariables(constraints)));
+			}
+			if (simplified.size() != constraints.size() || !simplified.containsAll(constraints)) {
+				logger.debug("Query simplified from {} to {} constraints", constraints.size(), simplified.size());
+				query = simplified;
+			}
+		}
+
+		if (Properties.DSE_CONSTRAINT_SLICING) {
+			List<Constraint<?>> slice = ConstraintSlicer.slice(query);
+			if (slice.size() < query.size()) {
+				logger.debug("Query sliced from {} to {} constraints", query.size(), slice.size());
+				query = slice;
+			}
 		}
 
-		SolverResult solverResult;
-		try {
-			solverResult = executeSolver(constraints);
+		SolverResult solverResult = null;
+		boolean cached;
+		synchronized (solverCache) {
+			cached = solverCache.hasCachedResult(query);
+			if (cached) {
+				solverResult = solverCache.getCachedResult();
+			}
+		}
+
+		if (!cached) {
+			try {
+				solverResult = executeSolver(query);
 
-			if (solverResult != null && !solverResult.isUnknown()) {
-				solverCache.saveSolverResult(constraints, solverResult);
+				if (solverResult != null && !solverResult.isUnknown()) {
+					synchronized (solverCache) {
+						solverCache.saveSolverResult(query, solverResult);
+					}
+				}
+			} catch ( IllegalArgumentException | IOException e) {
+				solverResult = null;
 			}
-		} catch ( IllegalArgumentException | IOException e) {
-			solverResult = null;
+		}
+
+		if (query != constraints && solverResult != null && solverResult.isSAT()) {
+			// the sliced-out and trivially true constraints are satisfied by the
+			// current values. The solver may report values for other variables
+			// (e.g. left over from earlier queries), which must not replace them.
+			Map<String, Object> model = getConcreteValues(getVariables(constraints));
+			for (Variable<?> variable : getVariables(query)) {
+				String name = variable.getName();
+				if (solverResult.getModel().containsKey(name)) {
+					model.put(name, solverResult.getModel().get(name));
+				}
+			}
+			solverResult = SolverResult.newSAT(model);
 		}
 
 		return solverResult;
@@ -115,6 +174,46 @@ public abstract class Solver {
 		return addMissingVariables;
 	}
 
+	/**
+	 * Solves the SMT query of the constraints with the in-process backend
+	 * (see {@link Properties#DSE_IN_PROCESS_BACKEND}).
+	 * 
+	 * @param constraints
+	 * @param query
+	 *            the SMT query built from the constraints
+	 * @param timeout
+	 * @return the result, or null if the backend does not support the query,
+	 *         cannot decide it, or found a model that does not satisfy the
+	 *         constraints
+	 */
+	protected SolverResult solveInProcess(Collection<Constraint<?>> constraints, SmtQuery query, long timeout) {
+		InProcessSolverBackend backend = SolverFactory.getInstance().buildInProcessBackend();
+		if (!backend.supports(query)) {
+			logger.debug("Query not supported by the {} in-process backend", backend.getName());
+			return null;
+		}
+
+		Map<String, Object> initialValues = getConcreteValues(getVariables(constraints));
+		SolverResult result = backend.solve(query, initialValues, timeout);
+		if (result.isUnknown()) {
+			logger.debug("The {} in-process backend could not decide the query", backend.getName());
+			return null;
+		}
+
+		if (result.isSAT()) {
+			if (addMissingVariables()) {
+				Map<String, Object> model = new HashMap<>(initialValues);
+				model.putAll(result.getModel());
+				result = SolverResult.newSAT(model);
+			}
+			if (!checkSAT(constraints, result)) {
+				logger.debug("The {} in-process backend solution fails to solve the constraint system", backend.getName());
+				return null;
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Returns a mapping from variables to their current concrete values.
 	 * 
@@ -124,10 +223,12 @@ public abstract class Solver {
 	protected static Map<String, Object> getConcreteValues(Set<Variable<?>> variables) {
 
 		Map<String, Object> concrete_values = new HashMap<>();
-		for (Variable<?> v : variables) {
-			String var_name = v.getName();
-			Object concrete_value = v.getConcreteValue();
-			concrete_values.put(var_name, concrete_value);
+		synchronized (CONCRETE_VALUES_LOCK) {
+			for (Variable<?> v : variables) {
+				String var_name = v.getName();
+				Object concrete_value = v.getConcreteValue();
+				concrete_values.put(var_name, concrete_value);
+			}
 		}
 		return concrete_values;
 	}
@@ -200,29 +301,31 @@ public abstract class Solver {
 			throw new IllegalArgumentException("satResult should be SAT");
 		}
 
-		// back-up values
-		Set<Variable<?>> variables = getVariables(constraints);
-		Map<String, Object> initialValues = getConcreteValues(variables);
-		// set new values
-		Map<String, Object> newValues = satResult.getModel();
-		setConcreteValues(variables, newValues);
-
-		try {
-			// check SAT with new values
-			ConstraintEvaluator evaluator = new ConstraintEvaluator();
-			for (Constraint<?> constraint : constraints) {
-				Boolean evaluation = (Boolean) constraint.accept(evaluator, null);
-				if (evaluation == null) {
-					throw new NullPointerException();
-				}
-				if (evaluation == false) {
-					return false;
+		synchronized (CONCRETE_VALUES_LOCK) {
+			// back-up values
+			Set<Variable<?>> variables = getVariables(constraints);
+			Map<String, Object> initialValues = getConcreteValues(variables);
+			// set new values
+			Map<String, Object> newValues = satResult.getModel();
+			setConcreteValues(variables, newValues);
+
+			try {
+				// check SAT with new values
+				ConstraintEvaluator evaluator = new ConstraintEvaluator();
+				for (Constraint<?> constraint : constraints) {
+					Boolean evaluation = (Boolean) constraint.accept(evaluator, null);
+					if (evaluation == null) {
+						throw new NullPointerException();
+					}
+					if (evaluation == false) {
+						return false;
+					}
 				}
+				return true;
+			} finally {
+				// restore values
+				setConcreteValues(variables, initialValues);
 			}
-			return true;
-		} finally {
-			// restore values
-			setConcreteValues(variables, initialValues);
 		}
 	}
 
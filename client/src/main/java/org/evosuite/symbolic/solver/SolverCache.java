@@ -22,6 +22,7 @@ package org.evosuite.symbolic.solver;
 import java.util.Collection;
 import java.util.HashMap;
 
+import org.evosuite.Properties;
 import org.evosuite.symbolic.expr.Constraint;
 
 public final class SolverCache {
@@ -72,10 +73,24 @@ public final class SolverCache {
 			cached_solution = this.cached_solver_results.get(constraints);
 			number_of_hits++;
 			return true;
-		} else {
-			valid_cached_solution = false;
-			return false;
 		}
+
+		if (Properties.DSE_PERSISTENT_SOLVER_CACHE) {
+			SolverResult persistedResult = PersistentSolverCache.getInstance().getResult(constraints);
+			// the key is a hash of the SMT-LIB text of the query, so an UNSAT
+			// result holds for it; models are still checked against the constraints
+			if (persistedResult != null
+					&& (persistedResult.isUNSAT() || Solver.checkSAT(constraints, persistedResult))) {
+				cached_solver_results.put(constraints, persistedResult);
+				valid_cached_solution = true;
+				cached_solution = persistedResult;
+				number_of_hits++;
+				return true;
+			}
+		}
+
+		valid_cached_solution = false;
+		return false;
 	}
 
 	public double getHitRate() {
@@ -113,6 +128,10 @@ public final class SolverCache {
 		} else {
 			addSAT(constraints, solverResult);
 		}
+
+		if (Properties.DSE_PERSISTENT_SOLVER_CACHE) {
+			PersistentSolverCache.getInstance().saveResult(constraints, solverResult);
+		}
 	}
 
 }
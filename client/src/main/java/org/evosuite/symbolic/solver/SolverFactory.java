@@ -20,8 +20,11 @@
 package org.evosuite.symbolic.solver;
 
 import org.evosuite.Properties;
+import org.evosuite.Properties.SolverType;
 import org.evosuite.symbolic.solver.avm.EvoSuiteSolver;
 import org.evosuite.symbolic.solver.cvc4.CVC4Solver;
+import org.evosuite.symbolic.solver.inprocess.InProcessSolver;
+import org.evosuite.symbolic.solver.inprocess.JavaSmtBackend;
 import org.evosuite.symbolic.solver.z3.Z3Solver;
 
 public class SolverFactory {
@@ -33,7 +36,11 @@ public class SolverFactory {
 	}
 
 	public Solver buildNewSolver() {
-		switch (Properties.DSE_SOLVER) {
+		return buildNewSolver(Properties.DSE_SOLVER);
+	}
+
+	public Solver buildNewSolver(SolverType solverType) {
+		switch (solverType) {
 		case Z3_SOLVER:
 			return new Z3Solver(true);
 		case CVC4_SOLVER: {
@@ -41,10 +48,38 @@ public class SolverFactory {
 			solver.setRewriteNonLinearConstraints(true);
 			return solver;
 		}
+		case IN_PROCESS_SOLVER:
+			return new InProcessSolver(true);
+		case PORTFOLIO_SOLVER: {
+			SolverType smtSolverType = Properties.DSE_PORTFOLIO_SMT_SOLVER;
+			if (smtSolverType != SolverType.Z3_SOLVER && smtSolverType != SolverType.CVC4_SOLVER) {
+				// the other solvers search by changing the concrete values, as the local search does
+				throw new IllegalStateException("The portfolio solver needs an external SMT solver, found " + smtSolverType);
+			}
+			return new PortfolioSolver(buildNewSolver(smtSolverType));
+		}
 		case EVOSUITE_SOLVER:
 		default:
 			return new EvoSuiteSolver();
 		}
 	}
 
+	/**
+	 * Builds the backend solving SMT queries inside the client (see
+	 * {@link Properties#DSE_IN_PROCESS_BACKEND}).
+	 * 
+	 * @return
+	 */
+	public InProcessSolverBackend buildInProcessBackend() {
+		String backendClassName = Properties.DSE_IN_PROCESS_BACKEND;
+		if (backendClassName == null || backendClassName.isEmpty()) {
+			return new JavaSmtBackend();
+		}
+		try {
+			return (InProcessSolverBackend) Class.forName(backendClassName).newInstance();
+		} catch (ReflectiveOperationException | ClassCastException e) {
+			throw new IllegalStateException("Cannot instantiate the in-process solver backend " + backendClassName, e);
+		}
+	}
+
 }
@@ -36,15 +36,37 @@ public class SolverResult implements Serializable {
 
 	private final Map<String, Object> model;
 
+	/**
+	 * True if the solver did not report UNSAT, but its model does not satisfy
+	 * the constraints
+	 */
+	private final boolean invalidModel;
+
 	private SolverResult(SolverResultType t, Map<String, Object> model) {
+		this(t, model, false);
+	}
+
+	private SolverResult(SolverResultType t, Map<String, Object> model, boolean invalidModel) {
 		this.resultType = t;
 		this.model = model;
+		this.invalidModel = invalidModel;
 	}
 
 	public static SolverResult newUNSAT() {
 		return new SolverResult(SolverResultType.UNSAT, null);
 	}
 
+	/**
+	 * UNSAT result used when the model returned by the solver does not solve
+	 * the constraints (e.g. due to imprecise encodings). This does not prove
+	 * that the constraints are unsatisfiable.
+	 * 
+	 * @return
+	 */
+	public static SolverResult newUNSATFromInvalidModel() {
+		return new SolverResult(SolverResultType.UNSAT, null, true);
+	}
+
 	public static SolverResult newUnknown() {
 		return new SolverResult(SolverResultType.UNKNOWN, null);
 	}
@@ -81,6 +103,15 @@ public class SolverResult implements Serializable {
 
 	}
 
+	/**
+	 * @return true if this is an UNSAT result that was not reported by the
+	 *         solver, but derived from a model that fails to solve the
+	 *         constraints
+	 */
+	public boolean isUNSATFromInvalidModel() {
+		return invalidModel;
+	}
+
 	public String toString() {
 		StringBuffer buff = new StringBuffer();
 		buff.append(resultType + "\n");
@@ -39,6 +39,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -69,6 +70,35 @@ public abstract class SolverUtils {
 		return solverResult;
 	}
 
+	/**
+	 * Tries to reuse a model obtained for another query. The model is
+	 * restricted to the variables of the given constraints, and the missing
+	 * variables keep their current concrete values.
+	 *
+	 * @param constraints
+	 * @param model
+	 * @return the restricted model if it satisfies all the constraints, null
+	 *         otherwise
+	 */
+	public static Map<String, Object> reuseModel(Collection<Constraint<?>> constraints, Map<String, Object> model) {
+		Set<Variable<?>> variables = Solver.getVariables(constraints);
+		Map<String, Object> restrictedModel = Solver.getConcreteValues(variables);
+		for (String variableName : restrictedModel.keySet()) {
+			if (model.containsKey(variableName)) {
+				restrictedModel.put(variableName, model.get(variableName));
+			}
+		}
+
+		try {
+			if (Solver.checkSAT(constraints, SolverResult.newSAT(restrictedModel))) {
+				return restrictedModel;
+			}
+		} catch (RuntimeException ex) {
+			// the model cannot be evaluated on these constraints
+		}
+		return null;
+	}
+
 	/**
 	 * Creates boundaries for the SMT query variables.
 	 *
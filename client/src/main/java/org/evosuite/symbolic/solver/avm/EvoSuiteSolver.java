@@ -49,11 +49,25 @@ public final class EvoSuiteSolver extends Solver {
 
 	static Logger log = LoggerFactory.getLogger(EvoSuiteSolver.class);
 
+	/**
+	 * Maximum search time, null to use
+	 * {@link Properties#DSE_CONSTRAINT_SOLVER_TIMEOUT_MILLIS}
+	 */
+	private final Long timeoutMillis;
+
+	public EvoSuiteSolver() {
+		this.timeoutMillis = null;
+	}
+
+	public EvoSuiteSolver(long timeoutMillis) {
+		this.timeoutMillis = timeoutMillis;
+	}
+
 	@Override
 	public SolverResult executeSolver(Collection<Constraint<?>> constraints)
 			throws SolverTimeoutException, SolverEmptyQueryException {
 
-		long timeout = Properties.DSE_CONSTRAINT_SOLVER_TIMEOUT_MILLIS;
+		long timeout = timeoutMillis == null ? Properties.DSE_CONSTRAINT_SOLVER_TIMEOUT_MILLIS : timeoutMillis;
 
 		long startTimeMillis = System.currentTimeMillis();
 
@@ -72,7 +86,7 @@ public final class EvoSuiteSolver extends Solver {
 				long currentTimeMillis = System.currentTimeMillis();
 
 				long elapsed_solving_time = currentTimeMillis - startTimeMillis;
-				if (elapsed_solving_time > timeout) {
+				if (elapsed_solving_time > timeout || Thread.currentThread().isInterrupted()) {
 					throw new SolverTimeoutException();
 				}
 
@@ -36,9 +36,13 @@ abstract class VariableAVM {
 		this.timeout = timeout;
 	}
 
+	/**
+	 * @return whether the search ran out of time or was interrupted (e.g. the
+	 *         portfolio race was lost)
+	 */
 	protected boolean isFinished() {
 		long current_time = System.currentTimeMillis();
-		return (current_time - start_time) > timeout;
+		return (current_time - start_time) > timeout || Thread.currentThread().isInterrupted();
 	}
 	
 	public abstract boolean applyAVM() throws SolverTimeoutException;
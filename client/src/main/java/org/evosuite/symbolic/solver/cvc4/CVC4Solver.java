@@ -118,6 +118,13 @@ public final class CVC4Solver extends SmtSolver {
 			return emptySAT;
 		}
 
+		if (Properties.DSE_IN_PROCESS_SOLVING) {
+			SolverResult inProcessResult = solveInProcess(constraints, query, cvcTimeout);
+			if (inProcessResult != null) {
+				return inProcessResult;
+			}
+		}
+
 		SmtQueryPrinter printer = new SmtQueryPrinter();
 		String smtQueryStr = printer.print(query);
 
@@ -129,12 +136,16 @@ public final class CVC4Solver extends SmtSolver {
 		logger.debug("CVC4 Query:");
 		logger.debug(smtQueryStr);
 
-		String cmd = buildCVC4cmd(cvcTimeout);
-
 		ByteArrayOutputStream stdout = new ByteArrayOutputStream();
 		try {
-			launchNewSolvingProcess(cmd, smtQueryStr, (int) cvcTimeout, stdout);
-			String output = stdout.toString("UTF-8");
+			String output;
+			if (Properties.DSE_INCREMENTAL_SOLVING) {
+				output = solveInSession(buildIncrementalCVC4cmd(cvcTimeout), query, cvcTimeout);
+			} else {
+				String cmd = buildCVC4cmd(cvcTimeout);
+				launchNewSolvingProcess(cmd, smtQueryStr, (int) cvcTimeout, stdout);
+				output = stdout.toString("UTF-8");
+			}
 
 			if (output.startsWith("unknown")) {
 				logger.debug("timeout reached when using cvc4");
@@ -169,7 +180,7 @@ public final class CVC4Solver extends SmtSolver {
 				boolean check = checkSAT(constraints, solverResult);
 				if (!check) {
 					logger.debug("CVC4 solution does not solve the original constraint system. ");
-					SolverResult unsatResult = SolverResult.newUNSAT();
+					SolverResult unsatResult = SolverResult.newUNSATFromInvalidModel();
 					return unsatResult;
 				}
 			}
@@ -291,7 +302,24 @@ public final class CVC4Solver extends SmtSolver {
 		return cmd;
 	}
 
-	private static boolean hasNonLinearConstraints(Collection<Constraint<?>> constraints) {
+	private static String buildIncrementalCVC4cmd(long cvcTimeout) {
+		String cmd = Properties.CVC4_PATH;
+		cmd += "  --rewrite-divk";
+		cmd += " --lang smt";
+		cmd += " --finite-model-find"; // see buildCVC4cmd()
+		cmd += " --incremental"; // allow push/pop and several check-sat
+		// the process outlives a single query, so the limit applies to each
+		// query instead of to the whole execution
+		cmd += " --tlimit-per=" + cvcTimeout;
+		return cmd;
+	}
+
+	/**
+	 * @param constraints
+	 * @return true if some constraint multiplies, divides or takes the
+	 *         remainder of two symbolic expressions
+	 */
+	public static boolean hasNonLinearConstraints(Collection<Constraint<?>> constraints) {
 		NonLinearConstraintVisitor v = new NonLinearConstraintVisitor();
 		for (Constraint<?> constraint : constraints) {
 			Boolean ret_val = constraint.accept(v, null);
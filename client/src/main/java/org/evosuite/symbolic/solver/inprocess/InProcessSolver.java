@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver.inprocess;
+
+import java.util.Collection;
+import java.util.HashMap;
+
+import org.evosuite.Properties;
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.solver.Solver;
+import org.evosuite.symbolic.solver.SolverEmptyQueryException;
+import org.evosuite.symbolic.solver.SolverResult;
+import org.evosuite.symbolic.solver.SolverTimeoutException;
+import org.evosuite.symbolic.solver.avm.EvoSuiteSolver;
+import org.evosuite.symbolic.solver.smt.SmtQuery;
+import org.evosuite.symbolic.solver.z3.Z3Solver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Solves queries without launching any external process: the SMT query is
+ * given to the in-process backend (see
+ * {@link Properties#DSE_IN_PROCESS_BACKEND}), and the queries it does not
+ * support or cannot decide are solved by the {@link EvoSuiteSolver}.
+ */
+public final class InProcessSolver extends Solver {
+
+	static Logger logger = LoggerFactory.getLogger(InProcessSolver.class);
+
+	private final EvoSuiteSolver fallbackSolver = new EvoSuiteSolver();
+
+	public InProcessSolver() {
+		super();
+	}
+
+	public InProcessSolver(boolean addMissingVariables) {
+		super(addMissingVariables);
+	}
+
+	@Override
+	public SolverResult executeSolver(Collection<Constraint<?>> constraints)
+			throws SolverTimeoutException, SolverEmptyQueryException {
+
+		long timeout = Properties.DSE_CONSTRAINT_SOLVER_TIMEOUT_MILLIS;
+
+		SmtQuery query = Z3Solver.buildSmtQuery(constraints, timeout);
+		if (query.getAssertions().isEmpty()) {
+			return SolverResult.newSAT(new HashMap<>());
+		}
+
+		SolverResult result = solveInProcess(constraints, query, timeout);
+		if (result != null) {
+			return result;
+		}
+
+		logger.debug("Solving the query with the EvoSuite solver");
+		return fallbackSolver.executeSolver(constraints);
+	}
+}
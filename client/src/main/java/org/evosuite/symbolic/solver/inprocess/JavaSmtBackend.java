@@ -0,0 +1,657 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver.inprocess;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.evosuite.symbolic.solver.InProcessSolverBackend;
+import org.evosuite.symbolic.solver.SolverResult;
+import org.evosuite.symbolic.solver.smt.SmtAssertion;
+import org.evosuite.symbolic.solver.smt.SmtBooleanConstant;
+import org.evosuite.symbolic.solver.smt.SmtExpr;
+import org.evosuite.symbolic.solver.smt.SmtExprEvaluator;
+import org.evosuite.symbolic.solver.smt.SmtIntConstant;
+import org.evosuite.symbolic.solver.smt.SmtIntVariable;
+import org.evosuite.symbolic.solver.smt.SmtOperation;
+import org.evosuite.symbolic.solver.smt.SmtOperation.Operator;
+import org.evosuite.symbolic.solver.smt.SmtQuery;
+import org.evosuite.symbolic.solver.smt.SmtRealConstant;
+import org.evosuite.symbolic.solver.smt.SmtRealVariable;
+import org.evosuite.symbolic.solver.smt.SmtVariable;
+import org.evosuite.symbolic.solver.smt.SmtVariableCollector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pure-Java backend for queries over integer and real variables (linear or
+ * not, without strings, arrays, bit-vectors or function definitions).
+ * 
+ * The bounds of the form <code>x op c</code> are first collected into the
+ * domain of each variable: an empty domain (or a false assertion without
+ * variables) proves the query UNSAT. An assertion without variables that
+ * cannot be evaluated makes the result unknown. Then, starting from the initial values,
+ * each step changes one variable of a violated comparison. The new value is
+ * obtained by inverting the comparison, which is done exactly when the
+ * comparison is linear in that variable around its current value. A step is
+ * taken if it does not increase the number of violated assertions and does
+ * not lead to a model already visited.
+ * 
+ * The search is incomplete: when no step is possible, or after
+ * {@link #MAX_STEPS} steps, the result is unknown.
+ */
+public final class JavaSmtBackend implements InProcessSolverBackend {
+
+	static Logger logger = LoggerFactory.getLogger(JavaSmtBackend.class);
+
+	private static final int MAX_STEPS = 1000;
+
+	private static final double LINEARITY_TOLERANCE = 1e-9;
+
+	private static final Set<Operator> SUPPORTED_OPERATORS = EnumSet.of(Operator.ADD, Operator.MINUS, Operator.MUL,
+			Operator.DIV, Operator.MOD, Operator.REM, Operator.SLASH, Operator.ABS, Operator.TO_INT, Operator.TO_REAL,
+			Operator.ITE, Operator.NOT, Operator.EQ, Operator.LT, Operator.LE, Operator.GT, Operator.GE);
+
+	@Override
+	public String getName() {
+		return "java";
+	}
+
+	@Override
+	public boolean supports(SmtQuery query) {
+		if (!query.getFunctionDefinitions().isEmpty()) {
+			return false;
+		}
+		for (SmtAssertion assertion : query.getAssertions()) {
+			if (!isSupported(assertion.getFormula())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isSupported(SmtExpr expr) {
+		if (expr instanceof SmtIntVariable || expr instanceof SmtRealVariable || expr instanceof SmtIntConstant
+				|| expr instanceof SmtRealConstant || expr instanceof SmtBooleanConstant) {
+			return true;
+		}
+		if (!(expr instanceof SmtOperation)) {
+			return false;
+		}
+		SmtOperation operation = (SmtOperation) expr;
+		if (!SUPPORTED_OPERATORS.contains(operation.getOperator())) {
+			return false;
+		}
+		for (SmtExpr argument : operation.getArguments()) {
+			if (!isSupported(argument)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public SolverResult solve(SmtQuery query, Map<String, Object> initialValues, long timeoutMillis) {
+		long deadline = System.currentTimeMillis() + timeoutMillis;
+
+		List<SmtExpr> assertions = new ArrayList<>();
+		Map<String, SmtVariable> variables = new LinkedHashMap<>();
+		for (SmtAssertion assertion : query.getAssertions()) {
+			SmtExpr formula = assertion.getFormula();
+			Set<SmtVariable> formulaVariables = getVariables(formula);
+			if (formulaVariables.isEmpty()) {
+				Object value = evaluate(formula, new HashMap<>());
+				if (value == null) {
+					// e.g. a division by zero, whose value is not specified by SMT-LIB
+					logger.debug("Assertion without variables cannot be evaluated: {}", formula);
+					return SolverResult.newUnknown();
+				}
+				if (!Boolean.TRUE.equals(value)) {
+					return SolverResult.newUNSAT();
+				}
+				continue;
+			}
+			for (SmtVariable variable : formulaVariables) {
+				variables.put(variable.getName(), variable);
+			}
+			assertions.add(formula);
+		}
+
+		Map<String, Domain> domains = new HashMap<>();
+		for (SmtExpr assertion : assertions) {
+			Comparison bound = Comparison.of(assertion);
+			if (bound != null && !bound.restrictDomain(domains)) {
+				return SolverResult.newUNSAT();
+			}
+		}
+
+		Map<String, Object> model = new HashMap<>();
+		for (SmtVariable variable : variables.values()) {
+			Domain domain = domains.get(variable.getName());
+			Object value = initialValue(variable, initialValues.get(variable.getName()));
+			model.put(variable.getName(), domain == null ? value : domain.clamp(value));
+		}
+
+		Set<Map<String, Object>> visited = new HashSet<>();
+		visited.add(new HashMap<>(model));
+		for (int step = 0; step < MAX_STEPS; step++) {
+			List<SmtExpr> violated = getViolated(assertions, model);
+			if (violated.isEmpty()) {
+				return SolverResult.newSAT(model);
+			}
+			if (System.currentTimeMillis() > deadline) {
+				logger.debug("Timeout reached after {} steps", step);
+				break;
+			}
+
+			Map<String, Object> bestModel = null;
+			int bestViolations = violated.size();
+			for (SmtExpr assertion : violated) {
+				Comparison comparison = Comparison.of(assertion);
+				if (comparison == null) {
+					continue;
+				}
+				for (SmtVariable variable : getVariables(assertion)) {
+					for (Object value : comparison.solveFor(variable, model, domains.get(variable.getName()))) {
+						Map<String, Object> candidate = new HashMap<>(model);
+						candidate.put(variable.getName(), value);
+						if (visited.contains(candidate)) {
+							continue;
+						}
+						int violations = getViolated(assertions, candidate).size();
+						if (violations < bestViolations || (bestModel == null && violations == bestViolations)) {
+							bestModel = candidate;
+							bestViolations = violations;
+						}
+					}
+				}
+			}
+
+			if (bestModel == null) {
+				logger.debug("No step left after {} steps", step);
+				break;
+			}
+			model = bestModel;
+			visited.add(model);
+		}
+		return SolverResult.newUnknown();
+	}
+
+	private static Object initialValue(SmtVariable variable, Object value) {
+		if (variable instanceof SmtIntVariable) {
+			return value instanceof Number ? ((Number) value).longValue() : 0L;
+		} else {
+			return value instanceof Number ? ((Number) value).doubleValue() : 0.0;
+		}
+	}
+
+	private static Set<SmtVariable> getVariables(SmtExpr expr) {
+		SmtVariableCollector collector = new SmtVariableCollector();
+		expr.accept(collector, null);
+		return collector.getSmtVariables();
+	}
+
+	private static List<SmtExpr> getViolated(List<SmtExpr> assertions, Map<String, Object> model) {
+		List<SmtExpr> violated = new ArrayList<>();
+		for (SmtExpr assertion : assertions) {
+			if (!isSatisfied(assertion, model)) {
+				violated.add(assertion);
+			}
+		}
+		return violated;
+	}
+
+	private static boolean isSatisfied(SmtExpr assertion, Map<String, Object> model) {
+		Object value = evaluate(assertion, model);
+		return Boolean.TRUE.equals(value);
+	}
+
+	private static Object evaluate(SmtExpr expr, Map<String, Object> model) {
+		try {
+			return expr.accept(new SmtExprEvaluator(model), null);
+		} catch (RuntimeException ex) {
+			// e.g. a division by zero
+			return null;
+		}
+	}
+
+	/**
+	 * A comparison <code>left op right</code> between numeric terms. Negated
+	 * comparisons are represented by the negated operator.
+	 */
+	private static final class Comparison {
+		private final SmtExpr left;
+		private final Operator operator;
+		private final SmtExpr right;
+		private final boolean notEquals;
+
+		private Comparison(SmtExpr left, Operator operator, SmtExpr right, boolean notEquals) {
+			this.left = left;
+			this.operator = operator;
+			this.right = right;
+			this.notEquals = notEquals;
+		}
+
+		/**
+		 * @param assertion
+		 * @return the comparison, or null if the assertion is not a
+		 *         (negated) comparison
+		 */
+		private static Comparison of(SmtExpr assertion) {
+			boolean negated = false;
+			SmtExpr expr = assertion;
+			while (expr instanceof SmtOperation && ((SmtOperation) expr).getOperator() == Operator.NOT) {
+				negated = !negated;
+				expr = ((SmtOperation) expr).getArguments()[0];
+			}
+			if (!(expr instanceof SmtOperation)) {
+				return null;
+			}
+			SmtOperation operation = (SmtOperation) expr;
+			if (operation.getArguments().length != 2) {
+				return null;
+			}
+			SmtExpr left = operation.getArguments()[0];
+			SmtExpr right = operation.getArguments()[1];
+			switch (operation.getOperator()) {
+			case EQ:
+				return new Comparison(left, Operator.EQ, right, negated);
+			case LT:
+				return new Comparison(left, negated ? Operator.GE : Operator.LT, right, false);
+			case LE:
+				return new Comparison(left, negated ? Operator.GT : Operator.LE, right, false);
+			case GT:
+				return new Comparison(left, negated ? Operator.LE : Operator.GT, right, false);
+			case GE:
+				return new Comparison(left, negated ? Operator.LT : Operator.GE, right, false);
+			default:
+				return null;
+			}
+		}
+
+		/**
+		 * Restricts the domain of the variable if the comparison is a bound
+		 * <code>x op c</code> or <code>c op x</code>.
+		 * 
+		 * @param domains
+		 * @return false if the domain becomes empty
+		 */
+		private boolean restrictDomain(Map<String, Domain> domains) {
+			if (notEquals) {
+				return true;
+			}
+			SmtVariable variable;
+			SmtExpr constant;
+			Operator boundOperator;
+			if (left instanceof SmtVariable) {
+				variable = (SmtVariable) left;
+				constant = right;
+				boundOperator = operator;
+			} else if (right instanceof SmtVariable) {
+				variable = (SmtVariable) right;
+				constant = left;
+				boundOperator = swap(operator);
+			} else {
+				return true;
+			}
+
+			Domain domain = domains.get(variable.getName());
+			if (variable instanceof SmtIntVariable && constant instanceof SmtIntConstant) {
+				if (domain == null) {
+					domain = new IntegerDomain();
+					domains.put(variable.getName(), domain);
+				}
+				return ((IntegerDomain) domain).restrict(boundOperator, ((SmtIntConstant) constant).getConstantValue());
+			} else if (variable instanceof SmtRealVariable && constant instanceof SmtRealConstant) {
+				if (domain == null) {
+					domain = new RealDomain();
+					domains.put(variable.getName(), domain);
+				}
+				return ((RealDomain) domain).restrict(boundOperator, ((SmtRealConstant) constant).getConstantValue());
+			}
+			return true;
+		}
+
+		private static Operator swap(Operator operator) {
+			switch (operator) {
+			case LT:
+				return Operator.GT;
+			case LE:
+				return Operator.GE;
+			case GT:
+				return Operator.LT;
+			case GE:
+				return Operator.LE;
+			default:
+				return operator;
+			}
+		}
+
+		/**
+		 * Returns values of the variable that make the comparison hold, if
+		 * the difference <code>left - right</code> is linear in the variable
+		 * around its current value.
+		 * 
+		 * @param variable
+		 * @param model
+		 * @param domain
+		 *            the domain of the variable, or null
+		 * @return
+		 */
+		private List<Object> solveFor(SmtVariable variable, Map<String, Object> model, Domain domain) {
+			List<Object> values = new ArrayList<>();
+			if (variable instanceof SmtIntVariable) {
+				solveForInteger(variable.getName(), model, values);
+			} else {
+				solveForReal(variable.getName(), model, values);
+			}
+			if (domain == null) {
+				return values;
+			}
+
+			List<Object> clampedValues = new ArrayList<>();
+			for (Object value : values) {
+				Object clampedValue = domain.clamp(value);
+				clampedValues.add(clampedValue);
+				if (!clampedValue.equals(value)) {
+					Object middle = domain.getMiddle();
+					if (middle != null) {
+						clampedValues.add(middle);
+					}
+				}
+			}
+			return clampedValues;
+		}
+
+		private void solveForInteger(String name, Map<String, Object> model, List<Object> values) {
+			long a = (Long) model.get(name);
+			Long d0 = integerDifference(name, a, model);
+			Long d1 = integerDifference(name, a + 1, model);
+			Long d2 = integerDifference(name, a + 2, model);
+			if (d0 == null || d1 == null || d2 == null) {
+				return;
+			}
+			long slope = d1 - d0;
+			if (slope == 0 || d2 - d1 != slope) {
+				return;
+			}
+
+			try {
+				if (notEquals) {
+					values.add(a + 1);
+					values.add(a - 1);
+					return;
+				}
+				// values of d(t) = d0 + slope * (t - a) satisfying the comparison
+				switch (operator) {
+				case EQ: {
+					long gap = Math.negateExact(d0);
+					if (gap % slope == 0) {
+						values.add(Math.addExact(a, gap / slope));
+					}
+					break;
+				}
+				case LT:
+				case LE: {
+					// d(t) <= target
+					long target = operator == Operator.LT ? -1 : 0;
+					long gap = Math.subtractExact(target, d0);
+					long step = slope > 0 ? Math.floorDiv(gap, slope) : ceilDiv(gap, slope);
+					values.add(Math.addExact(a, step));
+					break;
+				}
+				case GT:
+				case GE: {
+					// d(t) >= target
+					long target = operator == Operator.GT ? 1 : 0;
+					long gap = Math.subtractExact(target, d0);
+					long step = slope > 0 ? ceilDiv(gap, slope) : Math.floorDiv(gap, slope);
+					values.add(Math.addExact(a, step));
+					break;
+				}
+				default:
+					break;
+				}
+			} catch (ArithmeticException ex) {
+				// overflow
+			}
+		}
+
+		private static long ceilDiv(long x, long y) {
+			return -Math.floorDiv(-x, y);
+		}
+
+		private void solveForReal(String name, Map<String, Object> model, List<Object> values) {
+			double a = (Double) model.get(name);
+			Double d0 = realDifference(name, a, model);
+			Double d1 = realDifference(name, a + 1, model);
+			Double d2 = realDifference(name, a + 2, model);
+			if (d0 == null || d1 == null || d2 == null) {
+				return;
+			}
+			double slope = d1 - d0;
+			if (slope == 0 || Math.abs((d2 - d1) - slope) > LINEARITY_TOLERANCE * Math.max(1.0, Math.abs(slope))) {
+				return;
+			}
+
+			if (notEquals) {
+				values.add(a + 1);
+				values.add(a - 1);
+				return;
+			}
+			// d(t) = 0
+			double root = a - d0 / slope;
+			if (Double.isNaN(root) || Double.isInfinite(root)) {
+				return;
+			}
+			switch (operator) {
+			case EQ:
+				values.add(root);
+				break;
+			case LT:
+			case LE:
+				// the closest value to the root, and the value where d(t) = -1
+				values.add(operator == Operator.LE ? root : (slope > 0 ? Math.nextDown(root) : Math.nextUp(root)));
+				values.add(root - 1 / slope);
+				break;
+			case GT:
+			case GE:
+				// the closest value to the root, and the value where d(t) = 1
+				values.add(operator == Operator.GE ? root : (slope > 0 ? Math.nextUp(root) : Math.nextDown(root)));
+				values.add(root + 1 / slope);
+				break;
+			default:
+				break;
+			}
+		}
+
+		private Long integerDifference(String name, long value, Map<String, Object> model) {
+			Object difference = difference(name, value, model);
+			return difference instanceof Long ? (Long) difference : null;
+		}
+
+		private Double realDifference(String name, double value, Map<String, Object> model) {
+			Object difference = difference(name, value, model);
+			if (!(difference instanceof Double) || ((Double) difference).isNaN()) {
+				return null;
+			}
+			return (Double) difference;
+		}
+
+		private Object difference(String name, Object value, Map<String, Object> model) {
+			Map<String, Object> changedModel = new HashMap<>(model);
+			changedModel.put(name, value);
+			Object leftValue = evaluate(left, changedModel);
+			Object rightValue = evaluate(right, changedModel);
+			if (leftValue instanceof Long && rightValue instanceof Long) {
+				return (Long) leftValue - (Long) rightValue;
+			}
+			if (leftValue instanceof Double && rightValue instanceof Double) {
+				return (Double) leftValue - (Double) rightValue;
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Values allowed for a variable by its bounds
+	 */
+	private interface Domain {
+
+		/**
+		 * @param value
+		 * @return the value of the domain closest to the given value
+		 */
+		Object clamp(Object value);
+
+		/**
+		 * @return a value in the middle of the domain, null if the domain is
+		 *         unbounded
+		 */
+		Object getMiddle();
+	}
+
+	private static final class IntegerDomain implements Domain {
+		private long lowerBound = Long.MIN_VALUE;
+		private long upperBound = Long.MAX_VALUE;
+
+		private boolean restrict(Operator operator, long value) {
+			switch (operator) {
+			case EQ:
+				lowerBound = Math.max(lowerBound, value);
+				upperBound = Math.min(upperBound, value);
+				break;
+			case LT:
+				if (value == Long.MIN_VALUE) {
+					return false;
+				}
+				upperBound = Math.min(upperBound, value - 1);
+				break;
+			case LE:
+				upperBound = Math.min(upperBound, value);
+				break;
+			case GT:
+				if (value == Long.MAX_VALUE) {
+					return false;
+				}
+				lowerBound = Math.max(lowerBound, value + 1);
+				break;
+			case GE:
+				lowerBound = Math.max(lowerBound, value);
+				break;
+			default:
+				break;
+			}
+			return lowerBound <= upperBound;
+		}
+
+		@Override
+		public Object clamp(Object value) {
+			long longValue = (Long) value;
+			return Math.max(lowerBound, Math.min(upperBound, longValue));
+		}
+
+		@Override
+		public Object getMiddle() {
+			if (lowerBound == Long.MIN_VALUE || upperBound == Long.MAX_VALUE) {
+				return null;
+			}
+			return lowerBound + (upperBound - lowerBound) / 2;
+		}
+	}
+
+	private static final class RealDomain implements Domain {
+		private double lowerBound = Double.NEGATIVE_INFINITY;
+		private boolean lowerStrict = false;
+		private double upperBound = Double.POSITIVE_INFINITY;
+		private boolean upperStrict = false;
+
+		private boolean restrict(Operator operator, double value) {
+			switch (operator) {
+			case EQ:
+				restrictLower(value, false);
+				restrictUpper(value, false);
+				break;
+			case LT:
+				restrictUpper(value, true);
+				break;
+			case LE:
+				restrictUpper(value, false);
+				break;
+			case GT:
+				restrictLower(value, true);
+				break;
+			case GE:
+				restrictLower(value, false);
+				break;
+			default:
+				break;
+			}
+			if (lowerBound == upperBound) {
+				return !lowerStrict && !upperStrict;
+			}
+			return lowerBound < upperBound;
+		}
+
+		private void restrictLower(double value, boolean strict) {
+			if (value > lowerBound) {
+				lowerBound = value;
+				lowerStrict = strict;
+			} else if (value == lowerBound) {
+				lowerStrict |= strict;
+			}
+		}
+
+		private void restrictUpper(double value, boolean strict) {
+			if (value < upperBound) {
+				upperBound = value;
+				upperStrict = strict;
+			} else if (value == upperBound) {
+				upperStrict |= strict;
+			}
+		}
+
+		@Override
+		public Object clamp(Object value) {
+			double doubleValue = (Double) value;
+			if (doubleValue < lowerBound || (lowerStrict && doubleValue == lowerBound)) {
+				return lowerStrict ? Math.nextUp(lowerBound) : lowerBound;
+			}
+			if (doubleValue > upperBound || (upperStrict && doubleValue == upperBound)) {
+				return upperStrict ? Math.nextDown(upperBound) : upperBound;
+			}
+			return doubleValue;
+		}
+
+		@Override
+		public Object getMiddle() {
+			if (Double.isInfinite(lowerBound) || Double.isInfinite(upperBound)) {
+				return null;
+			}
+			return lowerBound + (upperBound - lowerBound) / 2;
+		}
+	}
+}
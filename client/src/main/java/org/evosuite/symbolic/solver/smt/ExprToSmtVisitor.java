@@ -68,11 +68,36 @@ import org.evosuite.symbolic.expr.token.NextTokenizerExpr;
 import org.evosuite.symbolic.expr.token.StringNextTokenExpr;
 import org.evosuite.symbolic.solver.SmtExprBuilder;
 
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
+	/**
+	 * Translations of the nodes visited so far. Interned sub-expressions are
+	 * shared between the constraints of a query, so each shared node is only
+	 * translated once per visitor.
+	 */
+	private final Map<Expression<?>, SmtExpr> translations = new IdentityHashMap<>();
+
+	/**
+	 * Translates an expression, reusing the translation of a node this visitor
+	 * has seen before
+	 *
+	 * @param e
+	 * @return {@code null} if the expression cannot be translated
+	 */
+	public final SmtExpr translate(Expression<?> e) {
+		if (translations.containsKey(e)) {
+			return translations.get(e);
+		}
+		SmtExpr smtExpr = e.accept(this, null);
+		translations.put(e, smtExpr);
+		return smtExpr;
+	}
+
 	protected static SmtExpr approximateToConcreteValue(Expression<?> e) {
 		if (e instanceof IntegerValue) {
 			return approximateToConcreteValue((IntegerValue) e);
@@ -115,8 +140,8 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public final SmtExpr visit(IntegerBinaryExpression e, Void v) {
-		SmtExpr left = e.getLeftOperand().accept(this, null);
-		SmtExpr right = e.getRightOperand().accept(this, null);
+		SmtExpr left = translate(e.getLeftOperand());
+		SmtExpr right = translate(e.getRightOperand());
 
 		if (left == null || right == null) {
 			return null;
@@ -215,7 +240,7 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public final SmtExpr visit(IntegerUnaryExpression e, Void v) {
-		SmtExpr operand = e.getOperand().accept(this, null);
+		SmtExpr operand = translate(e.getOperand());
 
 		if (operand == null) {
 			return null;
@@ -252,7 +277,7 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public final SmtExpr visit(RealToIntegerCast e, Void v) {
-		SmtExpr operand = e.getArgument().accept(this, null);
+		SmtExpr operand = translate(e.getArgument());
 		if (operand == null) {
 			return null;
 		}
@@ -269,7 +294,7 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public final SmtExpr visit(RealUnaryToIntegerExpression e, Void v) {
-		SmtExpr realExpr = e.getOperand().accept(this, null);
+		SmtExpr realExpr = translate(e.getOperand());
 		if (realExpr == null) {
 			return null;
 		}
@@ -295,7 +320,7 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public final SmtExpr visit(IntegerToRealCast e, Void v) {
-		SmtExpr operand = e.getArgument().accept(this, null);
+		SmtExpr operand = translate(e.getArgument());
 		if (operand == null) {
 			return null;
 		}
@@ -312,9 +337,9 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public final SmtExpr visit(RealBinaryExpression e, Void v) {
-		SmtExpr left = e.getLeftOperand().accept(this, null);
+		SmtExpr left = translate(e.getLeftOperand());
 		Operator operator = e.getOperator();
-		SmtExpr right = e.getRightOperand().accept(this, null);
+		SmtExpr right = translate(e.getRightOperand());
 
 		if (left == null || right == null) {
 			return null;
@@ -386,7 +411,7 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public final SmtExpr visit(RealUnaryExpression e, Void v) {
-		SmtExpr operand = e.getOperand().accept(this, null);
+		SmtExpr operand = translate(e.getOperand());
 
 		if (operand == null) {
 			return null;
@@ -463,7 +488,7 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public final SmtExpr visit(IntegerToStringCast e, Void v) {
-		SmtExpr operand = e.getArgument().accept(this, null);
+		SmtExpr operand = translate(e.getArgument());
 		if (operand == null) {
 			return null;
 		}
@@ -479,7 +504,7 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public final SmtExpr visit(RealToStringCast e, Void arg) {
-		SmtExpr operand = e.getArgument().accept(this, null);
+		SmtExpr operand = translate(e.getArgument());
 		if (operand == null) {
 			return null;
 		}
@@ -496,7 +521,7 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public final SmtExpr visit(HasMoreTokensExpr e, Void v) {
-		SmtExpr expr = e.getTokenizerExpr().accept(this, null);
+		SmtExpr expr = translate(e.getTokenizerExpr());
 		if (expr == null) {
 			return null;
 		}
@@ -535,8 +560,8 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public SmtExpr visit(ArraySelect.IntegerArraySelect r, Void arg) {
-		SmtExpr arrayExpr = r.getSymbolicArray().accept(this, null);
-		SmtExpr indexExpr = r.getSymbolicIndex().accept(this, null);
+		SmtExpr arrayExpr = translate(r.getSymbolicArray());
+		SmtExpr indexExpr = translate(r.getSymbolicIndex());
 
 		if (arrayExpr == null || indexExpr == null) {
 			return null;
@@ -552,9 +577,9 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public SmtExpr visit(ArrayStore.IntegerArrayStore r, Void arg) {
-		SmtExpr arrayExpr = r.getSymbolicArray().accept(this, null);
-		SmtExpr indexExpr = r.getSymbolicIndex().accept(this, null);
-		SmtExpr valueExpression = r.getSymbolicValue().accept(this, null);
+		SmtExpr arrayExpr = translate(r.getSymbolicArray());
+		SmtExpr indexExpr = translate(r.getSymbolicIndex());
+		SmtExpr valueExpression = translate(r.getSymbolicValue());
 
 		if (arrayExpr == null || indexExpr == null || valueExpression == null) {
 			return null;
@@ -571,8 +596,8 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public SmtExpr visit(ArraySelect.RealArraySelect r, Void arg) {
-		SmtExpr arrayExpr = r.getSymbolicArray().accept(this, null);
-		SmtExpr indexExpr = r.getSymbolicIndex().accept(this, null);
+		SmtExpr arrayExpr = translate(r.getSymbolicArray());
+		SmtExpr indexExpr = translate(r.getSymbolicIndex());
 
 		if (arrayExpr == null || indexExpr == null) {
 			return null;
@@ -588,8 +613,8 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public SmtExpr visit(ArraySelect.StringArraySelect r, Void arg) {
-		SmtExpr arrayExpr = r.getSymbolicArray().accept(this, null);
-		SmtExpr indexExpr = r.getSymbolicIndex().accept(this, null);
+		SmtExpr arrayExpr = translate(r.getSymbolicArray());
+		SmtExpr indexExpr = translate(r.getSymbolicIndex());
 
 		if (arrayExpr == null || indexExpr == null) {
 			return null;
@@ -605,9 +630,9 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public SmtExpr visit(ArrayStore.RealArrayStore r, Void arg) {
-		SmtExpr arrayExpr = r.getSymbolicArray().accept(this, null);
-		SmtExpr indexExpr = r.getSymbolicIndex().accept(this, null);
-		SmtExpr valueExpression = r.getSymbolicValue().accept(this, null);
+		SmtExpr arrayExpr = translate(r.getSymbolicArray());
+		SmtExpr indexExpr = translate(r.getSymbolicIndex());
+		SmtExpr valueExpression = translate(r.getSymbolicValue());
 
 		if (arrayExpr == null || indexExpr == null || valueExpression == null) {
 			return null;
@@ -623,9 +648,9 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public SmtExpr visit(ArrayStore.StringArrayStore r, Void arg) {
-		SmtExpr arrayExpr = r.getSymbolicArray().accept(this, null);
-		SmtExpr indexExpr = r.getSymbolicIndex().accept(this, null);
-		SmtExpr valueExpression = r.getSymbolicValue().accept(this, null);
+		SmtExpr arrayExpr = translate(r.getSymbolicArray());
+		SmtExpr indexExpr = translate(r.getSymbolicIndex());
+		SmtExpr valueExpression = translate(r.getSymbolicValue());
 
 		if (arrayExpr == null || indexExpr == null || valueExpression == null) {
 			return null;
@@ -706,8 +731,8 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 		Expression<?> rightOperand = e.getRightOperand();
 		Operator op = e.getOperator();
 
-		SmtExpr left = leftOperand.accept(this, null);
-		SmtExpr right = rightOperand.accept(this, null);
+		SmtExpr left = translate(leftOperand);
+		SmtExpr right = translate(rightOperand);
 
 		if (left == null || right == null) {
 			return null;
@@ -756,8 +781,8 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public final SmtExpr visit(StringBinaryExpression e, Void arg) {
-		SmtExpr left = e.getLeftOperand().accept(this, null);
-		SmtExpr right = e.getRightOperand().accept(this, null);
+		SmtExpr left = translate(e.getLeftOperand());
+		SmtExpr right = translate(e.getRightOperand());
 		Operator operator = e.getOperator();
 
 		if (left == null || right == null) {
@@ -810,8 +835,8 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 		Operator op = e.getOperator();
 		Expression<?> rightOperand = e.getRightOperand();
 
-		SmtExpr left = leftOperand.accept(this, null);
-		SmtExpr right = rightOperand.accept(this, null);
+		SmtExpr left = translate(leftOperand);
+		SmtExpr right = translate(rightOperand);
 
 		if (left == null || right == null) {
 			return null;
@@ -860,11 +885,11 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public final SmtExpr visit(StringMultipleComparison e, Void arg) {
-		SmtExpr left = e.getLeftOperand().accept(this, null);
+		SmtExpr left = translate(e.getLeftOperand());
 		Operator operator = e.getOperator();
-		SmtExpr right = e.getRightOperand().accept(this, null);
+		SmtExpr right = translate(e.getRightOperand());
 
-		List<SmtExpr> others = e.getOther().stream().map(t -> t.accept(this, null)).collect(Collectors.toList());
+		List<SmtExpr> others = e.getOther().stream().map(this::translate).collect(Collectors.toList());
 
 		if (left == null || right == null || others.contains(null)) {
 			return null;
@@ -908,9 +933,9 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 	@Override
 	public final SmtExpr visit(StringMultipleExpression e, Void arg) {
 		Operator operator = e.getOperator();
-		SmtExpr left = e.getLeftOperand().accept(this, null);
-		SmtExpr right = e.getRightOperand().accept(this, null);
-		List<SmtExpr> others = e.getOther().stream().map(t -> t.accept(this, null)).collect(Collectors.toList());
+		SmtExpr left = translate(e.getLeftOperand());
+		SmtExpr right = translate(e.getRightOperand());
+		List<SmtExpr> others = e.getOther().stream().map(this::translate).collect(Collectors.toList());
 
 		if (left == null || right == null || others.contains(null)) {
 			return null;
@@ -953,9 +978,9 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public final SmtExpr visit(StringMultipleToIntegerExpression e, Void arg) {
-		SmtExpr left = e.getLeftOperand().accept(this, null);
-		SmtExpr right = e.getRightOperand().accept(this, null);
-		List<SmtExpr> others = e.getOther().stream().map(t -> t.accept(this, null)).collect(Collectors.toList());
+		SmtExpr left = translate(e.getLeftOperand());
+		SmtExpr right = translate(e.getRightOperand());
+		List<SmtExpr> others = e.getOther().stream().map(this::translate).collect(Collectors.toList());
 
 		if (left == null || right == null || others.contains(null)) {
 			return null;
@@ -993,7 +1018,7 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public final SmtExpr visit(StringNextTokenExpr n, Void arg) {
-		SmtExpr operand = n.getTokenizerExpr().accept(this, null);
+		SmtExpr operand = translate(n.getTokenizerExpr());
 		if (operand == null) {
 			return null;
 		}
@@ -1010,7 +1035,7 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public final SmtExpr visit(StringReaderExpr e, Void arg) {
-		SmtExpr operand = e.getString().accept(this, null);
+		SmtExpr operand = translate(e.getString());
 		if (operand == null) {
 			return null;
 		}
@@ -1028,7 +1053,7 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public final SmtExpr visit(StringUnaryExpression e, Void arg) {
-		SmtExpr operand = e.getOperand().accept(this, null);
+		SmtExpr operand = translate(e.getOperand());
 
 		if (operand == null) {
 			return null;
@@ -1056,7 +1081,7 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public final SmtExpr visit(StringUnaryToIntegerExpression e, Void arg) {
-		SmtExpr operand = e.getOperand().accept(this, null);
+		SmtExpr operand = translate(e.getOperand());
 		if (operand == null) {
 			return null;
 		}
@@ -1102,7 +1127,7 @@ public class ExprToSmtVisitor implements ExpressionVisitor<SmtExpr, Void> {
 
 	@Override
 	public final SmtExpr visit(StringToIntegerCast e, Void arg) {
-		SmtExpr operand = e.getArgument().accept(this, null);
+		SmtExpr operand = translate(e.getArgument());
 
 		if (operand == null) {
 			return null;
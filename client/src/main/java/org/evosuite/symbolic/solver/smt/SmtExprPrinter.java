@@ -23,12 +23,28 @@ import org.evosuite.testcase.DefaultValueChecker;
 import org.evosuite.utils.TypeUtil;
 
 import java.lang.reflect.Array;
+import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.util.LinkedList;
 import java.util.List;
 
 public final class SmtExprPrinter implements SmtExprVisitor<String, Void> {
 
+	/**
+	 * Print constants without losing information: real constants with all
+	 * their digits and every character of string constants as a code point.
+	 * The output is meant for identifying queries, not for a solver.
+	 */
+	private final boolean exactConstants;
+
+	public SmtExprPrinter() {
+		this(false);
+	}
+
+	public SmtExprPrinter(boolean exactConstants) {
+		this.exactConstants = exactConstants;
+	}
+
 	@Override
 	public String visit(SmtIntConstant n, Void arg) {
 		long longValue = n.getConstantValue();
@@ -45,6 +61,9 @@ public final class SmtExprPrinter implements SmtExprVisitor<String, Void> {
 
 	@Override
 	public String visit(SmtStringConstant n, Void arg) {
+		if (exactConstants) {
+			return "\"" + encodeStringExactly(n.getConstantValue()) + "\"";
+		}
 		String str = encodeString(n.getConstantValue());
 		return "\"" + str + "\"";
 	}
@@ -230,6 +249,14 @@ public final class SmtExprPrinter implements SmtExprVisitor<String, Void> {
 		return ret_val;
 	}
 
+	private static String encodeStringExactly(String str) {
+		StringBuilder ret_val = new StringBuilder();
+		for (char c : str.toCharArray()) {
+			ret_val.append(String.format("\\u%04x", (int) c));
+		}
+		return ret_val.toString();
+	}
+
 	/**
 	 * Returns the SMT string representation of a double value.
 	 *
@@ -238,14 +265,21 @@ public final class SmtExprPrinter implements SmtExprVisitor<String, Void> {
 	 */
 	private String buildRealValueString(double doubleVal) {
 		if (doubleVal < 0) {
-			String magnitudeStr = DECIMAL_FORMAT.format(Math.abs(doubleVal));
+			String magnitudeStr = formatRealMagnitude(Math.abs(doubleVal));
 			return "(- " + magnitudeStr + ")";
 		} else {
-			String doubleStr = DECIMAL_FORMAT.format(doubleVal);
+			String doubleStr = formatRealMagnitude(doubleVal);
 			return doubleStr;
 		}
 	}
 
+	private String formatRealMagnitude(double doubleVal) {
+		if (exactConstants && !Double.isNaN(doubleVal) && !Double.isInfinite(doubleVal)) {
+			return new BigDecimal(doubleVal).toPlainString();
+		}
+		return DECIMAL_FORMAT.format(doubleVal);
+	}
+
 	/**
 	 * Returns the SMT string representation of a double value.
 	 *
@@ -33,7 +33,10 @@ import org.evosuite.symbolic.solver.SmtExprBuilder;
 import org.evosuite.symbolic.solver.smt.ExprToSmtVisitor;
 import org.evosuite.symbolic.solver.smt.SmtExpr;
 
-class ConstraintToZ3Visitor implements ConstraintVisitor<SmtExpr, Void> {
+public class ConstraintToZ3Visitor implements ConstraintVisitor<SmtExpr, Void> {
+
+	/** Shared by all constraints, so that common sub-expressions are translated once */
+	private final ExprToSmtVisitor exprVisitor = new ExprToSmtVisitor();
 
 	public ConstraintToZ3Visitor() {
 	}
@@ -49,9 +52,8 @@ class ConstraintToZ3Visitor implements ConstraintVisitor<SmtExpr, Void> {
 			return equalsExpr;
 		}
 
-		ExprToSmtVisitor v = new ExprToSmtVisitor();
-		SmtExpr leftExpr = left.accept(v, null);
-		SmtExpr rightExpr = right.accept(v, null);
+		SmtExpr leftExpr = exprVisitor.translate(left);
+		SmtExpr rightExpr = exprVisitor.translate(right);
 
 		if (leftExpr == null || rightExpr == null) {
 			return null;
@@ -60,7 +62,7 @@ class ConstraintToZ3Visitor implements ConstraintVisitor<SmtExpr, Void> {
 		return mkComparison(leftExpr, cmp, rightExpr);
 	}
 
-	private static SmtExpr translateCompareTo(Expression<?> left, Comparator cmp, Expression<?> right) {
+	private SmtExpr translateCompareTo(Expression<?> left, Comparator cmp, Expression<?> right) {
 
 		if (!(left instanceof StringBinaryToIntegerExpression)) {
 			return null;
@@ -82,9 +84,8 @@ class ConstraintToZ3Visitor implements ConstraintVisitor<SmtExpr, Void> {
 			return null;
 		}
 
-		ExprToSmtVisitor v = new ExprToSmtVisitor();
-		SmtExpr leftEquals = leftExpr.getLeftOperand().accept(v, null);
-		SmtExpr rightEquals = leftExpr.getRightOperand().accept(v, null);
+		SmtExpr leftEquals = exprVisitor.translate(leftExpr.getLeftOperand());
+		SmtExpr rightEquals = exprVisitor.translate(leftExpr.getRightOperand());
 
 		if (leftEquals == null || rightEquals == null) {
 			return null;
@@ -133,10 +134,8 @@ class ConstraintToZ3Visitor implements ConstraintVisitor<SmtExpr, Void> {
 
 	@Override
 	public SmtExpr visit(RealConstraint c, Void arg) {
-		ExprToSmtVisitor v = new ExprToSmtVisitor();
-
-		SmtExpr left = c.getLeftOperand().accept(v, null);
-		SmtExpr right = c.getRightOperand().accept(v, null);
+		SmtExpr left = exprVisitor.translate(c.getLeftOperand());
+		SmtExpr right = exprVisitor.translate(c.getRightOperand());
 
 		if (left == null || right == null) {
 			return null;
@@ -149,14 +148,12 @@ class ConstraintToZ3Visitor implements ConstraintVisitor<SmtExpr, Void> {
 
 	@Override
 	public SmtExpr visit(StringConstraint c, Void arg) {
-		ExprToSmtVisitor v = new ExprToSmtVisitor();
-
 		StringComparison stringComparison = (StringComparison) c.getLeftOperand();
 		Comparator cmp = c.getComparator();
 		IntegerConstant integerConstant = (IntegerConstant) c.getRightOperand();
 
-		SmtExpr left = stringComparison.accept(v, null);
-		SmtExpr right = integerConstant.accept(v, null);
+		SmtExpr left = exprVisitor.translate(stringComparison);
+		SmtExpr right = exprVisitor.translate(integerConstant);
 
 		if (left == null || right == null) {
 			return null;
@@ -93,6 +93,13 @@ public class Z3Solver extends SmtSolver {
 			return emptySAT;
 		}
 
+		if (Properties.DSE_IN_PROCESS_SOLVING) {
+			SolverResult inProcessResult = solveInProcess(constraints, query, hard_timeout);
+			if (inProcessResult != null) {
+				return inProcessResult;
+			}
+		}
+
 		SmtQueryPrinter printer = new SmtQueryPrinter();
 		String queryStr = printer.print(query);
 
@@ -109,13 +116,17 @@ public class Z3Solver extends SmtSolver {
 
 		ByteArrayOutputStream stdout = new ByteArrayOutputStream();
 		String output;
-		try {
-			launchNewSolvingProcess(z3Cmd, queryStr, (int) hard_timeout, stdout);
-			output = stdout.toString("UTF-8");
-		} catch (SolverErrorException ex) {
-			output = stdout.toString("UTF-8");
-			if (!output.startsWith("unsat")) {
-				throw ex;
+		if (Properties.DSE_INCREMENTAL_SOLVING) {
+			output = solveInSession(z3Cmd, query, hard_timeout);
+		} else {
+			try {
+				launchNewSolvingProcess(z3Cmd, queryStr, (int) hard_timeout, stdout);
+				output = stdout.toString("UTF-8");
+			} catch (SolverErrorException ex) {
+				output = stdout.toString("UTF-8");
+				if (!output.startsWith("unsat")) {
+					throw ex;
+				}
 			}
 		}
 
@@ -134,7 +145,7 @@ public class Z3Solver extends SmtSolver {
 			boolean check = checkSAT(constraints, result);
 			if (!check) {
 				logger.debug("Z3 solution fails to solve the constraint system!");
-				SolverResult unsatResult = SolverResult.newUNSAT();
+				SolverResult unsatResult = SolverResult.newUNSATFromInvalidModel();
 				return unsatResult;
 			}
 		}
@@ -208,7 +219,15 @@ public class Z3Solver extends SmtSolver {
 		return buff.toString();
 	}
 
-	private static SmtQuery buildSmtQuery(Collection<Constraint<?>> constraints, long timeout) {
+	/**
+	 * Builds the Z3 flavoured SMT query of the constraints. Constraints that
+	 * cannot be translated are left out.
+	 * 
+	 * @param constraints
+	 * @param timeout
+	 * @return
+	 */
+	public static SmtQuery buildSmtQuery(Collection<Constraint<?>> constraints, long timeout) {
 
 		SmtQuery query = new SmtQuery();
 
@@ -19,6 +19,8 @@
  */
 package org.evosuite.symbolic.vm;
 
+import org.evosuite.symbolic.expr.Expression;
+import org.evosuite.symbolic.expr.ExpressionInterner;
 import org.evosuite.symbolic.expr.Operator;
 import org.evosuite.symbolic.expr.ref.array.ArrayConstant;
 import org.evosuite.symbolic.expr.ref.array.ArrayStore;
@@ -56,6 +58,13 @@ public abstract class ExpressionFactory {
 	public static final IntegerConstant ICONST_0 = new IntegerConstant(0);
 	public static final IntegerConstant ICONST_M1 = new IntegerConstant(-1);
 
+	/**
+	 * Shares structurally equal expressions built by this factory
+	 */
+	private static <E extends Expression<?>> E intern(E expr) {
+		return ExpressionInterner.getInstance().intern(expr);
+	}
+
 	public static IntegerConstant buildNewIntegerConstant(int value) {
 		return buildNewIntegerConstant((long) value);
 	}
@@ -76,7 +85,7 @@ public abstract class ExpressionFactory {
 		else if (value == 5)
 			return ICONST_5;
 
-		return new IntegerConstant(value);
+		return intern(new IntegerConstant(value));
 	}
 
 	public static RealConstant buildNewRealConstant(float x) {
@@ -91,11 +100,11 @@ public abstract class ExpressionFactory {
 		else if (x == 2)
 			return RCONST_2;
 
-		return new RealConstant(x);
+		return intern(new RealConstant(x));
 	}
 
 	public static StringConstant buildNewStringConstant(String string) {
-		return new StringConstant(string.intern());
+		return intern(new StringConstant(string.intern()));
 	}
 
 	public static IntegerValue add(IntegerValue left, IntegerValue right,
@@ -114,7 +123,7 @@ public abstract class ExpressionFactory {
 
 		// can only optimize if left is a literal
 		if (!(left instanceof IntegerConstant))
-			return new IntegerBinaryExpression(left, Operator.PLUS, right, con);
+			return intern(new IntegerBinaryExpression(left, Operator.PLUS, right, con));
 
 		/*
 		 * (add 0 x) --> x
@@ -144,12 +153,12 @@ public abstract class ExpressionFactory {
 
 				IntegerConstant a_plus_b = buildNewIntegerConstant(a + b);
 
-				return new IntegerBinaryExpression(a_plus_b, Operator.PLUS,
-						add.getRightOperand(), con);
+				return intern(new IntegerBinaryExpression(a_plus_b, Operator.PLUS,
+						add.getRightOperand(), con));
 			}
 		}
 
-		return new IntegerBinaryExpression(left, Operator.PLUS, right, con);
+		return intern(new IntegerBinaryExpression(left, Operator.PLUS, right, con));
 	}
 
 	public static RealValue add(RealValue left, RealValue right, double con) {
@@ -165,7 +174,7 @@ public abstract class ExpressionFactory {
 												RealValue left, double con) {
 		// can only optimize if left is a literal
 		if (!(left instanceof RealConstant))
-			return new RealBinaryExpression(left, Operator.PLUS, right, con);
+			return intern(new RealBinaryExpression(left, Operator.PLUS, right, con));
 
 		/*
 		 * (add 0 x) --> x
@@ -195,12 +204,12 @@ public abstract class ExpressionFactory {
 
 				RealConstant a_plus_b = buildNewRealConstant(a + b);
 
-				return new RealBinaryExpression(a_plus_b, Operator.PLUS,
-						add.getRightOperand(), con);
+				return intern(new RealBinaryExpression(a_plus_b, Operator.PLUS,
+						add.getRightOperand(), con));
 			}
 		}
 
-		return new RealBinaryExpression(left, Operator.PLUS, right, con);
+		return intern(new RealBinaryExpression(left, Operator.PLUS, right, con));
 
 	}
 
@@ -241,8 +250,8 @@ public abstract class ExpressionFactory {
 
 		}
 
-		return new IntegerBinaryExpression(left, Operator.MUL, right,
-				con);
+		return intern(new IntegerBinaryExpression(left, Operator.MUL, right,
+				con));
 	}
 
 	public static RealValue mul(RealValue left, RealValue right, double con) {
@@ -280,7 +289,7 @@ public abstract class ExpressionFactory {
 
 		}
 
-		return new RealBinaryExpression(left, Operator.MUL, right, con);
+		return intern(new RealBinaryExpression(left, Operator.MUL, right, con));
 	}
 
 	public static RealValue div(RealValue left, RealValue right, double con) {
@@ -291,7 +300,7 @@ public abstract class ExpressionFactory {
 		if (left instanceof RealConstant && left.getConcreteValue() == 0)
 			return buildNewRealConstant(0);
 
-		return new RealBinaryExpression(left, Operator.DIV, right, con);
+		return intern(new RealBinaryExpression(left, Operator.DIV, right, con));
 	}
 
 	public static IntegerValue div(IntegerValue left, IntegerValue right,
@@ -303,7 +312,7 @@ public abstract class ExpressionFactory {
 		if (left instanceof IntegerConstant && left.getConcreteValue() == 0)
 			return buildNewIntegerConstant(0);
 
-		return new IntegerBinaryExpression(left, Operator.DIV, right, con);
+		return intern(new IntegerBinaryExpression(left, Operator.DIV, right, con));
 	}
 
 	public static RealValue rem(RealValue left, RealValue right, double con) {
@@ -314,7 +323,7 @@ public abstract class ExpressionFactory {
 		if (left instanceof RealConstant && left.getConcreteValue() == 0)
 			return buildNewRealConstant(0);
 
-		return new RealBinaryExpression(left, Operator.REM, right, con);
+		return intern(new RealBinaryExpression(left, Operator.REM, right, con));
 	}
 
 	public static IntegerValue rem(IntegerValue left, IntegerValue right,
@@ -326,7 +335,7 @@ public abstract class ExpressionFactory {
 		if (left instanceof IntegerConstant && left.getConcreteValue() == 0)
 			return buildNewIntegerConstant(0);
 
-		return new IntegerBinaryExpression(left, Operator.REM, right, con);
+		return intern(new IntegerBinaryExpression(left, Operator.REM, right, con));
 	}
 
 	public static ReferenceConstant buildNewNullExpression() {
@@ -28,6 +28,7 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -36,6 +37,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.reflect.MethodUtils;
 import org.evosuite.assertion.Assertion;
 import org.evosuite.assertion.InspectorAssertion;
@@ -76,6 +78,21 @@ public class DefaultTestCase implements TestCase, Serializable {
 	/** The statements */
 	protected final ListenableList<Statement> statements;
 
+	/**
+	 * Positions of the statements by the raw class of the variable they
+	 * define, built lazily for {@link #getObjects(Type, int)}
+	 */
+	private transient Map<Class<?>, List<Integer>> variableIndex = null;
+
+	/**
+	 * Sorted positions of the variables that may supply a value of a raw
+	 * class, by that class, for the classes looked up since the index was built
+	 */
+	private transient Map<Class<?>, List<Integer>> candidateIndex = null;
+
+	/** Modification count of the statements when the index was built */
+	private transient int variableIndexModificationCount;
+
 	/** Coverage goals this test covers */
 	private transient Set<TestFitnessFunction> coveredGoals = new LinkedHashSet<>();
 
@@ -202,7 +219,13 @@ public class DefaultTestCase implements TestCase, Serializable {
 	/** {@inheritDoc} */
 	@Override
 	public VariableReference addStatement(Statement statement) {
+		boolean indexed = isVariableIndexValid();
 		statements.add(statement);
+		if (indexed) {
+			// appending only adds a position, the rest of the index is still valid
+			indexVariable(statements.size() - 1);
+			variableIndexModificationCount = statements.getModificationCount();
+		}
 		try {
 			assert (isValid());
 		} catch (AssertionError e) {
@@ -263,6 +286,25 @@ public class DefaultTestCase implements TestCase, Serializable {
 		for (Statement s : statements) {
 			s.changeClassLoader(loader);
 		}
+		invalidateVariableIndex();
+	}
+
+	/**
+	 * Notifies the listeners of a change of a statement that leaves the list
+	 * of statements as it is, e.g. a replaced return value: the variables look
+	 * up their positions again and the variable index is rebuilt.
+	 */
+	public void statementChanged() {
+		statements.fireEvent(null);
+	}
+
+	/**
+	 * Drops the index of the variables by their class, e.g. because the class
+	 * of one of the variables changed. The index is rebuilt on the next lookup.
+	 */
+	public void invalidateVariableIndex() {
+		variableIndex = null;
+		candidateIndex = null;
 	}
 	
 	private transient ClassLoader changedClassLoader = null;
@@ -356,7 +398,8 @@ public class DefaultTestCase implements TestCase, Serializable {
 			Statement copy = s.clone(t);
 			t.statements.add(copy);
 			copy.setRetval(s.getReturnValue().clone(t));
-			copy.setAssertions(s.copyAssertions(t, 0));
+			if (s.hasAssertions() || copy.hasAssertions())
+				copy.setAssertions(s.copyAssertions(t, 0));
 		}
 		t.coveredGoals.addAll(coveredGoals);
 		t.accessedEnvironment.copyFrom(accessedEnvironment);
@@ -568,6 +611,76 @@ public class DefaultTestCase implements TestCase, Serializable {
 		return variables;
 	}
 
+	private boolean isVariableIndexValid() {
+		return variableIndex != null
+				&& variableIndexModificationCount == statements.getModificationCount();
+	}
+
+	private void buildVariableIndex() {
+		// read the count first, so changes made while indexing invalidate the index
+		variableIndexModificationCount = statements.getModificationCount();
+		variableIndex = new HashMap<>();
+		candidateIndex = new HashMap<>();
+		for (int i = 0; i < statements.size(); i++) {
+			indexVariable(i);
+		}
+	}
+
+	private void indexVariable(int position) {
+		VariableReference value = statements.get(position).getReturnValue();
+		if (value == null || value instanceof ArrayIndex)
+			return;
+		Class<?> variableClass = value.getVariableClass();
+		variableIndex.computeIfAbsent(variableClass, c -> new ArrayList<>()).add(position);
+		// positions are indexed in increasing order, so the lists stay sorted
+		for (Map.Entry<Class<?>, List<Integer>> entry : candidateIndex.entrySet()) {
+			if (canSupply(variableClass, entry.getKey()))
+				entry.getValue().add(position);
+		}
+	}
+
+	/**
+	 * Returns, in increasing order, the positions before the given position
+	 * whose variables may supply a value of the raw class, i.e. the only
+	 * positions {@link #getObjects(Type, int)} has to look at. The returned
+	 * list is a view that is only valid until the test case changes.
+	 */
+	private List<Integer> getCandidatePositions(Class<?> rawClass, int position) {
+		if (!isVariableIndexValid()) {
+			buildVariableIndex();
+		}
+
+		List<Integer> positions = candidateIndex.get(rawClass);
+		if (positions == null) {
+			// first lookup of this class since the index was built
+			positions = new ArrayList<>();
+			for (Map.Entry<Class<?>, List<Integer>> entry : variableIndex.entrySet()) {
+				if (canSupply(entry.getKey(), rawClass))
+					positions.addAll(entry.getValue());
+			}
+			Collections.sort(positions);
+			candidateIndex.put(rawClass, positions);
+		}
+
+		int end = Collections.binarySearch(positions, position);
+		if (end < 0)
+			end = -end - 1;
+		return positions.subList(0, end);
+	}
+
+	/**
+	 * Over-approximates the checks of {@link #getObjects(Type, int)}: a
+	 * variable can only supply a value of the raw class if its class is
+	 * assignable to it (allowing boxing and widening), if it is an array whose
+	 * elements may be assignable, or if it has fields that may be assignable.
+	 */
+	private static boolean canSupply(Class<?> variableClass, Class<?> rawClass) {
+		if (variableClass == null)
+			return true;
+		return variableClass.isArray() || ClassUtils.isAssignable(variableClass, rawClass, true)
+				|| (!variableClass.isPrimitive() && !TestClusterUtils.getAccessibleFields(variableClass).isEmpty());
+	}
+
 	/* (non-Javadoc)
 	 * @see org.evosuite.testcase.TestCase#getObjects(java.lang.reflect.Type, int)
 	 */
@@ -576,9 +689,9 @@ public class DefaultTestCase implements TestCase, Serializable {
 	public List<VariableReference> getObjects(Type type, int position) {
 		List<VariableReference> variables = new LinkedList<>();
 
-		GenericClass genericClass = new GenericClass(type);
+		GenericClass genericClass = GenericClass.getSharedInstance(type);
 		Class<?> rawClass = genericClass.getRawClass();
-		for (int i = 0; i < position && i < size(); i++) {
+		for (int i : getCandidatePositions(rawClass, position)) {
 			Statement statement = statements.get(i);
 			if(statement instanceof MethodStatement) {
 				if(((MethodStatement)statement).getMethod().getName().equals("hashCode"))
@@ -1394,7 +1394,7 @@ public class TestFactory {
 
 		List<VariableReference> objects = getCandidatesForReuse(test, parameterType, position, exclude, allowNull, canUseMocks);
 
-		GenericClass clazz = new GenericClass(parameterType);
+		GenericClass clazz = GenericClass.getSharedInstance(parameterType);
 		boolean isPrimitiveOrSimilar = clazz.isPrimitive() || clazz.isWrapperType() || clazz.isEnum() || clazz.isClass() || clazz.isString();
 
 		if (isPrimitiveOrSimilar && !objects.isEmpty() && reuse <= Properties.PRIMITIVE_REUSE_PROBABILITY) {
@@ -2403,7 +2403,7 @@ public class TestFactory {
 				throw new ConstructionFailedException("Cannot satisfy capture type");
 			}
 
-			GenericClass parameterClass = new GenericClass(parameterType);
+			GenericClass parameterClass = GenericClass.getSharedInstance(parameterType);
 			if (parameterClass.hasTypeVariables()) {
 				logger.debug("Parameter has type variables, replacing with wildcard");
 				parameterType = parameterClass.getWithWildcardTypes().getType();
@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import org.evosuite.Properties;
+import org.evosuite.Properties.Criterion;
+import org.evosuite.ga.Chromosome;
+import org.evosuite.ga.EvaluationScheduler;
+import org.evosuite.ga.stoppingconditions.MaxStatementsStoppingCondition;
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testsuite.TestSuiteChromosome;
+import org.evosuite.utils.ArrayUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes the tests of a batch of chromosomes together with
+ * {@link TestCaseExecutor#execute(List)} before their fitness is computed.
+ * The fitness functions then reuse the cached execution results.
+ * 
+ * The batch is processed in chunks of
+ * {@link Properties#TEST_EXECUTION_THREADS} tests, and the fitness of the
+ * chromosomes of one chunk is computed before the next chunk is executed, so
+ * the archive and stopping conditions are updated while the batch is being
+ * evaluated.
+ * 
+ * @param <T>
+ *            the type of chromosomes
+ */
+public abstract class BatchExecutionScheduler<T extends Chromosome<T>> implements EvaluationScheduler<T> {
+
+	private static final long serialVersionUID = 4702553484853301587L;
+
+	private static final Logger logger = LoggerFactory.getLogger(BatchExecutionScheduler.class);
+
+	/**
+	 * @return a scheduler for test case chromosomes
+	 */
+	public static BatchExecutionScheduler<TestChromosome> forTests() {
+		return new TestBatchExecutionScheduler();
+	}
+
+	/**
+	 * @return a scheduler for test suite chromosomes
+	 */
+	public static BatchExecutionScheduler<TestSuiteChromosome> forSuites() {
+		return new SuiteBatchExecutionScheduler();
+	}
+
+	/**
+	 * @param chromosome
+	 *            a chromosome of the batch
+	 * @return the test chromosomes that will be executed when computing the
+	 *         fitness of the chromosome
+	 */
+	protected abstract Collection<TestChromosome> getTestChromosomes(T chromosome);
+
+	/**
+	 * Mutation based fitness functions execute tests on their own, with
+	 * mutants activated, so executing the tests beforehand would be wasted
+	 * 
+	 * @return whether fitness functions execute tests in the default way
+	 */
+	protected boolean isBatchExecutionSupported() {
+		return !ArrayUtil.contains(Properties.CRITERION, Criterion.MUTATION)
+				&& !ArrayUtil.contains(Properties.CRITERION, Criterion.STRONGMUTATION)
+				&& !ArrayUtil.contains(Properties.CRITERION, Criterion.WEAKMUTATION)
+				&& !ArrayUtil.contains(Properties.CRITERION, Criterion.ONLYMUTATION);
+	}
+
+	@Override
+	public int evaluate(List<T> chromosomes, Consumer<T> evaluation, BooleanSupplier isFinished) {
+		if (!isBatchExecutionSupported()) {
+			int evaluated = 0;
+			for (T chromosome : chromosomes) {
+				if (isFinished.getAsBoolean())
+					break;
+				evaluation.accept(chromosome);
+				evaluated++;
+			}
+			return evaluated;
+		}
+
+		int chunkSize = Math.max(1, Properties.TEST_EXECUTION_THREADS);
+		Set<TestChromosome> pending = Collections.newSetFromMap(new IdentityHashMap<>());
+		List<TestChromosome> tests = new ArrayList<>();
+		List<T> chunk = new ArrayList<>();
+		int evaluated = 0;
+
+		for (T chromosome : chromosomes) {
+			chunk.add(chromosome);
+			for (TestChromosome test : getTestChromosomes(chromosome)) {
+				if ((test.isChanged() || test.getLastExecutionResult() == null) && pending.add(test))
+					tests.add(test);
+			}
+			if (tests.size() >= chunkSize) {
+				int chunkEvaluated = evaluateChunk(chunk, tests, evaluation, isFinished);
+				evaluated += chunkEvaluated;
+				if (chunkEvaluated < chunk.size())
+					return evaluated;
+				chunk.clear();
+				tests.clear();
+			}
+		}
+		if (!chunk.isEmpty())
+			evaluated += evaluateChunk(chunk, tests, evaluation, isFinished);
+		return evaluated;
+	}
+
+	private int evaluateChunk(List<T> chunk, List<TestChromosome> tests, Consumer<T> evaluation,
+			BooleanSupplier isFinished) {
+		if (isFinished.getAsBoolean())
+			return 0;
+
+		if (!tests.isEmpty()) {
+			List<TestCase> testCases = new ArrayList<>(tests.size());
+			for (TestChromosome test : tests)
+				testCases.add(test.getTestCase());
+
+			logger.debug("Executing batch of {} tests", testCases.size());
+			List<ExecutionResult> results = TestCaseExecutor.getInstance().execute(testCases);
+			for (int i = 0; i < tests.size(); i++) {
+				ExecutionResult result = results.get(i);
+				MaxStatementsStoppingCondition.statementsExecuted(result.getExecutedStatements());
+				tests.get(i).setLastExecutionResult(result);
+				tests.get(i).setChanged(false);
+			}
+		}
+
+		int evaluated = 0;
+		for (T chromosome : chunk) {
+			if (isFinished.getAsBoolean())
+				break;
+			evaluation.accept(chromosome);
+			evaluated++;
+		}
+		return evaluated;
+	}
+
+	private static class TestBatchExecutionScheduler extends BatchExecutionScheduler<TestChromosome> {
+
+		private static final long serialVersionUID = -2000312616329429187L;
+
+		@Override
+		protected Collection<TestChromosome> getTestChromosomes(TestChromosome chromosome) {
+			return Collections.singletonList(chromosome);
+		}
+	}
+
+	private static class SuiteBatchExecutionScheduler extends BatchExecutionScheduler<TestSuiteChromosome> {
+
+		private static final long serialVersionUID = 6134436004286637214L;
+
+		@Override
+		protected Collection<TestChromosome> getTestChromosomes(TestSuiteChromosome chromosome) {
+			return chromosome.getTestChromosomes();
+		}
+	}
+}
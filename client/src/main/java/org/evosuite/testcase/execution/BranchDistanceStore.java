@@ -0,0 +1,395 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Dense, array based storage of the branch distances and execution counts
+ * collected while executing a test.
+ *
+ * Entries are indexed directly by the branch id assigned by the
+ * {@link org.evosuite.coverage.branch.BranchPool}, so recording a passed branch
+ * neither boxes values nor allocates (except when the arrays have to grow).
+ * The ids of all branches seen so far are kept in a separate list, so that
+ * clearing the store and iterating over it is proportional to the number of
+ * branches actually touched rather than to the number of branches in the CUT.
+ *
+ * The usual {@code Map<Integer, ...>} representation expected by
+ * {@link ExecutionTrace} is available through read-only views.
+ */
+public final class BranchDistanceStore {
+
+	private static final int DEFAULT_CAPACITY = 64;
+
+	private static final int PREDICATE = 0;
+	private static final int TRUE = 1;
+	private static final int FALSE = 2;
+
+	private static final int MIN_TRUE = 0;
+	private static final int MIN_FALSE = 1;
+	private static final int SUM_TRUE = 2;
+	private static final int SUM_FALSE = 3;
+
+	/** Execution counts, indexed by [PREDICATE|TRUE|FALSE][branch id] */
+	private int[][] counts;
+
+	/** Distances, indexed by [MIN_TRUE|MIN_FALSE|SUM_TRUE|SUM_FALSE][branch id] */
+	private double[][] distances;
+
+	/** Whether a distance was recorded for a branch id */
+	private boolean[] touched;
+
+	/** Branch ids in the order in which they were first passed */
+	private int[] touchedIds;
+
+	private int numTouched = 0;
+
+	/** Number of branch ids with a non-zero count, per count kind */
+	private final int[] numCounted = new int[3];
+
+	private final Map<Integer, Integer> predicateCountView = new CountView(PREDICATE);
+
+	private final Map<Integer, Integer> trueCountView = new CountView(TRUE);
+
+	private final Map<Integer, Integer> falseCountView = new CountView(FALSE);
+
+	private final Map<Integer, Double> trueDistanceView = new DistanceView(MIN_TRUE);
+
+	private final Map<Integer, Double> falseDistanceView = new DistanceView(MIN_FALSE);
+
+	private final Map<Integer, Double> trueDistanceSumView = new DistanceView(SUM_TRUE);
+
+	private final Map<Integer, Double> falseDistanceSumView = new DistanceView(SUM_FALSE);
+
+	public BranchDistanceStore() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param capacity
+	 *            the expected largest branch id plus one
+	 */
+	public BranchDistanceStore(int capacity) {
+		int size = Math.max(capacity, 1);
+		counts = new int[3][size];
+		distances = new double[4][size];
+		touched = new boolean[size];
+		touchedIds = new int[Math.min(size, DEFAULT_CAPACITY)];
+	}
+
+	/**
+	 * Record that the branch with the given id was evaluated
+	 *
+	 * @param branch
+	 *            the id of the branch
+	 * @param trueDistance
+	 *            distance to the true outcome
+	 * @param falseDistance
+	 *            distance to the false outcome
+	 * @param countCoverage
+	 *            whether the execution counts should be updated too
+	 */
+	public void branchPassed(int branch, double trueDistance, double falseDistance, boolean countCoverage) {
+		if (branch < 0)
+			throw new IllegalArgumentException("Branch ids cannot be negative: " + branch);
+		if (branch >= touched.length)
+			grow(branch + 1);
+
+		if (countCoverage) {
+			increment(PREDICATE, branch);
+			if (trueDistance == 0.0)
+				increment(TRUE, branch);
+			if (falseDistance == 0.0)
+				increment(FALSE, branch);
+		}
+
+		if (!touched[branch]) {
+			touched[branch] = true;
+			if (numTouched == touchedIds.length)
+				touchedIds = Arrays.copyOf(touchedIds, Math.min(touchedIds.length * 2, touched.length));
+			touchedIds[numTouched++] = branch;
+			distances[MIN_TRUE][branch] = trueDistance;
+			distances[MIN_FALSE][branch] = falseDistance;
+			distances[SUM_TRUE][branch] = trueDistance;
+			distances[SUM_FALSE][branch] = falseDistance;
+		} else {
+			if (trueDistance < distances[MIN_TRUE][branch])
+				distances[MIN_TRUE][branch] = trueDistance;
+			if (falseDistance < distances[MIN_FALSE][branch])
+				distances[MIN_FALSE][branch] = falseDistance;
+			distances[SUM_TRUE][branch] += trueDistance;
+			distances[SUM_FALSE][branch] += falseDistance;
+		}
+	}
+
+	private void increment(int kind, int branch) {
+		if (counts[kind][branch]++ == 0)
+			numCounted[kind]++;
+	}
+
+	private void grow(int minCapacity) {
+		int size = Math.max(minCapacity, touched.length * 2);
+		for (int i = 0; i < counts.length; i++)
+			counts[i] = Arrays.copyOf(counts[i], size);
+		for (int i = 0; i < distances.length; i++)
+			distances[i] = Arrays.copyOf(distances[i], size);
+		touched = Arrays.copyOf(touched, size);
+	}
+
+	/**
+	 * Reset all entries; the cost is proportional to the number of branches
+	 * that were touched since the last reset
+	 */
+	public void clear() {
+		for (int i = 0; i < numTouched; i++) {
+			int branch = touchedIds[i];
+			touched[branch] = false;
+			for (int[] count : counts)
+				count[branch] = 0;
+			for (double[] distance : distances)
+				distance[branch] = 0.0;
+		}
+		numTouched = 0;
+		Arrays.fill(numCounted, 0);
+	}
+
+	/**
+	 * Create a deep copy of this store
+	 *
+	 * @return a new store with the same entries
+	 */
+	public BranchDistanceStore copy() {
+		BranchDistanceStore copy = new BranchDistanceStore(touched.length);
+		for (int i = 0; i < counts.length; i++)
+			System.arraycopy(counts[i], 0, copy.counts[i], 0, touched.length);
+		for (int i = 0; i < distances.length; i++)
+			System.arraycopy(distances[i], 0, copy.distances[i], 0, touched.length);
+		System.arraycopy(touched, 0, copy.touched, 0, touched.length);
+		copy.touchedIds = Arrays.copyOf(touchedIds, touchedIds.length);
+		copy.numTouched = numTouched;
+		System.arraycopy(numCounted, 0, copy.numCounted, 0, numCounted.length);
+		return copy;
+	}
+
+	public boolean hasDistance(int branch) {
+		return branch >= 0 && branch < touched.length && touched[branch];
+	}
+
+	public int getPredicateCount(int branch) {
+		return getCount(PREDICATE, branch);
+	}
+
+	public int getTrueCount(int branch) {
+		return getCount(TRUE, branch);
+	}
+
+	public int getFalseCount(int branch) {
+		return getCount(FALSE, branch);
+	}
+
+	public double getTrueDistance(int branch) {
+		return getDistance(MIN_TRUE, branch);
+	}
+
+	public double getFalseDistance(int branch) {
+		return getDistance(MIN_FALSE, branch);
+	}
+
+	public Map<Integer, Integer> getPredicateCounts() {
+		return predicateCountView;
+	}
+
+	public Map<Integer, Integer> getTrueCounts() {
+		return trueCountView;
+	}
+
+	public Map<Integer, Integer> getFalseCounts() {
+		return falseCountView;
+	}
+
+	public Map<Integer, Double> getTrueDistances() {
+		return trueDistanceView;
+	}
+
+	public Map<Integer, Double> getFalseDistances() {
+		return falseDistanceView;
+	}
+
+	public Map<Integer, Double> getTrueDistancesSum() {
+		return trueDistanceSumView;
+	}
+
+	public Map<Integer, Double> getFalseDistancesSum() {
+		return falseDistanceSumView;
+	}
+
+	private int getCount(int kind, int branch) {
+		if (!hasDistance(branch))
+			return 0;
+		return counts[kind][branch];
+	}
+
+	private double getDistance(int kind, int branch) {
+		if (!hasDistance(branch))
+			throw new IllegalArgumentException("No distance recorded for branch " + branch);
+		return distances[kind][branch];
+	}
+
+	/**
+	 * Iterates over the touched branch ids, in the order in which they were
+	 * first passed, skipping those that do not satisfy {@link #accept(int)}
+	 */
+	private abstract class TouchedIterator<V> implements Iterator<Map.Entry<Integer, V>> {
+
+		private int next = -1;
+
+		protected abstract boolean accept(int branch);
+
+		protected abstract V value(int branch);
+
+		private int advance(int from) {
+			int i = from;
+			while (i < numTouched && !accept(touchedIds[i]))
+				i++;
+			return i;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (next < 0)
+				next = advance(0);
+			return next < numTouched;
+		}
+
+		@Override
+		public Map.Entry<Integer, V> next() {
+			if (!hasNext())
+				throw new NoSuchElementException();
+			int branch = touchedIds[next];
+			next = advance(next + 1);
+			return new AbstractMap.SimpleImmutableEntry<>(branch, value(branch));
+		}
+	}
+
+	private final class CountView extends AbstractMap<Integer, Integer> {
+
+		private final int kind;
+
+		private CountView(int kind) {
+			this.kind = kind;
+		}
+
+		@Override
+		public int size() {
+			return numCounted[kind];
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return key instanceof Integer && getCount(kind, (Integer) key) > 0;
+		}
+
+		@Override
+		public Integer get(Object key) {
+			return containsKey(key) ? counts[kind][(Integer) key] : null;
+		}
+
+		@Override
+		public Set<Map.Entry<Integer, Integer>> entrySet() {
+			return new AbstractSet<Map.Entry<Integer, Integer>>() {
+				@Override
+				public Iterator<Map.Entry<Integer, Integer>> iterator() {
+					return new TouchedIterator<Integer>() {
+						@Override
+						protected boolean accept(int branch) {
+							return counts[kind][branch] > 0;
+						}
+
+						@Override
+						protected Integer value(int branch) {
+							return counts[kind][branch];
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return numCounted[kind];
+				}
+			};
+		}
+	}
+
+	private final class DistanceView extends AbstractMap<Integer, Double> {
+
+		private final int kind;
+
+		private DistanceView(int kind) {
+			this.kind = kind;
+		}
+
+		@Override
+		public int size() {
+			return numTouched;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return key instanceof Integer && hasDistance((Integer) key);
+		}
+
+		@Override
+		public Double get(Object key) {
+			return containsKey(key) ? distances[kind][(Integer) key] : null;
+		}
+
+		@Override
+		public Set<Map.Entry<Integer, Double>> entrySet() {
+			return new AbstractSet<Map.Entry<Integer, Double>>() {
+				@Override
+				public Iterator<Map.Entry<Integer, Double>> iterator() {
+					return new TouchedIterator<Double>() {
+						@Override
+						protected boolean accept(int branch) {
+							return true;
+						}
+
+						@Override
+						protected Double value(int branch) {
+							return distances[kind][branch];
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return numTouched;
+				}
+			};
+		}
+	}
+}
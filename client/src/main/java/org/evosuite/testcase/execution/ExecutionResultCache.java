@@ -0,0 +1,213 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.statements.PrimitiveStatement;
+import org.evosuite.testcase.statements.Statement;
+
+/**
+ * Bounded cache of execution results, keyed by the structure of the executed
+ * test case.
+ *
+ * Crossover and mutation frequently produce test cases that are structurally
+ * identical to tests that were already executed. Two tests are considered
+ * identical if they have the same length and each statement is the
+ * {@link Statement#same(Statement)} as the statement at the same position in
+ * the other test, which covers the called methods, the primitive values and the
+ * types of all variables. When the cache is full, the least recently used entry
+ * is evicted.
+ *
+ * Cached results are copies: {@link #get(TestCase)} returns a fresh clone of
+ * the stored result which refers to the test case that was looked up. As the
+ * looked up test is not executed, the environment accesses recorded for the
+ * stored test (see {@link TestCase#getAccessedEnvironment()}) are copied to it
+ * as well. Additions to the test cluster that were triggered by these accesses
+ * were already made when the stored test was executed.
+ */
+public class ExecutionResultCache {
+
+	private final int capacity;
+
+	private final LinkedHashMap<Key, ExecutionResult> results;
+
+	private long hits = 0;
+
+	private long misses = 0;
+
+	/** Total number of statements of the test cases currently held */
+	private long numStatements = 0;
+
+	/**
+	 * @param capacity
+	 *            the maximum number of results kept in the cache
+	 */
+	public ExecutionResultCache(int capacity) {
+		if (capacity < 1)
+			throw new IllegalArgumentException("Capacity of the cache has to be positive: " + capacity);
+		this.capacity = capacity;
+		this.results = new LinkedHashMap<Key, ExecutionResult>(16, 0.75f, true) {
+			private static final long serialVersionUID = 2953066454405298815L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, ExecutionResult> eldest) {
+				if (size() > ExecutionResultCache.this.capacity) {
+					numStatements -= eldest.getKey().test.size();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Look up the result of a structurally identical test case
+	 *
+	 * @param tc
+	 *            the test case about to be executed
+	 * @return a copy of the cached result, or null if there is none. On a hit,
+	 *         the accessed environment of the test case is replaced with the
+	 *         one recorded for the cached test
+	 */
+	public ExecutionResult get(TestCase tc) {
+		ExecutionResult result = results.get(new Key(tc));
+		if (result == null) {
+			misses++;
+			return null;
+		}
+		hits++;
+		ExecutionResult copy = result.clone();
+		copy.setTest(tc);
+		tc.getAccessedEnvironment().copyFrom(result.getTest().getAccessedEnvironment());
+		return copy;
+	}
+
+	/**
+	 * Store the result of executing the given test case. The test case and the
+	 * result are copied, so later changes to either do not affect the cache.
+	 * This has to be called after the runtime accesses of the execution were
+	 * recorded in the test case.
+	 *
+	 * @param tc
+	 *            the executed test case
+	 * @param result
+	 *            the result of its execution
+	 */
+	public void put(TestCase tc, ExecutionResult result) {
+		TestCase copy = tc.clone();
+		ExecutionResult resultCopy = result.clone();
+		resultCopy.setTest(copy);
+		ExecutionResult previous = results.put(new Key(copy), resultCopy);
+		if (previous == null)
+			numStatements += copy.size();
+	}
+
+	/**
+	 * Remove all entries, the statistics are kept
+	 */
+	public void clear() {
+		results.clear();
+		numStatements = 0;
+	}
+
+	public int size() {
+		return results.size();
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * @return the ratio of lookups that were answered from the cache
+	 */
+	public double getHitRate() {
+		long lookups = hits + misses;
+		if (lookups == 0)
+			return 0.0;
+		return (double) hits / (double) lookups;
+	}
+
+	/**
+	 * @return the number of statements of all test cases held by the cache,
+	 *         which is a proxy for its memory footprint
+	 */
+	public long getNumStatements() {
+		return numStatements;
+	}
+
+	/**
+	 * Hash over the structure of a test case that is consistent with
+	 * {@link Statement#same(Statement)}
+	 */
+	static int structuralHash(TestCase tc) {
+		int hash = tc.size();
+		for (Statement st : tc) {
+			hash = 31 * hash + st.getClass().hashCode();
+			Class<?> returnClass = st.getReturnClass();
+			hash = 31 * hash + (returnClass == null ? 0 : returnClass.hashCode());
+			if (st instanceof PrimitiveStatement<?>) {
+				Object value = ((PrimitiveStatement<?>) st).getValue();
+				hash = 31 * hash + (value == null ? 0 : value.hashCode());
+			} else if (st.getAccessibleObject() != null) {
+				hash = 31 * hash + st.getAccessibleObject().hashCode();
+			}
+		}
+		return hash;
+	}
+
+	private static final class Key {
+
+		private final TestCase test;
+
+		private final int hash;
+
+		private Key(TestCase test) {
+			this.test = test;
+			this.hash = structuralHash(test);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return hash == other.hash && test.size() == other.test.size() && test.isPrefix(other.test);
+		}
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.evosuite.seeding.ConstantPoolManager;
+import org.evosuite.setup.TestCluster;
+
+/**
+ * Side effects of executing tests on the state of the search: constants
+ * observed by the instrumentation for the dynamic constant pool, and classes
+ * of objects looked up in containers for the test cluster. That state is not
+ * thread-safe and is used by the search thread, while tests run on execution
+ * threads, several at a time in a parallel batch.
+ * 
+ * Threads other than the search thread therefore only record the side
+ * effects, and the {@link TestCaseExecutor} applies them on the search thread
+ * once an execution is done. Each test of a parallel batch records into its
+ * own buffer, and the buffers are applied in the order of the tests.
+ */
+public final class ExecutionSideEffects {
+
+	/**
+	 * Bound on the constants recorded by one execution; the dynamic pool
+	 * only keeps the most recent ones anyway
+	 */
+	private static final int MAX_DYNAMIC_CONSTANTS = 1000;
+
+	/** Thread running the search, or null if no test has been executed yet */
+	private static volatile Thread searchThread = null;
+
+	/** Buffer of the test executed by the current worker thread, if any */
+	private static final ThreadLocal<ExecutionSideEffects> workerSideEffects = new ThreadLocal<>();
+
+	/**
+	 * Number of threads with a worker buffer; as long as there are none, the
+	 * thread local does not need to be consulted
+	 */
+	private static final AtomicInteger numWorkers = new AtomicInteger(0);
+
+	/** Buffer of all other threads, e.g. the execution thread of single tests */
+	private static final ExecutionSideEffects shared = new ExecutionSideEffects();
+
+	private final Set<Object> dynamicConstants = new LinkedHashSet<>();
+
+	private final Set<Class<?>> containerClasses = new LinkedHashSet<>();
+
+	/**
+	 * Record a constant for the dynamic constant pool if the current thread
+	 * is not the search thread
+	 * 
+	 * @param value
+	 * @return true if the constant was recorded, false if the caller has to
+	 *         add it to the pool itself
+	 */
+	public static boolean deferDynamicConstant(Object value) {
+		ExecutionSideEffects sideEffects = getBuffer();
+		if (sideEffects == null)
+			return false;
+		synchronized (sideEffects) {
+			if (sideEffects.dynamicConstants.size() >= MAX_DYNAMIC_CONSTANTS
+					&& !sideEffects.dynamicConstants.contains(value)) {
+				Iterator<Object> oldest = sideEffects.dynamicConstants.iterator();
+				oldest.next();
+				oldest.remove();
+			}
+			sideEffects.dynamicConstants.add(value);
+		}
+		return true;
+	}
+
+	/**
+	 * Record the class of an object looked up in a container if the current
+	 * thread is not the search thread
+	 * 
+	 * @param clazz
+	 * @return true if the class was recorded, false if the caller has to add
+	 *         it to the test cluster itself
+	 */
+	public static boolean deferContainerClass(Class<?> clazz) {
+		ExecutionSideEffects sideEffects = getBuffer();
+		if (sideEffects == null)
+			return false;
+		synchronized (sideEffects) {
+			sideEffects.containerClasses.add(clazz);
+		}
+		return true;
+	}
+
+	private static ExecutionSideEffects getBuffer() {
+		Thread search = searchThread;
+		if (search == null || search == Thread.currentThread())
+			return null;
+		if (numWorkers.get() > 0) {
+			ExecutionSideEffects sideEffects = workerSideEffects.get();
+			if (sideEffects != null)
+				return sideEffects;
+		}
+		return shared;
+	}
+
+	/**
+	 * Make the current thread the one on which side effects are applied
+	 */
+	static void setSearchThread() {
+		searchThread = Thread.currentThread();
+	}
+
+	/**
+	 * Give the current thread its own buffer until {@link #unbindWorker()} is
+	 * called
+	 * 
+	 * @return the buffer of the current thread
+	 */
+	static ExecutionSideEffects bindWorker() {
+		ExecutionSideEffects sideEffects = new ExecutionSideEffects();
+		if (workerSideEffects.get() == null)
+			numWorkers.incrementAndGet();
+		workerSideEffects.set(sideEffects);
+		return sideEffects;
+	}
+
+	static void unbindWorker() {
+		if (workerSideEffects.get() != null) {
+			workerSideEffects.remove();
+			numWorkers.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Apply the side effects recorded by threads without their own buffer;
+	 * must be called on the search thread
+	 */
+	static void applyShared() {
+		shared.apply();
+	}
+
+	/**
+	 * Apply and forget the recorded side effects; must be called on the
+	 * search thread
+	 */
+	void apply() {
+		List<Object> constants;
+		List<Class<?>> classes;
+		synchronized (this) {
+			if (dynamicConstants.isEmpty() && containerClasses.isEmpty())
+				return;
+			constants = new ArrayList<>(dynamicConstants);
+			classes = new ArrayList<>(containerClasses);
+			dynamicConstants.clear();
+			containerClasses.clear();
+		}
+		for (Object value : constants) {
+			ConstantPoolManager.getInstance().addDynamicConstant(value);
+		}
+		for (Class<?> clazz : classes) {
+			TestCluster.getInstance().addCastClassForContainer(clazz);
+		}
+	}
+}
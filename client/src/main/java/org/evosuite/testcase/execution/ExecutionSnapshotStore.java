@@ -0,0 +1,232 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import java.util.LinkedList;
+
+import org.evosuite.Properties;
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.variable.VariableReference;
+
+/**
+ * Keeps the final state of recently executed test cases, such that a test case
+ * that extends one of them by appending statements only needs to execute the
+ * new statements.
+ *
+ * The state of a test consists of the {@link Scope} with all objects it
+ * created, and the result of its execution including the trace. As executing
+ * further statements changes the objects in the scope, each snapshot can only
+ * be resumed once and is removed from the store when it is taken. If the store
+ * is full, the oldest snapshot is dropped.
+ */
+public class ExecutionSnapshotStore {
+
+	/**
+	 * State after executing all statements of a test case
+	 */
+	public static final class Snapshot {
+
+		private final TestCase test;
+
+		private final Scope scope;
+
+		private final ExecutionResult result;
+
+		private Snapshot(TestCase test, Scope scope, ExecutionResult result) {
+			this.test = test;
+			this.scope = scope;
+			this.result = result;
+		}
+
+		/**
+		 * Create the scope to continue executing the given test case on. The
+		 * test case has to be an extension of the test of this snapshot.
+		 *
+		 * @param tc
+		 *            the test case about to be executed
+		 * @return the scope holding the objects created by the prefix
+		 */
+		public Scope createScope(TestCase tc) {
+			return rebind(scope, test, tc);
+		}
+
+		/**
+		 * @return the result of executing the prefix
+		 */
+		public ExecutionResult getResult() {
+			return result;
+		}
+
+		/**
+		 * @return the number of statements that do not need to be executed
+		 *         again
+		 */
+		public int getLength() {
+			return test.size();
+		}
+
+		/**
+		 * Add what was recorded while executing the prefix, outside of the
+		 * trace, to the result of executing the remaining statements
+		 */
+		public void completeResult(ExecutionResult suffixResult) {
+			if (result.getReadProperties() != null) {
+				if (suffixResult.getReadProperties() == null)
+					suffixResult.setReadProperties(result.getReadProperties());
+				else
+					suffixResult.getReadProperties().addAll(result.getReadProperties());
+			}
+			if (result.wasAnyPropertyWritten())
+				suffixResult.setWasAnyPropertyWritten(true);
+		}
+	}
+
+	private final int capacity;
+
+	private final LinkedList<Snapshot> snapshots = new LinkedList<>();
+
+	private long numResumed = 0;
+
+	private long numResumedStatements = 0;
+
+	/**
+	 * @param capacity
+	 *            the maximum number of snapshots kept
+	 */
+	public ExecutionSnapshotStore(int capacity) {
+		if (capacity < 1)
+			throw new IllegalArgumentException("Capacity of the store has to be positive: " + capacity);
+		this.capacity = capacity;
+	}
+
+	/**
+	 * A snapshot can only be resumed if nothing happened during the execution
+	 * that is not part of the scope: the test has to be executed completely,
+	 * and must neither write static fields nor initialize classes, as the
+	 * static state is reset before the next test is executed. Writes to static
+	 * fields are only traced if {@link Properties#RESET_STATIC_FIELDS} is
+	 * enabled, otherwise no state is resumable
+	 *
+	 * @param result
+	 *            the result of executing a test
+	 * @return whether the state after the execution can be kept
+	 */
+	public static boolean isResumable(ExecutionResult result) {
+		if (!Properties.RESET_STATIC_FIELDS)
+			return false;
+		if (result.getTrace() == null || !result.noThrownExceptions() || result.hasSecurityException())
+			return false;
+		if (result.getExecutedStatements() != result.test.size())
+			return false;
+		ExecutionTrace trace = result.getTrace();
+		return trace.getClassesWithStaticWrites().isEmpty() && trace.getInitializedClasses().isEmpty();
+	}
+
+	/**
+	 * Keep the state after executing the given test case
+	 *
+	 * @param tc
+	 *            the executed test case
+	 * @param scope
+	 *            the scope it was executed on
+	 * @param result
+	 *            the result of its execution
+	 */
+	public void put(TestCase tc, Scope scope, ExecutionResult result) {
+		TestCase copy = tc.clone();
+		ExecutionResult resultCopy = result.clone();
+		resultCopy.setTest(copy);
+		snapshots.addFirst(new Snapshot(copy, rebind(scope, tc, copy), resultCopy));
+		if (snapshots.size() > capacity)
+			snapshots.removeLast();
+	}
+
+	/**
+	 * Remove and return the longest snapshot of which the given test case is a
+	 * strict extension
+	 *
+	 * @param tc
+	 *            the test case about to be executed
+	 * @return the snapshot to resume, or null if there is none
+	 */
+	public Snapshot take(TestCase tc) {
+		Snapshot best = null;
+		for (Snapshot snapshot : snapshots) {
+			int length = snapshot.getLength();
+			if (length == 0 || length >= tc.size())
+				continue;
+			if (best != null && best.getLength() >= length)
+				continue;
+			if (snapshot.test.isPrefix(tc))
+				best = snapshot;
+		}
+		if (best != null) {
+			snapshots.remove(best);
+			numResumed++;
+			numResumedStatements += best.getLength();
+		}
+		return best;
+	}
+
+	/**
+	 * Objects in a scope are keyed by the variable references of a particular
+	 * test case, so they have to be moved to the references of the
+	 * corresponding statements of another test case
+	 */
+	private static Scope rebind(Scope scope, TestCase from, TestCase to) {
+		Scope copy = new Scope();
+		for (int i = 0; i < from.size(); i++) {
+			VariableReference source = from.getStatement(i).getReturnValue();
+			if (scope.getVariables().contains(source))
+				copy.setObject(to.getStatement(i).getReturnValue(), scope.getObject(source));
+		}
+		return copy;
+	}
+
+	/**
+	 * Drop all snapshots, the statistics are kept
+	 */
+	public void clear() {
+		snapshots.clear();
+	}
+
+	public int size() {
+		return snapshots.size();
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return the number of executions that resumed a snapshot
+	 */
+	public long getNumResumed() {
+		return numResumed;
+	}
+
+	/**
+	 * @return the number of statements that did not need to be executed
+	 *         because a snapshot was resumed
+	 */
+	public long getNumResumedStatements() {
+		return numResumedStatements;
+	}
+}
@@ -198,15 +198,12 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	public Map<String, Map<String, Map<Integer, Integer>>> coverage = Collections
 			.synchronizedMap(new HashMap<>());
 
-	public Map<Integer, Integer> coveredFalse = Collections.synchronizedMap(new HashMap<>());
-
 	public Map<String, Integer> coveredMethods = Collections.synchronizedMap(new HashMap<>());
 
 	public Map<String, Integer> coveredBranchlessMethods = Collections.synchronizedMap(new HashMap<>());
 
-	public Map<Integer, Integer> coveredPredicates = Collections.synchronizedMap(new HashMap<>());
-
-	public Map<Integer, Integer> coveredTrue = Collections.synchronizedMap(new HashMap<>());
+	// Branch distances and execution counts, indexed by branch id
+	private BranchDistanceStore branchDistances = new BranchDistanceStore();
 
 	public Map<Integer, Integer> coveredDefs = Collections.synchronizedMap(new HashMap<>());
 
@@ -227,8 +224,6 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	// The last explicitly thrown exception is kept here
 	private Throwable explicitException = null;
 
-	public Map<Integer, Double> falseDistances = Collections.synchronizedMap(new HashMap<>());
-	private final Map<Integer, Double> falseDistancesSum = Collections.synchronizedMap(new HashMap<>());
 	// finished_calls;
 	public List<MethodCall> finishedCalls = Collections.synchronizedList(new ArrayList<>());
 	public Map<Integer, Object> knownCallerObjects = Collections.synchronizedMap(new HashMap<>());
@@ -260,10 +255,6 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 
 	public Set<Integer> touchedMutants = Collections.synchronizedSet(new HashSet<>());
 
-	public Map<Integer, Double> trueDistances = Collections.synchronizedMap(new HashMap<>());
-
-	private final Map<Integer, Double> trueDistancesSum = Collections.synchronizedMap(new HashMap<>());
-
 	public static Set<Integer> gradientBranches = Collections.synchronizedSet(new HashSet<>());
 
 	public static Set<Integer> gradientBranchesCoveredTrue = Collections.synchronizedSet(new HashSet<>());
@@ -324,33 +315,15 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 				gradientBranches.add(branch);
 		}
 
-		if (traceCoverage) {
-			if (!coveredPredicates.containsKey(branch))
-				coveredPredicates.put(branch, 1);
-			else
-				coveredPredicates.put(branch, coveredPredicates.get(branch) + 1);
-
-			if (true_distance == 0.0) {
-				if (!coveredTrue.containsKey(branch))
-					coveredTrue.put(branch, 1);
-				else
-					coveredTrue.put(branch, coveredTrue.get(branch) + 1);
-
-			}
-
-			if (false_distance == 0.0) {
-				if (!coveredFalse.containsKey(branch))
-					coveredFalse.put(branch, 1);
-				else
-					coveredFalse.put(branch, coveredFalse.get(branch) + 1);
-			}
-		}
+		// Updates the execution counts (if coverage is traced) as well as the
+		// minimum and summed distances
+		branchDistances.branchPassed(branch, true_distance, false_distance, traceCoverage);
 
 		if (Properties.TRACK_COVERED_GRADIENT_BRANCHES) {
 			if (gradientBranches.contains(branch)) {
-				if ((coveredTrue.containsKey(branch)))
+				if (branchDistances.getTrueCount(branch) > 0)
 					gradientBranchesCoveredTrue.add(branch);
-				if ((coveredFalse.containsKey(branch)))
+				if (branchDistances.getFalseCount(branch) > 0)
 					gradientBranchesCoveredFalse.add(branch);
 			}
 		}
@@ -363,8 +336,8 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 					.getInstruction().getASMNode().getPrevious() != null)
 				previousOpcode = BranchPool.getInstance(TestGenerationContext.getInstance().getClassLoaderForSUT())
 						.getBranch(branch).getInstruction().getASMNode().getPrevious().getOpcode();
-			boolean cTrue = coveredTrue.containsKey(branch);
-			boolean cFalse = coveredFalse.containsKey(branch);
+			boolean cTrue = branchDistances.getTrueCount(branch) > 0;
+			boolean cFalse = branchDistances.getFalseCount(branch) > 0;
 			switch (previousOpcode) {
 			case Opcodes.LCMP:
 				trackBranchOpcode(bytecodeInstructionReached, RuntimeVariable.Reached_lcmp, branch);
@@ -451,26 +424,6 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 			}
 		}
 
-		if (!trueDistances.containsKey(branch))
-			trueDistances.put(branch, true_distance);
-		else
-			trueDistances.put(branch, Math.min(trueDistances.get(branch), true_distance));
-
-		if (!falseDistances.containsKey(branch))
-			falseDistances.put(branch, false_distance);
-		else
-			falseDistances.put(branch, Math.min(falseDistances.get(branch), false_distance));
-
-		if (!trueDistancesSum.containsKey(branch))
-			trueDistancesSum.put(branch, true_distance);
-		else
-			trueDistancesSum.put(branch, trueDistancesSum.get(branch) + true_distance);
-
-		if (!falseDistancesSum.containsKey(branch))
-			falseDistancesSum.put(branch, false_distance);
-		else
-			falseDistancesSum.put(branch, falseDistancesSum.get(branch) + false_distance);
-
 		if (!disableContext && (Properties.INSTRUMENT_CONTEXT || Properties.INSTRUMENT_METHOD_CALLS
 				|| ArrayUtil.contains(Properties.CRITERION, Criterion.IBRANCH)
 				|| ArrayUtil.contains(Properties.CRITERION, Criterion.CBRANCH))) {
@@ -550,15 +503,11 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 		duCounter = 0;
 		objectCounter = 0;
 		knownCallerObjects = new HashMap<>();
-		trueDistances = new HashMap<>();
-		falseDistances = new HashMap<>();
+		branchDistances.clear();
 		mutantDistances = new HashMap<>();
 		touchedMutants = new HashSet<>();
 		coveredMethods = new HashMap<>();
 		coveredBranchlessMethods = new HashMap<>();
-		coveredPredicates = new HashMap<>();
-		coveredTrue = new HashMap<>();
-		coveredFalse = new HashMap<>();
 		coveredDefs = new HashMap<>();
 		passedDefinitions = new HashMap<>();
 		passedUses = new HashMap<>();
@@ -598,13 +547,9 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 		 * null && stack.peek().method_name.equals("")) { logger.info(
 		 * "Copying main method"); copy.finished_calls.add(stack.peek()); }
 		 */
-		copy.trueDistances.putAll(trueDistances);
-		copy.falseDistances.putAll(falseDistances);
+		copy.branchDistances = branchDistances.copy();
 		copy.coveredMethods.putAll(coveredMethods);
 		copy.coveredBranchlessMethods.putAll(coveredBranchlessMethods);
-		copy.coveredPredicates.putAll(coveredPredicates);
-		copy.coveredTrue.putAll(coveredTrue);
-		copy.coveredFalse.putAll(coveredFalse);
 		copy.coveredDefs.putAll(coveredDefs);
 		copy.touchedMutants.addAll(touchedMutants);
 		copy.mutantDistances.putAll(mutantDistances);
@@ -860,7 +805,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	@Override
 	public Set<Integer> getCoveredFalseBranches() {
 		Set<Integer> covered = new HashSet<>();
-		for (Entry<Integer, Double> entry : falseDistances.entrySet()) {
+		for (Entry<Integer, Double> entry : branchDistances.getFalseDistances().entrySet()) {
 			if (entry.getValue() == 0.0)
 				covered.add(entry.getKey());
 		}
@@ -929,7 +874,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	/** {@inheritDoc} */
 	@Override
 	public Set<Integer> getCoveredPredicates() {
-		return coveredPredicates.keySet();
+		return branchDistances.getPredicateCounts().keySet();
 	}
 
 	/*
@@ -941,7 +886,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	@Override
 	public Set<Integer> getCoveredTrueBranches() {
 		Set<Integer> covered = new HashSet<>();
-		for (Entry<Integer, Double> entry : trueDistances.entrySet()) {
+		for (Entry<Integer, Double> entry : branchDistances.getTrueDistances().entrySet()) {
 			if (entry.getValue() == 0.0)
 				covered.add(entry.getKey());
 		}
@@ -998,7 +943,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	/** {@inheritDoc} */
 	@Override
 	public double getFalseDistance(int branchId) {
-		return falseDistances.get(branchId);
+		return branchDistances.getFalseDistance(branchId);
 	}
 
 	/*
@@ -1009,7 +954,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	/** {@inheritDoc} */
 	@Override
 	public Map<Integer, Double> getFalseDistances() {
-		return falseDistances;
+		return branchDistances.getFalseDistances();
 	}
 
 	/*
@@ -1087,7 +1032,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	/** {@inheritDoc} */
 	@Override
 	public Map<Integer, Integer> getPredicateExecutionCount() {
-		return coveredPredicates;
+		return branchDistances.getPredicateCounts();
 	}
 
 	/**
@@ -1266,7 +1211,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	/** {@inheritDoc} */
 	@Override
 	public double getTrueDistance(int branchId) {
-		return trueDistances.get(branchId);
+		return branchDistances.getTrueDistance(branchId);
 	}
 
 	/*
@@ -1277,7 +1222,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	/** {@inheritDoc} */
 	@Override
 	public Map<Integer, Double> getTrueDistances() {
-		return trueDistances;
+		return branchDistances.getTrueDistances();
 	}
 
 	/*
@@ -1303,7 +1248,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	/** {@inheritDoc} */
 	@Override
 	public boolean hasFalseDistance(int predicateId) {
-		return falseDistances.containsKey(predicateId);
+		return branchDistances.hasDistance(predicateId);
 	}
 
 	/** {@inheritDoc} */
@@ -1326,7 +1271,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	/** {@inheritDoc} */
 	@Override
 	public boolean hasTrueDistance(int predicateId) {
-		return trueDistances.containsKey(predicateId);
+		return branchDistances.hasDistance(predicateId);
 	}
 
 	/*
@@ -1579,15 +1524,15 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 			ret.append(entry.getKey() + ": " + entry.getValue() + ", ");
 		}
 		ret.append("\nCovered predicates: ");
-		for (Entry<Integer, Integer> entry : coveredPredicates.entrySet()) {
+		for (Entry<Integer, Integer> entry : branchDistances.getPredicateCounts().entrySet()) {
 			ret.append(entry.getKey() + ": " + entry.getValue() + ", ");
 		}
 		ret.append("\nTrue distances: ");
-		for (Entry<Integer, Double> entry : trueDistances.entrySet()) {
+		for (Entry<Integer, Double> entry : branchDistances.getTrueDistances().entrySet()) {
 			ret.append(entry.getKey() + ": " + entry.getValue() + ", ");
 		}
 		ret.append("\nFalse distances: ");
-		for (Entry<Integer, Double> entry : falseDistances.entrySet()) {
+		for (Entry<Integer, Double> entry : branchDistances.getFalseDistances().entrySet()) {
 			ret.append(entry.getKey() + ": " + entry.getValue() + ", ");
 		}
 		return ret.toString();
@@ -1674,13 +1619,13 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	/** {@inheritDoc} */
 	@Override
 	public Map<Integer, Double> getFalseDistancesSum() {
-		return falseDistancesSum;
+		return branchDistances.getFalseDistancesSum();
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public Map<Integer, Double> getTrueDistancesSum() {
-		return trueDistancesSum;
+		return branchDistances.getTrueDistancesSum();
 	}
 
 	/** {@inheritDoc} */
@@ -20,6 +20,8 @@
 package org.evosuite.testcase.execution;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.evosuite.coverage.dataflow.DefUsePool;
 import org.evosuite.coverage.dataflow.Definition;
@@ -49,7 +51,7 @@ public class ExecutionTracer {
 	private boolean disabled = true;
 
 	/** Flag that is used to kill threads that are stuck in endless loops */
-	private boolean killSwitch = false;
+	private volatile boolean killSwitch = false;
 
 	private int num_statements = 0;
 
@@ -64,6 +66,29 @@ public class ExecutionTracer {
 	 */
 	private static volatile Thread currentThread = null;
 
+	/**
+	 * Tracers of the worker threads that execute tests concurrently (see
+	 * {@link TestCaseExecutor#execute(java.util.List)}). Each worker records
+	 * into its own tracer, so that traces of concurrent tests do not mix
+	 */
+	private static final ThreadLocal<ExecutionTracer> workerTracer = new ThreadLocal<>();
+
+	/**
+	 * Number of threads with a worker tracer; as long as there are none, the
+	 * thread local does not need to be consulted
+	 */
+	private static final AtomicInteger numWorkerTracers = new AtomicInteger(0);
+
+	/**
+	 * Threads that are currently executing an instrumented class initializer,
+	 * with the number of nested initializers. Maintained by
+	 * {@link #enterClassInit(String)} and {@link #exitClassInit(String)}, so
+	 * that checking whether a thread is in a static initializer does not
+	 * require walking its stack. Only classes with static fields are
+	 * instrumented, and only if static fields are reset
+	 */
+	private static final Map<Thread, int[]> classInitDepth = new ConcurrentHashMap<>();
+
 	/**
 	 * <p>
 	 * setThread
@@ -183,12 +208,55 @@ public class ExecutionTracer {
 	 * @return a {@link org.evosuite.testcase.execution.ExecutionTracer} object.
 	 */
 	public static ExecutionTracer getExecutionTracer() {
+		if (numWorkerTracers.get() > 0) {
+			ExecutionTracer tracer = workerTracer.get();
+			if (tracer != null)
+				return tracer;
+		}
 		if (instance == null) {
 			instance = new ExecutionTracer();
 		}
 		return instance;
 	}
 
+	/**
+	 * Bind a new, enabled tracer to the current thread. Until
+	 * {@link #unbindWorkerTracer()} is called, all trace information produced
+	 * by the current thread goes to this tracer rather than the shared one
+	 * 
+	 * @return the tracer bound to the current thread
+	 */
+	public static ExecutionTracer bindWorkerTracer() {
+		ExecutionTracer tracer = new ExecutionTracer();
+		tracer.disabled = false;
+		if (workerTracer.get() == null)
+			numWorkerTracers.incrementAndGet();
+		workerTracer.set(tracer);
+		return tracer;
+	}
+
+	/**
+	 * Remove the tracer bound to the current thread by
+	 * {@link #bindWorkerTracer()}, if any
+	 */
+	public static void unbindWorkerTracer() {
+		if (workerTracer.get() != null) {
+			workerTracer.remove();
+			numWorkerTracers.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Set the kill switch of this tracer only, e.g. to stop one of several
+	 * tests executed concurrently
+	 * 
+	 * @param value
+	 *            a boolean.
+	 */
+	public void setInstanceKillSwitch(boolean value) {
+		killSwitch = value;
+	}
+
 	/**
 	 * Reset for new execution
 	 */
@@ -198,6 +266,19 @@ public class ExecutionTracer {
 		num_statements = 0;
 	}
 
+	/**
+	 * Reset for an execution that continues a previous one, such that the
+	 * trace starts out with everything recorded while executing the previous
+	 * statements
+	 * 
+	 * @param prefixTrace
+	 *            the trace of the previous execution, it is not modified
+	 */
+	public void resume(ExecutionTrace prefixTrace) {
+		clear();
+		trace = prefixTrace.lazyClone();
+	}
+
 	/**
 	 * Obviously more than one thread is executing during the creation of
 	 * concurrent TestCases. #TODO steenbuck we should test if
@@ -209,6 +290,10 @@ public class ExecutionTracer {
 		if (!checkCallerThread) {
 			return false;
 		}
+		if (numWorkerTracers.get() > 0 && workerTracer.get() != null) {
+			// Worker tracers are only ever used by their own thread
+			return false;
+		}
 		if (currentThread == null) {
 			logger.error("CurrentThread has not been set!");
 			Map<Thread, StackTraceElement[]> map = Thread.getAllStackTraces();
@@ -383,19 +468,44 @@ public class ExecutionTracer {
 
 		if (tracer.killSwitch) {
 			// logger.info("Raising TimeoutException as kill switch is active - passedLine");
-			if(!isInStaticInit())
+			if(!isInStaticInit(Thread.currentThread()))
 				throw new TestCaseExecutor.TimeoutExceeded();
 		}
 	}
-	
-	private static boolean isInStaticInit() {
-		for(StackTraceElement elem : Thread.currentThread().getStackTrace()) {
+
+	/**
+	 * Check whether the given thread is executing a class initializer. For
+	 * instrumented class initializers this is a map lookup, otherwise the
+	 * stack trace of the thread is inspected
+	 * 
+	 * @param thread
+	 *            a {@link java.lang.Thread} object.
+	 * @return a boolean.
+	 */
+	public static boolean isInStaticInit(Thread thread) {
+		if (isInInstrumentedStaticInit(thread)) {
+			return true;
+		}
+		for(StackTraceElement elem : thread.getStackTrace()) {
 			if(elem.getMethodName().equals("<clinit>"))
 				return true;
 		}
 		return false;
 	}
 
+	/**
+	 * Check whether the given thread is executing a class initializer that
+	 * calls {@link #enterClassInit(String)}. Other class initializers are not
+	 * detected.
+	 * 
+	 * @param thread
+	 *            a {@link java.lang.Thread} object.
+	 * @return a boolean.
+	 */
+	public static boolean isInInstrumentedStaticInit(Thread thread) {
+		return !classInitDepth.isEmpty() && classInitDepth.containsKey(thread);
+	}
+
 	/**
 	 * Called by the instrumented code each time a new source line is executed
 	 * 
@@ -508,12 +618,32 @@ public class ExecutionTracer {
 	}
 
 	
+	/**
+	 * This method is added in the transformed bytecode at the start of each
+	 * <clinit> method
+	 *
+	 * @param className
+	 */
+	public static void enterClassInit(String className) {
+		int[] depth = classInitDepth.get(Thread.currentThread());
+		if (depth == null) {
+			// Threads that died inside a class initializer never exit it
+			classInitDepth.keySet().removeIf(thread -> !thread.isAlive());
+			classInitDepth.put(Thread.currentThread(), new int[] { 1 });
+		} else {
+			depth[0]++;
+		}
+	}
+
 	/**
 	 * This method is added in the transformed bytecode
 	 *
 	 * @param className
 	 */
 	public static void exitClassInit(String className) {
+		int[] depth = classInitDepth.get(Thread.currentThread());
+		if (depth != null && --depth[0] <= 0)
+			classInitDepth.remove(Thread.currentThread());
 		
 		final String classNameWithDots = className.replace('/', '.');
 
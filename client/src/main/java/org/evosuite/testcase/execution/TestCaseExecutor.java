@@ -20,18 +20,24 @@
 package org.evosuite.testcase.execution;
 
 import java.io.PrintStream;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import org.evosuite.Properties;
 import org.evosuite.TestGenerationContext;
+import org.evosuite.coverage.mutation.MutationObserver;
 import org.evosuite.ga.stoppingconditions.MaxStatementsStoppingCondition;
 import org.evosuite.ga.stoppingconditions.MaxTestsStoppingCondition;
 import org.evosuite.runtime.LoopCounter;
@@ -43,6 +49,7 @@ import org.evosuite.runtime.util.SystemInUtil;
 import org.evosuite.setup.TestCluster;
 import org.evosuite.testcase.TestCase;
 import org.evosuite.testcase.execution.reset.ClassReInitializer;
+import org.evosuite.utils.LoggingUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -80,6 +87,26 @@ public class TestCaseExecutor implements ThreadFactory {
 
 	private ExecutorService executor;
 
+	/**
+	 * Pool of worker threads used to execute several tests concurrently, see
+	 * {@link #execute(List)}. Created on demand.
+	 */
+	private ExecutorService parallelExecutor = null;
+
+	private int parallelExecutorThreads = 0;
+
+	/**
+	 * Results of previous executions, see {@link ExecutionResultCache}.
+	 * Created on demand if {@link Properties#EXECUTION_CACHE_SIZE} is positive.
+	 */
+	private ExecutionResultCache resultCache = null;
+
+	/**
+	 * Final states of previous executions, see {@link ExecutionSnapshotStore}.
+	 * Created on demand if {@link Properties#EXECUTION_SNAPSHOTS} is positive.
+	 */
+	private ExecutionSnapshotStore snapshotStore = null;
+
 	private Thread currentThread = null;
 
 	private ThreadGroup threadGroup = null;
@@ -176,6 +203,12 @@ public class TestCaseExecutor implements ThreadFactory {
 				instance.executor.shutdownNow();
 				instance.executor = null;
 			}
+			if (instance.parallelExecutor != null) {
+				instance.parallelExecutor.shutdownNow();
+				instance.parallelExecutor = null;
+			}
+			instance.resultCache = null;
+			instance.snapshotStore = null;
 		}
 	}
 
@@ -271,16 +304,354 @@ public class TestCaseExecutor implements ThreadFactory {
 	 * @return a {@link org.evosuite.testcase.execution.ExecutionResult} object.
 	 */
 	public ExecutionResult execute(TestCase tc, int timeout) {
-		Scope scope = new Scope();
-		ExecutionResult result = execute(tc, scope, timeout);
+		ExecutionResultCache cache = getResultCache();
+		if (cache != null) {
+			ExecutionResult cached = cache.get(tc);
+			if (cached != null) {
+				logger.debug("Reusing result of structurally identical test");
+				// The cache restores the environment accesses of the original execution,
+				// which are what handleRuntimeAccesses would record. Nothing was run, so
+				// there are no client threads to stop or count.
+				// A reused result still counts as an execution for the stopping conditions
+				MaxTestsStoppingCondition.testExecuted();
+				return cached;
+			}
+		}
+
+		ExecutionSnapshotStore snapshots = getSnapshotStore();
+		ExecutionSnapshotStore.Snapshot snapshot = snapshots == null ? null : snapshots.take(tc);
+		Scope scope = snapshot == null ? new Scope() : snapshot.createScope(tc);
+		ExecutionResult result = execute(tc, scope, snapshot, timeout);
 
 		if (Properties.RESET_STATIC_FIELDS) {
 			logger.debug("Resetting classes after execution");
 			ClassReInitializer.getInstance().reInitializeClassesAfterTestExecution(tc, result);
 		}
+		if (cache != null && !result.hasTimeout()) {
+			cache.put(tc, result);
+		}
+		if (snapshots != null && ExecutionSnapshotStore.isResumable(result)) {
+			snapshots.put(tc, scope, result);
+		}
 		return result;
 	}
 
+	/**
+	 * Execute a list of test cases, each on a new scope. If
+	 * {@link Properties#TEST_EXECUTION_THREADS} is greater than one and
+	 * {@link #isParallelExecutionSupported()} holds, the tests are executed
+	 * concurrently, each on a worker thread with its own
+	 * {@link ExecutionTracer}. Otherwise they are executed one after the other.
+	 * 
+	 * @param tests
+	 *            the test cases to execute
+	 * @return the results, in the same order as the tests
+	 */
+	public List<ExecutionResult> execute(List<? extends TestCase> tests) {
+		List<ExecutionResult> results = new ArrayList<>(tests.size());
+		if (Properties.TEST_EXECUTION_THREADS <= 1 || tests.size() <= 1 || !isParallelExecutionSupported()) {
+			for (TestCase tc : tests) {
+				results.add(execute(tc));
+			}
+			return results;
+		}
+
+		ExecutionResultCache cache = getResultCache();
+		if (cache == null) {
+			return executeInParallel(tests, Properties.TIMEOUT);
+		}
+
+		List<TestCase> missing = new ArrayList<>();
+		for (TestCase tc : tests) {
+			ExecutionResult cached = cache.get(tc);
+			results.add(cached);
+			if (cached == null)
+				missing.add(tc);
+			else
+				MaxTestsStoppingCondition.testExecuted();
+		}
+		if (missing.isEmpty()) {
+			return results;
+		}
+
+		Iterator<ExecutionResult> executed = executeInParallel(missing, Properties.TIMEOUT).iterator();
+		for (int i = 0; i < tests.size(); i++) {
+			if (results.get(i) == null) {
+				ExecutionResult result = executed.next();
+				if (!result.hasTimeout())
+					cache.put(tests.get(i), result);
+				results.set(i, result);
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Results can only be reused if executing a test does not have to notify
+	 * any observers, and if no mutant is active
+	 * 
+	 * @return the result cache, or null if results should not be cached
+	 */
+	private ExecutionResultCache getResultCache() {
+		if (Properties.EXECUTION_CACHE_SIZE <= 0) {
+			resultCache = null;
+			return null;
+		}
+		if (!observers.isEmpty() || MutationObserver.activeMutation != -1) {
+			return null;
+		}
+		if (resultCache == null || resultCache.getCapacity() != Properties.EXECUTION_CACHE_SIZE) {
+			resultCache = new ExecutionResultCache(Properties.EXECUTION_CACHE_SIZE);
+		}
+		return resultCache;
+	}
+
+	/**
+	 * @return the cache of execution results, or null if caching is disabled
+	 */
+	public ExecutionResultCache getExecutionResultCache() {
+		return resultCache;
+	}
+
+	/**
+	 * Continuing an execution on the objects of a previous one is only
+	 * equivalent to a full execution if nothing observes the statements, and if
+	 * the runtime does not keep any state that is reset between tests. Static
+	 * writes have to be traced (see {@link Properties#RESET_STATIC_FIELDS}) to
+	 * tell whether a test changed static state. With the default properties,
+	 * call replacement and the virtual file system are enabled, so snapshots
+	 * are not used even if {@link Properties#EXECUTION_SNAPSHOTS} is positive
+	 * 
+	 * @return the snapshot store, or null if snapshots should not be used
+	 */
+	private ExecutionSnapshotStore getSnapshotStore() {
+		if (Properties.EXECUTION_SNAPSHOTS <= 0) {
+			snapshotStore = null;
+			return null;
+		}
+		if (!observers.isEmpty() || MutationObserver.activeMutation != -1
+				|| !Properties.RESET_STATIC_FIELDS
+				|| Properties.REPLACE_CALLS
+				|| Properties.REPLACE_SYSTEM_IN
+				|| Properties.REPLACE_GUI
+				|| Properties.VIRTUAL_FS
+				|| Properties.VIRTUAL_NET
+				|| Properties.MAX_LOOP_ITERATIONS >= 0) {
+			return null;
+		}
+		if (snapshotStore == null || snapshotStore.getCapacity() != Properties.EXECUTION_SNAPSHOTS) {
+			snapshotStore = new ExecutionSnapshotStore(Properties.EXECUTION_SNAPSHOTS);
+		}
+		return snapshotStore;
+	}
+
+	/**
+	 * @return the store of execution snapshots, or null if they are disabled
+	 */
+	public ExecutionSnapshotStore getExecutionSnapshotStore() {
+		return snapshotStore;
+	}
+
+	/**
+	 * Concurrent execution shares the runtime state of the SUT and of the
+	 * EvoSuite runtime between all tests of a batch. It is therefore only
+	 * supported if nothing that keeps per-test state is active.
+	 * 
+	 * @return whether tests can be executed concurrently
+	 */
+	public boolean isParallelExecutionSupported() {
+		return observers.isEmpty()
+				&& !Properties.RESET_STATIC_FIELDS
+				&& !Properties.REPLACE_CALLS
+				&& !Properties.REPLACE_SYSTEM_IN
+				&& !Properties.REPLACE_GUI
+				&& !Properties.VIRTUAL_FS
+				&& !Properties.VIRTUAL_NET
+				&& Properties.MAX_LOOP_ITERATIONS < 0;
+	}
+
+	/**
+	 * Execution of a single test on a worker thread of the parallel executor
+	 */
+	private static class WorkerTask implements Callable<ExecutionResult> {
+
+		private final TestRunnable runnable;
+
+		private volatile ExecutionTracer tracer = null;
+
+		private volatile ExecutionSideEffects sideEffects = null;
+
+		private volatile long startTime = 0;
+
+		private volatile boolean killed = false;
+
+		private WorkerTask(TestCase tc) {
+			runnable = new TestRunnable(tc, new Scope(), new LinkedHashSet<>());
+			runnable.setMuteOutput(false);
+		}
+
+		@Override
+		public ExecutionResult call() {
+			tracer = ExecutionTracer.bindWorkerTracer();
+			sideEffects = ExecutionSideEffects.bindWorker();
+			startTime = System.currentTimeMillis();
+			try {
+				return runnable.call();
+			} finally {
+				ExecutionSideEffects.unbindWorker();
+				ExecutionTracer.unbindWorkerTracer();
+			}
+		}
+
+		private void kill() {
+			killed = true;
+			ExecutionTracer t = tracer;
+			if (t != null)
+				t.setInstanceKillSwitch(true);
+		}
+	}
+
+	private ExecutorService getParallelExecutor(int numThreads) {
+		if (parallelExecutor == null || parallelExecutorThreads != numThreads) {
+			if (parallelExecutor != null)
+				parallelExecutor.shutdownNow();
+			parallelExecutor = Executors.newFixedThreadPool(numThreads, r -> {
+				Thread thread = new Thread(new ThreadGroup(TEST_EXECUTION_THREAD_GROUP), r);
+				thread.setName(TEST_EXECUTION_THREAD + "_" + threadCounter);
+				threadCounter++;
+				thread.setContextClassLoader(TestGenerationContext.getInstance().getClassLoaderForSUT());
+				return thread;
+			});
+			parallelExecutorThreads = numThreads;
+		}
+		return parallelExecutor;
+	}
+
+	private List<ExecutionResult> executeInParallel(List<? extends TestCase> tests, int timeout) {
+		ExecutionSideEffects.setSearchThread();
+		// The runtime is shared by all tests of the batch, so it is only
+		// reset once rather than before each test
+		Runtime.getInstance().resetRuntime();
+		for (int i = 0; i < tests.size(); i++) {
+			MaxTestsStoppingCondition.testExecuted();
+		}
+
+		long startTime = System.currentTimeMillis();
+		ExecutorService pool = getParallelExecutor(Properties.TEST_EXECUTION_THREADS);
+		List<WorkerTask> tasks = new ArrayList<>(tests.size());
+		List<Future<ExecutionResult>> futures = new ArrayList<>(tests.size());
+		List<ExecutionResult> results = new ArrayList<>(tests.size());
+		boolean replacePool = false;
+
+		SystemInUtil.getInstance().initForTestCase();
+		JOptionPaneInputs.getInstance().initForTestCase();
+		if (!Properties.PRINT_TO_SYSTEM) {
+			LoggingUtils.muteCurrentOutAndErrStream();
+		}
+		Sandbox.goingToExecuteSUTCode();
+		TestGenerationContext.getInstance().goingToExecuteSUTCode();
+		try {
+			for (TestCase tc : tests) {
+				WorkerTask task = new WorkerTask(tc);
+				task.runnable.storeCurrentThreads();
+				tasks.add(task);
+				futures.add(pool.submit(task));
+			}
+
+			for (int i = 0; i < tests.size(); i++) {
+				TestCase tc = tests.get(i);
+				WorkerTask task = tasks.get(i);
+				Future<ExecutionResult> future = futures.get(i);
+				ExecutionResult result = null;
+				try {
+					result = awaitWorker(task, future, timeout);
+				} catch (ExecutionException e) {
+					logger.error("ExecutionException (this is likely a serious error in the framework)", e);
+					if (e.getCause() instanceof Error) {
+						throw (Error) e.getCause();
+					} else if (e.getCause() instanceof RuntimeException) {
+						throw (RuntimeException) e.getCause();
+					}
+				} catch (InterruptedException e) {
+					logger.info("InterruptedException");
+					Thread.currentThread().interrupt();
+				} catch (TimeoutException e) {
+					if (Properties.LOG_TIMEOUT) {
+						logger.warn("Timeout occurred for " + Properties.TARGET_CLASS);
+					}
+					logger.info("Worker did not stop after timeout, replacing executor");
+					future.cancel(true);
+					replacePool = true;
+				}
+
+				if (result == null) {
+					result = new ExecutionResult(tc, null);
+					result.setThrownExceptions(task.runnable.getExceptionsThrown());
+					result.setTrace(new ExecutionTraceProxy());
+				}
+				if (task.killed) {
+					result.reportNewThrownException(tc.size(), new TestCaseExecutor.TimeoutExceeded());
+				}
+				results.add(result);
+			}
+		} finally {
+			Sandbox.doneWithExecutingSUTCode();
+			TestGenerationContext.getInstance().doneWithExecutingSUTCode();
+			if (!Properties.PRINT_TO_SYSTEM) {
+				LoggingUtils.restorePreviousOutAndErrStream();
+			}
+			if (replacePool || Thread.currentThread().isInterrupted()) {
+				pool.shutdownNow();
+				parallelExecutor = null;
+			}
+			// Threads started by any test of the batch count as client threads
+			// of every test, so the first call stops all of them
+			for (WorkerTask task : tasks) {
+				task.runnable.killAndJoinClientThreads();
+			}
+			for (WorkerTask task : tasks) {
+				if (task.sideEffects != null)
+					task.sideEffects.apply();
+			}
+			ExecutionSideEffects.applyShared();
+			for (TestCase tc : tests) {
+				TestCluster.getInstance().handleRuntimeAccesses(tc);
+			}
+		}
+
+		if (PermissionStatistics.getInstance().getAndResetExceptionInfo()) {
+			// We cannot tell which of the tests caused it
+			for (ExecutionResult result : results) {
+				result.setSecurityException(true);
+			}
+		}
+
+		timeExecuted += System.currentTimeMillis() - startTime;
+		testsExecuted += tests.size();
+		return results;
+	}
+
+	/**
+	 * Wait for a worker task, activating its kill switch once it has been
+	 * running for longer than the timeout
+	 */
+	private ExecutionResult awaitWorker(WorkerTask task, Future<ExecutionResult> future, int timeout)
+			throws InterruptedException, ExecutionException, TimeoutException {
+		while (true) {
+			long started = task.startTime;
+			long wait = started == 0 ? timeout : started + timeout - System.currentTimeMillis();
+			try {
+				return future.get(Math.max(wait, 1), TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				if (task.startTime != 0 && System.currentTimeMillis() - task.startTime >= timeout) {
+					break;
+				}
+			}
+		}
+		task.kill();
+		return future.get(Properties.SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS);
+	}
+
 	/**
 	 * Execute a test case on an existing scope
 	 * 
@@ -288,11 +659,20 @@ public class TestCaseExecutor implements ThreadFactory {
 	 *            a {@link org.evosuite.testcase.TestCase} object.
 	 * @param scope
 	 *            a {@link org.evosuite.testcase.execution.Scope} object.
+	 * @param snapshot
+	 *            the state after executing a prefix of the test, or null if
+	 *            the test is executed from the start
 	 * @return a {@link org.evosuite.testcase.execution.ExecutionResult} object.
 	 */
 	@SuppressWarnings("deprecation")
-	private ExecutionResult execute(TestCase tc, Scope scope, int timeout) {
-		ExecutionTracer.getExecutionTracer().clear();
+	private ExecutionResult execute(TestCase tc, Scope scope, ExecutionSnapshotStore.Snapshot snapshot, int timeout) {
+		ExecutionSideEffects.setSearchThread();
+		if (snapshot == null) {
+			ExecutionTracer.getExecutionTracer().clear();
+		} else {
+			logger.debug("Resuming execution after statement {}", snapshot.getLength() - 1);
+			ExecutionTracer.getExecutionTracer().resume(snapshot.getResult().getTrace());
+		}
 
 		// TODO: Re-insert!
 		resetObservers();
@@ -306,6 +686,9 @@ public class TestCaseExecutor implements ThreadFactory {
 
 		// #TODO steenbuck could be nicer (TestRunnable should be an interface
 		TestRunnable callable = new TestRunnable(tc, scope, observers);
+		if (snapshot != null) {
+			callable.setFirstStatement(snapshot.getLength());
+		}
 		callable.storeCurrentThreads();
 
 		/*
@@ -337,6 +720,9 @@ public class TestCaseExecutor implements ThreadFactory {
 
 			PermissionStatistics.getInstance().countThreads(threadGroup.activeCount());
 			result.setSecurityException(PermissionStatistics.getInstance().getAndResetExceptionInfo());
+			if (snapshot != null) {
+				snapshot.completeResult(result);
+			}
 			/*
 			 * TODO: this will need proper care when we ll start to handle
 			 * threads in the search.
@@ -491,11 +877,14 @@ public class TestCaseExecutor implements ThreadFactory {
 		} finally {
 			if (threadGroup != null)
 				PermissionStatistics.getInstance().countThreads(threadGroup.activeCount());
+			ExecutionSideEffects.applyShared();
 			TestCluster.getInstance().handleRuntimeAccesses(tc);
 		}
 	}
 
 	private boolean isInStaticInit() {
+		if (ExecutionTracer.isInInstrumentedStaticInit(currentThread))
+			return true;
 		for (StackTraceElement elem : currentThread.getStackTrace()) {
 			if (elem.getMethodName().equals("<clinit>"))
 				return true;
@@ -72,6 +72,18 @@ public class TestRunnable implements InterfaceTestRunnable {
 	protected Set<ExecutionObserver> observers;
 
 	protected final ThreadStopper threadStopper;
+
+	/**
+	 * Whether this runnable mutes and restores System.out/err itself. When
+	 * several tests are executed concurrently this is done once by the caller
+	 */
+	private boolean muteOutput = true;
+
+	/**
+	 * Position of the first statement to execute. The statements before it
+	 * have already been executed on the scope, see {@link ExecutionSnapshotStore}
+	 */
+	private int firstStatement = 0;
 	
 	/**
 	 * <p>
@@ -99,6 +111,27 @@ public class TestRunnable implements InterfaceTestRunnable {
 		threadStopper = new ThreadStopper(killSwitch, threadsToIgnore, Properties.TIMEOUT);
 	}
 
+	/**
+	 * Set whether System.out/err are muted and restored by {@link #call()}
+	 * 
+	 * @param muteOutput
+	 *            a boolean.
+	 */
+	public void setMuteOutput(boolean muteOutput) {
+		this.muteOutput = muteOutput;
+	}
+
+	/**
+	 * Continue an execution of which the statements before the given position
+	 * have already been executed on the scope
+	 * 
+	 * @param firstStatement
+	 *            position of the first statement to execute
+	 */
+	public void setFirstStatement(int firstStatement) {
+		this.firstStatement = firstStatement;
+	}
+
 	/**
 	 * <p>
 	 * After the test case is executed, if any SUT thread is still running, we
@@ -181,7 +214,7 @@ public class TestRunnable implements InterfaceTestRunnable {
 		PrintStream out = (Properties.PRINT_TO_SYSTEM ? System.out : new PrintStream(byteStream));
 		byteStream.reset();
 
-		if (!Properties.PRINT_TO_SYSTEM) {
+		if (!Properties.PRINT_TO_SYSTEM && muteOutput) {
 			LoggingUtils.muteCurrentOutAndErrStream();
 		}
 
@@ -191,7 +224,7 @@ public class TestRunnable implements InterfaceTestRunnable {
 		 *  need AtomicInteger as we want to get latest updated value even if exception is thrown in the 'try' block.
 		 *  we practically use it as wrapper for int, which we can then pass by reference
 		 */
-		AtomicInteger num = new AtomicInteger(0);
+		AtomicInteger num = new AtomicInteger(firstStatement);
 
 		try {
 			if(Properties.REPLACE_CALLS){
@@ -232,7 +265,7 @@ public class TestRunnable implements InterfaceTestRunnable {
 			logger.error("Suppressed/ignored exception during test case execution on class "
 			                     + Properties.TARGET_CLASS + ": " + e.getMessage(), e);
 		} finally {
-			if (!Properties.PRINT_TO_SYSTEM) {
+			if (!Properties.PRINT_TO_SYSTEM && muteOutput) {
 				LoggingUtils.restorePreviousOutAndErrStream();
 			}
 			if(Properties.REPLACE_CALLS){
@@ -275,7 +308,8 @@ public class TestRunnable implements InterfaceTestRunnable {
 			InvocationTargetException, IllegalAccessException,
 			InstantiationException, VMError, EvosuiteError {
 		
-		for (Statement s : test) {
+		for (int position = firstStatement; position < test.size(); position++) {
+			Statement s = test.getStatement(position);
 
 			if (Thread.currentThread().isInterrupted() || Thread.interrupted()) {
 				logger.info("Thread interrupted at statement " + num + ": " + s.getCode());
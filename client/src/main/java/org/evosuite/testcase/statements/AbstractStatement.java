@@ -30,6 +30,7 @@ import java.util.Set;
 
 import org.evosuite.assertion.Assertion;
 import org.evosuite.testcase.variable.ArrayReference;
+import org.evosuite.testcase.DefaultTestCase;
 import org.evosuite.testcase.TestCase;
 import org.evosuite.testcase.TestCodeVisitor;
 import org.evosuite.testcase.TestFactory;
@@ -235,7 +236,12 @@ public abstract class AbstractStatement implements Statement, Serializable {
 	/** {@inheritDoc} */
 	@Override
 	public void setRetval(VariableReference newRetVal) {
+		VariableReference oldRetVal = this.retval;
 		this.retval = Objects.requireNonNull(newRetVal, "newRetVal cannot be null");
+		if (oldRetVal != newRetVal && tc instanceof DefaultTestCase) {
+			// the variables of the test cache their positions, and the test indexes them
+			((DefaultTestCase) tc).statementChanged();
+		}
 	}
 
 	/* (non-Javadoc)
@@ -113,8 +113,7 @@ public abstract class EntityWithParametersStatement extends AbstractStatement{
     public void replace(VariableReference var1, VariableReference var2) {
 
         if (retval.equals(var1)) {
-            retval = var2;
-            // TODO: Notify listener?
+            setRetval(var2);
         }
 
         for (int i = 0; i < parameters.size(); i++) {
@@ -76,7 +76,7 @@ public class FieldStatement extends AbstractStatement {
 		this.field = field;
 		this.source = source;
 		if (retval.getComponentType() != null) {
-			retval = new ArrayReference(tc, retval.getGenericClass(), 0);
+			setRetval(new ArrayReference(tc, retval.getGenericClass(), 0));
 		}
 	}
 
@@ -81,7 +81,7 @@ public class MethodStatement extends EntityWithParametersStatement {
 	        List<VariableReference> parameters, VariableReference retVal)
 	        throws IllegalArgumentException {
 		this(tc, method, callee, parameters);
-		this.retval = retVal;
+		setRetval(retVal);
 	}
 
 	/**
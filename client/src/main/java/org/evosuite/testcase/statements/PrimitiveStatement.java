@@ -268,7 +268,7 @@ public abstract class PrimitiveStatement<T> extends AbstractStatement {
     @Override
     public void replace(VariableReference var1, VariableReference var2) {
         if (retval.equals(var1)) {
-            retval = var2;
+            setRetval(var2);
         }
     }
 
@@ -23,6 +23,7 @@ import java.lang.reflect.Type;
 import java.util.Map;
 
 import org.evosuite.testcase.statements.Statement;
+import org.evosuite.testcase.DefaultTestCase;
 import org.evosuite.testcase.TestCase;
 import org.evosuite.testcase.execution.CodeUnderTestException;
 import org.evosuite.testcase.execution.Scope;
@@ -87,40 +88,39 @@ public class VariableReferenceImpl implements VariableReference {
 	 * 
 	 * The position of the statement, defining this VariableReference, in the
 	 * testcase.
-	 *
-	 * TODO: Notify change listener also when return value changes
-	 *
 	 */
 	@Override
 	public synchronized int getStPosition() {
-		if (stPosition == null || changeListener.hasChanged()) {
-			stPosition = null;
-			for (int i = 0; i < testCase.size(); i++) {
-				Statement stmt = testCase.getStatement(i);
-				if (stmt.getReturnValue().equals(this)) {
-					stPosition = i;
-					break;
-				}
-			}
-			if (stPosition == null) {
-				String msg = "Bloody annoying bug \n";
-				msg += "Test case has " + testCase.size() + " function calls \n";
-				for (int i = 0; i < testCase.size(); i++) {
-					msg += testCase.getStatement(i).getCode(null) + "\n";
-				}
-				msg += "failed to find type " + this.type.getTypeName() + "\n";
-
-				throw new AssertionError(
-				        msg + "A VariableReferences position is only defined if the VariableReference is defined by a statement in the testCase");
-			}
-		} else {
-			int position = stPosition; //somehow this could be null, leading to NPE. Synchronization issue?
-			stPosition = null;
-			stPosition = getStPosition();
-			assert (stPosition == position);
+		// The listener misses changes that do not go through the test case,
+		// so the cached position is only used if it still defines this variable
+		if (stPosition == null || changeListener.hasChanged() || !isDefinedAt(stPosition)) {
+			stPosition = findStPosition();
 		}
 		return stPosition;
 	}
+
+	private boolean isDefinedAt(int position) {
+		return position < testCase.size() && testCase.getStatement(position).getReturnValue().equals(this);
+	}
+
+	private int findStPosition() {
+		for (int i = 0; i < testCase.size(); i++) {
+			Statement stmt = testCase.getStatement(i);
+			if (stmt.getReturnValue().equals(this)) {
+				return i;
+			}
+		}
+
+		String msg = "Bloody annoying bug \n";
+		msg += "Test case has " + testCase.size() + " function calls \n";
+		for (int i = 0; i < testCase.size(); i++) {
+			msg += testCase.getStatement(i).getCode(null) + "\n";
+		}
+		msg += "failed to find type " + this.type.getTypeName() + "\n";
+
+		throw new AssertionError(
+		        msg + "A VariableReferences position is only defined if the VariableReference is defined by a statement in the testCase");
+	}
 	
 	@Override
 	public TestCase getTestCase() {
@@ -336,7 +336,12 @@ public class VariableReferenceImpl implements VariableReference {
 	 */
 	@Override
 	public void setType(Type type) {
+		Class<?> oldClass = this.type == null ? null : this.type.getRawClass();
 		this.type = new GenericClass(type);
+		if (oldClass != this.type.getRawClass() && testCase instanceof DefaultTestCase) {
+			// the test case indexes its variables by their raw class
+			((DefaultTestCase) testCase).invalidateVariableIndex();
+		}
 	}
 
 	/**
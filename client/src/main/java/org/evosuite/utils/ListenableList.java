@@ -103,6 +103,9 @@ public class ListenableList<E> extends SimpleListenable<Void> implements List<E>
 
 	private final List<E> delegate;
 
+	/** Number of changes made to the list, see {@link #getModificationCount()} */
+	private int modificationCount = 0;
+
 	/**
 	 * <p>Constructor for ListenableList.</p>
 	 *
@@ -113,6 +116,24 @@ public class ListenableList<E> extends SimpleListenable<Void> implements List<E>
 		this.delegate = delegate;
 	}
 
+	/**
+	 * Every change to the list, including the ones done through its iterators,
+	 * fires an event, so the changes are counted here.
+	 */
+	@Override
+	public void fireEvent(Void event) {
+		modificationCount++;
+		super.fireEvent(event);
+	}
+
+	/**
+	 * @return a number that changes whenever the list is changed, so that data
+	 *         derived from the list can tell whether it is still up to date
+	 */
+	public int getModificationCount() {
+		return modificationCount;
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public boolean add(E e) {
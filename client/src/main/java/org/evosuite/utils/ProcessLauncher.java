@@ -22,9 +22,11 @@ package org.evosuite.utils;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 
 import org.apache.commons.exec.CommandLine;
+import org.apache.commons.exec.DefaultExecuteResultHandler;
 import org.apache.commons.exec.DefaultExecutor;
 import org.apache.commons.exec.ExecuteException;
 import org.apache.commons.exec.ExecuteWatchdog;
@@ -66,7 +68,20 @@ public class ProcessLauncher {
 		try {
 			logger.debug("About to execute command " + cmdString);
 			CommandLine cmdLine = CommandLine.parse(cmdString);
-			int exitValue = executor.execute(cmdLine);
+			DefaultExecuteResultHandler resultHandler = new DefaultExecuteResultHandler();
+			executor.execute(cmdLine, resultHandler);
+			try {
+				resultHandler.waitFor();
+			} catch (InterruptedException e) {
+				// the caller is no longer interested in the result, e.g. a cancelled solver
+				timeoutWatchdog.destroyProcess();
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while executing command " + cmdString);
+			}
+			if (resultHandler.getException() != null) {
+				throw resultHandler.getException();
+			}
+			int exitValue = resultHandler.getExitValue();
 
 			if (executor.isFailure(exitValue) && timeoutWatchdog.killedProcess()) {
 				// it was killed on purpose by the watchdog
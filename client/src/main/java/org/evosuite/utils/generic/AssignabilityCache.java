@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.utils.generic;
+
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.evosuite.Properties;
+
+/**
+ * Bounded cache of the results of {@link GenericClass#isAssignable(Type, Type)},
+ * keyed by the pair of types. Types are compared with equals, so structurally
+ * equal parameterized types share their entries. When the cache holds more than
+ * {@link Properties#GENERIC_TYPE_CACHE_SIZE} results, the least recently used
+ * one is evicted.
+ */
+final class AssignabilityCache {
+
+	private final LinkedHashMap<TypePair, Boolean> results = new LinkedHashMap<TypePair, Boolean>(16, 0.75f, true) {
+		private static final long serialVersionUID = -1716236424531745836L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<TypePair, Boolean> eldest) {
+			return size() > Properties.GENERIC_TYPE_CACHE_SIZE;
+		}
+	};
+
+	private long hits = 0;
+
+	private long misses = 0;
+
+	/**
+	 * @return the cached assignability of rhsType to lhsType, or null if it
+	 *         is not known
+	 */
+	synchronized Boolean get(Type lhsType, Type rhsType) {
+		Boolean result = results.get(new TypePair(lhsType, rhsType));
+		if (result == null)
+			misses++;
+		else
+			hits++;
+		return result;
+	}
+
+	synchronized void put(Type lhsType, Type rhsType, boolean assignable) {
+		results.put(new TypePair(lhsType, rhsType), assignable);
+	}
+
+	synchronized void clear() {
+		results.clear();
+	}
+
+	synchronized int size() {
+		return results.size();
+	}
+
+	synchronized long getHits() {
+		return hits;
+	}
+
+	synchronized long getMisses() {
+		return misses;
+	}
+
+	private static final class TypePair {
+
+		private final Type lhsType;
+
+		private final Type rhsType;
+
+		private final int hash;
+
+		private TypePair(Type lhsType, Type rhsType) {
+			this.lhsType = lhsType;
+			this.rhsType = rhsType;
+			this.hash = 31 * lhsType.hashCode() + rhsType.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof TypePair))
+				return false;
+			TypePair other = (TypePair) obj;
+			return hash == other.hash && lhsType.equals(other.lhsType) && rhsType.equals(other.rhsType);
+		}
+	}
+}
@@ -30,6 +30,7 @@ import java.lang.reflect.WildcardType;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.reflect.TypeUtils;
@@ -64,6 +65,48 @@ public class GenericClass implements Serializable {
 					Integer.class, Long.class, Float.class, Double.class,
 					Void.class));
 
+	private static final AssignabilityCache assignabilityCache = new AssignabilityCache();
+
+	/**
+	 * Instances handed out by {@link #getSharedInstance(Type)}
+	 */
+	private static final Map<Type, GenericClass> sharedInstances = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns a generic class for the type that may be shared with other
+	 * callers, to avoid allocating one just to query it. The returned instance
+	 * must not be changed (see {@link #changeClassLoader(ClassLoader)}) nor
+	 * become part of a test, use {@link #GenericClass(Type)} for that.
+	 *
+	 * @param type
+	 *            a {@link java.lang.reflect.Type} object.
+	 * @return an equivalent of {@code new GenericClass(type)}
+	 */
+	public static GenericClass getSharedInstance(Type type) {
+		if (Properties.GENERIC_TYPE_CACHE_SIZE == 0)
+			return new GenericClass(type);
+
+		GenericClass genericClass = sharedInstances.get(type);
+		if (genericClass == null) {
+			if (sharedInstances.size() >= Properties.GENERIC_TYPE_CACHE_SIZE)
+				sharedInstances.clear();
+			genericClass = new GenericClass(type);
+			GenericClass previous = sharedInstances.putIfAbsent(type, genericClass);
+			if (previous != null)
+				genericClass = previous;
+		}
+		return genericClass;
+	}
+
+	/**
+	 * Removes the cached assignability results and shared instances, which
+	 * refer to the classes of the current class loaders
+	 */
+	public static void clearCaches() {
+		assignabilityCache.clear();
+		sharedInstances.clear();
+	}
+
 	protected static Type addTypeParameters(Class<?> clazz) {
 		if (clazz.isArray()) {
 			return GenericArrayTypeImpl.createArrayType(addTypeParameters(clazz.getComponentType()));
@@ -159,6 +202,19 @@ public class GenericClass implements Serializable {
 		if (rhsType == null || lhsType == null)
 			return false;
 
+		if (Properties.GENERIC_TYPE_CACHE_SIZE == 0)
+			return computeAssignable(lhsType, rhsType);
+
+		Boolean cached = assignabilityCache.get(lhsType, rhsType);
+		if (cached != null)
+			return cached;
+
+		boolean assignable = computeAssignable(lhsType, rhsType);
+		assignabilityCache.put(lhsType, rhsType, assignable);
+		return assignable;
+	}
+
+	private static boolean computeAssignable(Type lhsType, Type rhsType) {
 		try {
 			return TypeUtils.isAssignable(rhsType, lhsType);
 		} catch (Throwable e) {
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.dse;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class VMTest {
+
+	private static class NewCounter extends AbstractVM {
+		int news = 0;
+
+		@Override
+		public void NEW(String typeName) {
+			news++;
+		}
+	}
+
+	private static class InheritedNewCounter extends NewCounter {
+	}
+
+	private static class IincCounter extends AbstractVM {
+		int iincs = 0;
+
+		@Override
+		public void IINC(int i, int value) {
+			iincs++;
+		}
+	}
+
+	@After
+	public void tearDown() {
+		VM.clearInstance();
+	}
+
+	@Test
+	public void testListenersHandleOverriddenCallbacks() {
+		assertTrue(VM.handles(new NewCounter(), VMCallback.NEW));
+		assertTrue(VM.handles(new InheritedNewCounter(), VMCallback.NEW));
+		assertFalse(VM.handles(new NewCounter(), VMCallback.IINC));
+		assertFalse(VM.handles(new IincCounter(), VMCallback.NEW));
+	}
+
+	@Test
+	public void testCallbacksAreDispatchedToHandlingListeners() {
+		NewCounter newCounter = new NewCounter();
+		IincCounter iincCounter = new IincCounter();
+		InheritedNewCounter inheritedNewCounter = new InheritedNewCounter();
+
+		VM vm = VM.getInstance();
+		vm.setListeners(Arrays.<IVM>asList(newCounter, iincCounter, inheritedNewCounter));
+		vm.prepareConcolicExecution();
+
+		assertArrayEquals(new IVM[] { newCounter, inheritedNewCounter }, vm.listenersOf(VMCallback.NEW));
+		assertArrayEquals(new IVM[] { iincCounter }, vm.listenersOf(VMCallback.IINC));
+		assertEquals(0, vm.listenersOf(VMCallback.ATHROW).length);
+
+		VM.NEW("java/lang/Object");
+		VM.IINC(1, 2);
+		VM.IINC(1, 3);
+		assertEquals(1, newCounter.news);
+		assertEquals(1, inheritedNewCounter.news);
+		assertEquals(2, iincCounter.iincs);
+	}
+
+}
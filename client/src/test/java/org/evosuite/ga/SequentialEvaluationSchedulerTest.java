@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class SequentialEvaluationSchedulerTest {
+
+	@Test
+	public void testEvaluatesAllInOrder() {
+		List<DummyChromosome> chromosomes = Arrays.asList(new DummyChromosome(1), new DummyChromosome(2),
+				new DummyChromosome(3));
+		List<DummyChromosome> evaluated = new ArrayList<>();
+
+		int count = new SequentialEvaluationScheduler<DummyChromosome>().evaluate(chromosomes, evaluated::add,
+				() -> false);
+
+		assertEquals(3, count);
+		assertEquals(chromosomes, evaluated);
+	}
+
+	@Test
+	public void testStopsWhenFinished() {
+		List<DummyChromosome> chromosomes = Arrays.asList(new DummyChromosome(1), new DummyChromosome(2),
+				new DummyChromosome(3));
+		List<DummyChromosome> evaluated = new ArrayList<>();
+
+		int count = new SequentialEvaluationScheduler<DummyChromosome>().evaluate(chromosomes, evaluated::add,
+				() -> evaluated.size() >= 2);
+
+		assertEquals(2, count);
+		assertEquals(chromosomes.subList(0, 2), evaluated);
+	}
+}
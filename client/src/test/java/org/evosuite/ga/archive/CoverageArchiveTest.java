@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.archive;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.evosuite.Properties;
+import org.evosuite.Properties.Criterion;
+import org.evosuite.coverage.method.MethodCoverageTestFitness;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.TestFitnessFunction;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CoverageArchiveTest {
+
+	private CoverageArchive archive;
+
+	@Before
+	public void setUp() {
+		Properties.CRITERION = new Criterion[] { Criterion.METHOD };
+		archive = new CoverageArchive();
+	}
+
+	@After
+	public void tearDown() {
+		Properties.getInstance().resetToDefaults();
+	}
+
+	private List<TestFitnessFunction> addTargets(int number) {
+		List<TestFitnessFunction> targets = new ArrayList<>();
+		for (int i = 0; i < number; i++) {
+			TestFitnessFunction target = new MethodCoverageTestFitness("Foo", "bar" + i + "()V");
+			targets.add(target);
+			archive.addTarget(target);
+		}
+		return targets;
+	}
+
+	@Test
+	public void testUncoveredTargetsAreAView() {
+		List<TestFitnessFunction> targets = addTargets(3);
+		Set<TestFitnessFunction> uncovered = archive.getUncoveredTargets();
+		Set<TestFitnessFunction> covered = archive.getCoveredTargets();
+		assertEquals(3, uncovered.size());
+		assertTrue(covered.isEmpty());
+		assertTrue(archive.isArchiveEmpty());
+
+		TestChromosome solution = new TestChromosome();
+		archive.updateArchive(targets.get(1), solution, 0.0);
+
+		assertEquals(Arrays.asList(targets.get(0), targets.get(2)), new ArrayList<>(uncovered));
+		assertEquals(Arrays.asList(targets.get(1)), new ArrayList<>(covered));
+		assertTrue(covered.contains(targets.get(1)));
+		assertFalse(uncovered.contains(targets.get(1)));
+		assertSame(solution, archive.getSolution(targets.get(1)));
+		assertEquals(3, archive.getNumberOfTargets());
+		assertEquals(1, archive.getNumberOfSolutions());
+		assertTrue(archive.hasBeenUpdated());
+	}
+
+	@Test
+	public void testNonCoveringSolutionIsIgnored() {
+		List<TestFitnessFunction> targets = addTargets(1);
+		archive.updateArchive(targets.get(0), new TestChromosome(), 0.5);
+		assertFalse(archive.hasSolution(targets.get(0)));
+		assertEquals(1, archive.getNumberOfUncoveredTargets());
+	}
+
+	@Test
+	public void testRegisteringTargetTwice() {
+		List<TestFitnessFunction> targets = addTargets(2);
+		archive.addTarget(targets.get(0));
+		assertEquals(2, archive.getNumberOfTargets());
+	}
+
+	@Test
+	public void testReset() {
+		List<TestFitnessFunction> targets = addTargets(2);
+		archive.updateArchive(targets.get(0), new TestChromosome(), 0.0);
+		archive.reset();
+		assertEquals(0, archive.getNumberOfTargets());
+		assertEquals(0, archive.getNumberOfCoveredTargets());
+		assertFalse(archive.hasTarget(targets.get(0)));
+		assertTrue(archive.getCoveredTargets().isEmpty());
+	}
+
+	@Test
+	public void testConcurrentUpdates() throws Exception {
+		// More targets than fit into a single chunk of slots
+		final List<TestFitnessFunction> targets = addTargets(3000);
+		final int numThreads = 4;
+
+		ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < numThreads; t++) {
+				futures.add(executor.submit(() -> {
+					// all threads try to cover all targets
+					for (TestFitnessFunction target : targets) {
+						archive.updateArchive(target, new TestChromosome(), 0.0);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(targets.size(), archive.getNumberOfCoveredTargets());
+		assertEquals(0, archive.getNumberOfUncoveredTargets());
+		assertTrue(archive.getUncoveredTargets().isEmpty());
+		assertEquals(targets.size(), archive.getNumberOfSolutions());
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.operators.ranking;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.evosuite.ga.DummyChromosome;
+import org.evosuite.ga.FitnessFunction;
+import org.evosuite.utils.Randomness;
+import org.junit.Test;
+
+public class EfficientNonDominatedSortingTest {
+
+	private static class Goal extends FitnessFunction<DummyChromosome> {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public double getFitness(DummyChromosome individual) {
+			return 0;
+		}
+
+		@Override
+		public boolean isMaximizationFunction() {
+			return false;
+		}
+	}
+
+	@Test
+	public void testFronts() {
+		double[][] values = new double[][] {
+			{ 2, 2 }, // 0: dominated by 1 and 3
+			{ 1, 2 }, // 1: dominated by 3
+			{ 0, 3 }, // 2: non-dominated
+			{ 1, 1 }, // 3: non-dominated
+			{ 1, 1 }, // 4: same as 3, thus not dominated by it
+			{ 3, 0 }  // 5: non-dominated
+		};
+		Goal goal1 = new Goal();
+		Goal goal2 = new Goal();
+		List<DummyChromosome> population = new ArrayList<>();
+		for (double[] value : values) {
+			DummyChromosome chromosome = new DummyChromosome(population.size());
+			chromosome.setFitness(goal1, value[0]);
+			chromosome.setFitness(goal2, value[1]);
+			population.add(chromosome);
+		}
+		FitnessMatrix<DummyChromosome> fitness = new FitnessMatrix<>(population, Arrays.asList(goal1, goal2));
+
+		int[][] fronts = EfficientNonDominatedSorting.getNonDominatedFronts(fitness, new int[] { 0, 1, 2, 3, 4, 5 });
+		assertEquals(3, fronts.length);
+		assertArrayEquals(new int[] { 2, 3, 4, 5 }, fronts[0]);
+		assertArrayEquals(new int[] { 1 }, fronts[1]);
+		assertArrayEquals(new int[] { 0 }, fronts[2]);
+
+		// Only the given solutions are sorted
+		fronts = EfficientNonDominatedSorting.getNonDominatedFronts(fitness, new int[] { 0, 1, 5 });
+		assertEquals(2, fronts.length);
+		assertArrayEquals(new int[] { 1, 5 }, fronts[0]);
+		assertArrayEquals(new int[] { 0 }, fronts[1]);
+	}
+
+	@Test
+	public void testEmptyPopulation() {
+		EfficientNonDominatedSorting<DummyChromosome> sorting = new EfficientNonDominatedSorting<>();
+		sorting.computeRankingAssignment(new ArrayList<>(), new LinkedHashSet<Goal>());
+		assertEquals(0, sorting.getNumberOfSubfronts());
+	}
+
+	@Test
+	public void testSameFrontsAsFastNonDominatedSorting() {
+		Randomness.setSeed(42);
+
+		Set<Goal> goals = new LinkedHashSet<>();
+		for (int i = 0; i < 5; i++) {
+			goals.add(new Goal());
+		}
+		List<DummyChromosome> population = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			DummyChromosome chromosome = new DummyChromosome(i);
+			for (Goal goal : goals) {
+				chromosome.setFitness(goal, Randomness.nextInt(5));
+			}
+			population.add(chromosome);
+		}
+
+		FastNonDominatedSorting<DummyChromosome> expected = new FastNonDominatedSorting<>();
+		expected.computeRankingAssignment(population, goals);
+		EfficientNonDominatedSorting<DummyChromosome> actual = new EfficientNonDominatedSorting<>();
+		actual.computeRankingAssignment(population, goals);
+
+		assertEquals(expected.getNumberOfSubfronts(), actual.getNumberOfSubfronts());
+		for (int i = 0; i < expected.getNumberOfSubfronts(); i++) {
+			assertEquals(expected.getSubfront(i), actual.getSubfront(i));
+			for (DummyChromosome chromosome : actual.getSubfront(i)) {
+				assertEquals(i + 1, chromosome.getRank());
+			}
+		}
+	}
+}
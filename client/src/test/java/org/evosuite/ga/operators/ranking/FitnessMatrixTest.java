@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.operators.ranking;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.evosuite.ga.DummyChromosome;
+import org.evosuite.ga.FitnessFunction;
+import org.evosuite.ga.comparators.DominanceComparator;
+import org.evosuite.utils.Randomness;
+import org.junit.Test;
+
+public class FitnessMatrixTest {
+
+	private static class Goal extends FitnessFunction<DummyChromosome> {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public double getFitness(DummyChromosome individual) {
+			return 0;
+		}
+
+		@Override
+		public boolean isMaximizationFunction() {
+			return false;
+		}
+	}
+
+	@Test
+	public void testValues() {
+		Goal goal1 = new Goal();
+		Goal goal2 = new Goal();
+		DummyChromosome chromosome = new DummyChromosome(1);
+		chromosome.setFitness(goal1, 0.5);
+		chromosome.setFitness(goal2, 2.0);
+
+		FitnessMatrix<DummyChromosome> fitness = new FitnessMatrix<>(Arrays.asList(chromosome),
+				Arrays.asList(goal1, goal2));
+		assertEquals(1, fitness.getNumberOfSolutions());
+		assertEquals(2, fitness.getNumberOfGoals());
+		assertEquals(0, fitness.indexOf(chromosome));
+		assertEquals(0.5, fitness.getFitness(0, 0), 0.0);
+		assertEquals(2.0, fitness.getFitness(1, 0), 0.0);
+
+		// The matrix does not follow later changes
+		chromosome.setFitness(goal1, 1.0);
+		assertEquals(0.5, fitness.getFitness(0, 0), 0.0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testIndexOfEqualButDifferentSolution() {
+		DummyChromosome chromosome = new DummyChromosome(1);
+		FitnessMatrix<DummyChromosome> fitness = new FitnessMatrix<>(Arrays.asList(chromosome),
+				new LinkedHashSet<Goal>());
+		fitness.indexOf(new DummyChromosome(1));
+	}
+
+	@Test
+	public void testCompareAsDominanceComparator() {
+		Randomness.setSeed(42);
+
+		Set<Goal> goals = new LinkedHashSet<>();
+		for (int i = 0; i < 3; i++) {
+			goals.add(new Goal());
+		}
+		List<DummyChromosome> population = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			DummyChromosome chromosome = new DummyChromosome(i);
+			for (Goal goal : goals) {
+				chromosome.setFitness(goal, Randomness.nextInt(3));
+			}
+			population.add(chromosome);
+		}
+
+		FitnessMatrix<DummyChromosome> fitness = new FitnessMatrix<>(population, goals);
+		DominanceComparator<DummyChromosome> comparator = new DominanceComparator<>(goals);
+		for (int i = 0; i < population.size(); i++) {
+			for (int j = 0; j < population.size(); j++) {
+				assertEquals(comparator.compare(population.get(i), population.get(j)), fitness.compare(i, j));
+			}
+		}
+	}
+
+	@Test
+	public void testFastEpsilonDominanceAssignment() {
+		Goal goal1 = new Goal();
+		Goal goal2 = new Goal();
+		List<DummyChromosome> population = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			DummyChromosome chromosome = new DummyChromosome(i);
+			// Only the first solution is the best for goal1, goal2 does not discriminate
+			chromosome.setFitness(goal1, i == 0 ? 0.0 : 1.0);
+			chromosome.setFitness(goal2, 1.0);
+			population.add(chromosome);
+		}
+		FitnessMatrix<DummyChromosome> fitness = new FitnessMatrix<>(population, Arrays.asList(goal1, goal2));
+
+		// The front is a subset of the solutions in the matrix
+		List<DummyChromosome> front = population.subList(0, 3);
+		new CrowdingDistance<DummyChromosome>().fastEpsilonDominanceAssignment(front, fitness);
+		assertEquals(2.0 / 3.0, front.get(0).getDistance(), 0.0);
+		assertEquals(0.0, front.get(1).getDistance(), 0.0);
+		assertEquals(0.0, front.get(2).getDistance(), 0.0);
+	}
+}
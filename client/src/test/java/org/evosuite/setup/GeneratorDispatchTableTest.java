@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.setup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.evosuite.utils.generic.GenericAccessibleObject;
+import org.evosuite.utils.generic.GenericClass;
+import org.evosuite.utils.generic.GenericConstructor;
+import org.evosuite.utils.generic.GenericMethod;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GeneratorDispatchTableTest {
+
+	private static List<GenericAccessibleObject<?>> getStringBuilderGenerators() throws NoSuchMethodException {
+		List<GenericAccessibleObject<?>> generators = new ArrayList<>();
+		generators.add(new GenericConstructor(StringBuilder.class.getConstructor(), StringBuilder.class));
+		generators.add(new GenericMethod(StringBuilder.class.getMethod("append", String.class), StringBuilder.class));
+		generators.add(new GenericMethod(StringBuilder.class.getMethod("reverse"), StringBuilder.class));
+		return generators;
+	}
+
+	@Test
+	public void testChooseSkipsRejectedGenerators() throws NoSuchMethodException {
+		List<GenericAccessibleObject<?>> generators = getStringBuilderGenerators();
+		GeneratorDispatchTable.Entry entry = new GeneratorDispatchTable.Entry(generators);
+		Assert.assertEquals(3, entry.size());
+
+		GenericAccessibleObject<?> allowed = generators.get(2);
+		for (int i = 0; i < 100; i++) {
+			Assert.assertSame(allowed, entry.choose(g -> g != allowed, false));
+		}
+		Assert.assertNull(entry.choose(g -> true, false));
+	}
+
+	@Test
+	public void testChoosePrefersDirectGenerators() throws NoSuchMethodException {
+		List<GenericAccessibleObject<?>> generators = getStringBuilderGenerators();
+		GeneratorDispatchTable.Entry entry = new GeneratorDispatchTable.Entry(generators);
+
+		for (int i = 0; i < 100; i++) {
+			Assert.assertTrue(entry.choose(g -> false, true).isConstructor());
+		}
+
+		// Without an accepted constructor, the other generators are used
+		GenericAccessibleObject<?> generator = entry.choose(g -> g.isConstructor(), true);
+		Assert.assertNotNull(generator);
+		Assert.assertTrue(generator.isMethod());
+	}
+
+	@Test
+	public void testEmptyEntry() {
+		GeneratorDispatchTable.Entry entry = new GeneratorDispatchTable.Entry(new ArrayList<>());
+		Assert.assertTrue(entry.isEmpty());
+		Assert.assertNull(entry.choose(g -> false, true));
+	}
+
+	@Test
+	public void testInvalidate() throws NoSuchMethodException {
+		GeneratorDispatchTable table = new GeneratorDispatchTable();
+		GenericClass charSequence = new GenericClass(CharSequence.class);
+		GenericClass stringBuilder = new GenericClass(StringBuilder.class);
+		GenericClass number = new GenericClass(Number.class);
+		for (GenericClass clazz : Arrays.asList(charSequence, stringBuilder, number)) {
+			table.put(clazz, getStringBuilderGenerators());
+		}
+		Assert.assertEquals(3, table.size());
+
+		table.invalidate(clazz -> clazz.isAssignableFrom(stringBuilder));
+		Assert.assertEquals(1, table.size());
+		Assert.assertNull(table.get(charSequence));
+		Assert.assertNull(table.get(stringBuilder));
+		Assert.assertNotNull(table.get(number));
+
+		table.clear();
+		Assert.assertEquals(0, table.size());
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.setup;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.objectweb.asm.Opcodes;
+
+public class InheritanceTreeSnapshotTest {
+
+	private File directory;
+
+	@Before
+	public void createDirectory() throws IOException {
+		directory = Files.createTempDirectory("inheritance-snapshot").toFile();
+	}
+
+	@After
+	public void deleteDirectory() throws IOException {
+		FileUtils.deleteDirectory(directory);
+	}
+
+	private static void writeJar(File jar, String entryName, byte[] content) throws IOException {
+		try (ZipOutputStream output = new ZipOutputStream(new FileOutputStream(jar))) {
+			output.putNextEntry(new ZipEntry(entryName));
+			output.write(content);
+			output.closeEntry();
+		}
+	}
+
+	@Test
+	public void testChangedClasses() {
+		Map<String, Long> fingerprints = new LinkedHashMap<>();
+		fingerprints.put("foo.Unchanged", 1L);
+		fingerprints.put("foo.Changed", 2L);
+		fingerprints.put("foo.Removed", 3L);
+		InheritanceTreeSnapshot snapshot = new InheritanceTreeSnapshot(new InheritanceTree(), fingerprints);
+
+		Map<String, Long> current = new LinkedHashMap<>();
+		current.put("foo.Unchanged", 1L);
+		current.put("foo.Changed", 4L);
+		current.put("foo.Added", 5L);
+
+		Assert.assertEquals(
+				new LinkedHashSet<>(Arrays.asList("foo.Changed", "foo.Added", "foo.Removed")),
+				snapshot.getChangedClasses(current));
+		Assert.assertTrue(snapshot.getChangedClasses(fingerprints).isEmpty());
+	}
+
+	@Test
+	public void testJarFingerprints() throws IOException {
+		File jar = new File(directory, "classes.jar");
+		writeJar(jar, "foo/Foo.class", new byte[] { 1, 2, 3 });
+
+		Map<String, Long> before = new LinkedHashMap<>();
+		InheritanceTreeSnapshot.addFingerprints(jar.getPath(), Collections.singleton("foo.Foo"), before);
+
+		writeJar(jar, "foo/Foo.class", new byte[] { 1, 2, 4 });
+		Map<String, Long> after = new LinkedHashMap<>();
+		InheritanceTreeSnapshot.addFingerprints(jar.getPath(), Collections.singleton("foo.Foo"), after);
+
+		Assert.assertNotEquals(before.get("foo.Foo"), after.get("foo.Foo"));
+
+		// An earlier classpath entry shadows later ones
+		InheritanceTreeSnapshot.addFingerprints(jar.getPath(), Collections.singleton("foo.Foo"), before);
+		Assert.assertNotEquals(before.get("foo.Foo"), after.get("foo.Foo"));
+	}
+
+	@Test
+	public void testDirectoryFingerprints() throws IOException {
+		File classFile = new File(directory, "foo" + File.separator + "Foo.class");
+		Assert.assertTrue(classFile.getParentFile().mkdirs());
+		Files.write(classFile.toPath(), new byte[] { 1, 2, 3 });
+
+		Map<String, Long> before = new LinkedHashMap<>();
+		InheritanceTreeSnapshot.addFingerprints(directory.getPath(), Collections.singleton("foo.Foo"), before);
+
+		Files.write(classFile.toPath(), new byte[] { 1, 2, 3, 4 });
+		Map<String, Long> after = new LinkedHashMap<>();
+		InheritanceTreeSnapshot.addFingerprints(directory.getPath(), Collections.singleton("foo.Foo"), after);
+
+		Assert.assertNotEquals(before.get("foo.Foo"), after.get("foo.Foo"));
+	}
+
+	@Test
+	public void testFileDependsOnClassPath() {
+		File first = InheritanceTreeSnapshot.getFile(directory, Arrays.asList("a.jar", "b.jar"));
+		File second = InheritanceTreeSnapshot.getFile(directory, Arrays.asList("b.jar", "a.jar"));
+		Assert.assertEquals(first, InheritanceTreeSnapshot.getFile(directory, Arrays.asList("a.jar", "b.jar")));
+		Assert.assertNotEquals(first, second);
+		Assert.assertEquals(directory, first.getParentFile());
+	}
+
+	@Test
+	public void testWriteAndRead() throws IOException {
+		InheritanceTree tree = new InheritanceTree();
+		tree.addSuperclass("foo/Bar", "foo/Foo", Opcodes.ACC_PUBLIC);
+		Map<String, Long> fingerprints = Collections.singletonMap("foo.Bar", 42L);
+
+		File file = InheritanceTreeSnapshot.getFile(directory, Collections.singletonList("classes.jar"));
+		Assert.assertNull(InheritanceTreeSnapshot.read(file));
+
+		new InheritanceTreeSnapshot(tree, fingerprints).write(file);
+		InheritanceTreeSnapshot snapshot = InheritanceTreeSnapshot.read(file);
+		Assert.assertNotNull(snapshot);
+		Assert.assertEquals(fingerprints, snapshot.getFingerprints());
+		Assert.assertTrue(snapshot.getInheritanceTree().getSubclasses("foo.Foo").contains("foo.Bar"));
+	}
+
+	@Test
+	public void testForgetClass() {
+		InheritanceTree tree = new InheritanceTree();
+		tree.addSuperclass("foo/Bar", "foo/Foo", Opcodes.ACC_PUBLIC);
+		tree.addSuperclass("foo/Baz", "foo/Bar", Opcodes.ACC_PUBLIC);
+		tree.addAnalyzedMethod("foo.Bar", "bar", "()V");
+
+		// Bar changes its superclass, Baz still extends it
+		tree.forgetClass("foo.Bar");
+		Assert.assertTrue(tree.hasClass("foo.Bar"));
+		Assert.assertFalse(tree.isClassDefined("foo.Bar"));
+		Assert.assertFalse(tree.getSubclasses("foo.Foo").contains("foo.Bar"));
+		Assert.assertTrue(tree.getSubclasses("foo.Bar").contains("foo.Baz"));
+
+		tree.addSuperclass("foo/Bar", "java/lang/Object", Opcodes.ACC_PUBLIC);
+		Assert.assertTrue(tree.getSuperclasses("foo.Baz").contains("java.lang.Object"));
+
+		// Baz is removed
+		tree.forgetClass("foo.Baz");
+		Assert.assertFalse(tree.hasClass("foo.Baz"));
+		Assert.assertFalse(tree.getSubclasses("foo.Bar").contains("foo.Baz"));
+	}
+
+	@Test
+	public void testForgetClassRemovesImplementedInterfaces() {
+		InheritanceTree tree = new InheritanceTree();
+		tree.addSuperclass("foo/Qux", "java/lang/Object", Opcodes.ACC_PUBLIC);
+		tree.registerInterface("foo/Qux");
+		tree.addSuperclass("foo/Bar", "java/lang/Object", Opcodes.ACC_PUBLIC);
+		tree.addInterface("foo/Bar", "foo/Quux");
+		tree.addInterface("foo/Bar", "foo/Qux");
+		tree.addInterface("foo/Bar", "foo/Corge");
+		tree.addSuperclass("foo/Baz", "java/lang/Object", Opcodes.ACC_PUBLIC);
+		tree.addInterface("foo/Baz", "foo/Corge");
+
+		tree.forgetClass("foo.Bar");
+		// only known from the implements clause of Bar
+		Assert.assertFalse(tree.isInterface("foo.Quux"));
+		Assert.assertFalse(tree.hasClass("foo.Quux"));
+		// analyzed itself
+		Assert.assertTrue(tree.isInterface("foo.Qux"));
+		// still implemented by Baz
+		Assert.assertTrue(tree.isInterface("foo.Corge"));
+		Assert.assertTrue(tree.getSubclasses("foo.Corge").contains("foo.Baz"));
+	}
+}
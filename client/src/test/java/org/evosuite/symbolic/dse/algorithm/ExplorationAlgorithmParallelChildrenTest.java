@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.dse.algorithm;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+
+import org.evosuite.Properties;
+import org.evosuite.symbolic.BranchCondition;
+import org.evosuite.symbolic.PathCondition;
+import org.evosuite.symbolic.dse.DSEStatistics;
+import org.evosuite.symbolic.dse.DSETestCase;
+import org.evosuite.symbolic.dse.algorithm.strategies.implementations.CachingStrategies.CounterExampleCache;
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.bv.IntegerConstant;
+import org.evosuite.symbolic.expr.bv.IntegerVariable;
+import org.evosuite.symbolic.solver.StubSmtSolver;
+import org.evosuite.symbolic.solver.z3.Z3Solver;
+import org.evosuite.symbolic.vm.ConstraintFactory;
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Children solved by the solver pool must be explored as by the sequential loop. The stub solver answers sat
+ * without a model, so a query is SAT iff the current value of x satisfies it.
+ */
+public class ExplorationAlgorithmParallelChildrenTest {
+
+    private final IntegerVariable x = new IntegerVariable("__SYMvar0", 5L, Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+    private int solverThreads;
+    private boolean deterministicOrder;
+    private String z3Path;
+
+    /**
+     * Keeps the generated test cases instead of evaluating them
+     */
+    private static class ExplorationAlgorithmForTest extends ExplorationAlgorithm {
+
+        private static final long serialVersionUID = 1L;
+
+        private ExplorationAlgorithmForTest() {
+            super(false, DSEStatistics.getInstance(), null, new Z3Solver(true));
+            setCachingStrategy(new CounterExampleCache());
+        }
+
+        @Override
+        protected Queue<DSETestCase> createWorkList() {
+            return new LinkedList<>();
+        }
+
+        @Override
+        protected double getTestScore(TestCase newTestCase, boolean hasPathConditionDiverged) {
+            return 0;
+        }
+
+        @Override
+        protected void addNewTestCaseToTestSuite(DSETestCase dseTestCase) {
+        }
+    }
+
+    @Before
+    public void setUp() {
+        solverThreads = Properties.DSE_SOLVER_THREADS;
+        deterministicOrder = Properties.DSE_PARALLEL_DETERMINISTIC_ORDER;
+        z3Path = Properties.Z3_PATH;
+
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        Properties.Z3_PATH = java + " -cp " + System.getProperty("java.class.path") + " " + StubSmtSolver.class.getName();
+        Properties.DSE_PARALLEL_DETERMINISTIC_ORDER = true;
+    }
+
+    @After
+    public void tearDown() {
+        Properties.DSE_SOLVER_THREADS = solverThreads;
+        Properties.DSE_PARALLEL_DETERMINISTIC_ORDER = deterministicOrder;
+        Properties.Z3_PATH = z3Path;
+    }
+
+    private static GenerationalSearchPathCondition child(Constraint<?>... constraints) {
+        List<BranchCondition> branchConditions = new ArrayList<>();
+        for (Constraint<?> constraint : constraints) {
+            branchConditions.add(new BranchCondition("Foo", "bar", 0, constraint, new ArrayList<>()));
+        }
+        return new GenerationalSearchPathCondition(new PathCondition(branchConditions), 0);
+    }
+
+    private List<Integer> explore(List<GenerationalSearchPathCondition> children, long[] cacheStatistics) {
+        DefaultTestCase test = new DefaultTestCase();
+        test.addStatement(new IntPrimitiveStatement(test, 5));
+        DSETestCase currentTestCase = new DSETestCase(test, child(), 0);
+
+        DSEStatistics statistics = DSEStatistics.getInstance();
+        long calls = statistics.getQueryCacheCalls();
+        long hits = statistics.getQueryCacheHits();
+
+        Queue<DSETestCase> workList = new LinkedList<>();
+        new ExplorationAlgorithmForTest().processChildren(workList, new HashSet<>(), currentTestCase, children, false);
+
+        cacheStatistics[0] = statistics.getQueryCacheCalls() - calls;
+        cacheStatistics[1] = statistics.getQueryCacheHits() - hits;
+
+        List<Integer> exploredChildren = new ArrayList<>();
+        for (DSETestCase newTestCase : workList) {
+            exploredChildren.add(children.indexOf(newTestCase.getOriginalPathCondition()));
+        }
+        return exploredChildren;
+    }
+
+    @Test
+    public void testSameWorkListAndCacheStatisticsAsSequential() {
+        Constraint<?> nonNegative = ConstraintFactory.gte(x, new IntegerConstant(0));
+        Constraint<?> belowTen = ConstraintFactory.lt(x, new IntegerConstant(10));
+        Constraint<?> negative = ConstraintFactory.lt(x, new IntegerConstant(0));
+        Constraint<?> aboveMinusTen = ConstraintFactory.gt(x, new IntegerConstant(-10));
+
+        List<GenerationalSearchPathCondition> children = Arrays.asList(
+            child(nonNegative),
+            // solved by the model of the first child once it is cached
+            child(nonNegative, belowTen),
+            // same query as the first child
+            child(nonNegative),
+            child(negative),
+            // unsatisfiable since the previous child is
+            child(aboveMinusTen, negative),
+            child(belowTen));
+
+        Properties.DSE_SOLVER_THREADS = 1;
+        long[] sequentialStatistics = new long[2];
+        List<Integer> sequential = explore(children, sequentialStatistics);
+
+        Properties.DSE_SOLVER_THREADS = 4;
+        long[] parallelStatistics = new long[2];
+        List<Integer> parallel = explore(children, parallelStatistics);
+
+        assertEquals(Arrays.asList(0, 1, 5), sequential);
+        assertEquals(sequential, parallel);
+        assertEquals(sequentialStatistics[0], parallelStatistics[0]);
+        assertEquals(sequentialStatistics[1], parallelStatistics[1]);
+    }
+}
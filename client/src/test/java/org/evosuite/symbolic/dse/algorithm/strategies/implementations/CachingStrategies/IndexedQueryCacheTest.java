@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.dse.algorithm.strategies.implementations.CachingStrategies;
+
+import org.evosuite.symbolic.expr.Comparator;
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.bv.IntegerConstant;
+import org.evosuite.symbolic.expr.bv.IntegerVariable;
+import org.evosuite.symbolic.expr.constraint.IntegerConstraint;
+import org.evosuite.symbolic.solver.SolverResult;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class IndexedQueryCacheTest {
+
+  private final IntegerVariable x = new IntegerVariable("x", 0L, Long.MIN_VALUE, Long.MAX_VALUE);
+
+  private final Constraint<?> xGreaterThan0 = new IntegerConstraint(x, Comparator.GT, new IntegerConstant(0));
+  private final Constraint<?> xLessThan10 = new IntegerConstraint(x, Comparator.LT, new IntegerConstant(10));
+  private final Constraint<?> xLessThan5 = new IntegerConstraint(x, Comparator.LT, new IntegerConstant(5));
+  private final Constraint<?> xEquals20 = new IntegerConstraint(x, Comparator.EQ, new IntegerConstant(20));
+
+  private static Set<Constraint<?>> setOf(Constraint<?>... constraints) {
+    return new HashSet<>(Arrays.asList(constraints));
+  }
+
+  private static SolverResult sat(long xValue) {
+    Map<String, Object> model = new HashMap<>();
+    model.put("x", xValue);
+    return SolverResult.newSAT(model);
+  }
+
+  @Test
+  public void subSetAndSupraSetLookups() {
+    IndexedQueryCache cache = new IndexedQueryCache(10);
+    SolverResult small = sat(3);
+    SolverResult big = sat(4);
+    SolverResult unrelated = SolverResult.newUNSAT();
+    cache.put(setOf(xGreaterThan0), small);
+    cache.put(setOf(xGreaterThan0, xLessThan10, xLessThan5), big);
+    cache.put(setOf(xEquals20, xLessThan10), unrelated);
+
+    List<SolverResult> subSets = cache.getSubSetResults(setOf(xGreaterThan0, xLessThan10));
+    assertEquals(Collections.singletonList(small), subSets);
+
+    List<SolverResult> supraSets = cache.getSupraSetResults(setOf(xGreaterThan0, xLessThan10));
+    assertEquals(Collections.singletonList(big), supraSets);
+
+    assertTrue(cache.getSupraSetResults(setOf(xEquals20, xGreaterThan0)).isEmpty());
+  }
+
+  @Test
+  public void leastRecentlyUsedQueryIsEvicted() {
+    IndexedQueryCache cache = new IndexedQueryCache(2);
+    cache.put(setOf(xGreaterThan0), sat(1));
+    cache.put(setOf(xLessThan10), sat(2));
+
+    // touches the first query so that the second one is the eldest
+    assertNotNull(cache.get(setOf(xGreaterThan0)));
+    cache.put(setOf(xLessThan5), sat(3));
+
+    assertEquals(2, cache.size());
+    assertTrue(cache.containsKey(setOf(xGreaterThan0)));
+    assertFalse(cache.containsKey(setOf(xLessThan10)));
+    assertTrue(cache.getSupraSetResults(setOf(xLessThan10)).isEmpty());
+  }
+
+  @Test
+  public void counterExampleCacheReusesModels() {
+    IndexedQueryCache cache = new IndexedQueryCache(10);
+    CounterExampleCache strategy = new CounterExampleCache();
+
+    cache.put(setOf(xLessThan10, xEquals20), SolverResult.newUNSAT());
+    cache.put(setOf(xGreaterThan0, xLessThan5), sat(3));
+
+    // (a) supra set of an unsat query
+    assertTrue(strategy.checkCache(setOf(xLessThan10, xEquals20, xGreaterThan0), cache).hitUnSat());
+
+    // (b) sub set of a sat query
+    CacheQueryResult supraSetHit = strategy.checkCache(setOf(xLessThan5), cache);
+    assertTrue(supraSetHit.hitSat());
+    assertEquals(3L, supraSetHit.getSmtSolution().get("x"));
+
+    // (c) the model of a sat sub set also solves the query
+    CacheQueryResult subSetHit = strategy.checkCache(setOf(xGreaterThan0, xLessThan5, xLessThan10), cache);
+    assertTrue(subSetHit.hitSat());
+    assertEquals(3L, subSetHit.getSmtSolution().get("x"));
+
+    // (c) the model of a sat sub set does not solve the query
+    cache.put(setOf(xGreaterThan0), sat(3));
+    assertTrue(strategy.checkCache(setOf(xGreaterThan0, xEquals20), cache).missed());
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.expr;
+
+import org.evosuite.symbolic.expr.bv.IntegerBinaryExpression;
+import org.evosuite.symbolic.expr.bv.IntegerConstant;
+import org.evosuite.symbolic.expr.bv.IntegerValue;
+import org.evosuite.symbolic.expr.bv.IntegerVariable;
+import org.evosuite.symbolic.vm.ExpressionFactory;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class ExpressionInternerTest {
+
+    private static IntegerVariable newVariable(long concreteValue) {
+        return new IntegerVariable("interned_x", concreteValue, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * A variable-free expression that the factory does not fold into a
+     * constant, with a concrete value chosen by the test
+     */
+    private static IntegerValue newConcreteExpression(long concreteValue) {
+        return new IntegerBinaryExpression(new IntegerConstant(7), Operator.MINUS, new IntegerConstant(2), concreteValue);
+    }
+
+    @Test
+    public void testStructurallyEqualExpressionsAreShared() {
+        IntegerValue x = newConcreteExpression(5);
+        IntegerValue left = ExpressionFactory.add(x, ExpressionFactory.buildNewIntegerConstant(10), 15);
+        IntegerValue right = ExpressionFactory.add(newConcreteExpression(5), new IntegerConstant(10), 15);
+        assertSame(left, right);
+
+        IntegerValue leftMul = ExpressionFactory.mul(left, x, 75);
+        IntegerValue rightMul = ExpressionFactory.mul(right, x, 75);
+        assertSame(leftMul, rightMul);
+    }
+
+    @Test
+    public void testExpressionsWithVariablesAreNotShared() {
+        IntegerVariable first = newVariable(5);
+        IntegerVariable second = newVariable(5);
+        IntegerValue left = ExpressionFactory.add(first, ExpressionFactory.buildNewIntegerConstant(10), 15);
+        IntegerValue right = ExpressionFactory.add(second, ExpressionFactory.buildNewIntegerConstant(10), 15);
+
+        // each execution has to keep its own variables, whose concrete values the solver sets
+        assertEquals(left, right);
+        assertNotSame(left, right);
+        assertSame(first, ((IntegerBinaryExpression) left).getLeftOperand());
+        assertSame(second, ((IntegerBinaryExpression) right).getLeftOperand());
+    }
+
+    @Test
+    public void testConcreteValueIsPartOfTheKey() {
+        IntegerValue left = ExpressionFactory.add(newConcreteExpression(5), new IntegerConstant(100), 105);
+        IntegerValue right = ExpressionFactory.add(newConcreteExpression(6), new IntegerConstant(100), 106);
+
+        // equals ignores the concrete value, but the concolic execution does not
+        assertEquals(left, right);
+        assertNotSame(left, right);
+        assertEquals(105L, (long) left.getConcreteValue());
+        assertEquals(106L, (long) right.getConcreteValue());
+    }
+
+    @Test
+    public void testHashCodeIsStructural() {
+        IntegerBinaryExpression left = new IntegerBinaryExpression(newVariable(1), Operator.MINUS, new IntegerConstant(7), -6L);
+        IntegerBinaryExpression right = new IntegerBinaryExpression(newVariable(2), Operator.MINUS, new IntegerConstant(7), -5L);
+        assertEquals(left, right);
+        assertEquals(left.hashCode(), right.hashCode());
+        assertEquals(left.hashCode(), left.hashCode());
+    }
+}
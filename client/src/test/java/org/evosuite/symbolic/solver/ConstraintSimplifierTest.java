@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.evosuite.symbolic.expr.Comparator;
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.Operator;
+import org.evosuite.symbolic.expr.bv.IntegerBinaryExpression;
+import org.evosuite.symbolic.expr.bv.IntegerConstant;
+import org.evosuite.symbolic.expr.bv.IntegerVariable;
+import org.evosuite.symbolic.expr.constraint.IntegerConstraint;
+import org.evosuite.symbolic.vm.ConstraintFactory;
+import org.junit.Test;
+
+public class ConstraintSimplifierTest {
+
+	private static IntegerVariable newVariable(String name, long concreteValue) {
+		return new IntegerVariable(name, concreteValue, Long.MIN_VALUE, Long.MAX_VALUE);
+	}
+
+	@Test
+	public void testConstantConstraintsAreFolded() {
+		IntegerVariable x = newVariable("x", 0);
+		IntegerConstant three = new IntegerConstant(3);
+		IntegerConstant five = new IntegerConstant(5);
+		IntegerBinaryExpression threePlusFive = new IntegerBinaryExpression(three, Operator.PLUS, five, 8L);
+
+		Constraint<?> trueConstraint = ConstraintFactory.lt(three, five);
+		Constraint<?> xEqualsSum = ConstraintFactory.eq(x, threePlusFive);
+		List<Constraint<?>> simplified = ConstraintSimplifier.simplify(Arrays.asList(trueConstraint, xEqualsSum));
+		assertEquals(Arrays.asList(ConstraintFactory.eq(x, new IntegerConstant(8))), simplified);
+
+		Constraint<?> falseConstraint = ConstraintFactory.lt(five, three);
+		assertNull(ConstraintSimplifier.simplify(Arrays.asList(xEqualsSum, falseConstraint)));
+	}
+
+	@Test
+	public void testReflexiveAndDuplicatedConstraints() {
+		IntegerVariable x = newVariable("x", 0);
+		IntegerVariable y = newVariable("y", 0);
+
+		Constraint<?> xLessThanY = ConstraintFactory.lt(x, y);
+		Constraint<?> xEqualsX = ConstraintFactory.eq(x, x);
+		List<Constraint<?>> simplified = ConstraintSimplifier.simplify(Arrays.asList(xLessThanY, xEqualsX, ConstraintFactory.lt(x, y)));
+		assertEquals(Arrays.asList(xLessThanY), simplified);
+
+		assertNull(ConstraintSimplifier.simplify(Arrays.asList(xLessThanY, ConstraintFactory.lt(y, y))));
+	}
+
+	@Test
+	public void testBoundsAreMerged() {
+		IntegerVariable x = newVariable("x", 0);
+		IntegerVariable y = newVariable("y", 0);
+
+		Constraint<?> xEqualsY = ConstraintFactory.eq(x, y);
+		List<Constraint<?>> simplified = ConstraintSimplifier.simplify(Arrays.asList(
+				new IntegerConstraint(x, Comparator.GT, new IntegerConstant(3)),
+				xEqualsY,
+				ConstraintFactory.gte(x, new IntegerConstant(5)),
+				// 10 > x
+				new IntegerConstraint(new IntegerConstant(10), Comparator.GT, x),
+				// implied by the bounds
+				ConstraintFactory.neq(x, new IntegerConstant(20)),
+				ConstraintFactory.neq(x, new IntegerConstant(7))));
+
+		assertEquals(Arrays.asList(
+				ConstraintFactory.gte(x, new IntegerConstant(5)),
+				ConstraintFactory.lte(x, new IntegerConstant(9)),
+				xEqualsY,
+				ConstraintFactory.neq(x, new IntegerConstant(7))), simplified);
+
+		List<Constraint<?>> singleValue = ConstraintSimplifier.simplify(Arrays.asList(
+				ConstraintFactory.gte(x, new IntegerConstant(5)),
+				ConstraintFactory.lte(x, new IntegerConstant(5))));
+		assertEquals(Arrays.asList(ConstraintFactory.eq(x, new IntegerConstant(5))), singleValue);
+
+		assertNull(ConstraintSimplifier.simplify(Arrays.asList(
+				ConstraintFactory.gte(x, new IntegerConstant(5)),
+				ConstraintFactory.lt(x, new IntegerConstant(5)))));
+		assertNull(ConstraintSimplifier.simplify(Arrays.asList(
+				ConstraintFactory.eq(x, new IntegerConstant(5)),
+				ConstraintFactory.neq(x, new IntegerConstant(5)))));
+	}
+
+	@Test
+	public void testUnsatisfiableQueryIsNotSolved() throws Exception {
+		IntegerVariable x = newVariable("simplifier_x", 0);
+
+		final boolean[] solverCalled = { false };
+		Solver solver = new Solver() {
+			@Override
+			public SolverResult executeSolver(Collection<Constraint<?>> constraints) {
+				solverCalled[0] = true;
+				return SolverResult.newUnknown();
+			}
+		};
+
+		SolverResult result = solver.solve(Arrays.asList(
+				ConstraintFactory.gte(x, new IntegerConstant(5)),
+				ConstraintFactory.lt(x, new IntegerConstant(2))));
+		assertTrue(result.isUNSAT());
+		assertFalse(solverCalled[0]);
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.bv.IntegerConstant;
+import org.evosuite.symbolic.expr.bv.IntegerVariable;
+import org.evosuite.symbolic.vm.ConstraintFactory;
+import org.junit.Test;
+
+public class ConstraintSlicerTest {
+
+	private static IntegerVariable newVariable(String name, long concreteValue) {
+		return new IntegerVariable(name, concreteValue, Long.MIN_VALUE, Long.MAX_VALUE);
+	}
+
+	@Test
+	public void testSatisfiedIndependentConstraintsAreRemoved() {
+		IntegerVariable x = newVariable("x", 5);
+		IntegerVariable y = newVariable("y", 1);
+		IntegerVariable z = newVariable("z", 3);
+
+		// satisfied by the concrete values and independent from y
+		Constraint<?> c0 = ConstraintFactory.lt(x, new IntegerConstant(10));
+		Constraint<?> c1 = ConstraintFactory.gte(y, new IntegerConstant(0));
+		Constraint<?> c2 = ConstraintFactory.lt(y, z);
+		// negated branch condition: not satisfied by the concrete values
+		Constraint<?> c3 = ConstraintFactory.eq(z, new IntegerConstant(7));
+
+		List<Constraint<?>> slice = ConstraintSlicer.slice(Arrays.asList(c0, c1, c2, c3));
+		assertEquals(Arrays.asList(c1, c2, c3), slice);
+	}
+
+	@Test
+	public void testAllConstraintsAreKeptIfSatisfied() {
+		IntegerVariable x = newVariable("x", 5);
+		IntegerVariable y = newVariable("y", 1);
+
+		List<Constraint<?>> constraints = new ArrayList<>();
+		constraints.add(ConstraintFactory.lt(x, new IntegerConstant(10)));
+		constraints.add(ConstraintFactory.gte(y, new IntegerConstant(0)));
+
+		assertEquals(constraints, ConstraintSlicer.slice(constraints));
+	}
+
+	@Test
+	public void testComponentsAreJoinedByVariableName() {
+		IntegerVariable x = newVariable("x", 5);
+		IntegerVariable sameX = newVariable("x", 5);
+		IntegerVariable y = newVariable("y", 1);
+
+		Constraint<?> c0 = ConstraintFactory.lt(x, new IntegerConstant(10));
+		Constraint<?> c1 = ConstraintFactory.gte(y, new IntegerConstant(0));
+		Constraint<?> c2 = ConstraintFactory.eq(sameX, new IntegerConstant(0));
+
+		List<Constraint<?>> slice = ConstraintSlicer.slice(Arrays.asList(c0, c1, c2));
+		assertEquals(Arrays.asList(c0, c2), slice);
+	}
+
+	@Test
+	public void testSolutionReusesConcreteValues() throws Exception {
+		IntegerVariable x = newVariable("slicer_x", 5);
+		IntegerVariable y = newVariable("slicer_y", 1);
+
+		Constraint<?> c0 = ConstraintFactory.lt(x, new IntegerConstant(10));
+		Constraint<?> c1 = ConstraintFactory.eq(y, new IntegerConstant(3));
+
+		List<Constraint<?>> queried = new ArrayList<>();
+		Solver solver = new Solver() {
+			@Override
+			public SolverResult executeSolver(Collection<Constraint<?>> constraints) {
+				queried.addAll(constraints);
+				Map<String, Object> model = new HashMap<>();
+				model.put("slicer_y", 3L);
+				return SolverResult.newSAT(model);
+			}
+		};
+
+		SolverResult result = solver.solve(Arrays.asList(c0, c1));
+		assertEquals(Arrays.asList(c1), queried);
+		assertEquals(5L, result.getValue("slicer_x"));
+		assertEquals(3L, result.getValue("slicer_y"));
+	}
+
+	@Test
+	public void testSolverValuesOfSlicedOutVariablesAreIgnored() throws Exception {
+		IntegerVariable x = newVariable("sliced_x", 5);
+		IntegerVariable y = newVariable("sliced_y", 1);
+
+		Constraint<?> c0 = ConstraintFactory.lt(x, new IntegerConstant(10));
+		Constraint<?> c1 = ConstraintFactory.eq(y, new IntegerConstant(3));
+
+		Solver solver = new Solver() {
+			@Override
+			public SolverResult executeSolver(Collection<Constraint<?>> constraints) {
+				Map<String, Object> model = new HashMap<>();
+				model.put("sliced_y", 3L);
+				// not part of the sliced query
+				model.put("sliced_x", 42L);
+				model.put("sliced_z", 7L);
+				return SolverResult.newSAT(model);
+			}
+		};
+
+		SolverResult result = solver.solve(Arrays.asList(c0, c1));
+		assertEquals(5L, result.getValue("sliced_x"));
+		assertEquals(3L, result.getValue("sliced_y"));
+		assertFalse(result.containsVariable("sliced_z"));
+	}
+}
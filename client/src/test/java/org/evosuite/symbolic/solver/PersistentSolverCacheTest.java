@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.bv.IntegerConstant;
+import org.evosuite.symbolic.expr.bv.IntegerVariable;
+import org.evosuite.symbolic.vm.ConstraintFactory;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PersistentSolverCacheTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final IntegerVariable x = new IntegerVariable("x", 0L, Long.MIN_VALUE, Long.MAX_VALUE);
+
+	private final Constraint<?> c0 = ConstraintFactory.gte(x, new IntegerConstant(10));
+
+	private final Constraint<?> c1 = ConstraintFactory.lt(x, new IntegerConstant(20));
+
+	private static SolverResult sat(long xValue) {
+		Map<String, Object> model = new HashMap<>();
+		model.put("x", xValue);
+		return SolverResult.newSAT(model);
+	}
+
+	@Test
+	public void testResultsAreSharedThroughTheFile() throws Exception {
+		File file = new File(folder.getRoot(), "cache/" + PersistentSolverCache.CACHE_FILE_NAME);
+		PersistentSolverCache writer = new PersistentSolverCache(file);
+		PersistentSolverCache reader = new PersistentSolverCache(file);
+
+		Collection<Constraint<?>> query = Arrays.asList(c0, c1);
+		assertNull(reader.getResult(query));
+
+		writer.saveResult(query, sat(15));
+		writer.saveResult(Arrays.asList(c0), SolverResult.newUNSAT());
+
+		// the constraint order does not matter
+		SolverResult result = reader.getResult(Arrays.asList(c1, c0));
+		assertNotNull(result);
+		assertTrue(result.isSAT());
+		assertEquals(15L, result.getValue("x"));
+		assertTrue(reader.getResult(Arrays.asList(c0)).isUNSAT());
+		assertEquals(2.0 / 3.0, reader.getHitRate(), 0.0001);
+
+		// a new process reads everything at once
+		PersistentSolverCache nextRun = new PersistentSolverCache(file);
+		assertNotNull(nextRun.getResult(query));
+		assertEquals(2, nextRun.size());
+	}
+
+	@Test
+	public void testUnknownResultsAreNotStored() {
+		File file = new File(folder.getRoot(), PersistentSolverCache.CACHE_FILE_NAME);
+		PersistentSolverCache cache = new PersistentSolverCache(file);
+		cache.saveResult(Arrays.asList(c0), SolverResult.newUnknown());
+		assertEquals(0, cache.size());
+		assertNull(new PersistentSolverCache(file).getResult(Arrays.asList(c0)));
+	}
+
+	@Test
+	public void testUNSATFromInvalidModelIsNotStored() {
+		File file = new File(folder.getRoot(), PersistentSolverCache.CACHE_FILE_NAME);
+		PersistentSolverCache cache = new PersistentSolverCache(file);
+		cache.saveResult(Arrays.asList(c0), SolverResult.newUNSATFromInvalidModel());
+		assertEquals(0, cache.size());
+		assertNull(new PersistentSolverCache(file).getResult(Arrays.asList(c0)));
+	}
+
+	@Test
+	public void testKeyDependsOnConstraints() {
+		String key = PersistentSolverCache.computeKey(Arrays.asList(c0, c1));
+		assertEquals(key, PersistentSolverCache.computeKey(Arrays.asList(c1, c0)));
+		assertTrue(!key.equals(PersistentSolverCache.computeKey(Arrays.asList(c0))));
+	}
+
+	@Test
+	public void testKeyDoesNotDependOnConcreteValues() {
+		IntegerVariable otherX = new IntegerVariable("x", 5L, Long.MIN_VALUE, Long.MAX_VALUE);
+		Constraint<?> otherC0 = ConstraintFactory.gte(otherX, new IntegerConstant(10));
+		assertEquals(PersistentSolverCache.computeKey(Arrays.asList(c0)),
+				PersistentSolverCache.computeKey(Arrays.asList(otherC0)));
+	}
+
+	@Test
+	public void testKeyDependsOnBounds() {
+		IntegerVariable boundedX = new IntegerVariable("x", 0L, 0L, 100L);
+		Constraint<?> boundedC0 = ConstraintFactory.gte(boundedX, new IntegerConstant(10));
+		assertNotEquals(PersistentSolverCache.computeKey(Arrays.asList(c0)),
+				PersistentSolverCache.computeKey(Arrays.asList(boundedC0)));
+	}
+}
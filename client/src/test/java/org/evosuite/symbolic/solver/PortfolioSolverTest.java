@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.evosuite.Properties;
+import org.evosuite.symbolic.dse.DSEStatistics;
+import org.evosuite.symbolic.expr.Comparator;
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.Operator;
+import org.evosuite.symbolic.expr.bv.IntegerBinaryExpression;
+import org.evosuite.symbolic.expr.bv.IntegerConstant;
+import org.evosuite.symbolic.expr.bv.IntegerVariable;
+import org.evosuite.symbolic.expr.constraint.RealConstraint;
+import org.evosuite.symbolic.expr.fp.RealConstant;
+import org.evosuite.symbolic.expr.fp.RealVariable;
+import org.evosuite.symbolic.solver.PortfolioSolver.Backend;
+import org.evosuite.symbolic.solver.PortfolioSolver.QueryShape;
+import org.evosuite.symbolic.solver.avm.EvoSuiteSolver;
+import org.evosuite.symbolic.vm.ConstraintFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PortfolioSolverTest {
+
+	private int learningRaces;
+
+	@Before
+	public void setUp() {
+		learningRaces = Properties.DSE_PORTFOLIO_LEARNING_RACES;
+		Properties.DSE_PORTFOLIO_LEARNING_RACES = 10;
+		DSEStatistics.clear();
+	}
+
+	@After
+	public void tearDown() {
+		Properties.DSE_PORTFOLIO_LEARNING_RACES = learningRaces;
+		DSEStatistics.clear();
+	}
+
+	private static IntegerVariable newVariable(String name, long concreteValue) {
+		return new IntegerVariable(name, concreteValue, Long.MIN_VALUE, Long.MAX_VALUE);
+	}
+
+	@Test
+	public void testQueryShapes() {
+		IntegerVariable x = newVariable("x", 0);
+		IntegerVariable y = newVariable("y", 0);
+
+		Constraint<?> linear = ConstraintFactory.lt(x, new IntegerBinaryExpression(y, Operator.MUL, new IntegerConstant(2), 0L));
+		assertEquals(QueryShape.LINEAR_INTEGER, QueryShape.of(Collections.<Constraint<?>>singletonList(linear)));
+
+		Constraint<?> nonLinear = ConstraintFactory.eq(new IntegerBinaryExpression(x, Operator.MUL, y, 0L), new IntegerConstant(6));
+		assertEquals(QueryShape.NON_LINEAR_INTEGER, QueryShape.of(Arrays.<Constraint<?>>asList(linear, nonLinear)));
+
+		RealVariable z = new RealVariable("z", 0.0, -Double.MAX_VALUE, Double.MAX_VALUE);
+		Constraint<?> real = new RealConstraint(z, Comparator.GT, new RealConstant(1.5));
+		assertEquals(QueryShape.REAL, QueryShape.of(Arrays.<Constraint<?>>asList(linear, real)));
+	}
+
+	@Test
+	public void testDominantBackendIsSelected() {
+		PortfolioSolver solver = new PortfolioSolver(new EvoSuiteSolver());
+		DSEStatistics statistics = DSEStatistics.getInstance();
+
+		for (int i = 0; i < 9; i++) {
+			statistics.reportPortfolioRace(QueryShape.LINEAR_INTEGER, Backend.LOCAL_SEARCH);
+			assertNull(solver.selectBackend(QueryShape.LINEAR_INTEGER));
+		}
+		statistics.reportPortfolioRace(QueryShape.LINEAR_INTEGER, Backend.SMT);
+
+		// one query out of ten is still raced
+		assertNull(solver.selectBackend(QueryShape.LINEAR_INTEGER));
+		for (int query = 11; query < 20; query++) {
+			assertEquals(Backend.LOCAL_SEARCH, solver.selectBackend(QueryShape.LINEAR_INTEGER));
+		}
+		assertNull(solver.selectBackend(QueryShape.LINEAR_INTEGER));
+
+		// shapes are learnt separately
+		assertNull(solver.selectBackend(QueryShape.STRING));
+	}
+
+	@Test
+	public void testNoBackendIsSelectedWithoutDominance() {
+		PortfolioSolver solver = new PortfolioSolver(new EvoSuiteSolver());
+		DSEStatistics statistics = DSEStatistics.getInstance();
+
+		for (int i = 0; i < 10; i++) {
+			statistics.reportPortfolioRace(QueryShape.STRING, i % 2 == 0 ? Backend.SMT : Backend.LOCAL_SEARCH);
+		}
+		statistics.reportPortfolioRace(QueryShape.STRING, null);
+		assertNull(solver.selectBackend(QueryShape.STRING));
+		assertEquals(11, statistics.getPortfolioRaces(QueryShape.STRING));
+		assertEquals(5, statistics.getPortfolioWins(QueryShape.STRING, Backend.SMT));
+	}
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.evosuite.symbolic.solver.smt.SmtAssertion;
+import org.evosuite.symbolic.solver.smt.SmtExpr;
+import org.evosuite.symbolic.solver.smt.SmtQuery;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SmtSolverSessionTest {
+
+	private static final long TIMEOUT = 10000;
+
+	private String stubCmd;
+
+	private SmtSolverSession session;
+
+	@Before
+	public void setUp() throws IOException {
+		String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		stubCmd = java + " -cp " + System.getProperty("java.class.path") + " " + StubSmtSolver.class.getName();
+		session = new SmtSolverSession(stubCmd);
+	}
+
+	@After
+	public void tearDown() {
+		session.close();
+	}
+
+	private static SmtQuery buildQuery(SmtExpr... formulas) {
+		return buildQuery("x", formulas);
+	}
+
+	private static SmtQuery buildQuery(String constant, SmtExpr... formulas) {
+		SmtQuery query = new SmtQuery();
+		query.setLogic("QF_LIA");
+		query.addOption(":produce-models", "true");
+		query.addConstantDeclaration(SmtExprBuilder.mkIntConstantDeclaration(constant));
+		for (SmtExpr formula : formulas) {
+			query.addAssertion(new SmtAssertion(formula));
+		}
+		return query;
+	}
+
+	private static SmtExpr xGreaterThan(long value) {
+		return SmtExprBuilder.mkGt(SmtExprBuilder.mkIntVariable("x"), SmtExprBuilder.mkIntConstant(value));
+	}
+
+	@Test
+	public void testOnlySuffixIsSent() throws Exception {
+		String output = session.solve(buildQuery(xGreaterThan(0), xGreaterThan(1)), TIMEOUT);
+		assertTrue(output.startsWith("sat\n(model"));
+		assertEquals(2, session.getNumberOfAssertionsSent());
+		assertEquals(0, session.getNumberOfAssertionsReused());
+
+		output = session.solve(buildQuery(xGreaterThan(0), SmtExprBuilder.FALSE), TIMEOUT);
+		assertEquals("unsat", output);
+		assertEquals(3, session.getNumberOfAssertionsSent());
+		assertEquals(1, session.getNumberOfAssertionsReused());
+
+		output = session.solve(buildQuery(xGreaterThan(0), xGreaterThan(1), xGreaterThan(2)), TIMEOUT);
+		assertTrue(output.startsWith("sat"));
+		assertEquals(5, session.getNumberOfAssertionsSent());
+		assertEquals(2, session.getNumberOfAssertionsReused());
+		assertEquals(3, session.getNumberOfQueries());
+	}
+
+	@Test
+	public void testPoppedAssertionsAreRetracted() throws Exception {
+		assertEquals("unsat", session.solve(buildQuery(SmtExprBuilder.FALSE), TIMEOUT));
+		assertTrue(session.solve(buildQuery(xGreaterThan(0)), TIMEOUT).startsWith("sat"));
+		assertTrue(session.solve(buildQuery(), TIMEOUT).startsWith("sat"));
+		assertEquals("unsat", session.solve(buildQuery(SmtExprBuilder.FALSE), TIMEOUT));
+	}
+
+	@Test
+	public void testHeaderChangeResetsSession() throws Exception {
+		assertEquals("unsat", session.solve(buildQuery(SmtExprBuilder.FALSE), TIMEOUT));
+
+		SmtQuery query = buildQuery(SmtExprBuilder.FALSE);
+		query.setLogic("QF_NIA");
+		assertEquals("unsat", session.solve(query, TIMEOUT));
+		assertEquals(2, session.getNumberOfAssertionsSent());
+		assertEquals(0, session.getNumberOfAssertionsReused());
+	}
+
+	@Test
+	public void testModelOnlyDefinesSymbolsOfTheQuery() throws Exception {
+		String output = session.solve(buildQuery("x"), TIMEOUT);
+		assertTrue(output.contains("(define-fun x "));
+
+		output = session.solve(buildQuery("y"), TIMEOUT);
+		assertTrue(output.startsWith("sat\n(model"));
+		assertTrue(output.contains("(define-fun y "));
+		assertFalse(output.contains("(define-fun x "));
+	}
+
+	@Test
+	public void testFilterModel() {
+		String model = "(\n  (define-fun x () Int 1)\n  (define-fun |y z| () String \"(define-fun\")\n  (define-fun w () Int (- 2))\n)";
+		String filtered = SmtSolverSession.filterModel(model, new HashSet<>(Arrays.asList("x", "w")));
+		assertEquals("(\n  (define-fun x () Int 1)\n  \n  (define-fun w () Int (- 2))\n)", filtered);
+	}
+
+	@Test
+	public void testPoolReusesSessions() throws Exception {
+		SmtSolverSessionPool pool = SmtSolverSessionPool.getInstance();
+		SmtSolverSession first = pool.acquire(stubCmd);
+		pool.release(first);
+		SmtSolverSession second = pool.acquire(stubCmd);
+		assertSame(first, second);
+		second.close();
+		pool.release(second);
+		assertFalse(second.isAlive());
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal SMT-LIB front-end used to test {@link SmtSolverSession} without an
+ * installed solver. It keeps track of the push/pop assertion stack and answers
+ * <code>unsat</code> iff <code>(assert false)</code> is currently asserted.
+ * Like a solver with global declarations, its models define every constant
+ * declared since the last reset as 0.
+ */
+public class StubSmtSolver {
+
+	public static void main(String[] args) throws IOException {
+		Reader in = new InputStreamReader(System.in, StandardCharsets.UTF_8);
+		PrintStream out = System.out;
+
+		List<List<String>> frames = new ArrayList<>();
+		frames.add(new ArrayList<>());
+		List<String> constants = new ArrayList<>();
+
+		String command;
+		while ((command = readCommand(in)) != null) {
+			if (command.startsWith("(push")) {
+				frames.add(new ArrayList<>());
+			} else if (command.startsWith("(pop")) {
+				int n = Integer.parseInt(command.substring(4, command.length() - 1).trim());
+				for (int i = 0; i < n; i++) {
+					frames.remove(frames.size() - 1);
+				}
+			} else if (command.startsWith("(declare-fun") || command.startsWith("(declare-const")) {
+				constants.add(command.substring(1, command.length() - 1).trim().split("\\s+")[1]);
+			} else if (command.startsWith("(assert")) {
+				frames.get(frames.size() - 1).add(command);
+			} else if (command.startsWith("(check-sat")) {
+				boolean unsat = false;
+				for (List<String> frame : frames) {
+					unsat |= frame.contains("(assert false)");
+				}
+				out.println(unsat ? "unsat" : "sat");
+			} else if (command.startsWith("(get-model")) {
+				out.println("(model");
+				for (String constant : constants) {
+					out.println("  (define-fun " + constant + " () Int");
+					out.println("    0)");
+				}
+				out.println(")");
+			} else if (command.startsWith("(echo")) {
+				out.println(command.substring(command.indexOf('"') + 1, command.lastIndexOf('"')));
+			} else if (command.startsWith("(reset")) {
+				frames.clear();
+				frames.add(new ArrayList<>());
+				constants.clear();
+			} else if (command.startsWith("(exit")) {
+				break;
+			}
+			out.flush();
+		}
+	}
+
+	/**
+	 * Reads the next balanced s-expression
+	 */
+	private static String readCommand(Reader in) throws IOException {
+		StringBuilder buff = new StringBuilder();
+		int depth = 0;
+		boolean inString = false;
+		int c;
+		while ((c = in.read()) != -1) {
+			char ch = (char) c;
+			if (depth == 0 && ch != '(') {
+				continue;
+			}
+			buff.append(ch);
+			if (ch == '"') {
+				inString = !inString;
+			} else if (!inString && ch == '(') {
+				depth++;
+			} else if (!inString && ch == ')') {
+				depth--;
+				if (depth == 0) {
+					return buff.toString();
+				}
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver.inprocess;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.evosuite.symbolic.solver.SmtExprBuilder;
+import org.evosuite.symbolic.solver.SolverResult;
+import org.evosuite.symbolic.solver.smt.SmtAssertion;
+import org.evosuite.symbolic.solver.smt.SmtExpr;
+import org.evosuite.symbolic.solver.smt.SmtExprEvaluator;
+import org.evosuite.symbolic.solver.smt.SmtIntVariable;
+import org.evosuite.symbolic.solver.smt.SmtQuery;
+import org.evosuite.symbolic.solver.smt.SmtRealVariable;
+import org.junit.Test;
+
+public class JavaSmtBackendTest {
+
+	private static final long TIMEOUT = 1000;
+
+	private static SmtQuery buildQuery(SmtExpr... assertions) {
+		SmtQuery query = new SmtQuery();
+		for (SmtExpr assertion : assertions) {
+			query.addAssertion(new SmtAssertion(assertion));
+		}
+		return query;
+	}
+
+	private static void assertModelSatisfies(SolverResult result, SmtQuery query) {
+		assertTrue(result.isSAT());
+		SmtExprEvaluator evaluator = new SmtExprEvaluator(result.getModel());
+		for (SmtAssertion assertion : query.getAssertions()) {
+			assertEquals(Boolean.TRUE, assertion.getFormula().accept(evaluator, null));
+		}
+	}
+
+	@Test
+	public void testLinearIntegerConstraints() {
+		SmtIntVariable x = SmtExprBuilder.mkIntVariable("x");
+		SmtIntVariable y = SmtExprBuilder.mkIntVariable("y");
+
+		// x + y == 10, x > 7, y >= 1, not (x == 8)
+		SmtQuery query = buildQuery(
+				SmtExprBuilder.mkEq(SmtExprBuilder.mkAdd(x, y), SmtExprBuilder.mkIntConstant(10)),
+				SmtExprBuilder.mkGt(x, SmtExprBuilder.mkIntConstant(7)),
+				SmtExprBuilder.mkGe(y, SmtExprBuilder.mkIntConstant(1)),
+				SmtExprBuilder.mkNot(SmtExprBuilder.mkEq(x, SmtExprBuilder.mkIntConstant(8))));
+
+		Map<String, Object> initialValues = new HashMap<>();
+		initialValues.put("x", 0L);
+		initialValues.put("y", 0L);
+
+		JavaSmtBackend backend = new JavaSmtBackend();
+		assertTrue(backend.supports(query));
+		SolverResult result = backend.solve(query, initialValues, TIMEOUT);
+		assertModelSatisfies(result, query);
+		assertEquals(9L, result.getValue("x"));
+		assertEquals(1L, result.getValue("y"));
+	}
+
+	@Test
+	public void testRealConstraints() {
+		SmtRealVariable r = SmtExprBuilder.mkRealVariable("r");
+
+		// 2 * r > 0, r < 0.5
+		SmtQuery query = buildQuery(
+				SmtExprBuilder.mkGt(SmtExprBuilder.mkMul(SmtExprBuilder.mkRealConstant(2), r), SmtExprBuilder.mkRealConstant(0)),
+				SmtExprBuilder.mkLt(r, SmtExprBuilder.mkRealConstant(0.5)));
+
+		SolverResult result = new JavaSmtBackend().solve(query, new HashMap<>(), TIMEOUT);
+		assertModelSatisfies(result, query);
+	}
+
+	@Test
+	public void testConflictingBoundsAreUnsat() {
+		SmtIntVariable x = SmtExprBuilder.mkIntVariable("x");
+
+		SmtQuery query = buildQuery(
+				SmtExprBuilder.mkGt(x, SmtExprBuilder.mkIntConstant(5)),
+				SmtExprBuilder.mkLe(SmtExprBuilder.mkIntConstant(5), SmtExprBuilder.mkIntConstant(3)),
+				SmtExprBuilder.mkLt(x, SmtExprBuilder.mkIntConstant(3)));
+
+		SolverResult result = new JavaSmtBackend().solve(query, new HashMap<>(), TIMEOUT);
+		assertTrue(result.isUNSAT());
+	}
+
+	@Test
+	public void testDivisionByZeroWithoutVariablesIsUnknown() {
+		SmtIntVariable x = SmtExprBuilder.mkIntVariable("x");
+
+		// 1 / 0 == 0 holds for some interpretations of the division by zero
+		SmtQuery query = buildQuery(
+				SmtExprBuilder.mkGt(x, SmtExprBuilder.mkIntConstant(5)),
+				SmtExprBuilder.mkEq(SmtExprBuilder.mkIntDiv(SmtExprBuilder.mkIntConstant(1), SmtExprBuilder.mkIntConstant(0)),
+						SmtExprBuilder.mkIntConstant(0)));
+
+		SolverResult result = new JavaSmtBackend().solve(query, new HashMap<>(), TIMEOUT);
+		assertTrue(result.isUnknown());
+	}
+
+	@Test
+	public void testStringConstraintsAreNotSupported() {
+		SmtExpr s = SmtExprBuilder.mkStringVariable("s");
+
+		SmtQuery query = buildQuery(SmtExprBuilder.mkEq(s, SmtExprBuilder.mkStringConstant("foo")));
+		assertFalse(new JavaSmtBackend().supports(query));
+	}
+}
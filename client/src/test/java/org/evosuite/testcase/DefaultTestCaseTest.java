@@ -19,11 +19,30 @@
  */
 package org.evosuite.testcase;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.evosuite.testcase.statements.AssignmentStatement;
+import org.evosuite.testcase.statements.ConstructorStatement;
+import org.evosuite.testcase.statements.StringPrimitiveStatement;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.evosuite.testcase.variable.FieldReference;
+import org.evosuite.testcase.variable.VariableReference;
+import org.evosuite.testcase.variable.VariableReferenceImpl;
+import org.evosuite.utils.Randomness;
+import org.evosuite.utils.generic.GenericConstructor;
+import org.evosuite.utils.generic.GenericField;
 import org.junit.Assert;
 import org.junit.Test;
 
 public class DefaultTestCaseTest {
 
+	public static class Foo {
+		public Object o;
+		public String s;
+	}
+
 	@Test
 	public void testClone(){
 				
@@ -31,4 +50,112 @@ public class DefaultTestCaseTest {
 		DefaultTestCase clone = tc.clone();
 		Assert.assertTrue(tc.statements != clone.statements);
 	}
+
+	@Test
+	public void testPositionsAfterCloneAndRemove() {
+		DefaultTestCase tc = new DefaultTestCase();
+		VariableReference int0 = tc.addStatement(new IntPrimitiveStatement(tc, 0));
+		VariableReference int1 = tc.addStatement(new IntPrimitiveStatement(tc, 1));
+		Assert.assertEquals(1, int1.getStPosition());
+
+		DefaultTestCase clone = tc.clone();
+		VariableReference clonedInt1 = clone.getStatement(1).getReturnValue();
+		Assert.assertNotSame(int1, clonedInt1);
+		Assert.assertEquals(1, clonedInt1.getStPosition());
+
+		clone.remove(0);
+		Assert.assertEquals(0, clonedInt1.getStPosition());
+		Assert.assertEquals(0, int0.getStPosition());
+		Assert.assertEquals(1, int1.getStPosition());
+	}
+
+	@Test
+	public void testGetObjectsAfterAddingAndRemoving() {
+		DefaultTestCase tc = new DefaultTestCase();
+		VariableReference int0 = tc.addStatement(new IntPrimitiveStatement(tc, 0));
+		VariableReference string0 = tc.addStatement(new StringPrimitiveStatement(tc, "foo"));
+		VariableReference int1 = tc.addStatement(new IntPrimitiveStatement(tc, 1));
+
+		Assert.assertEquals(Arrays.asList(int0, int1), tc.getObjects(int.class, tc.size()));
+		Assert.assertEquals(Collections.singletonList(int0), tc.getObjects(int.class, 2));
+		Assert.assertEquals(Collections.singletonList(string0), tc.getObjects(String.class, tc.size()));
+
+		VariableReference int2 = tc.addStatement(new IntPrimitiveStatement(tc, 2));
+		Assert.assertEquals(Arrays.asList(int0, int1, int2), tc.getObjects(int.class, tc.size()));
+
+		VariableReference string1 = tc.addStatement(new StringPrimitiveStatement(tc, "bar"), 0);
+		Assert.assertEquals(Arrays.asList(string1, string0), tc.getObjects(String.class, tc.size()));
+
+		tc.remove(0);
+		tc.chop(2);
+		Assert.assertEquals(Collections.singletonList(int0), tc.getObjects(int.class, tc.size()));
+		Assert.assertEquals(Collections.singletonList(string0), tc.getObjects(String.class, tc.size()));
+	}
+
+	@Test
+	public void testGetObjectsAfterTypeChange() {
+		DefaultTestCase tc = new DefaultTestCase();
+		tc.addStatement(new IntPrimitiveStatement(tc, 0));
+		VariableReference string0 = tc.addStatement(new StringPrimitiveStatement(tc, "foo"));
+
+		string0.setType(Object.class);
+		Assert.assertTrue(tc.getObjects(String.class, tc.size()).isEmpty());
+
+		string0.setType(String.class);
+		Assert.assertEquals(Collections.singletonList(string0), tc.getObjects(String.class, tc.size()));
+	}
+
+	@Test
+	public void testGetObjectsAfterAppendingToIndexedTest() {
+		DefaultTestCase tc = new DefaultTestCase();
+		VariableReference string0 = tc.addStatement(new StringPrimitiveStatement(tc, "foo"));
+		tc.addStatement(new IntPrimitiveStatement(tc, 0));
+		Assert.assertEquals(Collections.singletonList(string0), tc.getObjects(String.class, tc.size()));
+
+		VariableReference string1 = tc.addStatement(new StringPrimitiveStatement(tc, "bar"));
+		Assert.assertEquals(Arrays.asList(string0, string1), tc.getObjects(String.class, tc.size()));
+		Assert.assertEquals(Collections.singletonList(string0), tc.getObjects(String.class, string1.getStPosition()));
+
+		string1.setType(Object.class);
+		Assert.assertEquals(Collections.singletonList(string0), tc.getObjects(String.class, tc.size()));
+	}
+
+	@Test
+	public void testGetObjectsAfterReplacingReturnValue() {
+		DefaultTestCase tc = new DefaultTestCase();
+		tc.addStatement(new IntPrimitiveStatement(tc, 0));
+		Assert.assertTrue(tc.getObjects(String.class, tc.size()).isEmpty());
+
+		VariableReference string0 = new VariableReferenceImpl(tc, String.class);
+		tc.getStatement(0).setRetval(string0);
+		Assert.assertEquals(Collections.singletonList(string0), tc.getObjects(String.class, tc.size()));
+		Assert.assertEquals(0, string0.getStPosition());
+	}
+
+	@Test
+	public void testGetObjectsAfterMutatingAssignment() throws Exception {
+		DefaultTestCase tc = new DefaultTestCase();
+		GenericConstructor constructor = new GenericConstructor(Foo.class.getConstructor(), Foo.class);
+		tc.addStatement(new ConstructorStatement(tc, constructor, Collections.emptyList()));
+		VariableReference foo1 = tc.addStatement(new ConstructorStatement(tc, constructor, Collections.emptyList()));
+		VariableReference string0 = tc.addStatement(new StringPrimitiveStatement(tc, "foo"));
+		FieldReference objectField = new FieldReference(tc, new GenericField(Foo.class.getField("o"), Foo.class), foo1);
+		AssignmentStatement assignment = new AssignmentStatement(tc, objectField, string0);
+		tc.addStatement(assignment);
+
+		// index the test before the mutation
+		Assert.assertFalse(tc.getObjects(String.class, tc.size()).contains(assignment.getReturnValue()));
+
+		// mutate until a String field is assigned instead of the Object field
+		Randomness.setSeed(42);
+		for (int i = 0; i < 1000 && assignment.getReturnValue().getVariableClass() != String.class; i++) {
+			assignment.mutate(tc, TestFactory.getInstance());
+		}
+		Assert.assertEquals(String.class, assignment.getReturnValue().getVariableClass());
+
+		List<VariableReference> objects = tc.getObjects(String.class, tc.size());
+		Assert.assertTrue(objects.contains(assignment.getReturnValue()));
+		tc.invalidateVariableIndex();
+		Assert.assertEquals(tc.getObjects(String.class, tc.size()), objects);
+	}
 }
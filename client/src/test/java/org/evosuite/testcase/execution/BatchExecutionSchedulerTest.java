@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.evosuite.Properties;
+import org.evosuite.Properties.Criterion;
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.evosuite.testsuite.TestSuiteChromosome;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BatchExecutionSchedulerTest {
+
+	private final boolean DEFAULT_SANDBOX = Properties.SANDBOX;
+
+	private final Criterion[] DEFAULT_CRITERION = Properties.CRITERION;
+
+	private final int DEFAULT_TEST_EXECUTION_THREADS = Properties.TEST_EXECUTION_THREADS;
+
+	@Before
+	public void setUp() {
+		Properties.SANDBOX = false;
+		Properties.CRITERION = new Criterion[] { Criterion.BRANCH };
+		Properties.TEST_EXECUTION_THREADS = 2;
+	}
+
+	@After
+	public void tearDown() {
+		Properties.SANDBOX = DEFAULT_SANDBOX;
+		Properties.CRITERION = DEFAULT_CRITERION;
+		Properties.TEST_EXECUTION_THREADS = DEFAULT_TEST_EXECUTION_THREADS;
+	}
+
+	/**
+	 * A test with the given number of statements, so that results can be told
+	 * apart by the number of executed statements
+	 */
+	private static TestChromosome createTest(int length) {
+		DefaultTestCase test = new DefaultTestCase();
+		for (int i = 0; i < length; i++)
+			test.addStatement(new IntPrimitiveStatement(test, i));
+		TestChromosome chromosome = new TestChromosome();
+		chromosome.setTestCase(test);
+		return chromosome;
+	}
+
+	@Test
+	public void testChromosomesAreEvaluatedInOrderWithTheirOwnResults() {
+		List<TestChromosome> tests = Arrays.asList(createTest(1), createTest(2), createTest(3));
+		List<TestChromosome> evaluated = new ArrayList<>();
+
+		int numEvaluated = BatchExecutionScheduler.forTests().evaluate(tests, test -> {
+			ExecutionResult result = test.getLastExecutionResult();
+			assertNotNull(result);
+			assertSame(test.getTestCase(), result.test);
+			assertEquals(test.size(), result.getExecutedStatements());
+			assertFalse(test.isChanged());
+			evaluated.add(test);
+		}, () -> false);
+
+		assertEquals(3, numEvaluated);
+		assertEquals(tests, evaluated);
+	}
+
+	@Test
+	public void testUnchangedTestIsNotExecutedAgain() {
+		TestChromosome unchanged = createTest(2);
+		ExecutionResult previous = new ExecutionResult(unchanged.getTestCase());
+		unchanged.setLastExecutionResult(previous);
+		unchanged.setChanged(false);
+		TestChromosome changed = createTest(1);
+
+		BatchExecutionScheduler.forTests().evaluate(Arrays.asList(unchanged, changed), test -> {
+			assertNotNull(test.getLastExecutionResult());
+		}, () -> false);
+
+		assertSame(previous, unchanged.getLastExecutionResult());
+		assertEquals(1, changed.getLastExecutionResult().getExecutedStatements());
+	}
+
+	@Test
+	public void testStopsAfterChunkWhenFinished() {
+		List<TestChromosome> tests = Arrays.asList(createTest(1), createTest(2), createTest(3));
+		List<TestChromosome> evaluated = new ArrayList<>();
+
+		// chunks hold TEST_EXECUTION_THREADS tests, so the third test is in the second chunk
+		int numEvaluated = BatchExecutionScheduler.forTests().evaluate(tests, evaluated::add,
+				() -> evaluated.size() >= 2);
+
+		assertEquals(2, numEvaluated);
+		assertEquals(tests.subList(0, 2), evaluated);
+		assertNull(tests.get(2).getLastExecutionResult());
+		assertTrue(tests.get(2).isChanged());
+	}
+
+	@Test
+	public void testTestsOfSuitesAreExecutedBeforeEvaluation() {
+		TestSuiteChromosome suite1 = new TestSuiteChromosome();
+		suite1.addTest(createTest(1));
+		suite1.addTest(createTest(2));
+		TestSuiteChromosome suite2 = new TestSuiteChromosome();
+		suite2.addTest(createTest(3));
+		List<TestSuiteChromosome> evaluated = new ArrayList<>();
+
+		int numEvaluated = BatchExecutionScheduler.forSuites().evaluate(Arrays.asList(suite1, suite2), suite -> {
+			for (TestChromosome test : suite.getTestChromosomes()) {
+				assertNotNull(test.getLastExecutionResult());
+				assertEquals(test.size(), test.getLastExecutionResult().getExecutedStatements());
+			}
+			evaluated.add(suite);
+		}, () -> false);
+
+		assertEquals(2, numEvaluated);
+		assertEquals(Arrays.asList(suite1, suite2), evaluated);
+	}
+
+	@Test
+	public void testMutationCriteriaAreEvaluatedWithoutBatch() {
+		Properties.CRITERION = new Criterion[] { Criterion.WEAKMUTATION };
+		List<TestChromosome> tests = Arrays.asList(createTest(1), createTest(2));
+		List<TestChromosome> evaluated = new ArrayList<>();
+
+		int numEvaluated = BatchExecutionScheduler.forTests().evaluate(tests, test -> {
+			// the fitness function executes the test itself
+			assertNull(test.getLastExecutionResult());
+			evaluated.add(test);
+		}, () -> false);
+
+		assertEquals(2, numEvaluated);
+		assertEquals(tests, evaluated);
+	}
+}
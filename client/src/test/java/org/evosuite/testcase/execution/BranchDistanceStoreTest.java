@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class BranchDistanceStoreTest {
+
+	@Test
+	public void testMinimumAndSumOfDistances() {
+		BranchDistanceStore store = new BranchDistanceStore(4);
+		store.branchPassed(2, 3.0, 0.0, true);
+		store.branchPassed(2, 1.0, 0.0, true);
+		store.branchPassed(2, 2.0, 0.0, true);
+
+		assertEquals(1.0, store.getTrueDistance(2), 0.0);
+		assertEquals(0.0, store.getFalseDistance(2), 0.0);
+		assertEquals(6.0, store.getTrueDistancesSum().get(2), 0.0);
+		assertEquals(0.0, store.getFalseDistancesSum().get(2), 0.0);
+		assertEquals(3, store.getPredicateCount(2));
+		assertEquals(0, store.getTrueCount(2));
+		assertEquals(3, store.getFalseCount(2));
+	}
+
+	@Test
+	public void testViewsMatchHashMapRepresentation() {
+		BranchDistanceStore store = new BranchDistanceStore(2);
+		Map<Integer, Integer> predicates = new HashMap<>();
+		Map<Integer, Double> trueDistances = new HashMap<>();
+		int[] branches = { 5, 1, 130, 5, 7, 1 };
+		double[] distances = { 0.0, 2.0, 1.0, 4.0, 0.0, 0.5 };
+		for (int i = 0; i < branches.length; i++) {
+			store.branchPassed(branches[i], distances[i], 1.0, true);
+			predicates.merge(branches[i], 1, Integer::sum);
+			trueDistances.merge(branches[i], distances[i], Math::min);
+		}
+
+		assertEquals(predicates, store.getPredicateCounts());
+		assertEquals(trueDistances, store.getTrueDistances());
+		assertEquals(predicates.keySet(), store.getPredicateCounts().keySet());
+		assertEquals(2, store.getTrueCounts().size());
+		assertTrue(store.getTrueCounts().containsKey(5));
+		assertFalse(store.getTrueCounts().containsKey(1));
+		assertTrue(store.getFalseCounts().isEmpty());
+		assertNull(store.getTrueDistances().get(42));
+	}
+
+	@Test
+	public void testCountsAreOptional() {
+		BranchDistanceStore store = new BranchDistanceStore();
+		store.branchPassed(3, 0.0, 1.0, false);
+
+		assertTrue(store.hasDistance(3));
+		assertTrue(store.getPredicateCounts().isEmpty());
+		assertEquals(1, store.getTrueDistances().size());
+	}
+
+	@Test
+	public void testClear() {
+		BranchDistanceStore store = new BranchDistanceStore();
+		store.branchPassed(3, 0.0, 1.0, true);
+		store.branchPassed(9, 2.0, 0.0, true);
+		store.clear();
+
+		assertFalse(store.hasDistance(3));
+		assertTrue(store.getPredicateCounts().isEmpty());
+		assertTrue(store.getTrueDistances().isEmpty());
+
+		store.branchPassed(9, 5.0, 0.0, true);
+		assertEquals(5.0, store.getTrueDistance(9), 0.0);
+		assertEquals(5.0, store.getTrueDistancesSum().get(9), 0.0);
+		assertEquals(1, store.getPredicateCount(9));
+	}
+
+	@Test
+	public void testCopyIsIndependent() {
+		BranchDistanceStore store = new BranchDistanceStore();
+		store.branchPassed(1, 1.0, 0.0, true);
+		BranchDistanceStore copy = store.copy();
+		store.branchPassed(1, 0.0, 0.0, true);
+		store.branchPassed(2, 0.0, 0.0, true);
+
+		assertEquals(1.0, copy.getTrueDistance(1), 0.0);
+		assertEquals(1, copy.getPredicateCount(1));
+		assertFalse(copy.hasDistance(2));
+		assertEquals(0.0, store.getTrueDistance(1), 0.0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnknownDistance() {
+		new BranchDistanceStore().getTrueDistance(1);
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.junit.Test;
+
+public class ExecutionResultCacheTest {
+
+	private static DefaultTestCase createTest(int... values) {
+		DefaultTestCase test = new DefaultTestCase();
+		for (int value : values)
+			test.addStatement(new IntPrimitiveStatement(test, value));
+		return test;
+	}
+
+	private static ExecutionResult createResult(DefaultTestCase test) {
+		ExecutionResult result = new ExecutionResult(test);
+		result.setTrace(new ExecutionTraceImpl());
+		return result;
+	}
+
+	@Test
+	public void testStructurallyIdenticalTestIsHit() {
+		ExecutionResultCache cache = new ExecutionResultCache(10);
+		DefaultTestCase test1 = createTest(1, 2);
+		cache.put(test1, createResult(test1));
+
+		DefaultTestCase test2 = createTest(1, 2);
+		ExecutionResult result = cache.get(test2);
+		assertNotNull(result);
+		assertSame(test2, result.test);
+		assertEquals(1, cache.getHits());
+		assertEquals(0, cache.getMisses());
+		assertEquals(2, cache.getNumStatements());
+	}
+
+	@Test
+	public void testDifferentValueIsMiss() {
+		ExecutionResultCache cache = new ExecutionResultCache(10);
+		DefaultTestCase test1 = createTest(1, 2);
+		cache.put(test1, createResult(test1));
+
+		assertNull(cache.get(createTest(1, 3)));
+		assertNull(cache.get(createTest(1)));
+		assertEquals(0, cache.getHits());
+		assertEquals(2, cache.getMisses());
+		assertEquals(0.0, cache.getHitRate(), 0.0);
+	}
+
+	@Test
+	public void testHitKeepsExecutionDetails() {
+		ExecutionResultCache cache = new ExecutionResultCache(10);
+		DefaultTestCase test1 = createTest(1, 2);
+		ExecutionResult result1 = createResult(test1);
+		result1.setExecutedStatements(2);
+		result1.setSecurityException(true);
+		cache.put(test1, result1);
+
+		ExecutionResult result = cache.get(createTest(1, 2));
+		assertNotNull(result);
+		assertEquals(2, result.getExecutedStatements());
+		assertTrue(result.hasSecurityException());
+	}
+
+	@Test
+	public void testHitRestoresAccessedEnvironment() {
+		ExecutionResultCache cache = new ExecutionResultCache(10);
+		DefaultTestCase test1 = createTest(1, 2);
+		test1.getAccessedEnvironment().addLocalFiles(Collections.singleton("/tmp/foo"));
+		cache.put(test1, createResult(test1));
+
+		DefaultTestCase test2 = createTest(1, 2);
+		test2.getAccessedEnvironment().addLocalFiles(Collections.singleton("/tmp/bar"));
+		assertNotNull(cache.get(test2));
+		assertEquals(Collections.singleton("/tmp/foo"), test2.getAccessedEnvironment().getViewOfAccessedFiles());
+	}
+
+	@Test
+	public void testLaterChangesDoNotAffectCache() {
+		ExecutionResultCache cache = new ExecutionResultCache(10);
+		DefaultTestCase test1 = createTest(1, 2);
+		ExecutionResult result1 = createResult(test1);
+		cache.put(test1, result1);
+		test1.addStatement(new IntPrimitiveStatement(test1, 3));
+
+		ExecutionResult result = cache.get(createTest(1, 2));
+		assertNotNull(result);
+		assertNotSame(result1, result);
+	}
+
+	@Test
+	public void testLeastRecentlyUsedIsEvicted() {
+		ExecutionResultCache cache = new ExecutionResultCache(2);
+		DefaultTestCase test1 = createTest(1);
+		DefaultTestCase test2 = createTest(2);
+		DefaultTestCase test3 = createTest(3, 3);
+		cache.put(test1, createResult(test1));
+		cache.put(test2, createResult(test2));
+		assertNotNull(cache.get(createTest(1)));
+		cache.put(test3, createResult(test3));
+
+		assertEquals(2, cache.size());
+		assertEquals(3, cache.getNumStatements());
+		assertNotNull(cache.get(createTest(1)));
+		assertNull(cache.get(createTest(2)));
+		assertNotNull(cache.get(createTest(3, 3)));
+	}
+}
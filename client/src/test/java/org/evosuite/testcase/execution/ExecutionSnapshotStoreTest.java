@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.junit.Test;
+
+public class ExecutionSnapshotStoreTest {
+
+	private static DefaultTestCase createTest(int... values) {
+		DefaultTestCase test = new DefaultTestCase();
+		for (int value : values)
+			test.addStatement(new IntPrimitiveStatement(test, value));
+		return test;
+	}
+
+	private static Scope createScope(DefaultTestCase test) {
+		Scope scope = new Scope();
+		for (int i = 0; i < test.size(); i++)
+			scope.setObject(test.getStatement(i).getReturnValue(), test.getStatement(i).getReturnValue().getStPosition() + 100);
+		return scope;
+	}
+
+	private static void put(ExecutionSnapshotStore store, DefaultTestCase test) {
+		ExecutionResult result = new ExecutionResult(test);
+		result.setTrace(new ExecutionTraceImpl());
+		result.setExecutedStatements(test.size());
+		store.put(test, createScope(test), result);
+	}
+
+	@Test
+	public void testLongestPrefixIsTaken() {
+		ExecutionSnapshotStore store = new ExecutionSnapshotStore(10);
+		put(store, createTest(1));
+		put(store, createTest(1, 2));
+		put(store, createTest(3, 2));
+
+		ExecutionSnapshotStore.Snapshot snapshot = store.take(createTest(1, 2, 3));
+		assertNotNull(snapshot);
+		assertEquals(2, snapshot.getLength());
+		assertEquals(1, store.getNumResumed());
+		assertEquals(2, store.getNumResumedStatements());
+		assertEquals(2, store.size());
+	}
+
+	@Test
+	public void testSnapshotIsOnlyTakenOnce() {
+		ExecutionSnapshotStore store = new ExecutionSnapshotStore(10);
+		put(store, createTest(1, 2));
+
+		assertNotNull(store.take(createTest(1, 2, 3)));
+		assertNull(store.take(createTest(1, 2, 3)));
+	}
+
+	@Test
+	public void testIdenticalTestIsNotResumed() {
+		ExecutionSnapshotStore store = new ExecutionSnapshotStore(10);
+		put(store, createTest(1, 2));
+
+		assertNull(store.take(createTest(1, 2)));
+		assertNull(store.take(createTest(1, 3, 4)));
+		assertEquals(1, store.size());
+	}
+
+	@Test
+	public void testOldestSnapshotIsDropped() {
+		ExecutionSnapshotStore store = new ExecutionSnapshotStore(1);
+		put(store, createTest(1));
+		put(store, createTest(2));
+
+		assertEquals(1, store.size());
+		assertNull(store.take(createTest(1, 5)));
+		assertNotNull(store.take(createTest(2, 5)));
+	}
+
+	@Test
+	public void testScopeIsBoundToNewTest() {
+		ExecutionSnapshotStore store = new ExecutionSnapshotStore(10);
+		put(store, createTest(1, 2));
+
+		DefaultTestCase test = createTest(1, 2, 3);
+		Scope scope = store.take(test).createScope(test);
+		assertEquals(100, scope.getObject(test.getStatement(0).getReturnValue()));
+		assertEquals(101, scope.getObject(test.getStatement(1).getReturnValue()));
+		assertNull(scope.getObject(test.getStatement(2).getReturnValue()));
+	}
+}
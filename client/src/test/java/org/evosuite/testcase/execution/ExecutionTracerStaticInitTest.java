@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ExecutionTracerStaticInitTest {
+
+	@Before
+	public void setUp() {
+		ExecutionTracer.getExecutionTracer().clear();
+	}
+
+	@After
+	public void tearDown() {
+		ExecutionTracer.setKillSwitch(false);
+		ExecutionTracer.disable();
+		ExecutionTracer.getExecutionTracer().clear();
+	}
+
+	@Test
+	public void testNestedClassInit() {
+		Thread thread = Thread.currentThread();
+		ExecutionTracer.enterClassInit("Foo");
+		ExecutionTracer.enterClassInit("Bar");
+		assertTrue(ExecutionTracer.isInStaticInit(thread));
+		ExecutionTracer.exitClassInit("Bar");
+		assertTrue(ExecutionTracer.isInStaticInit(thread));
+		ExecutionTracer.exitClassInit("Foo");
+		assertFalse(ExecutionTracer.isInStaticInit(thread));
+	}
+
+	@Test
+	public void testClassInitOfOtherThread() throws Exception {
+		ExecutionTracer.enterClassInit("Foo");
+		ExecutorService pool = Executors.newSingleThreadExecutor();
+		try {
+			Future<Boolean> other = pool.submit(() -> ExecutionTracer.isInStaticInit(Thread.currentThread()));
+			assertFalse(other.get());
+		} finally {
+			pool.shutdownNow();
+			ExecutionTracer.exitClassInit("Foo");
+		}
+	}
+
+	private static class UninstrumentedClassInit {
+		static final boolean IN_STATIC_INIT = ExecutionTracer.isInStaticInit(Thread.currentThread());
+	}
+
+	@Test
+	public void testUninstrumentedClassInit() {
+		// Only some class initializers are instrumented, the others must
+		// still be recognized
+		ExecutionTracer.enterClassInit("Foo");
+		ExecutionTracer.exitClassInit("Foo");
+		assertTrue(UninstrumentedClassInit.IN_STATIC_INIT);
+	}
+
+	@Test
+	public void testThreadDyingInClassInit() throws Exception {
+		Thread thread = new Thread(() -> ExecutionTracer.enterClassInit("Foo"));
+		thread.start();
+		thread.join();
+		assertTrue(ExecutionTracer.isInInstrumentedStaticInit(thread));
+
+		ExecutionTracer.enterClassInit("Bar");
+		try {
+			assertFalse(ExecutionTracer.isInInstrumentedStaticInit(thread));
+		} finally {
+			ExecutionTracer.exitClassInit("Bar");
+		}
+	}
+
+	@Test(expected = TestCaseExecutor.TimeoutExceeded.class)
+	public void testKillSwitchOutsideClassInit() {
+		ExecutionTracer.enable();
+		ExecutionTracer.setKillSwitch(true);
+		ExecutionTracer.checkTimeout();
+	}
+
+	@Test
+	public void testKillSwitchInsideClassInit() {
+		ExecutionTracer.enable();
+		ExecutionTracer.setKillSwitch(true);
+		ExecutionTracer.enterClassInit("Foo");
+		try {
+			ExecutionTracer.checkTimeout();
+		} finally {
+			ExecutionTracer.exitClassInit("Foo");
+		}
+	}
+}
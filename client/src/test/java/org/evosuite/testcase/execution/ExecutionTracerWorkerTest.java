@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Test;
+import org.objectweb.asm.Opcodes;
+
+public class ExecutionTracerWorkerTest {
+
+	@After
+	public void tearDown() {
+		ExecutionTracer.unbindWorkerTracer();
+		ExecutionTracer.getExecutionTracer().clear();
+	}
+
+	@Test
+	public void testWorkerTracerIsBoundToThread() throws Exception {
+		ExecutionTracer shared = ExecutionTracer.getExecutionTracer();
+		ExecutorService pool = Executors.newFixedThreadPool(2);
+		try {
+			Future<Boolean> isolated = pool.submit(() -> {
+				ExecutionTracer tracer = ExecutionTracer.bindWorkerTracer();
+				try {
+					return tracer == ExecutionTracer.getExecutionTracer()
+							&& ExecutionTracer.isEnabled()
+							&& !ExecutionTracer.isThreadNeqCurrentThread();
+				} finally {
+					ExecutionTracer.unbindWorkerTracer();
+				}
+			});
+			assertTrue(isolated.get());
+			assertSame(shared, ExecutionTracer.getExecutionTracer());
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testWorkerTracesDoNotMix() throws Exception {
+		ExecutionTracer.getExecutionTracer().clear();
+		ExecutorService pool = Executors.newFixedThreadPool(2);
+		try {
+			Future<ExecutionTrace> first = pool.submit(() -> recordBranch(1));
+			Future<ExecutionTrace> second = pool.submit(() -> recordBranch(2));
+			ExecutionTrace firstTrace = first.get();
+			ExecutionTrace secondTrace = second.get();
+
+			assertNotSame(firstTrace, secondTrace);
+			assertEquals(1, firstTrace.getCoveredPredicates().size());
+			assertTrue(firstTrace.getCoveredPredicates().contains(1));
+			assertEquals(1, secondTrace.getCoveredPredicates().size());
+			assertTrue(secondTrace.getCoveredPredicates().contains(2));
+			assertFalse(ExecutionTracer.getExecutionTracer().getTrace().getCoveredPredicates().contains(1));
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private static ExecutionTrace recordBranch(int branch) {
+		ExecutionTracer tracer = ExecutionTracer.bindWorkerTracer();
+		try {
+			tracer.clear();
+			ExecutionTracer.passedBranch(0, Opcodes.IFEQ, branch, branch);
+			return tracer.getTrace();
+		} finally {
+			ExecutionTracer.unbindWorkerTracer();
+		}
+	}
+}
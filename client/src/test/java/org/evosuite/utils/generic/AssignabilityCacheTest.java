@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.utils.generic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.evosuite.Properties;
+import org.evosuite.utils.ParameterizedTypeImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AssignabilityCacheTest {
+
+	private int cacheSize;
+
+	@Before
+	public void setUp() {
+		cacheSize = Properties.GENERIC_TYPE_CACHE_SIZE;
+		GenericClass.clearCaches();
+	}
+
+	@After
+	public void tearDown() {
+		Properties.GENERIC_TYPE_CACHE_SIZE = cacheSize;
+		GenericClass.clearCaches();
+	}
+
+	@Test
+	public void testEqualTypesShareEntries() {
+		AssignabilityCache cache = new AssignabilityCache();
+		Type listOfStrings = new ParameterizedTypeImpl(List.class, new Type[] { String.class }, null);
+		Type arrayListOfStrings = new ParameterizedTypeImpl(ArrayList.class, new Type[] { String.class }, null);
+
+		assertNull(cache.get(listOfStrings, arrayListOfStrings));
+		cache.put(listOfStrings, arrayListOfStrings, true);
+		cache.put(arrayListOfStrings, listOfStrings, false);
+
+		Type otherListOfStrings = new ParameterizedTypeImpl(List.class, new Type[] { String.class }, null);
+		assertTrue(cache.get(otherListOfStrings, arrayListOfStrings));
+		assertFalse(cache.get(arrayListOfStrings, otherListOfStrings));
+		assertEquals(2, cache.getHits());
+		assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedResultIsEvicted() {
+		Properties.GENERIC_TYPE_CACHE_SIZE = 2;
+		AssignabilityCache cache = new AssignabilityCache();
+
+		cache.put(Object.class, String.class, true);
+		cache.put(Number.class, Integer.class, true);
+		cache.get(Object.class, String.class);
+		cache.put(Integer.class, Number.class, false);
+
+		assertEquals(2, cache.size());
+		assertTrue(cache.get(Object.class, String.class));
+		assertNull(cache.get(Number.class, Integer.class));
+	}
+
+	@Test
+	public void testCachedAssignability() {
+		Type listOfStrings = new ParameterizedTypeImpl(List.class, new Type[] { String.class }, null);
+		Type arrayListOfStrings = new ParameterizedTypeImpl(ArrayList.class, new Type[] { String.class }, null);
+		Type arrayListOfIntegers = new ParameterizedTypeImpl(ArrayList.class, new Type[] { Integer.class }, null);
+
+		for (int i = 0; i < 2; i++) {
+			assertTrue(GenericClass.isAssignable(listOfStrings, arrayListOfStrings));
+			assertFalse(GenericClass.isAssignable(arrayListOfStrings, listOfStrings));
+			assertFalse(GenericClass.isAssignable(listOfStrings, arrayListOfIntegers));
+		}
+
+		Properties.GENERIC_TYPE_CACHE_SIZE = 0;
+		assertTrue(GenericClass.isAssignable(listOfStrings, arrayListOfStrings));
+		assertFalse(GenericClass.isAssignable(listOfStrings, arrayListOfIntegers));
+	}
+
+	@Test
+	public void testSharedInstances() {
+		GenericClass shared = GenericClass.getSharedInstance(String.class);
+		assertSame(shared, GenericClass.getSharedInstance(String.class));
+		assertEquals(new GenericClass(String.class), shared);
+
+		GenericClass.clearCaches();
+		assertNotSame(shared, GenericClass.getSharedInstance(String.class));
+
+		Properties.GENERIC_TYPE_CACHE_SIZE = 0;
+		assertNotSame(GenericClass.getSharedInstance(String.class), GenericClass.getSharedInstance(String.class));
+	}
+
+}
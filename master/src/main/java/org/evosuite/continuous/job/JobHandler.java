@@ -380,6 +380,12 @@ public class JobHandler extends Thread {
 		commands.add("-Dreset_static_fields=true");
 		commands.add("-Dreplace_calls=true");
 
+		/*
+		 * all jobs analyze the same classpath, so only the first one needs
+		 * to build the inheritance tree from scratch
+		 */
+		commands.add("-Dinheritance_tree_cache=true");
+
 		if (Properties.CTG_HISTORY_FILE != null) {
 			commands.add("-Dctg_history_file=" + Properties.CTG_HISTORY_FILE);
 		}